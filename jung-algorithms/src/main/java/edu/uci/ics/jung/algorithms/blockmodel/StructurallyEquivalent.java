@@ -11,6 +11,7 @@
 package edu.uci.ics.jung.algorithms.blockmodel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,6 +24,8 @@ import java.util.Set;
 import org.apache.commons.collections15.CollectionUtils;
 import org.apache.commons.collections15.Transformer;
 
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.util.Pair;
 
@@ -31,21 +34,49 @@ import edu.uci.ics.jung.graph.util.Pair;
  * i</i> and <i>j</i> are structurally equivalent iff the set of <i>i</i>'s
  * neighbors is identical to the set of <i>j</i>'s neighbors, with the
  * exception of <i>i</i> and <i>j</i> themselves. This algorithm finds all
- * sets of equivalent vertices in O(V^2) time.
- * 
+ * sets of equivalent vertices in O(V + E log d) time, where d is the maximum
+ * degree: each vertex's predecessors and successors are sorted and hashed
+ * (divided among several threads), and the vertices are grouped by their
+ * hashes, which are verified by comparing the sorted lists.
+ *
  * <p>You can extend this class to have a different definition of equivalence (by
  * overriding <code>isStructurallyEquivalent</code>), and may give it hints for
  * accelerating the process by overriding <code>canPossiblyCompare</code>. 
  * (For example, in a bipartite graph, <code>canPossiblyCompare</code> may 
  * return <code>false</code> for vertices in
  * different partitions. This function should be fast.)
- * 
+ * Subclasses compare every pair of vertices, in O(V^2) time, unless they
+ * override <code>usePairwiseComparison</code>.
+ *
  * @author Danyel Fisher
  */
 public class StructurallyEquivalent<V,E> implements Transformer<Graph<V,E>, VertexPartition<V,E>> 
 {
-	public VertexPartition<V,E> transform(Graph<V,E> g) 
+    protected int threads;
+
+    /**
+     * Creates an instance which uses one thread per available processor.
+     */
+    public StructurallyEquivalent()
+    {
+        this(ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance which uses the specified number of threads.
+     */
+    public StructurallyEquivalent(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+    }
+
+	public VertexPartition<V,E> transform(Graph<V,E> g)
 	{
+	    if (!usePairwiseComparison())
+	        return getEquivalenceClasses(g);
+
 	    Set<Pair<V>> vertex_pairs = getEquivalentPairs(g);
 	    
 	    Set<Set<V>> rv = new HashSet<Set<V>>();
@@ -78,6 +109,208 @@ public class StructurallyEquivalent<V,E> implements Transformer<Graph<V,E>, Vert
         return new VertexPartition<V, E>(g, intermediate, rv);
 	}
 
+    /**
+     * Returns <code>true</code> if <code>transform</code> should compare
+     * every pair of vertices using <code>canPossiblyCompare</code> and
+     * <code>isStructurallyEquivalent</code>, rather than hashing their
+     * neighbor lists.  By default this is true for subclasses, which may
+     * have redefined equivalence; those which have not may override this
+     * method to return <code>false</code>.
+     */
+    protected boolean usePairwiseComparison()
+    {
+        return getClass() != StructurallyEquivalent.class;
+    }
+
+    /**
+     * Returns the partition of <code>g</code>'s vertices into structurally
+     * equivalent sets, without comparing pairs of vertices.
+     *
+     * <p>Two vertices which are not connected are equivalent exactly when
+     * their predecessors (other than themselves) are the same, and likewise
+     * for their successors; two which are connected in both directions are
+     * equivalent exactly when their predecessors (including themselves) are
+     * the same, and likewise for their successors.  (Both must also have
+     * the same degree, and either both or neither have self-loops.)  No
+     * vertex has equivalents of both kinds, so the vertices are grouped by
+     * the first key, and those which remain alone are then grouped by the
+     * second.
+     */
+    protected VertexPartition<V,E> getEquivalenceClasses(Graph<V,E> g)
+    {
+        final IndexedGraph<V,E> indexed = new IndexedGraph<V,E>(g);
+        final int n = indexed.getVertexCount();
+        final int[][] predecessors = new int[n][];
+        final int[][] successors = new int[n][];
+        final long[] open_hash = new long[n];
+        final long[] closed_hash = new long[n];
+        // the degree and self-loop flag of each vertex
+        final long[] common = new long[n];
+        for (int v = 0; v < n; v++)
+            common[v] = g.degree(indexed.getVertex(v));
+        new ParallelRunner(threads).run(n, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                int[] out_offsets = indexed.getOutOffsets();
+                int[] out_targets = indexed.getOutTargets();
+                int[] in_offsets = indexed.getInOffsets();
+                for (int v = start; v < end; v++)
+                {
+                    boolean loop = false;
+                    for (int j = out_offsets[v]; j < out_offsets[v + 1]; j++)
+                        loop |= out_targets[j] == v;
+                    successors[v] = distinct(out_targets, out_offsets[v], out_offsets[v + 1], v);
+                    predecessors[v] = distinct(indexed.getInSources(), in_offsets[v],
+                            in_offsets[v + 1], v);
+                    common[v] = common[v] * 2 + (loop ? 1 : 0);
+                    open_hash[v] = hash(hash(common[v], predecessors[v], -1), successors[v], -1);
+                    closed_hash[v] = hash(hash(common[v], predecessors[v], v), successors[v], v);
+                }
+            }
+        });
+
+        // rep[v] is the first vertex found to be equivalent to v
+        int[] rep = new int[n];
+        boolean[] grouped = new boolean[n];
+        for (int v = 0; v < n; v++)
+            rep[v] = v;
+        int[] previous = new int[n];
+        for (int pass = 0; pass < 2; pass++)
+        {
+            boolean closed = pass == 1;
+            long[] hash = closed ? closed_hash : open_hash;
+            // chain together the vertices with the same hash
+            Map<Long, Integer> latest = new HashMap<Long, Integer>();
+            for (int v = 0; v < n; v++)
+            {
+                if (grouped[v])
+                    continue;
+                Integer u = latest.put(hash[v], v);
+                previous[v] = u == null ? -1 : u;
+                for (int w = previous[v]; w >= 0; w = previous[w])
+                {
+                    if (common[v] == common[w]
+                        && equal(predecessors[v], closed ? v : -1, predecessors[w], closed ? w : -1)
+                        && equal(successors[v], closed ? v : -1, successors[w], closed ? w : -1))
+                    {
+                        rep[v] = rep[w];
+                        grouped[v] = grouped[w] = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        Set<Set<V>> rv = new HashSet<Set<V>>();
+        Map<V, Set<V>> intermediate = new HashMap<V, Set<V>>();
+        Map<Integer, Set<V>> sets = new HashMap<Integer, Set<V>>();
+        for (int v = 0; v < n; v++)
+        {
+            V vertex = indexed.getVertex(v);
+            Set<V> v_set;
+            if (grouped[v])
+            {
+                v_set = sets.get(rep[v]);
+                if (v_set == null)
+                {
+                    v_set = new HashSet<V>();
+                    sets.put(rep[v], v_set);
+                }
+                v_set.add(vertex);
+            }
+            else
+                v_set = Collections.singleton(vertex);
+            intermediate.put(vertex, v_set);
+        }
+        rv.addAll(intermediate.values());
+        return new VertexPartition<V, E>(g, intermediate, rv);
+    }
+
+    /**
+     * Returns the distinct elements of <code>a[from..to)</code>, other than
+     * <code>exclude</code>, sorted in ascending order.
+     */
+    private static int[] distinct(int[] a, int from, int to, int exclude)
+    {
+        int[] values = new int[to - from];
+        System.arraycopy(a, from, values, 0, values.length);
+        Arrays.sort(values);
+        int kept = 0;
+        for (int k = 0; k < values.length; k++)
+        {
+            if (values[k] != exclude && (kept == 0 || values[kept - 1] != values[k]))
+                values[kept++] = values[k];
+        }
+        if (kept == values.length)
+            return values;
+        int[] result = new int[kept];
+        System.arraycopy(values, 0, result, 0, kept);
+        return result;
+    }
+
+    /**
+     * Returns <code>h</code> combined, in order, with the elements of the
+     * sorted array <code>a</code> and (if non-negative) <code>extra</code>.
+     */
+    private static long hash(long h, int[] a, int extra)
+    {
+        int i = 0;
+        boolean pending = extra >= 0;
+        while (i < a.length || pending)
+        {
+            int x;
+            if (pending && (i == a.length || extra < a[i]))
+            {
+                x = extra;
+                pending = false;
+            }
+            else
+                x = a[i++];
+            h = (h + x + 1) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 29;
+        }
+        return h * 0xBF58476D1CE4E5B9L + a.length;
+    }
+
+    /**
+     * Returns <code>true</code> if the sorted array <code>a</code> with
+     * <code>x</code> added has the same elements as <code>b</code> with
+     * <code>y</code> added.  (<code>x</code> and <code>y</code> are
+     * ignored if negative, and are not elements of the arrays.)
+     */
+    private static boolean equal(int[] a, int x, int[] b, int y)
+    {
+        if (a.length != b.length)
+            return false;
+        int i = 0;
+        int j = 0;
+        boolean x_pending = x >= 0;
+        boolean y_pending = y >= 0;
+        while (i < a.length || x_pending)
+        {
+            int p;
+            if (x_pending && (i == a.length || x < a[i]))
+            {
+                p = x;
+                x_pending = false;
+            }
+            else
+                p = a[i++];
+            int q;
+            if (y_pending && (j == b.length || y < b[j]))
+            {
+                q = y;
+                y_pending = false;
+            }
+            else
+                q = b[j++];
+            if (p != q)
+                return false;
+        }
+        return true;
+    }
+
 	/**
 	 * For each vertex pair v, v1 in G, checks whether v and v1 are fully
 	 * equivalent: meaning that they connect to the exact same vertices. (Is
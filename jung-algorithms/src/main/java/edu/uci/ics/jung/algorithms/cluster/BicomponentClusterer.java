@@ -30,6 +30,7 @@ import edu.uci.ics.jung.graph.UndirectedGraph;
  * <p>
  * Running time: O(|V| + |E|) where |V| is the number of vertices and |E| is the number of edges
  * @see "Depth first search and linear graph algorithms by R. E. Tarjan (1972), SIAM J. Comp."
+ * @see IterativeBicomponentClusterer
  * 
  * @author Joshua O'Madadhain
  */
@@ -0,0 +1,181 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+
+/**
+ * Finds all biconnected components (bicomponents) of an undirected graph,
+ * together with its articulation points (cut vertices) and bridges (cut
+ * edges).  The bicomponents are the same as those found by
+ * <code>BicomponentClusterer</code>; this implementation differs in that
+ * the depth-first search of Hopcroft and Tarjan is driven by an explicit
+ * stack rather than by recursion, so its depth is not limited by the size of
+ * the thread's stack, and all per-vertex state is kept in <code>int</code>
+ * arrays over dense vertex indices (see <code>IndexedGraph</code>) rather
+ * than in maps.
+ *
+ * <p>Self-loops are ignored.  Parallel edges are taken into account: an
+ * edge with a parallel twin is never a bridge.
+ *
+ * <p>Running time: O(|V| + |E|).  Space: O(|V| + |E|), independent of the
+ * depth of the search.
+ *
+ * @see BicomponentClusterer
+ * @see "Depth first search and linear graph algorithms by R. E. Tarjan (1972), SIAM J. Comp."
+ */
+public class IterativeBicomponentClusterer<V,E> implements Transformer<UndirectedGraph<V,E>, Set<Set<V>>>
+{
+    protected Set<V> articulation_points;
+    protected Set<E> bridges;
+
+    /**
+     * Constructs a new bicomponent finder.
+     */
+    public IterativeBicomponentClusterer()
+    {
+    }
+
+    /**
+     * Extracts the bicomponents from the graph, and records its articulation
+     * points and bridges.
+     * @param graph the graph whose bicomponents are to be extracted
+     * @return the bicomponents, as a set of vertex sets
+     */
+    public Set<Set<V>> transform(UndirectedGraph<V,E> graph)
+    {
+        IndexedGraph<V,E> indexed = new IndexedGraph<V,E>(graph);
+        int n = indexed.getVertexCount();
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int[] edges = indexed.getOutEdges();
+
+        Set<Set<V>> bicomponents = new LinkedHashSet<Set<V>>();
+        articulation_points = new LinkedHashSet<V>();
+        bridges = new LinkedHashSet<E>();
+
+        // discovery times start at 1, so that 0 means 'not yet visited'
+        int[] disc = new int[n];
+        int[] low = new int[n];
+        int[] parent_edge = new int[n];
+        int[] next = new int[n];
+        // the vertices on the current search path
+        int[] path = new int[n];
+        // the vertices discovered and not yet assigned to a bicomponent
+        int[] pending = new int[n];
+        int time = 0;
+
+        for (int root = 0; root < n; root++)
+        {
+            if (disc[root] != 0)
+                continue;
+            disc[root] = low[root] = ++time;
+            parent_edge[root] = -1;
+            next[root] = offsets[root];
+            int depth = 0;
+            path[depth++] = root;
+            int pending_count = 0;
+            int root_children = 0;
+
+            while (depth > 0)
+            {
+                int v = path[depth - 1];
+                if (next[v] < offsets[v + 1])
+                {
+                    int j = next[v]++;
+                    int w = targets[j];
+                    if (w == v || edges[j] == parent_edge[v])
+                        continue;
+                    if (disc[w] == 0)
+                    {
+                        // tree edge: descend to w
+                        disc[w] = low[w] = ++time;
+                        parent_edge[w] = edges[j];
+                        next[w] = offsets[w];
+                        path[depth++] = w;
+                        pending[pending_count++] = w;
+                        if (v == root)
+                            root_children++;
+                    }
+                    else if (disc[w] < low[v])
+                        low[v] = disc[w];
+                    continue;
+                }
+
+                // all of v's edges have been explored: retreat to its parent
+                depth--;
+                if (depth == 0)
+                    break;
+                int u = path[depth - 1];
+                if (low[v] < low[u])
+                    low[u] = low[v];
+                if (low[v] > disc[u])
+                    bridges.add(indexed.getEdge(parent_edge[v]));
+                if (low[v] >= disc[u])
+                {
+                    // u separates v's subtree from the rest of the graph
+                    if (u != root)
+                        articulation_points.add(indexed.getVertex(u));
+                    Set<V> bicomponent = new HashSet<V>();
+                    bicomponent.add(indexed.getVertex(u));
+                    int w;
+                    do
+                    {
+                        w = pending[--pending_count];
+                        bicomponent.add(indexed.getVertex(w));
+                    }
+                    while (w != v);
+                    bicomponents.add(bicomponent);
+                }
+            }
+
+            if (root_children == 0)
+            {
+                Set<V> s = new HashSet<V>();
+                s.add(indexed.getVertex(root));
+                bicomponents.add(s);
+            }
+            else if (root_children > 1)
+                articulation_points.add(indexed.getVertex(root));
+        }
+        return bicomponents;
+    }
+
+    /**
+     * Returns the articulation points found by the most recent call to
+     * <code>transform</code>: the vertices whose removal would increase the
+     * number of connected components.
+     */
+    public Set<V> getArticulationPoints()
+    {
+        return articulation_points == null ? null :
+            Collections.unmodifiableSet(articulation_points);
+    }
+
+    /**
+     * Returns the bridges found by the most recent call to
+     * <code>transform</code>: the edges whose removal would increase the
+     * number of connected components.
+     */
+    public Set<E> getBridges()
+    {
+        return bridges == null ? null : Collections.unmodifiableSet(bridges);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.ConstantTransformer;
+
+import edu.uci.ics.jung.algorithms.cluster.LeidenClusterer.AggregateGraph;
+import edu.uci.ics.jung.algorithms.cluster.LeidenClusterer.Scratch;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * Finds communities by label propagation.  Each vertex starts with a label
+ * of its own, and repeatedly adopts the label with the greatest total edge
+ * weight among its neighbors, until no label changes or a maximum number of
+ * iterations is reached; the vertices which share a label form a community.
+ * The graph is treated as undirected, parallel edges are equivalent to a
+ * single edge whose weight is the sum of theirs, and self-loops are ignored.
+ *
+ * <p>Ties are resolved in favor of a vertex's current label if it is among
+ * them, and otherwise by a pseudo-random choice determined by the random
+ * seed, the iteration, the vertex and the labels.  The labels may be
+ * updated in one of three ways:
+ * <ul>
+ * <li/><code>SYNCHRONOUS</code>: every vertex computes its new label from
+ * the labels of the previous iteration.  The result is deterministic, but
+ * labels may oscillate (for instance, on bipartite subgraphs) until the
+ * maximum number of iterations is reached.
+ * <li/><code>ASYNCHRONOUS</code>: the vertices are visited in a random
+ * order, and each sees the labels its neighbors have at that time.  This
+ * converges quickly, but with more than one thread the result depends on
+ * scheduling.
+ * <li/><code>SEMI_SYNCHRONOUS</code>: the vertices are first colored so
+ * that no two neighbors have the same color, and the vertices of each color
+ * are then updated together.  Since they are not neighbors, this is
+ * equivalent to updating them one at a time; it converges like the
+ * asynchronous variant, and the result does not depend on the number of
+ * threads.
+ * </ul>
+ * Each iteration divides the vertices among several threads.
+ *
+ * <p>Running time: O(|V| + |E|) per iteration.
+ *
+ * @see "Near linear time algorithm to detect community structures in large-scale networks by U. N. Raghavan, R. Albert and S. Kumara (2007), Phys. Rev. E"
+ * @see "Label propagation algorithm: a semi-synchronous approach by G. Cordasco and L. Gargano (2012), Int. J. Social Network Mining"
+ * @see LeidenClusterer
+ */
+public class LabelPropagationClusterer<V,E> implements Transformer<Graph<V,E>, Set<Set<V>>>
+{
+    /**
+     * The ways in which the labels may be updated.
+     */
+    public enum Update { SYNCHRONOUS, ASYNCHRONOUS, SEMI_SYNCHRONOUS }
+
+    protected Transformer<E, ? extends Number> edge_weights;
+    protected Update update;
+    protected int threads;
+    protected int max_iterations;
+    protected long seed;
+    protected int iterations;
+
+    /**
+     * Creates a semi-synchronous instance which treats every edge as having
+     * weight 1, and which uses one thread per available processor.
+     */
+    @SuppressWarnings("unchecked")
+    public LabelPropagationClusterer()
+    {
+        this(new ConstantTransformer(1), Update.SEMI_SYNCHRONOUS,
+                ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance with the specified edge weights and update
+     * variant, which uses the specified number of threads.
+     */
+    public LabelPropagationClusterer(Transformer<E, ? extends Number> edge_weights,
+            Update update, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.edge_weights = edge_weights;
+        this.update = update;
+        this.threads = threads;
+        this.max_iterations = 100;
+        this.seed = new Random().nextLong();
+    }
+
+    /**
+     * Sets the maximum number of iterations.  Defaults to 100.
+     */
+    public void setMaxIterations(int max_iterations)
+    {
+        if (max_iterations < 1)
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        this.max_iterations = max_iterations;
+    }
+
+    /**
+     * Sets the seed which determines how ties are broken and (for the
+     * asynchronous variant) the order in which the vertices are visited.
+     */
+    public void setRandomSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the number of iterations used by the most recent call to
+     * <code>transform</code>.
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Finds the communities of <code>graph</code>.
+     */
+    public Set<Set<V>> transform(Graph<V,E> graph)
+    {
+        final List<V> vertices = new ArrayList<V>(graph.getVertices());
+        final int n = vertices.size();
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            index.put(vertices.get(i), i);
+        ParallelRunner runner = new ParallelRunner(threads);
+        final AggregateGraph adjacency = new AggregateGraph(graph, index, edge_weights, runner);
+
+        int[] labels = new int[n];
+        for (int i = 0; i < n; i++)
+            labels[i] = i;
+        final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>()
+        {
+            @Override
+            protected Scratch initialValue()
+            {
+                return new Scratch(n);
+            }
+        };
+        final AtomicInteger changed = new AtomicInteger();
+
+        int[] color_offsets = null;
+        int[] by_color = null;
+        if (update == Update.SEMI_SYNCHRONOUS)
+        {
+            int[] color = color(adjacency);
+            int colors = 0;
+            for (int i = 0; i < n; i++)
+                colors = Math.max(colors, color[i] + 1);
+            color_offsets = new int[colors + 1];
+            for (int i = 0; i < n; i++)
+                color_offsets[color[i] + 1]++;
+            for (int c = 0; c < colors; c++)
+                color_offsets[c + 1] += color_offsets[c];
+            by_color = new int[n];
+            int[] next = new int[colors];
+            System.arraycopy(color_offsets, 0, next, 0, colors);
+            for (int i = 0; i < n; i++)
+                by_color[next[color[i]]++] = i;
+        }
+        Random random = new Random(seed);
+        int[] next_labels = update == Update.SYNCHRONOUS ? new int[n] : labels;
+
+        for (iterations = 1; iterations <= max_iterations; iterations++)
+        {
+            changed.set(0);
+            final int iteration = iterations;
+            final int[] current = labels;
+            final int[] updated = next_labels;
+            if (update == Update.SEMI_SYNCHRONOUS)
+            {
+                for (int c = 0; c + 1 < color_offsets.length; c++)
+                {
+                    final int[] order = by_color;
+                    final int start = color_offsets[c];
+                    runner.run(color_offsets[c + 1] - start, new ParallelRunner.RangeTask()
+                    {
+                        public void run(int from, int to)
+                        {
+                            relabel(adjacency, order, start + from, start + to,
+                                    current, updated, iteration, scratch.get(), changed);
+                        }
+                    });
+                }
+            }
+            else
+            {
+                final int[] order = update == Update.ASYNCHRONOUS ? permutation(n, random) : null;
+                runner.run(n, new ParallelRunner.RangeTask()
+                {
+                    public void run(int from, int to)
+                    {
+                        relabel(adjacency, order, from, to, current, updated, iteration,
+                                scratch.get(), changed);
+                    }
+                });
+            }
+            if (update == Update.SYNCHRONOUS)
+            {
+                labels = next_labels;
+                next_labels = current;
+            }
+            if (changed.get() == 0)
+                break;
+        }
+        iterations = Math.min(iterations, max_iterations);
+
+        Map<Integer, Set<V>> clusters = new HashMap<Integer, Set<V>>();
+        for (int i = 0; i < n; i++)
+        {
+            Set<V> cluster = clusters.get(labels[i]);
+            if (cluster == null)
+            {
+                cluster = new HashSet<V>();
+                clusters.put(labels[i], cluster);
+            }
+            cluster.add(vertices.get(i));
+        }
+        return new HashSet<Set<V>>(clusters.values());
+    }
+
+    /**
+     * Sets the label in <code>updated</code> of each vertex
+     * <code>order[p]</code> (or <code>p</code>, if <code>order</code> is
+     * null), for <code>p</code> in <code>[from, to)</code>, to the label
+     * with the greatest weight among its neighbors' labels in
+     * <code>current</code>, and counts the labels which change.
+     */
+    private void relabel(AggregateGraph adjacency, int[] order, int from, int to,
+            int[] current, int[] updated, int iteration, Scratch neighbors,
+            AtomicInteger changed)
+    {
+        int changes = 0;
+        for (int p = from; p < to; p++)
+        {
+            int i = order == null ? p : order[p];
+            int label = current[i];
+            for (int q = adjacency.offsets[i]; q < adjacency.offsets[i + 1]; q++)
+                neighbors.add(current[adjacency.targets[q]], adjacency.weights[q]);
+
+            int best = label;
+            double best_weight = neighbors.weight[label];
+            long best_hash = 0;
+            boolean keep = true;
+            for (int t = 0; t < neighbors.count; t++)
+            {
+                int l = neighbors.touched[t];
+                double w = neighbors.weight[l];
+                if (w < best_weight || l == label)
+                    continue;
+                if (w == best_weight && keep)
+                    continue;
+                long h = hash(iteration, i, l);
+                if (w > best_weight || h < best_hash)
+                {
+                    best = l;
+                    best_weight = w;
+                    best_hash = h;
+                    keep = false;
+                }
+            }
+            neighbors.clear();
+            updated[i] = best;
+            if (best != label)
+                changes++;
+        }
+        changed.addAndGet(changes);
+    }
+
+    /**
+     * Returns a pseudo-random number determined by the seed and the
+     * arguments.
+     */
+    private long hash(int iteration, int vertex, int label)
+    {
+        long h = seed + 0x9E3779B97F4A7C15L * iteration;
+        h = (h ^ (h >>> 31)) * 0xBF58476D1CE4E5B9L + vertex;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL + label;
+        h = (h ^ (h >>> 31)) * 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 29);
+    }
+
+    private static int[] permutation(int n, Random random)
+    {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        for (int i = n - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * Colors the vertices greedily, so that no two neighbors have the same
+     * color, and returns the color of each.
+     */
+    protected static int[] color(AggregateGraph adjacency)
+    {
+        int n = adjacency.n;
+        int[] color = new int[n];
+        // the last vertex for which each color was found to be in use
+        int[] used_by = new int[n + 1];
+        for (int c = 0; c <= n; c++)
+            used_by[c] = -1;
+        for (int i = 0; i < n; i++)
+        {
+            for (int q = adjacency.offsets[i]; q < adjacency.offsets[i + 1]; q++)
+            {
+                int j = adjacency.targets[q];
+                if (j < i)
+                    used_by[color[j]] = i;
+            }
+            int c = 0;
+            while (used_by[c] == i)
+                c++;
+            color[i] = c;
+        }
+        return color;
+    }
+}
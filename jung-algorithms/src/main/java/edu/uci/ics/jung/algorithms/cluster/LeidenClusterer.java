@@ -0,0 +1,717 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.ConstantTransformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Finds communities which (approximately) maximize modularity, using the
+ * Leiden algorithm.  The graph is treated as undirected and weighted: the
+ * weight of each edge is given by a <code>Transformer</code>, and parallel
+ * edges are equivalent to a single edge whose weight is the sum of theirs.
+ *
+ * <p>The algorithm proceeds in levels, each of which has three phases:
+ * <ul>
+ * <li/>local moving: each vertex is moved to the neighboring community
+ * which most increases modularity, until no move increases it
+ * <li/>refinement: each community is split into subcommunities, each of
+ * which is built by greedily merging well-connected vertices with
+ * well-connected subcommunities, so that every subcommunity is connected
+ * <li/>aggregation: each subcommunity becomes a vertex of a new graph,
+ * whose initial partition is that found by local moving
+ * </ul>
+ * The levels continue until local moving leaves each vertex of the
+ * aggregated graph in a community of its own.  Unlike the Louvain
+ * algorithm, which aggregates communities directly, this guarantees that
+ * the communities found are connected.
+ *
+ * <p>Each level works on a compact representation of its graph: the
+ * vertices are numbered, and the weighted neighbors of each are stored in
+ * compressed sparse row form.  Local moving divides the vertices among
+ * several threads, which update the community weights atomically; with
+ * more than one thread, the results may vary from run to run.  The
+ * refinement of different communities, and the aggregation of different
+ * subcommunities, are also done in parallel.
+ *
+ * <p>The modularity of the partition found at each level is available
+ * from {@link #getModularities()} after each call to
+ * {@link #transform(Graph)}.
+ *
+ * @see "From Louvain to Leiden: guaranteeing well-connected communities by V. A. Traag, L. Waltman and N. J. van Eck (2019), Scientific Reports"
+ * @see "Fast unfolding of communities in large networks by V. D. Blondel, J.-L. Guillaume, R. Lambiotte and E. Lefebvre (2008), J. Stat. Mech."
+ * @see EdgeBetweennessClusterer
+ */
+public class LeidenClusterer<V,E> implements Transformer<Graph<V,E>, Set<Set<V>>>
+{
+    /**
+     * The greatest number of passes over the vertices of one level's graph
+     * during local moving.
+     */
+    protected static final int MAX_PASSES = 100;
+
+    protected Transformer<E, ? extends Number> edge_weights;
+    protected int threads;
+    protected double resolution;
+    protected Random rand;
+    protected List<Double> modularities;
+
+    /**
+     * Creates an instance which treats every edge as having weight 1, and
+     * which uses one thread per available processor.
+     */
+    @SuppressWarnings("unchecked")
+    public LeidenClusterer()
+    {
+        this(new ConstantTransformer(1));
+    }
+
+    /**
+     * Creates an instance with the specified edge weights, which uses one
+     * thread per available processor.
+     */
+    public LeidenClusterer(Transformer<E, ? extends Number> edge_weights)
+    {
+        this(edge_weights, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance with the specified edge weights, which uses the
+     * specified number of threads.
+     */
+    public LeidenClusterer(Transformer<E, ? extends Number> edge_weights, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.edge_weights = edge_weights;
+        this.threads = threads;
+        this.resolution = 1;
+        this.rand = new Random();
+        this.modularities = Collections.emptyList();
+    }
+
+    /**
+     * Sets the resolution parameter, by which the expected weight of the
+     * edges within each community is multiplied.  Higher values yield more,
+     * smaller communities.  Defaults to 1, which gives the standard
+     * definition of modularity.
+     */
+    public void setResolution(double resolution)
+    {
+        if (resolution <= 0)
+            throw new IllegalArgumentException("Resolution must be positive");
+        this.resolution = resolution;
+    }
+
+    /**
+     * Sets the seed of the random number generator which orders the
+     * vertices.
+     */
+    public void setRandomSeed(long seed)
+    {
+        this.rand = new Random(seed);
+    }
+
+    /**
+     * Returns the modularity of the partition found at each level by the
+     * most recent call to <code>transform</code>; the last is that of the
+     * communities returned.
+     */
+    public List<Double> getModularities()
+    {
+        return modularities;
+    }
+
+    /**
+     * Finds the communities of <code>graph</code>.
+     */
+    public Set<Set<V>> transform(Graph<V,E> graph)
+    {
+        List<V> vertices = new ArrayList<V>(graph.getVertices());
+        int n = vertices.size();
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            index.put(vertices.get(i), i);
+
+        ParallelRunner runner = new ParallelRunner(threads);
+        AggregateGraph level = new AggregateGraph(graph, index, edge_weights, runner);
+        // the vertex of the current level's graph which contains each vertex
+        int[] node_of = new int[n];
+        int[] community = new int[n];
+        for (int i = 0; i < n; i++)
+            node_of[i] = community[i] = i;
+        List<Double> level_modularities = new ArrayList<Double>();
+
+        while (level.total > 0)
+        {
+            moveNodes(level, community, runner);
+            int count = renumber(community);
+            level_modularities.add(level.modularity(community, count, resolution));
+            if (count == level.n)
+                break;
+
+            int[] refined = refine(level, community, count, runner);
+            int refined_count = renumber(refined);
+            if (refined_count == level.n)
+            {
+                // no vertices could be merged; aggregate the communities
+                // themselves to make progress
+                System.arraycopy(community, 0, refined, 0, level.n);
+                refined_count = count;
+            }
+            int[] next_community = new int[refined_count];
+            for (int i = 0; i < level.n; i++)
+                next_community[refined[i]] = community[i];
+            for (int i = 0; i < n; i++)
+                node_of[i] = refined[node_of[i]];
+            level = level.aggregate(refined, refined_count, runner);
+            community = next_community;
+        }
+
+        List<Set<V>> clusters = new ArrayList<Set<V>>();
+        for (int i = 0; i < level.n; i++)
+            clusters.add(null);
+        for (int i = 0; i < n; i++)
+        {
+            int c = community[node_of[i]];
+            if (clusters.get(c) == null)
+                clusters.set(c, new HashSet<V>());
+            clusters.get(c).add(vertices.get(i));
+        }
+        Set<Set<V>> result = new HashSet<Set<V>>();
+        for (Set<V> cluster : clusters)
+            if (cluster != null)
+                result.add(cluster);
+        modularities = Collections.unmodifiableList(level_modularities);
+        return result;
+    }
+
+    /**
+     * Relabels the values of <code>labels</code> as consecutive integers
+     * starting at 0, in order of first appearance, and returns the number
+     * of distinct values.
+     */
+    protected static int renumber(int[] labels)
+    {
+        int[] map = new int[labels.length];
+        for (int i = 0; i < map.length; i++)
+            map[i] = -1;
+        int count = 0;
+        for (int i = 0; i < labels.length; i++)
+        {
+            if (map[labels[i]] < 0)
+                map[labels[i]] = count++;
+            labels[i] = map[labels[i]];
+        }
+        return count;
+    }
+
+    /**
+     * Returns a random permutation of <code>[0, n)</code>.
+     */
+    protected int[] permutation(int n)
+    {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        for (int i = n - 1; i > 0; i--)
+        {
+            int j = rand.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * The weights of the neighbors of one vertex, by their labels; each
+     * thread has its own.
+     */
+    protected static class Scratch
+    {
+        protected double[] weight;
+        protected int[] touched;
+        protected int count;
+
+        protected Scratch(int n)
+        {
+            weight = new double[n];
+            touched = new int[n];
+        }
+
+        protected void add(int label, double w)
+        {
+            if (weight[label] == 0)
+            {
+                weight[label] = w;
+                // zero-weight edges are never recorded, so a 0 entry is
+                // always absent
+                if (w != 0)
+                    touched[count++] = label;
+            }
+            else
+                weight[label] += w;
+        }
+
+        protected void clear()
+        {
+            for (int k = 0; k < count; k++)
+                weight[touched[k]] = 0;
+            count = 0;
+        }
+    }
+
+    private static ThreadLocal<Scratch> scratch(final int n)
+    {
+        return new ThreadLocal<Scratch>()
+        {
+            @Override
+            protected Scratch initialValue()
+            {
+                return new Scratch(n);
+            }
+        };
+    }
+
+    private static double get(AtomicLongArray array, int i)
+    {
+        return Double.longBitsToDouble(array.get(i));
+    }
+
+    private static void add(AtomicLongArray array, int i, double delta)
+    {
+        while (true)
+        {
+            long bits = array.get(i);
+            long updated = Double.doubleToLongBits(Double.longBitsToDouble(bits) + delta);
+            if (array.compareAndSet(i, bits, updated))
+                return;
+        }
+    }
+
+    /**
+     * Moves vertices between the communities of <code>community</code>,
+     * each to the neighboring community which most increases modularity,
+     * until no move increases it.  Each vertex is reconsidered only after
+     * one of its neighbors has moved.
+     */
+    protected void moveNodes(final AggregateGraph graph, final int[] community,
+            ParallelRunner runner)
+    {
+        final int n = graph.n;
+        final AtomicLongArray totals = new AtomicLongArray(n);
+        double[] initial = new double[n];
+        for (int i = 0; i < n; i++)
+            initial[community[i]] += graph.degree[i];
+        for (int c = 0; c < n; c++)
+            totals.set(c, Double.doubleToLongBits(initial[c]));
+        initial = null;
+
+        final boolean[] pending = new boolean[n];
+        for (int i = 0; i < n; i++)
+            pending[i] = true;
+        final int[] order = permutation(n);
+        final double scale = resolution / graph.total;
+        final ThreadLocal<Scratch> scratch = scratch(n);
+        final AtomicInteger moved = new AtomicInteger();
+        ParallelRunner.RangeTask pass = new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                Scratch neighbors = scratch.get();
+                int moves = 0;
+                for (int p = start; p < end; p++)
+                {
+                    int i = order[p];
+                    if (!pending[i])
+                        continue;
+                    pending[i] = false;
+                    int current = community[i];
+                    double k = graph.degree[i];
+                    for (int q = graph.offsets[i]; q < graph.offsets[i + 1]; q++)
+                        neighbors.add(community[graph.targets[q]], graph.weights[q]);
+
+                    int best = current;
+                    double best_gain = neighbors.weight[current]
+                        - scale * k * (get(totals, current) - k);
+                    for (int t = 0; t < neighbors.count; t++)
+                    {
+                        int c = neighbors.touched[t];
+                        if (c == current)
+                            continue;
+                        double gain = neighbors.weight[c] - scale * k * get(totals, c);
+                        if (gain > best_gain)
+                        {
+                            best = c;
+                            best_gain = gain;
+                        }
+                    }
+                    neighbors.clear();
+                    if (best == current)
+                        continue;
+
+                    add(totals, current, -k);
+                    add(totals, best, k);
+                    community[i] = best;
+                    moves++;
+                    for (int q = graph.offsets[i]; q < graph.offsets[i + 1]; q++)
+                    {
+                        int j = graph.targets[q];
+                        if (community[j] != best)
+                            pending[j] = true;
+                    }
+                }
+                moved.addAndGet(moves);
+            }
+        };
+        runner = new ParallelRunner(runner.getThreadCount());
+        runner.setMinimumBlockSize(256);
+        for (int passes = 0; passes < MAX_PASSES; passes++)
+        {
+            moved.set(0);
+            runner.run(n, pass);
+            if (moved.get() == 0)
+                break;
+        }
+    }
+
+    /**
+     * Splits each community of <code>community</code> (numbered from 0 to
+     * <code>count - 1</code>) into subcommunities, and returns the
+     * subcommunity of each vertex, labeled by one of its vertices.  Each
+     * vertex which is alone in its subcommunity, in random order, and which
+     * is well connected to the rest of its community, is merged into the
+     * well-connected subcommunity of the same community whose merger most
+     * increases modularity, if any does.
+     */
+    protected int[] refine(final AggregateGraph graph, final int[] community, int count,
+            ParallelRunner runner)
+    {
+        final int n = graph.n;
+        // the vertices of each community, in random order
+        final int[] member_offsets = new int[count + 1];
+        for (int i = 0; i < n; i++)
+            member_offsets[community[i] + 1]++;
+        for (int c = 0; c < count; c++)
+            member_offsets[c + 1] += member_offsets[c];
+        final int[] members = new int[n];
+        int[] next = new int[count];
+        System.arraycopy(member_offsets, 0, next, 0, count);
+        for (int i : permutation(n))
+            members[next[community[i]]++] = i;
+        next = null;
+        final double[] community_total = new double[count];
+        for (int i = 0; i < n; i++)
+            community_total[community[i]] += graph.degree[i];
+
+        final int[] refined = new int[n];
+        final double[] refined_total = new double[n];
+        // the weight of the edges from each subcommunity (or vertex) to the
+        // rest of its community
+        final double[] refined_external = new double[n];
+        final double[] external = new double[n];
+        final boolean[] singleton = new boolean[n];
+        final double scale = resolution / graph.total;
+        final ThreadLocal<Scratch> scratch = scratch(n);
+        runner = new ParallelRunner(runner.getThreadCount());
+        runner.setMinimumBlockSize(64);
+        runner.run(count, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                Scratch neighbors = scratch.get();
+                for (int c = start; c < end; c++)
+                {
+                    double total = community_total[c];
+                    for (int m = member_offsets[c]; m < member_offsets[c + 1]; m++)
+                    {
+                        int i = members[m];
+                        double w = 0;
+                        for (int q = graph.offsets[i]; q < graph.offsets[i + 1]; q++)
+                            if (community[graph.targets[q]] == c)
+                                w += graph.weights[q];
+                        refined[i] = i;
+                        refined_total[i] = graph.degree[i];
+                        refined_external[i] = external[i] = w;
+                        singleton[i] = true;
+                    }
+                    for (int m = member_offsets[c]; m < member_offsets[c + 1]; m++)
+                    {
+                        int v = members[m];
+                        double k = graph.degree[v];
+                        if (!singleton[v] || external[v] < scale * k * (total - k))
+                            continue;
+                        for (int q = graph.offsets[v]; q < graph.offsets[v + 1]; q++)
+                        {
+                            int j = graph.targets[q];
+                            if (community[j] == c)
+                                neighbors.add(refined[j], graph.weights[q]);
+                        }
+                        int best = -1;
+                        double best_gain = 0;
+                        for (int t = 0; t < neighbors.count; t++)
+                        {
+                            int r = neighbors.touched[t];
+                            double r_total = refined_total[r];
+                            if (refined_external[r] < scale * r_total * (total - r_total))
+                                continue;
+                            double gain = neighbors.weight[r] - scale * k * r_total;
+                            if (gain > best_gain)
+                            {
+                                best = r;
+                                best_gain = gain;
+                            }
+                        }
+                        if (best >= 0)
+                        {
+                            refined_external[best] += external[v] - 2 * neighbors.weight[best];
+                            refined_total[best] += k;
+                            refined[v] = best;
+                            singleton[v] = false;
+                            singleton[best] = false;
+                        }
+                        neighbors.clear();
+                    }
+                }
+            }
+        });
+        return refined;
+    }
+
+    /**
+     * An undirected weighted graph whose vertices are numbered from 0 to
+     * <code>n - 1</code>, with the neighbors of each vertex (other than
+     * itself) and the weights of the edges to them stored in compressed
+     * sparse row form.  The weight of each vertex's self-loops is stored
+     * separately, counted twice as in the adjacency matrix.
+     */
+    protected static class AggregateGraph
+    {
+        protected int n;
+        protected int[] offsets;
+        protected int[] targets;
+        protected double[] weights;
+        protected double[] self;
+        /** The weighted degree of each vertex. */
+        protected double[] degree;
+        /** The sum of the degrees, i.e., twice the total edge weight. */
+        protected double total;
+
+        private AggregateGraph()
+        {
+        }
+
+        /**
+         * Creates the graph of <code>graph</code>'s vertices, numbered by
+         * <code>index</code>, and its (merged) edges.
+         */
+        protected <V,E> AggregateGraph(Graph<V,E> graph, Map<V,Integer> index,
+                Transformer<E, ? extends Number> edge_weights, ParallelRunner runner)
+        {
+            // read the edges in both directions, with duplicates...
+            AggregateGraph raw = new AggregateGraph();
+            raw.n = index.size();
+            raw.offsets = new int[raw.n + 1];
+            raw.self = new double[raw.n];
+            raw.degree = new double[raw.n];
+            int m = graph.getEdgeCount();
+            int[] first = new int[m];
+            int[] second = new int[m];
+            double[] edge_weight = new double[m];
+            int count = 0;
+            for (E e : graph.getEdges())
+            {
+                double w = edge_weights.transform(e).doubleValue();
+                if (w < 0)
+                    throw new IllegalArgumentException("Edge " + e + " has negative weight");
+                Pair<V> endpoints = graph.getEndpoints(e);
+                int u = index.get(endpoints.getFirst());
+                int v = index.get(endpoints.getSecond());
+                raw.degree[u] += w;
+                raw.degree[v] += w;
+                raw.total += 2 * w;
+                if (u == v)
+                {
+                    raw.self[u] += 2 * w;
+                    continue;
+                }
+                if (w == 0)
+                    continue;
+                first[count] = u;
+                second[count] = v;
+                edge_weight[count++] = w;
+                raw.offsets[u + 1]++;
+                raw.offsets[v + 1]++;
+            }
+            for (int i = 0; i < raw.n; i++)
+                raw.offsets[i + 1] += raw.offsets[i];
+            raw.targets = new int[2 * count];
+            raw.weights = new double[2 * count];
+            int[] next = new int[raw.n];
+            System.arraycopy(raw.offsets, 0, next, 0, raw.n);
+            for (int k = 0; k < count; k++)
+            {
+                int u = first[k];
+                int v = second[k];
+                raw.targets[next[u]] = v;
+                raw.weights[next[u]++] = edge_weight[k];
+                raw.targets[next[v]] = u;
+                raw.weights[next[v]++] = edge_weight[k];
+            }
+            first = second = next = null;
+            edge_weight = null;
+
+            // ...and merge the duplicates
+            int[] identity = new int[raw.n];
+            for (int i = 0; i < raw.n; i++)
+                identity[i] = i;
+            AggregateGraph merged = raw.aggregate(identity, raw.n, runner);
+            this.n = merged.n;
+            this.offsets = merged.offsets;
+            this.targets = merged.targets;
+            this.weights = merged.weights;
+            this.self = merged.self;
+            this.degree = merged.degree;
+            this.total = merged.total;
+        }
+
+        /**
+         * Returns the graph whose vertices are the parts of
+         * <code>part</code> (numbered from 0 to <code>count - 1</code>),
+         * each of which is joined to each other by the total weight of the
+         * edges between them.
+         */
+        protected AggregateGraph aggregate(final int[] part, final int count,
+                ParallelRunner runner)
+        {
+            final int[] member_offsets = new int[count + 1];
+            for (int i = 0; i < n; i++)
+                member_offsets[part[i] + 1]++;
+            for (int c = 0; c < count; c++)
+                member_offsets[c + 1] += member_offsets[c];
+            final int[] members = new int[n];
+            int[] next = new int[count];
+            System.arraycopy(member_offsets, 0, next, 0, count);
+            for (int i = 0; i < n; i++)
+                members[next[part[i]]++] = i;
+            next = null;
+
+            final AggregateGraph result = new AggregateGraph();
+            result.n = count;
+            result.self = new double[count];
+            result.degree = new double[count];
+            result.total = total;
+            final int[][] part_targets = new int[count][];
+            final double[][] part_weights = new double[count][];
+            final ThreadLocal<Scratch> scratch = scratch(count);
+            runner = new ParallelRunner(runner.getThreadCount());
+            runner.setMinimumBlockSize(64);
+            runner.run(count, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    Scratch neighbors = scratch.get();
+                    for (int c = start; c < end; c++)
+                    {
+                        double loops = 0;
+                        double d = 0;
+                        for (int m = member_offsets[c]; m < member_offsets[c + 1]; m++)
+                        {
+                            int i = members[m];
+                            loops += self[i];
+                            d += degree[i];
+                            for (int q = offsets[i]; q < offsets[i + 1]; q++)
+                            {
+                                int p = part[targets[q]];
+                                if (p == c)
+                                    loops += weights[q];
+                                else
+                                    neighbors.add(p, weights[q]);
+                            }
+                        }
+                        result.self[c] = loops;
+                        result.degree[c] = d;
+                        int[] t = new int[neighbors.count];
+                        double[] w = new double[neighbors.count];
+                        for (int k = 0; k < neighbors.count; k++)
+                        {
+                            t[k] = neighbors.touched[k];
+                            w[k] = neighbors.weight[t[k]];
+                        }
+                        part_targets[c] = t;
+                        part_weights[c] = w;
+                        neighbors.clear();
+                    }
+                }
+            });
+
+            result.offsets = new int[count + 1];
+            for (int c = 0; c < count; c++)
+                result.offsets[c + 1] = result.offsets[c] + part_targets[c].length;
+            result.targets = new int[result.offsets[count]];
+            result.weights = new double[result.offsets[count]];
+            for (int c = 0; c < count; c++)
+            {
+                System.arraycopy(part_targets[c], 0, result.targets, result.offsets[c],
+                        part_targets[c].length);
+                System.arraycopy(part_weights[c], 0, result.weights, result.offsets[c],
+                        part_weights[c].length);
+                part_targets[c] = null;
+                part_weights[c] = null;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the modularity of the partition <code>community</code>,
+         * whose parts are numbered from 0 to <code>count - 1</code>, with
+         * the specified resolution.
+         */
+        protected double modularity(int[] community, int count, double resolution)
+        {
+            double[] internal = new double[count];
+            double[] community_total = new double[count];
+            for (int i = 0; i < n; i++)
+            {
+                int c = community[i];
+                community_total[c] += degree[i];
+                internal[c] += self[i];
+                for (int q = offsets[i]; q < offsets[i + 1]; q++)
+                    if (community[targets[q]] == c)
+                        internal[c] += weights[q];
+            }
+            double q = 0;
+            for (int c = 0; c < count; c++)
+            {
+                double fraction = community_total[c] / total;
+                q += internal[c] / total - resolution * fraction * fraction;
+            }
+            return q;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+
+/**
+ * Finds all strongly connected components of a directed graph using several
+ * threads.  Vertices with no incoming or no outgoing edges (among the
+ * vertices not yet removed) are first trimmed away repeatedly, since each is
+ * a component by itself.  The remaining vertices are divided by the
+ * forward-backward (FW-BW) algorithm of Fleischer, Hendrickson and Pinar: the
+ * vertices both reachable from and reaching a pivot vertex form its strong
+ * component, and every other strong component lies entirely within one of
+ * the three remaining sets (reachable only, reaching only, neither), which
+ * are then processed independently and concurrently.  The searches
+ * themselves are level-synchronous; large levels are divided among several
+ * threads while no other subproblems are available to occupy them.  Sets which are small enough are finished by the sequential
+ * algorithm of the superclass.
+ *
+ * <p>The components found are the same as those of
+ * <code>StrongComponentClusterer</code>, although they are numbered (and
+ * hence iterated) in a different order.
+ *
+ * <p>Running time: O(|V| + |E|) expected work per level of recursion;
+ * there are O(log |V|) levels for typical graphs.
+ *
+ * @see "On Identifying Strongly Connected Components in Parallel by L. Fleischer, B. Hendrickson and A. Pinar (2000), IPDPS Workshops"
+ */
+public class ParallelStrongComponentClusterer<V,E> extends StrongComponentClusterer<V,E>
+{
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+    private static final int LEVEL_BLOCK_SIZE = 1 << 12;
+    private static final int DONE = -1;
+
+    protected int threads;
+    protected ParallelRunner runner;
+
+    private AtomicIntegerArray colors;
+    private AtomicInteger next_color;
+    private AtomicInteger next_component;
+    private Tarjan tarjan;
+
+    /**
+     * Constructs a new strong component finder which uses one thread per
+     * available processor.
+     */
+    public ParallelStrongComponentClusterer()
+    {
+        this(ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Constructs a new strong component finder which uses the specified
+     * number of threads.
+     */
+    public ParallelStrongComponentClusterer(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+        this.runner = new ParallelRunner(threads);
+        // levels smaller than this are searched by the calling thread
+        runner.setMinimumBlockSize(LEVEL_BLOCK_SIZE);
+    }
+
+    @Override
+    protected int findComponents()
+    {
+        int n = indexed.getVertexCount();
+        colors = new AtomicIntegerArray(n);
+        next_color = new AtomicInteger(1);
+        next_component = new AtomicInteger();
+        tarjan = new Tarjan(n);
+
+        // vertices of color 0 are those which remain after trimming
+        int remaining = trim();
+        int[] vertices = new int[remaining];
+        int count = 0;
+        for (int i = 0; i < n; i++)
+            if (colors.get(i) == 0)
+                vertices[count++] = i;
+
+        final Scheduler scheduler = new Scheduler();
+        if (count > 0)
+            scheduler.submit(vertices, count, 0);
+        scheduler.run();
+        int found = next_component.get();
+        colors = null;
+        tarjan = null;
+        return found;
+    }
+
+    /**
+     * Repeatedly removes the vertices with no incoming or no outgoing edges
+     * (ignoring self-loops) from vertices not yet removed, making each a
+     * component.  Returns the number of vertices remaining.
+     */
+    private int trim()
+    {
+        int n = indexed.getVertexCount();
+        int[] out_offsets = indexed.getOutOffsets();
+        int[] out_targets = indexed.getOutTargets();
+        int[] in_offsets = indexed.getInOffsets();
+        int[] in_sources = indexed.getInSources();
+        int[] in = new int[n];
+        int[] out = new int[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++)
+        {
+            for (int j = out_offsets[i]; j < out_offsets[i + 1]; j++)
+                if (out_targets[j] != i)
+                    out[i]++;
+            for (int j = in_offsets[i]; j < in_offsets[i + 1]; j++)
+                if (in_sources[j] != i)
+                    in[i]++;
+            if (in[i] == 0 || out[i] == 0)
+            {
+                colors.set(i, DONE);
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail)
+        {
+            int v = queue[head++];
+            component[v] = next_component.getAndIncrement();
+            for (int j = out_offsets[v]; j < out_offsets[v + 1]; j++)
+            {
+                int w = out_targets[j];
+                if (w != v && colors.get(w) == 0 && --in[w] == 0)
+                {
+                    colors.set(w, DONE);
+                    queue[tail++] = w;
+                }
+            }
+            for (int j = in_offsets[v]; j < in_offsets[v + 1]; j++)
+            {
+                int u = in_sources[j];
+                if (u != v && colors.get(u) == 0 && --out[u] == 0)
+                {
+                    colors.set(u, DONE);
+                    queue[tail++] = u;
+                }
+            }
+        }
+        return n - tail;
+    }
+
+    /**
+     * Finds the strong components among the first <code>count</code>
+     * elements of <code>vertices</code>, all of which have color
+     * <code>color</code>.
+     */
+    private void process(int[] vertices, int count, int color, Scheduler scheduler)
+    {
+        if (count <= SEQUENTIAL_THRESHOLD)
+        {
+            int found = tarjan.search(vertices, count, component, colors, color);
+            int base = next_component.getAndAdd(found);
+            for (int k = 0; k < count; k++)
+                component[vertices[k]] += base;
+            return;
+        }
+
+        int[] out_offsets = indexed.getOutOffsets();
+        int[] in_offsets = indexed.getInOffsets();
+        // a pivot of high degree is likely to lie in a large component
+        int pivot = vertices[0];
+        long best = -1;
+        for (int k = 0; k < count; k++)
+        {
+            int v = vertices[k];
+            long score = (long)(out_offsets[v + 1] - out_offsets[v] + 1) *
+                (in_offsets[v + 1] - in_offsets[v] + 1);
+            if (score > best)
+            {
+                best = score;
+                pivot = v;
+            }
+        }
+
+        int forward = next_color.getAndIncrement();
+        int backward = next_color.getAndIncrement();
+        int pivot_component = next_color.getAndIncrement();
+        int[] queue = new int[count];
+        queue[0] = pivot;
+        colors.set(pivot, forward);
+        reach(queue, indexed.getOutOffsets(), indexed.getOutTargets(),
+                color, forward, -1, -1, scheduler);
+        queue[0] = pivot;
+        colors.set(pivot, pivot_component);
+        reach(queue, in_offsets, indexed.getInSources(),
+                forward, pivot_component, color, backward, scheduler);
+
+        int id = next_component.getAndIncrement();
+        int forward_count = 0;
+        int backward_count = 0;
+        int rest_count = 0;
+        for (int k = 0; k < count; k++)
+        {
+            int c = colors.get(vertices[k]);
+            if (c == forward)
+                forward_count++;
+            else if (c == backward)
+                backward_count++;
+            else if (c == color)
+                rest_count++;
+        }
+        int[] forward_only = new int[forward_count];
+        int[] backward_only = new int[backward_count];
+        int[] rest = new int[rest_count];
+        forward_count = backward_count = rest_count = 0;
+        for (int k = 0; k < count; k++)
+        {
+            int v = vertices[k];
+            int c = colors.get(v);
+            if (c == pivot_component)
+            {
+                component[v] = id;
+                colors.set(v, DONE);
+            }
+            else if (c == forward)
+                forward_only[forward_count++] = v;
+            else if (c == backward)
+                backward_only[backward_count++] = v;
+            else
+                rest[rest_count++] = v;
+        }
+        if (forward_count > 0)
+            scheduler.submit(forward_only, forward_count, forward);
+        if (backward_count > 0)
+            scheduler.submit(backward_only, backward_count, backward);
+        if (rest_count > 0)
+            scheduler.submit(rest, rest_count, color);
+    }
+
+    /**
+     * Performs a breadth-first search from <code>queue[0]</code> along the
+     * adjacency lists <code>offsets</code>/<code>neighbors</code>, visiting
+     * the vertices of color <code>from</code> (recoloring them
+     * <code>to</code>) and, if <code>alt_from</code> is non-negative, those of
+     * color <code>alt_from</code> (recoloring them <code>alt_to</code>).
+     * Large levels are divided among threads when <code>scheduler</code> has 
+     * no other work for them; each vertex is claimed by exactly one thread by 
+     * a compare-and-set on its color.
+     */
+    private void reach(final int[] queue, final int[] offsets, final int[] neighbors,
+            final int from, final int to, final int alt_from, final int alt_to,
+            Scheduler scheduler)
+    {
+        int head = 0;
+        final AtomicInteger tail = new AtomicInteger(1);
+        while (head < tail.get())
+        {
+            final int level_start = head;
+            final int level_end = tail.get();
+            ParallelRunner.RangeTask expand = new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    int[] found = new int[16];
+                    int found_count = 0;
+                    for (int k = level_start + start; k < level_start + end; k++)
+                    {
+                        int v = queue[k];
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++)
+                        {
+                            int w = neighbors[j];
+                            int c = colors.get(w);
+                            boolean claimed = false;
+                            if (c == from)
+                                claimed = colors.compareAndSet(w, from, to);
+                            else if (alt_from >= 0 && c == alt_from)
+                                claimed = colors.compareAndSet(w, alt_from, alt_to);
+                            if (!claimed)
+                                continue;
+                            if (found_count == found.length)
+                            {
+                                int[] grown = new int[found.length * 2];
+                                System.arraycopy(found, 0, grown, 0, found_count);
+                                found = grown;
+                            }
+                            found[found_count++] = w;
+                        }
+                    }
+                    int offset = tail.getAndAdd(found_count);
+                    System.arraycopy(found, 0, queue, offset, found_count);
+                }
+            };
+            if (scheduler.isAlone())
+                runner.run(level_end - level_start, expand);
+            else
+                expand.run(0, level_end - level_start);
+            head = level_end;
+        }
+    }
+
+    /**
+     * Runs the subproblems of the FW-BW recursion on a fixed set of
+     * threads, until no subproblems remain.
+     */
+    private class Scheduler
+    {
+        private LinkedList<Task> tasks = new LinkedList<Task>();
+        private int active;
+        private Throwable failure;
+
+        synchronized void submit(int[] vertices, int count, int color)
+        {
+            tasks.add(new Task(vertices, count, color));
+            notifyAll();
+        }
+
+        /**
+         * Returns <code>true</code> if the calling task is the only one
+         * that is running or waiting to run.
+         */
+        synchronized boolean isAlone()
+        {
+            return tasks.isEmpty() && active <= 1;
+        }
+
+        private synchronized Task take() throws InterruptedException
+        {
+            while (tasks.isEmpty() && active > 0 && failure == null)
+                wait();
+            if (tasks.isEmpty() || failure != null)
+            {
+                notifyAll();
+                return null;
+            }
+            active++;
+            return tasks.removeFirst();
+        }
+
+        private synchronized void finish(Throwable t, boolean was_active)
+        {
+            if (was_active)
+                active--;
+            if (t != null && failure == null)
+                failure = t;
+            notifyAll();
+        }
+
+        void run()
+        {
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++)
+            {
+                workers[t] = new Thread()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            Task task;
+                            while ((task = take()) != null)
+                            {
+                                Throwable thrown = null;
+                                try
+                                {
+                                    process(task.vertices, task.count, task.color,
+                                            Scheduler.this);
+                                }
+                                catch (Throwable e)
+                                {
+                                    thrown = e;
+                                }
+                                finish(thrown, true);
+                            }
+                        }
+                        catch (InterruptedException e)
+                        {
+                            finish(e, false);
+                        }
+                    }
+                };
+                workers[t].setDaemon(true);
+                workers[t].start();
+            }
+            try
+            {
+                for (Thread worker : workers)
+                    worker.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            if (failure instanceof RuntimeException)
+                throw (RuntimeException)failure;
+            if (failure instanceof Error)
+                throw (Error)failure;
+            if (failure != null)
+                throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * A subproblem of the FW-BW recursion: a set of vertices of one color.
+     */
+    private static class Task
+    {
+        int[] vertices;
+        int count;
+        int color;
+
+        Task(int[] vertices, int count, int color)
+        {
+            this.vertices = vertices;
+            this.count = count;
+            this.color = color;
+        }
+    }
+}
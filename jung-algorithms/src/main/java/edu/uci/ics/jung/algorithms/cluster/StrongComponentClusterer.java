@@ -0,0 +1,242 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.DirectedGraph;
+
+/**
+ * Finds all strongly connected components (strong components) of a directed
+ * graph as sets of vertex sets.  A strong component is a maximal subgraph in
+ * which every vertex is reachable from every other vertex along directed
+ * paths.  Every vertex belongs to exactly one strong component; a vertex on
+ * no directed cycle forms a component by itself.
+ *
+ * <p>This implementation uses Tarjan's algorithm, with the depth-first
+ * search driven by an explicit stack over the dense vertex indices of an
+ * <code>IndexedGraph</code>, so that arbitrarily deep graphs may be
+ * processed.  After <code>transform</code> has been called, the
+ * condensation of the graph (in which each strong component is contracted
+ * to a single vertex) is available from {@link #getCondensation(Factory)}.
+ *
+ * <p>Running time: O(|V| + |E|).
+ *
+ * @see "Depth first search and linear graph algorithms by R. E. Tarjan (1972), SIAM J. Comp."
+ * @see ParallelStrongComponentClusterer
+ * @see WeakComponentClusterer
+ */
+public class StrongComponentClusterer<V,E> implements Transformer<DirectedGraph<V,E>, Set<Set<V>>>
+{
+    protected IndexedGraph<V,E> indexed;
+    protected int[] component;
+    protected int component_count;
+    protected List<Set<V>> components;
+
+    /**
+     * Constructs a new strong component finder.
+     */
+    public StrongComponentClusterer()
+    {
+    }
+
+    /**
+     * Extracts the strong components from the graph.
+     * @param graph the graph whose strong components are to be extracted
+     * @return the strong components, as a set of vertex sets
+     */
+    public Set<Set<V>> transform(DirectedGraph<V,E> graph)
+    {
+        indexed = new IndexedGraph<V,E>(graph);
+        int n = indexed.getVertexCount();
+        component = new int[n];
+        component_count = findComponents();
+
+        components = new ArrayList<Set<V>>(component_count);
+        for (int c = 0; c < component_count; c++)
+            components.add(new HashSet<V>());
+        for (int i = 0; i < n; i++)
+            components.get(component[i]).add(indexed.getVertex(i));
+        return new LinkedHashSet<Set<V>>(components);
+    }
+
+    /**
+     * Labels each vertex index <code>i</code> with the index of its strong
+     * component in <code>component[i]</code>, and returns the number of
+     * components.  Component indices must be consecutive, starting at 0.
+     */
+    protected int findComponents()
+    {
+        int n = indexed.getVertexCount();
+        int[] vertices = new int[n];
+        for (int i = 0; i < n; i++)
+            vertices[i] = i;
+        Tarjan tarjan = new Tarjan(n);
+        return tarjan.search(vertices, n, component, null, 0);
+    }
+
+    /**
+     * Returns the condensation of the graph most recently passed to
+     * <code>transform</code>: a directed acyclic graph with one vertex per
+     * strong component, and an edge from component <code>a</code> to
+     * component <code>b</code> whenever the original graph has at least one
+     * edge from a vertex in <code>a</code> to a vertex in <code>b</code>.
+     * Each edge of the condensation is the set of original edges which it
+     * represents.
+     * @param graph_factory supplies the (empty) graph to populate
+     */
+    public DirectedGraph<Set<V>,Set<E>> getCondensation(
+            Factory<? extends DirectedGraph<Set<V>,Set<E>>> graph_factory)
+    {
+        if (indexed == null)
+            throw new IllegalStateException("transform() must be called first");
+        DirectedGraph<Set<V>,Set<E>> condensation = graph_factory.create();
+        for (Set<V> c : components)
+            condensation.addVertex(c);
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int[] edges = indexed.getOutEdges();
+        for (int a = 0; a < component_count; a++)
+        {
+            // the edges leaving component a, keyed by target component
+            Map<Integer,Set<E>> leaving = new HashMap<Integer,Set<E>>();
+            for (V v : components.get(a))
+            {
+                int i = indexed.getIndex(v);
+                for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                {
+                    int b = component[targets[j]];
+                    if (b == a)
+                        continue;
+                    Set<E> represented = leaving.get(b);
+                    if (represented == null)
+                    {
+                        represented = new HashSet<E>();
+                        leaving.put(b, represented);
+                    }
+                    represented.add(indexed.getEdge(edges[j]));
+                }
+            }
+            for (Map.Entry<Integer,Set<E>> entry : leaving.entrySet())
+                condensation.addEdge(entry.getValue(), components.get(a),
+                        components.get(entry.getKey()));
+        }
+        return condensation;
+    }
+
+    /**
+     * An iterative implementation of Tarjan's algorithm, which may be
+     * restricted to the vertices of a single color.  Several threads may use
+     * one instance to search disjoint sets of vertices concurrently, as the
+     * per-vertex state is only written for the vertices being searched.
+     */
+    protected class Tarjan
+    {
+        private int[] order;
+        private int[] low;
+        private int[] next;
+
+        protected Tarjan(int n)
+        {
+            this.order = new int[n];
+            this.low = new int[n];
+            this.next = new int[n];
+        }
+
+        /**
+         * Finds the strong components of the subgraph induced by the first
+         * <code>count</code> elements of <code>vertices</code>, whose color
+         * (if <code>colors</code> is non-null) is <code>color</code>.
+         * Labels the vertices with components numbered from 0 in
+         * <code>labels</code>, and returns the number of components.
+         */
+        protected int search(int[] vertices, int count, int[] labels,
+                AtomicIntegerArray colors, int color)
+        {
+            int[] offsets = indexed.getOutOffsets();
+            int[] targets = indexed.getOutTargets();
+            int[] path = new int[count];
+            int[] stack = new int[count];
+            int counter = 0;
+            int found = 0;
+            for (int k = 0; k < count; k++)
+            {
+                int s = vertices[k];
+                labels[s] = -1;
+                order[s] = 0;
+            }
+            for (int k = 0; k < count; k++)
+            {
+                int s = vertices[k];
+                if (order[s] != 0)
+                    continue;
+                int depth = 0;
+                int top = 0;
+                order[s] = low[s] = ++counter;
+                next[s] = offsets[s];
+                path[depth++] = s;
+                stack[top++] = s;
+                while (depth > 0)
+                {
+                    int v = path[depth - 1];
+                    if (next[v] < offsets[v + 1])
+                    {
+                        int w = targets[next[v]++];
+                        if (colors != null && colors.get(w) != color)
+                            continue;
+                        if (order[w] == 0)
+                        {
+                            order[w] = low[w] = ++counter;
+                            next[w] = offsets[w];
+                            path[depth++] = w;
+                            stack[top++] = w;
+                        }
+                        else if (labels[w] < 0 && order[w] < low[v])
+                            low[v] = order[w]; // w is still on the stack
+                        continue;
+                    }
+                    depth--;
+                    if (depth > 0)
+                    {
+                        int u = path[depth - 1];
+                        if (low[v] < low[u])
+                            low[u] = low[v];
+                    }
+                    if (low[v] == order[v])
+                    {
+                        // v is the root of a component
+                        int w;
+                        do
+                        {
+                            w = stack[--top];
+                            labels[w] = found;
+                        }
+                        while (w != v);
+                        found++;
+                    }
+                }
+            }
+            return found;
+        }
+    }
+}
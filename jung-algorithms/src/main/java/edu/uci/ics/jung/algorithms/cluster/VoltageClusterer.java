@@ -12,8 +12,10 @@
 package edu.uci.ics.jung.algorithms.cluster;
 
 import edu.uci.ics.jung.algorithms.scoring.VoltageScorer;
+import edu.uci.ics.jung.algorithms.scoring.VoltageSolver;
 import edu.uci.ics.jung.algorithms.util.DiscreteDistribution;
 import edu.uci.ics.jung.algorithms.util.KMeansClusterer;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
 import edu.uci.ics.jung.algorithms.util.KMeansClusterer.NotEnoughClustersException;
 import edu.uci.ics.jung.graph.Graph;
 
@@ -43,9 +45,12 @@ import java.util.Set;
  * <ul>
  * <li/>first, generate a set of candidate clusters as follows:
  *      <ul>
- *      <li/>pick (widely separated) vertex pair, run VoltageScorer
- *      <li/>group the vertices in two clusters according to their voltages
- *      <li/>store resulting candidate clusters
+ *      <li/>pick (widely separated) vertex pair, compute voltages as VoltageScorer
+ *           would (using a VoltageSolver)
+ *      <li/>group the vertices in three clusters according to their voltages
+ *           (using k-means)
+ *      <li/>store the two clusters at the ends (those with the lowest and 
+ *           highest mean voltages) as candidate clusters
  *      </ul>
  * <li/>second, generate k-1 clusters as follows:
  *      <ul>
@@ -66,9 +71,21 @@ import java.util.Set;
  * number of clusters requested.  The number of clusters will never be more than
  * the number requested, however.</p>
  *
+ * <p>Earlier versions kept the two smallest of the three voltage clusters 
+ * of each vertex pair as candidates, rather than the two at the ends.  These
+ * need not be the same: a vertex at the end of a bridge between two 
+ * communities may form a (small) cluster of its own in the middle.</p>
+ *
+ * <p>The candidate clusters are generated in parallel; the voltages for each
+ * vertex pair are found by solving the linear system that they satisfy.  
+ * Each candidate is clustered by its own <code>KMeansClusterer</code>,
+ * seeded from this instance's random number generator, so the clusters
+ * found for a given random seed do not depend on the number of threads.</p>
+ *
  * @author Joshua O'Madadhain
  * @see "'Finding communities in linear time: a physics approach', Fang Wu and Bernardo Huberman, http://www.hpl.hp.com/research/idl/papers/linear/"
  * @see VoltageScorer
+ * @see VoltageSolver
  * @see KMeansClusterer
  */
 public class VoltageClusterer<V,E>
@@ -77,20 +94,37 @@ public class VoltageClusterer<V,E>
     protected KMeansClusterer<V> kmc;
     protected Random rand;
     protected Graph<V,E> g;
+    protected int threads;
 
     /**
      * Creates an instance of a VoltageCluster with the specified parameters.
      * These are mostly parameters that are passed directly to VoltageScorer
-     * and KMeansClusterer.
+     * and KMeansClusterer.  Candidate clusters are generated using one 
+     * thread per available processor.
      *
      * @param num_candidates    the number of candidate clusters to create
      */
     public VoltageClusterer(Graph<V,E> g, int num_candidates)
+    {
+        this(g, num_candidates, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance of a VoltageCluster with the specified parameters,
+     * which generates candidate clusters using <code>threads</code> threads.
+     *
+     * @param num_candidates    the number of candidate clusters to create
+     * @param threads           the number of threads to use
+     */
+    public VoltageClusterer(Graph<V,E> g, int num_candidates, int threads)
     {
         if (num_candidates < 1)
             throw new IllegalArgumentException("must generate >=1 candidates");
+        if (threads < 1)
+            throw new IllegalArgumentException("must use >=1 threads");
 
         this.num_candidates = num_candidates;
+        this.threads = threads;
         this.kmc = new KMeansClusterer<V>();
         rand = new Random();
         this.g = g;
@@ -99,6 +133,7 @@ public class VoltageClusterer<V,E>
     protected void setRandomSeed(int random_seed)
     {
         rand = new Random(random_seed);
+        kmc.setSeed(random_seed);
     }
 
     /**
@@ -132,10 +167,13 @@ public class VoltageClusterer<V,E>
         // * pick (widely separated) vertex pair, run VoltageScorer
         // * use k-means to identify 2 communities in ranked graph
         // * store resulting candidate communities
-        ArrayList<V> v_array = new ArrayList<V>(g.getVertices());
+        final ArrayList<V> v_array = new ArrayList<V>(g.getVertices());
 
         LinkedList<Set<V>> candidates = new LinkedList<Set<V>>();
 
+        final List<V> sources = new ArrayList<V>();
+        final List<V> targets = new ArrayList<V>();
+        final int[] seeds = new int[num_candidates];
         for (int j = 0; j < num_candidates; j++)
         {
             V source;
@@ -149,17 +187,41 @@ public class VoltageClusterer<V,E>
                 target = v_array.get((int)(rand.nextDouble() * v_array.size()));
             }
             while (source == target);
-            VoltageScorer<V,E> vs = new VoltageScorer<V,E>(g, source, target);
-            vs.evaluate();
-
-            Map<V, double[]> voltage_ranks = new HashMap<V, double[]>();
-            for (V v : g.getVertices())
-                voltage_ranks.put(v, new double[] {vs.getVertexScore(v)});
-
-//            addOneCandidateCluster(candidates, voltage_ranks);
-            addTwoCandidateClusters(candidates, voltage_ranks);
+            sources.add(source);
+            targets.add(target);
+            seeds[j] = rand.nextInt();
         }
 
+        // solve all of the systems at once, so that each thread reuses its workspace
+        final VoltageSolver<V,E> solver = new VoltageSolver<V,E>(g);
+        final double[][] voltages = solver.solve(sources, targets, threads);
+        final List<LinkedList<Set<V>>> candidate_lists = new ArrayList<LinkedList<Set<V>>>();
+        for (int j = 0; j < num_candidates; j++)
+            candidate_lists.add(new LinkedList<Set<V>>());
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.setMinimumBlockSize(1);
+        runner.run(num_candidates, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int j = start; j < end; j++)
+                {
+                    Map<V, double[]> voltage_ranks = new HashMap<V, double[]>();
+                    for (V v : v_array)
+                        voltage_ranks.put(v, new double[] {voltages[j][solver.getIndex(v)]});
+                    voltages[j] = null;
+
+                    KMeansClusterer<V> candidate_kmc = new KMeansClusterer<V>(
+                            kmc.getMaxIterations(), kmc.getConvergenceThreshold(), 1);
+                    candidate_kmc.setSeed(seeds[j]);
+//                    addOneCandidateCluster(candidate_lists.get(j), voltage_ranks, candidate_kmc);
+                    addTwoCandidateClusters(candidate_lists.get(j), voltage_ranks, candidate_kmc);
+                }
+            }
+        });
+        for (LinkedList<Set<V>> list : candidate_lists)
+            candidates.addAll(list);
+
         // repeat the following k-1 times:
         // * pick a vertex v as a cluster seed
         //   (Wu/Huberman: most frequent vertex in candidates)
@@ -230,35 +292,43 @@ public class VoltageClusterer<V,E>
     }
 
     /**
-     * Do k-means with three intervals and pick the
-     * smaller two clusters (presumed to be on the ends); this is closer to the Wu-Huberman method.
+     * Do k-means with three intervals and pick the two clusters on the ends
+     * (those with the lowest and highest mean voltages); this is closer to the
+     * Wu-Huberman method.  (The smaller two clusters are not necessarily on the
+     * ends: a vertex at one end of a bridge between two communities may form a
+     * cluster of its own in the middle.)
      * @param candidates
      * @param voltage_ranks
      */
     protected void addTwoCandidateClusters(LinkedList<Set<V>> candidates,
             Map<V, double[]> voltage_ranks)
+    {
+        addTwoCandidateClusters(candidates, voltage_ranks, kmc);
+    }
+
+    /**
+     * As {@link #addTwoCandidateClusters(LinkedList, Map)}, using the
+     * specified <code>KMeansClusterer</code>.
+     */
+    protected void addTwoCandidateClusters(LinkedList<Set<V>> candidates,
+            Map<V, double[]> voltage_ranks, KMeansClusterer<V> kmc)
     {
         try
         {
             List<Map<V, double[]>> clusters = new ArrayList<Map<V, double[]>>(kmc.cluster(voltage_ranks, 3));
-            boolean b01 = clusters.get(0).size() > clusters.get(1).size();
-            boolean b02 = clusters.get(0).size() > clusters.get(2).size();
-            boolean b12 = clusters.get(1).size() > clusters.get(2).size();
-            if (b01 && b02)
+            double[] centroids = new double[3];
+            int low = 0;
+            int high = 0;
+            for (int i = 0; i < 3; i++)
             {
-                candidates.add(clusters.get(1).keySet());
-                candidates.add(clusters.get(2).keySet());
-            }
-            else if (!b01 && b12)
-            {
-                candidates.add(clusters.get(0).keySet());
-                candidates.add(clusters.get(2).keySet());
-            }
-            else if (!b02 && !b12)
-            {
-                candidates.add(clusters.get(0).keySet());
-                candidates.add(clusters.get(1).keySet());
+                centroids[i] = DiscreteDistribution.mean(clusters.get(i).values())[0];
+                if (centroids[i] < centroids[low])
+                    low = i;
+                if (centroids[i] > centroids[high])
+                    high = i;
             }
+            candidates.add(clusters.get(low).keySet());
+            candidates.add(clusters.get(high).keySet());
         }
         catch (NotEnoughClustersException e)
         {
@@ -275,6 +345,16 @@ public class VoltageClusterer<V,E>
      */
     protected void addOneCandidateCluster(LinkedList<Set<V>> candidates,
             Map<V, double[]> voltage_ranks)
+    {
+        addOneCandidateCluster(candidates, voltage_ranks, kmc);
+    }
+
+    /**
+     * As {@link #addOneCandidateCluster(LinkedList, Map)}, using the
+     * specified <code>KMeansClusterer</code>.
+     */
+    protected void addOneCandidateCluster(LinkedList<Set<V>> candidates,
+            Map<V, double[]> voltage_ranks, KMeansClusterer<V> kmc)
     {
         try
         {
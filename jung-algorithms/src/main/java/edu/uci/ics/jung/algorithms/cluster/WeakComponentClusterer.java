@@ -30,7 +30,9 @@ import edu.uci.ics.jung.graph.Graph;
  * see <code>algorithms.filters.FilterUtils</code>.
  * <p>
  * Running time: O(|V| + |E|) where |V| is the number of vertices and |E| is the number of edges.
+ * To answer connectivity queries repeatedly while a graph grows, see <code>WeakComponentTracker</code>.
  * @author Scott White
+ * @see WeakComponentTracker
  */
 public class WeakComponentClusterer<V,E> implements Transformer<Graph<V,E>, Set<Set<V>>> 
 {
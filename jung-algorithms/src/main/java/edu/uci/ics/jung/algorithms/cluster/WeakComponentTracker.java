@@ -0,0 +1,540 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.event.GraphEvent;
+import edu.uci.ics.jung.graph.event.GraphEventListener;
+
+/**
+ * Maintains the weak components of a graph in a concurrent union-find
+ * (disjoint-set) structure, so that connectivity questions can be answered
+ * in near-constant time while edges are being added.  A weak component is
+ * defined as for <code>WeakComponentClusterer</code>.
+ *
+ * <p>The initial structure is built from a scan of the graph's edges which
+ * is divided among several threads; threads link component roots with
+ * compare-and-set operations, always linking the root with the lower
+ * (pseudo-random) priority beneath the other, so no locks are needed.
+ * Thereafter, if the instance is registered with an
+ * <code>ObservableGraph</code> (see {@link #observe(ObservableGraph)}),
+ * each added vertex or edge is merged into the structure as it is added.
+ * A union-find structure cannot split components, so removing a vertex or
+ * edge marks the structure as stale, and it is rebuilt from the graph
+ * when it is next queried.  Vertices and edges added while a rebuild is in
+ * progress are recorded, and merged into the new structure before it
+ * replaces the old one.
+ *
+ * <p>Queries may be made from any number of threads while the structure is
+ * being updated, and compress the paths they traverse; they block only
+ * while a stale structure is being rebuilt.  Component sizes and counts are
+ * exact whenever no update is in progress.
+ *
+ * @see WeakComponentClusterer
+ */
+public class WeakComponentTracker<V,E> implements GraphEventListener<V,E>
+{
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    protected Hypergraph<V,E> graph;
+    protected int threads;
+
+    private volatile boolean stale;
+    private volatile Forest forest;
+    // counts the removals handled, so that a rebuild can detect those made
+    // after it started
+    private final AtomicInteger removals = new AtomicInteger();
+    // the vertex sets of the additions made during a rebuild, or null; the
+    // event handlers hold the read lock, and a rebuild holds the write lock
+    // while it starts and stops the log and installs its structure
+    private Queue<List<V>> additions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an instance which tracks the weak components of
+     * <code>graph</code>, building its initial structure with one thread
+     * per available processor.
+     */
+    public WeakComponentTracker(Hypergraph<V,E> graph)
+    {
+        this(graph, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance which tracks the weak components of
+     * <code>graph</code>, building its initial structure with the
+     * specified number of threads.
+     */
+    public WeakComponentTracker(Hypergraph<V,E> graph, int threads)
+    {
+        this.graph = graph;
+        this.threads = threads;
+        this.forest = build();
+    }
+
+    /**
+     * Registers this instance as a listener of <code>graph</code>, which must
+     * be the graph (or a decorator of the graph) whose components this
+     * instance tracks.
+     */
+    public void observe(ObservableGraph<V,E> graph)
+    {
+        graph.addGraphEventListener(this);
+    }
+
+    /**
+     * Rebuilds the structure from the current state of the graph.  Unless
+     * the structure is stale, queries made during the rebuild are answered
+     * from the previous structure.
+     */
+    public synchronized void rebuild()
+    {
+        int start = removals.get();
+        lock.writeLock().lock();
+        try
+        {
+            additions = new ConcurrentLinkedQueue<List<V>>();
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+        Forest f = build();
+        lock.writeLock().lock();
+        try
+        {
+            for (List<V> incident : additions)
+                f.add(incident);
+            additions = null;
+            forest = f;
+            // a removal made since the start may have been missed
+            stale = removals.get() != start;
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of <code>c</code>, which may be modified by other
+     * threads while it is being copied.
+     */
+    private static <T> List<T> copy(Collection<T> c)
+    {
+        while (true)
+        {
+            try
+            {
+                return new ArrayList<T>(c);
+            }
+            catch (ConcurrentModificationException cme) {}
+        }
+    }
+
+    private Forest build()
+    {
+        final Forest f = new Forest();
+        List<V> vertices = copy(graph.getVertices());
+        f.ensureCapacity(vertices.size());
+        for (V v : vertices)
+            f.index.put(v, f.next_index.getAndIncrement());
+        final List<E> edges = copy(graph.getEdges());
+
+        ParallelRunner runner = new ParallelRunner(threads);
+        final AtomicInteger unions = new AtomicInteger();
+        runner.run(edges.size(), new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                int merged = 0;
+                for (int k = start; k < end; k++)
+                {
+                    // the graph may have changed since it was copied; an
+                    // edge removed since then has no incident vertices, and
+                    // an edge added may be incident to a vertex not copied
+                    Collection<V> incident = graph.getIncidentVertices(edges.get(k));
+                    if (incident == null)
+                        continue;
+                    int first = -1;
+                    for (V v : incident)
+                    {
+                        int i = f.register(v);
+                        if (first < 0)
+                            first = i;
+                        else if (f.link(first, i))
+                            merged++;
+                    }
+                }
+                unions.addAndGet(merged);
+            }
+        });
+        // the sizes are counted once the structure is quiescent
+        runner.run(f.next_index.get(), new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int i = start; i < end; i++)
+                {
+                    int root = f.find(i);
+                    if (root != i)
+                        chunk(f.sizes, root).incrementAndGet(root & CHUNK_MASK);
+                }
+            }
+        });
+        f.component_count.set(f.index.size() - unions.get());
+        return f;
+    }
+
+    private static AtomicIntegerArray chunk(AtomicIntegerArray[] chunks, int i)
+    {
+        return chunks[i >>> CHUNK_BITS];
+    }
+
+    private static int priority(int i)
+    {
+        int h = i * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean lowerPriority(int a, int b)
+    {
+        int pa = priority(a);
+        int pb = priority(b);
+        return pa < pb || (pa == pb && a < b);
+    }
+
+    /**
+     * A union-find structure over the vertices known at the time it was
+     * built, plus any added since.
+     */
+    private class Forest
+    {
+        ConcurrentHashMap<V,Integer> index = new ConcurrentHashMap<V,Integer>();
+        AtomicInteger next_index = new AtomicInteger();
+        AtomicInteger component_count = new AtomicInteger();
+
+        // parent pointers, stored as (parent index + 1) so that 0 denotes a
+        // root, and the number of vertices (minus 1) in the set of each
+        // root; both are allocated in chunks which never move
+        volatile AtomicIntegerArray[] parents = new AtomicIntegerArray[0];
+        volatile AtomicIntegerArray[] sizes = new AtomicIntegerArray[0];
+
+        void ensureCapacity(int capacity)
+        {
+            if (parents.length * CHUNK_SIZE >= capacity)
+                return;
+            synchronized (this)
+            {
+                int chunks = (capacity + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+                if (parents.length >= chunks)
+                    return;
+                AtomicIntegerArray[] new_parents = new AtomicIntegerArray[chunks];
+                AtomicIntegerArray[] new_sizes = new AtomicIntegerArray[chunks];
+                System.arraycopy(parents, 0, new_parents, 0, parents.length);
+                System.arraycopy(sizes, 0, new_sizes, 0, sizes.length);
+                for (int c = parents.length; c < chunks; c++)
+                {
+                    new_parents[c] = new AtomicIntegerArray(CHUNK_SIZE);
+                    new_sizes[c] = new AtomicIntegerArray(CHUNK_SIZE);
+                }
+                sizes = new_sizes;
+                parents = new_parents;
+            }
+        }
+
+        int parent(int i)
+        {
+            return chunk(parents, i).get(i & CHUNK_MASK) - 1;
+        }
+
+        int size(int root)
+        {
+            return chunk(sizes, root).get(root & CHUNK_MASK) + 1;
+        }
+
+        /**
+         * Returns the root of the set containing <code>i</code>, halving the
+         * path to it along the way.
+         */
+        int find(int i)
+        {
+            while (true)
+            {
+                int p = parent(i);
+                if (p < 0)
+                    return i;
+                int gp = parent(p);
+                if (gp < 0)
+                    return p;
+                // any ancestor is a valid parent, so a failed update is harmless
+                chunk(parents, i).compareAndSet(i & CHUNK_MASK, p + 1, gp + 1);
+                i = gp;
+            }
+        }
+
+        /**
+         * Links the sets containing <code>i</code> and <code>j</code> without
+         * locking; returns <code>true</code> if they were distinct.  Does not
+         * maintain set sizes.
+         */
+        boolean link(int i, int j)
+        {
+            while (true)
+            {
+                int a = find(i);
+                int b = find(j);
+                if (a == b)
+                    return false;
+                if (!lowerPriority(a, b))
+                {
+                    int t = a;
+                    a = b;
+                    b = t;
+                }
+                if (chunk(parents, a).compareAndSet(a & CHUNK_MASK, 0, b + 1))
+                    return true;
+            }
+        }
+
+        /**
+         * Merges the sets containing <code>i</code> and <code>j</code>,
+         * updating the size of the merged set.
+         */
+        synchronized void union(int i, int j)
+        {
+            int a = find(i);
+            int b = find(j);
+            if (a == b)
+                return;
+            if (!lowerPriority(a, b))
+            {
+                int t = a;
+                a = b;
+                b = t;
+            }
+            chunk(sizes, b).addAndGet(b & CHUNK_MASK, size(a));
+            chunk(parents, a).set(a & CHUNK_MASK, b + 1);
+            component_count.decrementAndGet();
+        }
+
+        /**
+         * Returns the index of <code>v</code>, adding it to the structure as
+         * a singleton component if necessary.
+         */
+        int register(V v)
+        {
+            Integer i = index.get(v);
+            if (i != null)
+                return i;
+            int candidate = next_index.getAndIncrement();
+            ensureCapacity(candidate + 1);
+            i = index.putIfAbsent(v, candidate);
+            if (i != null)
+                return i; // another thread registered v first; candidate is unused
+            component_count.incrementAndGet();
+            return candidate;
+        }
+
+        /**
+         * Merges the components of <code>incident</code>, adding any of them
+         * not already present.
+         */
+        void add(Collection<? extends V> incident)
+        {
+            int first = -1;
+            for (V v : incident)
+            {
+                int i = register(v);
+                if (first < 0)
+                    first = i;
+                else
+                    union(first, i);
+            }
+        }
+
+        int indexOf(V v)
+        {
+            Integer i = index.get(v);
+            if (i == null)
+                throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+            return i;
+        }
+
+        boolean connected(int i, int j)
+        {
+            while (true)
+            {
+                int a = find(i);
+                int b = find(j);
+                if (a == b)
+                    return true;
+                // a and b are distinct unless a was linked in the meantime
+                if (parent(a) < 0)
+                    return false;
+            }
+        }
+    }
+
+    private Forest current()
+    {
+        if (stale)
+        {
+            synchronized (this)
+            {
+                if (stale)
+                    rebuild();
+            }
+        }
+        return forest;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>u</code> and <code>v</code> are in
+     * the same weak component.
+     */
+    public boolean sameComponent(V u, V v)
+    {
+        Forest f = current();
+        return f.connected(f.indexOf(u), f.indexOf(v));
+    }
+
+    /**
+     * Returns the number of vertices in the weak component containing
+     * <code>v</code>.
+     */
+    public int getComponentSize(V v)
+    {
+        Forest f = current();
+        return f.size(f.find(f.indexOf(v)));
+    }
+
+    /**
+     * Returns the number of weak components.
+     */
+    public int getComponentCount()
+    {
+        return current().component_count.get();
+    }
+
+    /**
+     * Returns the weak components as a set of vertex sets, as
+     * <code>WeakComponentClusterer</code> does.
+     */
+    public Set<Set<V>> getComponents()
+    {
+        Forest f = current();
+        Map<Integer,Set<V>> components = new HashMap<Integer,Set<V>>();
+        for (Map.Entry<V,Integer> entry : f.index.entrySet())
+        {
+            int root = f.find(entry.getValue());
+            Set<V> component = components.get(root);
+            if (component == null)
+            {
+                component = new HashSet<V>();
+                components.put(root, component);
+            }
+            component.add(entry.getKey());
+        }
+        return new HashSet<Set<V>>(components.values());
+    }
+
+    /**
+     * Records the addition of <code>v</code> as a new (singleton) component.
+     */
+    public void vertexAdded(V v)
+    {
+        added(Collections.singletonList(v));
+    }
+
+    /**
+     * Merges the components of the vertices incident to an added edge.
+     */
+    public void edgeAdded(Collection<? extends V> incident)
+    {
+        added(new ArrayList<V>(incident));
+    }
+
+    private void added(List<V> incident)
+    {
+        lock.readLock().lock();
+        try
+        {
+            forest.add(incident);
+            if (additions != null)
+                additions.add(incident);
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the structure as stale, so that it is rebuilt when it is next
+     * queried.
+     */
+    public void invalidate()
+    {
+        lock.readLock().lock();
+        try
+        {
+            removals.incrementAndGet();
+            stale = true;
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Updates the structure in response to a change to the graph.
+     */
+    public void handleGraphEvent(GraphEvent<V,E> evt)
+    {
+        switch (evt.getType())
+        {
+            case VERTEX_ADDED:
+                vertexAdded(((GraphEvent.Vertex<V,E>)evt).getVertex());
+                break;
+            case EDGE_ADDED:
+                edgeAdded(evt.getSource().getIncidentVertices(
+                        ((GraphEvent.Edge<V,E>)evt).getEdge()));
+                break;
+            default:
+                // components may have split
+                invalidate();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import edu.uci.ics.jung.algorithms.filters.KNeighborhoodFilter.EdgeType;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * A filter which extracts the k-neighborhood around one or more root
+ * vertices, as <code>KNeighborhoodFilter</code> does, but whose cost can be
+ * bounded in advance.  The breadth-first search which finds the
+ * neighborhood may be limited by:
+ * <ul>
+ * <li/>the number of vertices in the neighborhood;
+ * <li/>the number of edges examined (including those scanned to sample the
+ * edges of a hub);
+ * <li/>the elapsed time; and
+ * <li/>the degree of the vertices whose edges are followed: the edges of
+ * a non-root vertex whose degree (in the direction being followed) exceeds
+ * a threshold are skipped, or a random sample of them is followed.  If
+ * the graph returns the edges as a random-access <code>List</code>, the
+ * sample is drawn by index in time proportional to its size; otherwise the
+ * edges are scanned.
+ * </ul>
+ * When the search is cut short, the vertices found so far (which include
+ * all those nearer to the roots than the last one found) are returned, and
+ * <code>getCutoff</code> reports which limit was reached.
+ *
+ * <p>The neighborhood may be obtained as a set, as a (zero-copy) view of
+ * the subgraph it induces, or one vertex at a time as the vertices are
+ * discovered, by means of a {@link Visitor}.  The view's vertices and edges
+ * are found from the neighborhood, not from the whole graph.
+ *
+ * <p>Instances are not thread-safe, since <code>getCutoff</code> reports on
+ * the most recent search.
+ *
+ * @see KNeighborhoodFilter
+ * @see SubgraphView
+ */
+public class BoundedKNeighborhoodFilter<V,E> implements Filter<V,E>
+{
+    /**
+     * The limit, if any, which ended the most recent search.
+     */
+    public enum Cutoff { NONE, VERTICES, EDGES, TIME }
+
+    /**
+     * Receives the vertices of a neighborhood as they are discovered.
+     */
+    public interface Visitor<V>
+    {
+        /**
+         * Called once for each vertex of the neighborhood, in non-decreasing
+         * order of <code>distance</code> (the number of hops from the
+         * nearest root).
+         */
+        void visit(V vertex, int distance);
+    }
+
+    // the elapsed time is checked after this many edges have been examined
+    private static final int TIME_CHECK_INTERVAL = 256;
+
+    protected Set<V> root_nodes;
+    protected int radius;
+    protected EdgeType edge_type;
+    protected int max_vertices;
+    protected int max_edges;
+    protected int hub_degree;
+    protected int hub_sample;
+    protected long time_budget;
+    protected Random random;
+    protected Cutoff cutoff;
+    // the state of the current search
+    private long start;
+    private int examined;
+
+    /**
+     * Creates an instance which finds the vertices within
+     * <code>radius</code> hops of <code>root_nodes</code>, following edges
+     * of type <code>edge_type</code>, with no limits.
+     */
+    public BoundedKNeighborhoodFilter(Set<V> root_nodes, int radius, EdgeType edge_type)
+    {
+        if (radius < 0)
+            throw new IllegalArgumentException("Radius must be non-negative");
+        this.root_nodes = root_nodes;
+        this.radius = radius;
+        this.edge_type = edge_type;
+        this.max_vertices = Integer.MAX_VALUE;
+        this.max_edges = Integer.MAX_VALUE;
+        this.hub_degree = Integer.MAX_VALUE;
+        this.time_budget = Long.MAX_VALUE;
+        this.random = new Random();
+        this.cutoff = Cutoff.NONE;
+    }
+
+    /**
+     * Creates an instance which finds the vertices within
+     * <code>radius</code> hops of <code>root</code>, following edges
+     * of type <code>edge_type</code>, with no limits.
+     */
+    public BoundedKNeighborhoodFilter(V root, int radius, EdgeType edge_type)
+    {
+        this(Collections.singleton(root), radius, edge_type);
+    }
+
+    /**
+     * Limits the neighborhood to <code>max_vertices</code> vertices,
+     * including the roots.
+     */
+    public void setMaxVertices(int max_vertices)
+    {
+        if (max_vertices < 1)
+            throw new IllegalArgumentException("Vertex limit must be positive");
+        this.max_vertices = max_vertices;
+    }
+
+    /**
+     * Limits the search to examining <code>max_edges</code> edges.
+     */
+    public void setMaxEdges(int max_edges)
+    {
+        if (max_edges < 0)
+            throw new IllegalArgumentException("Edge limit must be non-negative");
+        this.max_edges = max_edges;
+    }
+
+    /**
+     * Specifies that of the edges of any non-root vertex with more than
+     * <code>hub_degree</code> of them (in the direction being followed),
+     * only a random sample of <code>hub_sample</code> will be followed.
+     * If <code>hub_sample</code> is 0, such vertices are included in the
+     * neighborhood but their edges are not followed.
+     */
+    public void setHubDegree(int hub_degree, int hub_sample)
+    {
+        if (hub_degree < 0 || hub_sample < 0)
+            throw new IllegalArgumentException("Hub degree and sample size must be non-negative");
+        this.hub_degree = hub_degree;
+        this.hub_sample = Math.min(hub_sample, hub_degree);
+    }
+
+    /**
+     * Limits the time taken by each search.
+     */
+    public void setTimeBudget(long duration, TimeUnit unit)
+    {
+        if (duration < 0)
+            throw new IllegalArgumentException("Time budget must be non-negative");
+        this.time_budget = unit.toNanos(duration);
+    }
+
+    /**
+     * Sets the seed used to sample the edges of hubs.
+     */
+    public void setRandomSeed(long seed)
+    {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns the limit which ended the most recent search, or
+     * <code>Cutoff.NONE</code> if it found the entire neighborhood.
+     */
+    public Cutoff getCutoff()
+    {
+        return cutoff;
+    }
+
+    /**
+     * Returns a read-only view of the subgraph of <code>graph</code> induced
+     * by the neighborhood.
+     */
+    public Graph<V,E> transform(Graph<V,E> graph)
+    {
+        return new SubgraphView<V,E>(graph, getNeighborhood(graph));
+    }
+
+    /**
+     * Returns the vertices of the neighborhood in <code>graph</code>, in the
+     * order in which they were discovered.
+     */
+    public Set<V> getNeighborhood(Graph<V,E> graph)
+    {
+        Set<V> accepted = new LinkedHashSet<V>();
+        search(graph, accepted, null);
+        return accepted;
+    }
+
+    /**
+     * Notifies <code>visitor</code> of each vertex of the neighborhood in
+     * <code>graph</code> as it is discovered.
+     */
+    public void search(Graph<V,E> graph, Visitor<? super V> visitor)
+    {
+        search(graph, new HashSet<V>(), visitor);
+    }
+
+    /**
+     * Adds the vertices of the neighborhood to <code>accepted</code> as they
+     * are discovered, and notifies <code>visitor</code> (if non-null).
+     */
+    private void search(Graph<V,E> graph, Set<V> accepted, Visitor<? super V> visitor)
+    {
+        start = System.nanoTime();
+        examined = 0;
+        cutoff = Cutoff.NONE;
+        List<V> frontier = new ArrayList<V>();
+        for (V root : root_nodes)
+        {
+            if (accepted.contains(root))
+                continue;
+            if (accepted.size() >= max_vertices)
+            {
+                cutoff = Cutoff.VERTICES;
+                return;
+            }
+            accepted.add(root);
+            frontier.add(root);
+            if (visitor != null)
+                visitor.visit(root, 0);
+        }
+        for (int depth = 0; depth < radius && !frontier.isEmpty(); depth++)
+        {
+            List<V> next = new ArrayList<V>();
+            for (V v : frontier)
+            {
+                if (System.nanoTime() - start >= time_budget)
+                {
+                    cutoff = Cutoff.TIME;
+                    return;
+                }
+                Collection<E> edges = null;
+                switch (edge_type)
+                {
+                    case IN_OUT:
+                        edges = graph.getIncidentEdges(v);
+                        break;
+                    case IN:
+                        edges = graph.getInEdges(v);
+                        break;
+                    case OUT:
+                        edges = graph.getOutEdges(v);
+                        break;
+                }
+                if (depth > 0 && edges.size() > hub_degree)
+                {
+                    edges = sample(edges, hub_sample);
+                    if (edges == null)
+                        return;
+                }
+                for (E e : edges)
+                {
+                    if (!examine())
+                        return;
+                    V w = graph.getOpposite(v, e);
+                    if (accepted.contains(w))
+                        continue;
+                    if (accepted.size() >= max_vertices)
+                    {
+                        cutoff = Cutoff.VERTICES;
+                        return;
+                    }
+                    accepted.add(w);
+                    next.add(w);
+                    if (visitor != null)
+                        visitor.visit(w, depth + 1);
+                }
+            }
+            frontier = next;
+        }
+    }
+
+    /**
+     * Counts the examination of an edge; returns <code>false</code>, and
+     * sets <code>cutoff</code>, if the edge or time limit has been reached.
+     */
+    private boolean examine()
+    {
+        if (examined >= max_edges)
+        {
+            cutoff = Cutoff.EDGES;
+            return false;
+        }
+        if (++examined % TIME_CHECK_INTERVAL == 0 
+            && System.nanoTime() - start >= time_budget)
+        {
+            cutoff = Cutoff.TIME;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a uniform random sample of <code>size</code> elements of
+     * <code>edges</code>, or <code>null</code> if a limit was reached while
+     * scanning them.
+     */
+    private List<E> sample(Collection<E> edges, int size)
+    {
+        List<E> sample = new ArrayList<E>(size);
+        if (size == 0)
+            return sample;
+        if (edges instanceof List && edges instanceof RandomAccess)
+        {
+            // Floyd's algorithm: choose size distinct indices
+            List<E> list = (List<E>)edges;
+            int n = list.size();
+            Set<Integer> chosen = new HashSet<Integer>();
+            for (int j = n - size; j < n; j++)
+            {
+                int t = random.nextInt(j + 1);
+                int index = chosen.contains(t) ? j : t;
+                chosen.add(index);
+                sample.add(list.get(index));
+            }
+            return sample;
+        }
+        int seen = 0;
+        for (E e : edges)
+        {
+            if (!examine())
+                return null;
+            if (seen < size)
+                sample.add(e);
+            else
+            {
+                int j = random.nextInt(seen + 1);
+                if (j < size)
+                    sample.set(j, e);
+            }
+            seen++;
+        }
+        return sample;
+    }
+}
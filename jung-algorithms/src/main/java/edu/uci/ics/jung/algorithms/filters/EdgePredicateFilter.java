@@ -12,6 +12,7 @@
 package edu.uci.ics.jung.algorithms.filters;
 
 import org.apache.commons.collections15.Predicate;
+import org.apache.commons.collections15.functors.TruePredicate;
 
 import edu.uci.ics.jung.graph.Graph;
 
@@ -22,6 +23,8 @@ import edu.uci.ics.jung.graph.Graph;
  * edge objects).  All vertices from the original graph
  * are copied into the new graph (even if they are not incident to any
  * edges in the new graph).
+ * <code>view</code> instead returns a read-only view of the same subgraph,
+ * which copies nothing.
  * 
  * @author Joshua O'Madadhain
  */
@@ -61,10 +64,20 @@ public class EdgePredicateFilter<V, E> implements Filter<V, E>
         for (E e : g.getEdges())
         {
             if (edge_pred.evaluate(e))
-                filtered.addEdge(e, g.getIncidentVertices(e));
+                filtered.addEdge(e, g.getIncidentVertices(e), g.getEdgeType(e));
         }
         
         return filtered;
     }
 
+    /**
+     * Returns a read-only view of the subgraph of <code>g</code> which
+     * <code>transform</code> would copy.
+     */
+    @SuppressWarnings("unchecked")
+    public SubgraphView<V,E> view(Graph<V,E> g)
+    {
+        return new SubgraphView<V,E>(g, TruePredicate.getInstance(), edge_pred);
+    }
+
 }
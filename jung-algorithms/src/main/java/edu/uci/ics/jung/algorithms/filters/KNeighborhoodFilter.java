@@ -26,7 +26,8 @@ import edu.uci.ics.jung.graph.util.Pair;
  * A filter used to extract the k-neighborhood around one or more root node(s).
  * The k-neighborhood is defined as the subgraph induced by the set of 
  * vertices that are k or fewer hops (unweighted shortest-path distance)
- * away from the root node.
+ * away from the root node.  <code>view</code> returns a read-only view of
+ * this subgraph, which copies nothing.
  * 
  * @author Danyel Fisher
  */
@@ -66,28 +67,20 @@ public class KNeighborhoodFilter<V,E> implements Filter<V,E> {
 	}
 	
 	/**
-	 * Constructs an unassembled graph containing the k-neighborhood around the root node(s).
+	 * Returns the vertices that are <code>radiusK</code> or fewer hops
+	 * away from the root node(s) in <code>graph</code>.
 	 */
-	@SuppressWarnings("unchecked")
-	public Graph<V,E> transform(Graph<V,E> graph) {
-		// generate a Set of Vertices we want
-		// add all to the UG
-		int currentDepth = 0;
+	protected Set<V> getNeighborhood(Graph<V,E> graph) {
 		List<V> currentVertices = new ArrayList<V>();
-		Set<V> visitedVertices = new HashSet<V>();
-		Set<E> visitedEdges = new HashSet<E>();
 		Set<V> acceptedVertices = new HashSet<V>();
-		//Copy, mark, and add all the root nodes to the new subgraph
+		//Mark all the root nodes
 		for (V currentRoot : rootNodes) {
-
-			visitedVertices.add(currentRoot);
-			acceptedVertices.add(currentRoot);
-			currentVertices.add(currentRoot);
+			if (acceptedVertices.add(currentRoot))
+				currentVertices.add(currentRoot);
 		}
-		ArrayList<V> newVertices = null;
 		//Use BFS to locate the neighborhood around the root nodes within distance k
-		while (currentDepth < radiusK) {
-			newVertices = new ArrayList<V>();
+		for (int currentDepth = 0; currentDepth < radiusK && !currentVertices.isEmpty(); currentDepth++) {
+			List<V> newVertices = new ArrayList<V>();
 			for (V currentVertex : currentVertices) {
 
 				Collection<E> edges = null;
@@ -103,29 +96,45 @@ public class KNeighborhoodFilter<V,E> implements Filter<V,E> {
 						break;
 				}
 				for (E currentEdge : edges) {
-
 					V currentNeighbor =
 						graph.getOpposite(currentVertex, currentEdge);
-					if (!visitedEdges.contains(currentEdge)) {
-						visitedEdges.add(currentEdge);
-						if (!visitedVertices.contains(currentNeighbor)) {
-							visitedVertices.add(currentNeighbor);
-							acceptedVertices.add(currentNeighbor);
-							newVertices.add(currentNeighbor);
-						}
-					}
+					if (acceptedVertices.add(currentNeighbor))
+						newVertices.add(currentNeighbor);
 				}
 			}
 			currentVertices = newVertices;
-			currentDepth++;
 		}
+		return acceptedVertices;
+	}
+
+	/**
+	 * Returns a read-only view of the subgraph of <code>graph</code> induced
+	 * by the k-neighborhood around the root node(s).  Unlike 
+	 * <code>transform</code>, this copies no vertices or edges, and
+	 * includes the vertices of the neighborhood which have no edges in it.
+	 */
+	public SubgraphView<V,E> view(Graph<V,E> graph) {
+		return new SubgraphView<V,E>(graph, getNeighborhood(graph));
+	}
+
+	/**
+	 * Constructs an unassembled graph containing the k-neighborhood around the root node(s).
+	 */
+	@SuppressWarnings("unchecked")
+	public Graph<V,E> transform(Graph<V,E> graph) {
+		Set<V> acceptedVertices = getNeighborhood(graph);
 		Graph<V,E> ug = null;
 		try {
 			ug = graph.getClass().newInstance();
-			for(E edge : graph.getEdges()) {
-				Pair<V> endpoints = graph.getEndpoints(edge);
-				if(acceptedVertices.containsAll(endpoints)) {
-					ug.addEdge(edge, endpoints.getFirst(), endpoints.getSecond());
+			// only the edges incident to the neighborhood need be examined
+			for(V v : acceptedVertices) {
+				if(!graph.containsVertex(v))
+					continue;
+				for(E edge : graph.getOutEdges(v)) {
+					Pair<V> endpoints = graph.getEndpoints(edge);
+					if(!ug.containsEdge(edge) && acceptedVertices.containsAll(endpoints)) {
+						ug.addEdge(edge, endpoints.getFirst(), endpoints.getSecond());
+					}
 				}
 			}
 		} 
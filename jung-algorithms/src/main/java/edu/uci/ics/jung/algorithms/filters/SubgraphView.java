@@ -0,0 +1,621 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.commons.collections15.Predicate;
+import org.apache.commons.collections15.functors.TruePredicate;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * A read-only view of the subgraph of a graph which contains those vertices
+ * that pass a vertex <code>Predicate</code>, and those edges that pass an
+ * edge <code>Predicate</code> and whose incident vertices all pass the
+ * vertex predicate.  Nothing is copied: each query is answered by filtering
+ * the corresponding query on the underlying graph, so changes to that graph
+ * (or to the predicates' results) are reflected in the view.  The collections
+ * returned are likewise unmodifiable views, except for those of neighboring
+ * vertices, which are computed from the incident edges on each call.
+ *
+ * <p>Queries about a single vertex or edge take time proportional to its
+ * degree (or number of incident vertices) in the underlying graph.  The
+ * number of vertices or edges is counted on each call.  For a view defined
+ * by a predicate, this takes time proportional to the size of the
+ * underlying graph.  For a view defined by a collection of vertices, the
+ * vertices are found by iterating over the collection, and the edges by
+ * iterating over the edges incident to its members, so these take time
+ * proportional to the size of the collection and the degrees of its
+ * members.  <code>materialize</code> creates an independent copy, for which
+ * they are fast.
+ *
+ * <p>Methods which would modify the graph throw
+ * <code>UnsupportedOperationException</code>.
+ */
+public class SubgraphView<V,E> implements Graph<V,E>
+{
+    protected Graph<V,E> graph;
+    protected Predicate<? super V> vertex_pred;
+    protected Predicate<? super E> edge_pred;
+    // the vertices which may be in the view, if it is defined by a collection
+    protected Collection<V> members;
+
+    /**
+     * Creates a view of the subgraph of <code>graph</code> which contains
+     * the vertices that pass <code>vertex_pred</code> and the edges that
+     * pass <code>edge_pred</code> (and whose incident vertices pass
+     * <code>vertex_pred</code>).
+     */
+    public SubgraphView(Graph<V,E> graph, Predicate<? super V> vertex_pred,
+            Predicate<? super E> edge_pred)
+    {
+        this.graph = graph;
+        this.vertex_pred = vertex_pred;
+        this.edge_pred = edge_pred;
+    }
+
+    /**
+     * Creates a view of the subgraph of <code>graph</code> induced by the
+     * vertices that pass <code>vertex_pred</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public SubgraphView(Graph<V,E> graph, Predicate<? super V> vertex_pred)
+    {
+        this(graph, vertex_pred, TruePredicate.getInstance());
+    }
+
+    /**
+     * Creates a view of the subgraph of <code>graph</code> induced by the
+     * members of <code>vertices</code> which are vertices of
+     * <code>graph</code>.  The collection is not copied; it should have fast
+     * membership tests, and should not contain duplicates.
+     */
+    public SubgraphView(Graph<V,E> graph, final Collection<? extends V> vertices)
+    {
+        this(graph, new Predicate<V>()
+        {
+            public boolean evaluate(V v)
+            {
+                return vertices.contains(v);
+            }
+        });
+        this.members = Collections.<V>unmodifiableCollection(vertices);
+    }
+
+    /**
+     * Returns the graph of which this is a view.
+     */
+    public Graph<V,E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns a new graph, of the same type as the underlying graph, which
+     * contains the vertices and edges of this view.
+     */
+    @SuppressWarnings("unchecked")
+    public Graph<V,E> materialize()
+    {
+        Graph<V, E> copy;
+        try
+        {
+            copy = graph.getClass().newInstance();
+        }
+        catch (InstantiationException e)
+        {
+            throw new RuntimeException("Unable to create copy of existing graph: ", e);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException("Unable to create copy of existing graph: ", e);
+        }
+        Collection<V> vertices = getVertices();
+        for (V v : vertices)
+            copy.addVertex(v);
+        for (V v : vertices)
+            for (E e : graph.getOutEdges(v))
+                if (!copy.containsEdge(e) && includes(e))
+                    copy.addEdge(e, graph.getIncidentVertices(e), graph.getEdgeType(e));
+        return copy;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>e</code>, an edge of the underlying
+     * graph, is in this view.
+     */
+    protected boolean includes(E e)
+    {
+        if (!edge_pred.evaluate(e))
+            return false;
+        for (V v : graph.getIncidentVertices(e))
+            if (!vertex_pred.evaluate(v))
+                return false;
+        return true;
+    }
+
+    private Collection<E> edgeView(Collection<E> edges)
+    {
+        if (edges == null)
+            return null;
+        return new FilteredCollection<E>(edges)
+        {
+            @Override
+            protected boolean accept(E e)
+            {
+                return includes(e);
+            }
+        };
+    }
+
+    /**
+     * Returns the vertices at the other ends of <code>edges</code> from
+     * <code>vertex</code>.
+     */
+    private Collection<V> opposites(V vertex, Collection<E> edges)
+    {
+        if (edges == null)
+            return null;
+        Set<V> opposites = new HashSet<V>();
+        for (E e : edges)
+            opposites.add(graph.getOpposite(vertex, e));
+        return Collections.unmodifiableSet(opposites);
+    }
+
+    private void checkVertex(V vertex)
+    {
+        if (!containsVertex(vertex))
+            throw new IllegalArgumentException(vertex + " is not a vertex in this graph");
+    }
+
+    public boolean containsVertex(V vertex)
+    {
+        return graph.containsVertex(vertex) && vertex_pred.evaluate(vertex);
+    }
+
+    public boolean containsEdge(E edge)
+    {
+        return graph.containsEdge(edge) && includes(edge);
+    }
+
+    public Collection<V> getVertices()
+    {
+        if (members != null)
+        {
+            return new FilteredCollection<V>(members)
+            {
+                @Override
+                protected boolean accept(V v)
+                {
+                    return graph.containsVertex(v);
+                }
+            };
+        }
+        return new FilteredCollection<V>(graph.getVertices())
+        {
+            @Override
+            protected boolean accept(V v)
+            {
+                return vertex_pred.evaluate(v);
+            }
+        };
+    }
+
+    public Collection<E> getEdges()
+    {
+        if (members != null)
+            return new MemberEdges(null);
+        return edgeView(graph.getEdges());
+    }
+
+    public Collection<E> getEdges(EdgeType edge_type)
+    {
+        if (members != null)
+            return new MemberEdges(edge_type);
+        return edgeView(graph.getEdges(edge_type));
+    }
+
+    public int getVertexCount()
+    {
+        return getVertices().size();
+    }
+
+    public int getEdgeCount()
+    {
+        return getEdges().size();
+    }
+
+    public int getEdgeCount(EdgeType edge_type)
+    {
+        return getEdges(edge_type).size();
+    }
+
+    public EdgeType getDefaultEdgeType()
+    {
+        return graph.getDefaultEdgeType();
+    }
+
+    public Collection<E> getIncidentEdges(V vertex)
+    {
+        return containsVertex(vertex) ? edgeView(graph.getIncidentEdges(vertex)) : null;
+    }
+
+    public Collection<E> getInEdges(V vertex)
+    {
+        return containsVertex(vertex) ? edgeView(graph.getInEdges(vertex)) : null;
+    }
+
+    public Collection<E> getOutEdges(V vertex)
+    {
+        return containsVertex(vertex) ? edgeView(graph.getOutEdges(vertex)) : null;
+    }
+
+    public Collection<V> getNeighbors(V vertex)
+    {
+        return opposites(vertex, getIncidentEdges(vertex));
+    }
+
+    public Collection<V> getPredecessors(V vertex)
+    {
+        return opposites(vertex, getInEdges(vertex));
+    }
+
+    public Collection<V> getSuccessors(V vertex)
+    {
+        return opposites(vertex, getOutEdges(vertex));
+    }
+
+    public int degree(V vertex)
+    {
+        checkVertex(vertex);
+        return getIncidentEdges(vertex).size();
+    }
+
+    public int inDegree(V vertex)
+    {
+        checkVertex(vertex);
+        return getInEdges(vertex).size();
+    }
+
+    public int outDegree(V vertex)
+    {
+        checkVertex(vertex);
+        return getOutEdges(vertex).size();
+    }
+
+    public int getNeighborCount(V vertex)
+    {
+        checkVertex(vertex);
+        return getNeighbors(vertex).size();
+    }
+
+    public int getPredecessorCount(V vertex)
+    {
+        checkVertex(vertex);
+        return getPredecessors(vertex).size();
+    }
+
+    public int getSuccessorCount(V vertex)
+    {
+        checkVertex(vertex);
+        return getSuccessors(vertex).size();
+    }
+
+    public Collection<E> findEdgeSet(V v1, V v2)
+    {
+        checkVertex(v1);
+        checkVertex(v2);
+        return edgeView(graph.findEdgeSet(v1, v2));
+    }
+
+    public E findEdge(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            return null;
+        for (E e : graph.findEdgeSet(v1, v2))
+            if (includes(e))
+                return e;
+        return null;
+    }
+
+    // as in the graph implementations, v2 is a predecessor of v1
+    public boolean isPredecessor(V v1, V v2)
+    {
+        return findEdge(v2, v1) != null;
+    }
+
+    public boolean isSuccessor(V v1, V v2)
+    {
+        return findEdge(v1, v2) != null;
+    }
+
+    public boolean isNeighbor(V v1, V v2)
+    {
+        if (!containsVertex(v1) || !containsVertex(v2))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + v1 + ", " + v2);
+        return findEdge(v1, v2) != null || findEdge(v2, v1) != null;
+    }
+
+    public boolean isIncident(V vertex, E edge)
+    {
+        if (!containsVertex(vertex) || !containsEdge(edge))
+            throw new IllegalArgumentException("At least one of these not in this graph: " + vertex + ", " + edge);
+        return graph.isIncident(vertex, edge);
+    }
+
+    public Collection<V> getIncidentVertices(E edge)
+    {
+        return containsEdge(edge) ? graph.getIncidentVertices(edge) : null;
+    }
+
+    public int getIncidentCount(E edge)
+    {
+        return containsEdge(edge) ? graph.getIncidentCount(edge) : 0;
+    }
+
+    public Pair<V> getEndpoints(E edge)
+    {
+        return containsEdge(edge) ? graph.getEndpoints(edge) : null;
+    }
+
+    public EdgeType getEdgeType(E edge)
+    {
+        return containsEdge(edge) ? graph.getEdgeType(edge) : null;
+    }
+
+    public V getSource(E directed_edge)
+    {
+        return containsEdge(directed_edge) ? graph.getSource(directed_edge) : null;
+    }
+
+    public V getDest(E directed_edge)
+    {
+        return containsEdge(directed_edge) ? graph.getDest(directed_edge) : null;
+    }
+
+    public boolean isSource(V vertex, E edge)
+    {
+        return containsVertex(vertex) && containsEdge(edge) && graph.isSource(vertex, edge);
+    }
+
+    public boolean isDest(V vertex, E edge)
+    {
+        return containsVertex(vertex) && containsEdge(edge) && graph.isDest(vertex, edge);
+    }
+
+    public V getOpposite(V vertex, E edge)
+    {
+        if (!containsVertex(vertex) || !containsEdge(edge))
+            throw new IllegalArgumentException(vertex + " is not incident to " + edge + " in this graph");
+        return graph.getOpposite(vertex, edge);
+    }
+
+    public boolean addVertex(V vertex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean addEdge(E edge, Collection<? extends V> vertices)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean addEdge(E edge, Collection<? extends V> vertices, EdgeType edge_type)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean addEdge(E e, V v1, V v2)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean addEdge(E e, V v1, V v2, EdgeType edge_type)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeVertex(V vertex)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean removeEdge(E edge)
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("Vertices:");
+        for (V v : getVertices())
+            sb.append(v + ",");
+        sb.setLength(sb.length() - 1);
+        sb.append("\nEdges:");
+        for (E e : getEdges())
+            sb.append(e + "[" + getEndpoints(e).getFirst() + "," + getEndpoints(e).getSecond() + "] ");
+        return sb.toString();
+    }
+
+    /**
+     * The edges of a view defined by a collection of vertices, found among
+     * the edges incident to its members; each edge is reported by the first
+     * of its endpoints.
+     */
+    protected class MemberEdges extends AbstractCollection<E>
+    {
+        protected EdgeType edge_type;
+
+        /**
+         * Creates a collection of the edges of type <code>edge_type</code>,
+         * or of all edges if <code>edge_type</code> is <code>null</code>.
+         */
+        protected MemberEdges(EdgeType edge_type)
+        {
+            this.edge_type = edge_type;
+        }
+
+        protected boolean accept(V v, E e)
+        {
+            return (edge_type == null || graph.getEdgeType(e) == edge_type)
+                && v.equals(graph.getEndpoints(e).getFirst()) && includes(e);
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            final Iterator<V> vertices = getVertices().iterator();
+            return new Iterator<E>()
+            {
+                private V vertex;
+                private Iterator<E> edges;
+                private E next;
+                private boolean has_next;
+
+                public boolean hasNext()
+                {
+                    while (!has_next)
+                    {
+                        if (edges != null && edges.hasNext())
+                        {
+                            E e = edges.next();
+                            if (accept(vertex, e))
+                            {
+                                next = e;
+                                has_next = true;
+                            }
+                        }
+                        else if (vertices.hasNext())
+                        {
+                            vertex = vertices.next();
+                            edges = graph.getIncidentEdges(vertex).iterator();
+                        }
+                        else
+                            break;
+                    }
+                    return has_next;
+                }
+
+                public E next()
+                {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    has_next = false;
+                    return next;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+            for (Iterator<E> iterator = iterator(); iterator.hasNext(); iterator.next())
+                size++;
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean contains(Object o)
+        {
+            E e = (E)o;
+            return containsEdge(e) && (edge_type == null || graph.getEdgeType(e) == edge_type);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the elements of a collection which are
+     * accepted by <code>accept</code>.
+     */
+    protected static abstract class FilteredCollection<T> extends AbstractCollection<T>
+    {
+        protected Collection<T> elements;
+
+        protected FilteredCollection(Collection<T> elements)
+        {
+            this.elements = elements;
+        }
+
+        protected abstract boolean accept(T t);
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            final Iterator<T> iterator = elements.iterator();
+            return new Iterator<T>()
+            {
+                private T next;
+                private boolean has_next;
+
+                public boolean hasNext()
+                {
+                    while (!has_next && iterator.hasNext())
+                    {
+                        T t = iterator.next();
+                        if (accept(t))
+                        {
+                            next = t;
+                            has_next = true;
+                        }
+                    }
+                    return has_next;
+                }
+
+                public T next()
+                {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    has_next = false;
+                    return next;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+            for (T t : elements)
+                if (accept(t))
+                    size++;
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean contains(Object o)
+        {
+            return elements.contains(o) && accept((T)o);
+        }
+    }
+}
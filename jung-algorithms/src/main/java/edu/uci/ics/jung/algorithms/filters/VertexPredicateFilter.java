@@ -23,6 +23,8 @@ import edu.uci.ics.jung.graph.Graph;
  * is a copy of the original graph (same type, uses the same vertex and
  * edge objects).  Only those edges whose entire incident vertex collection
  * passes the predicate are copied into the new graph.
+ * <code>view</code> instead returns a read-only view of the same subgraph,
+ * which copies nothing.
  * 
  * @author Joshua O'Madadhain
  */
@@ -66,10 +68,19 @@ public class VertexPredicateFilter<V,E> implements Filter<V,E>
         {
             Collection<V> incident = g.getIncidentVertices(e);
             if (filtered_vertices.containsAll(incident))
-                filtered.addEdge(e, incident);
+                filtered.addEdge(e, incident, g.getEdgeType(e));
         }
         
         return filtered;
     }
 
+    /**
+     * Returns a read-only view of the subgraph of <code>g</code> which
+     * <code>transform</code> would copy.
+     */
+    public SubgraphView<V,E> view(Graph<V,E> g)
+    {
+        return new SubgraphView<V,E>(g, vertex_pred);
+    }
+
 }
@@ -0,0 +1,245 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.flows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IterativeProcess;
+import edu.uci.ics.jung.graph.DirectedGraph;
+
+/**
+ * Common infrastructure for maximum flow algorithms which operate on an
+ * array-based residual network rather than on a copy of the graph.  Each
+ * edge with index <code>k</code> is represented by a pair of arcs: arc
+ * <code>2k</code> from its source to its destination, whose initial
+ * residual capacity is the edge's capacity, and arc <code>2k+1</code> in
+ * the opposite direction, whose initial residual capacity is 0; the reverse
+ * of arc <code>a</code> is therefore <code>a ^ 1</code>.  The arcs leaving
+ * each vertex are stored contiguously, in compressed sparse row form.
+ * No edges are added to the graph, so no edge factory is required.
+ *
+ * <p>Once <code>evaluate()</code> has been called, the results are the same
+ * as those of <code>EdmondsKarpMaxFlow</code>: the edge flow map passed to
+ * the constructor is populated with the flow along each edge, and the
+ * minimum cut is the one whose source side consists of the vertices
+ * reachable from the source in the final residual network.
+ *
+ * @see EdmondsKarpMaxFlow
+ */
+public abstract class AbstractIndexedMaxFlow<V,E> extends IterativeProcess
+{
+    protected DirectedGraph<V,E> graph;
+    protected V source;
+    protected V sink;
+    protected Transformer<E,? extends Number> edge_capacities;
+    protected Map<E,Number> edge_flows;
+
+    protected List<V> vertices;
+    protected List<E> edges;
+    protected int n;
+    /** The index of the source vertex. */
+    protected int s;
+    /** The index of the sink vertex. */
+    protected int t;
+    /** The arcs leaving vertex <code>i</code> are
+     * <code>arcs[first[i]]</code> through <code>arcs[first[i+1] - 1]</code>. */
+    protected int[] first;
+    protected int[] arcs;
+    /** The vertex at which each arc ends. */
+    protected int[] head;
+    /** The residual capacity of each arc. */
+    protected int[] residual;
+    protected long max_flow;
+
+    private Set<V> source_partition;
+    private Set<V> sink_partition;
+    private Set<E> min_cut_edges;
+
+    /**
+     * Creates an instance which will find the maximum flow from
+     * <code>source</code> to <code>sink</code> in <code>graph</code>.
+     * @param graph the flow graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param edge_capacities the capacity of each edge
+     * @param edge_flows the map in which the flow along each edge is to be stored
+     */
+    public AbstractIndexedMaxFlow(DirectedGraph<V,E> graph, V source, V sink,
+            Transformer<E,? extends Number> edge_capacities, Map<E,Number> edge_flows)
+    {
+        if (!graph.containsVertex(source) || !graph.containsVertex(sink))
+            throw new IllegalArgumentException("source and sink vertices must be elements of the specified graph");
+        if (source.equals(sink))
+            throw new IllegalArgumentException("source and sink vertices must be distinct");
+        this.graph = graph;
+        this.source = source;
+        this.sink = sink;
+        this.edge_capacities = edge_capacities;
+        this.edge_flows = edge_flows;
+    }
+
+    /**
+     * Builds the residual network.
+     */
+    @Override
+    protected void initializeIterations()
+    {
+        vertices = new ArrayList<V>(graph.getVertices());
+        n = vertices.size();
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            index.put(vertices.get(i), i);
+        s = index.get(source);
+        t = index.get(sink);
+
+        edges = new ArrayList<E>(graph.getEdges());
+        int m = edges.size();
+        head = new int[2 * m];
+        residual = new int[2 * m];
+        first = new int[n + 1];
+        for (int k = 0; k < m; k++)
+        {
+            E e = edges.get(k);
+            Number capacity = edge_capacities.transform(e);
+            if (capacity == null)
+                throw new IllegalArgumentException("Edge capacities must be provided in Transformer passed to constructor");
+            if (capacity.intValue() < 0)
+                throw new IllegalArgumentException("Edge capacities must be non-negative");
+            int from = index.get(graph.getSource(e));
+            int to = index.get(graph.getDest(e));
+            head[2 * k] = to;
+            head[2 * k + 1] = from;
+            residual[2 * k] = capacity.intValue();
+            first[from + 1]++;
+            first[to + 1]++;
+        }
+        for (int i = 0; i < n; i++)
+            first[i + 1] += first[i];
+        arcs = new int[2 * m];
+        int[] next = new int[n];
+        System.arraycopy(first, 0, next, 0, n);
+        for (int a = 0; a < 2 * m; a++)
+        {
+            // arc a leaves the vertex at which its reverse ends
+            arcs[next[head[a ^ 1]]++] = a;
+        }
+        max_flow = 0;
+    }
+
+    /**
+     * Computes a maximum flow, and then the minimum cut.
+     */
+    @Override
+    public void step()
+    {
+        computeMaxFlow();
+        computeMinCut();
+    }
+
+    /**
+     * Computes a maximum flow from <code>s</code> to <code>t</code> by
+     * updating <code>residual</code>, and stores its value in
+     * <code>max_flow</code>.  On return the residual capacities must
+     * describe a (feasible) flow, not merely a preflow.
+     */
+    protected abstract void computeMaxFlow();
+
+    private void computeMinCut()
+    {
+        boolean[] reached = new boolean[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        queue[tail++] = s;
+        reached[s] = true;
+        for (int head_index = 0; head_index < tail; head_index++)
+        {
+            int v = queue[head_index];
+            for (int j = first[v]; j < first[v + 1]; j++)
+            {
+                int a = arcs[j];
+                int w = head[a];
+                if (residual[a] > 0 && !reached[w])
+                {
+                    reached[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        source_partition = new HashSet<V>();
+        sink_partition = new HashSet<V>();
+        for (int i = 0; i < n; i++)
+            (reached[i] ? source_partition : sink_partition).add(vertices.get(i));
+        min_cut_edges = new HashSet<E>();
+        for (int k = 0; k < edges.size(); k++)
+            if (reached[head[2 * k + 1]] && !reached[head[2 * k]])
+                min_cut_edges.add(edges.get(k));
+    }
+
+    /**
+     * Stores the flow along each edge in the edge flow map.
+     */
+    @Override
+    protected void finalizeIterations()
+    {
+        for (int k = 0; k < edges.size(); k++)
+            edge_flows.put(edges.get(k), residual[2 * k + 1]);
+    }
+
+    /**
+     * Returns the value of the maximum flow from the source to the sink.
+     */
+    public int getMaxFlow()
+    {
+        return (int)max_flow;
+    }
+
+    /**
+     * Returns the nodes which share the same partition (as defined by the min-cut edges)
+     * as the sink node.
+     */
+    public Set<V> getNodesInSinkPartition()
+    {
+        return sink_partition;
+    }
+
+    /**
+     * Returns the nodes which share the same partition (as defined by the min-cut edges)
+     * as the source node.
+     */
+    public Set<V> getNodesInSourcePartition()
+    {
+        return source_partition;
+    }
+
+    /**
+     * Returns the edges in the minimum cut.
+     */
+    public Set<E> getMinCutEdges()
+    {
+        return min_cut_edges;
+    }
+
+    /**
+     * Returns the graph for which the maximum flow is calculated.
+     */
+    public DirectedGraph<V,E> getFlowGraph()
+    {
+        return graph;
+    }
+}
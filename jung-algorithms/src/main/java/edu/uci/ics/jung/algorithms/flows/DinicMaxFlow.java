@@ -0,0 +1,168 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.flows;
+
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.DirectedGraph;
+
+/**
+ * Implements Dinic's algorithm for the maximum flow problem.  Each phase
+ * labels the vertices with their breadth-first distance from the source in
+ * the residual network, and then finds a blocking flow in the layered
+ * network of arcs which lead from one distance to the next, by repeated
+ * depth-first searches which skip arcs already found to lead nowhere.
+ * There are at most |V| phases.
+ * <p>
+ * Usage is the same as for <code>EdmondsKarpMaxFlow</code>, except that no
+ * edge factory is needed:
+ * <pre>
+ * DinicMaxFlow&lt;V,E&gt; dinic = new DinicMaxFlow&lt;V,E&gt;(graph, source, sink,
+ *     edge_capacities, edge_flows);
+ * dinic.evaluate();
+ * </pre>
+ * <p>
+ * Running time: O(|V|<sup>2</sup> |E|) in the worst case; O(|E| sqrt(|V|))
+ * for unit capacity networks.
+ *
+ * @see "Algorithm for solution of a problem of maximum flow in a network with power estimation by E. A. Dinic (1970), Soviet Math. Doklady"
+ * @see EdmondsKarpMaxFlow
+ * @see PushRelabelMaxFlow
+ */
+public class DinicMaxFlow<V,E> extends AbstractIndexedMaxFlow<V,E>
+{
+    private int[] level;
+    private int[] current;
+
+    /**
+     * Creates an instance which will find the maximum flow from
+     * <code>source</code> to <code>sink</code> in <code>graph</code>.
+     * @param graph the flow graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param edge_capacities the capacity of each edge
+     * @param edge_flows the map in which the flow along each edge is to be stored
+     */
+    public DinicMaxFlow(DirectedGraph<V,E> graph, V source, V sink,
+            Transformer<E,? extends Number> edge_capacities, Map<E,Number> edge_flows)
+    {
+        super(graph, source, sink, edge_capacities, edge_flows);
+    }
+
+    @Override
+    protected void computeMaxFlow()
+    {
+        level = new int[n];
+        current = new int[n];
+        int[] queue = new int[n];
+        int[] path = new int[n];
+        while (labelLevels(queue))
+        {
+            System.arraycopy(first, 0, current, 0, n);
+            max_flow += augment(path);
+        }
+        level = null;
+        current = null;
+    }
+
+    /**
+     * Labels each vertex with its distance from the source in the residual
+     * network (or -1 if it is unreachable); returns <code>true</code> if the
+     * sink is reachable.
+     */
+    private boolean labelLevels(int[] queue)
+    {
+        for (int i = 0; i < n; i++)
+            level[i] = -1;
+        int tail = 0;
+        queue[tail++] = s;
+        level[s] = 0;
+        for (int h = 0; h < tail; h++)
+        {
+            int v = queue[h];
+            // vertices at or beyond the sink's distance are of no use
+            if (level[t] >= 0 && level[v] >= level[t])
+                break;
+            for (int j = first[v]; j < first[v + 1]; j++)
+            {
+                int a = arcs[j];
+                int w = head[a];
+                if (residual[a] > 0 && level[w] < 0)
+                {
+                    level[w] = level[v] + 1;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        return level[t] >= 0;
+    }
+
+    /**
+     * Augments along paths in the layered network until the flow is
+     * blocking, and returns the total amount pushed.
+     */
+    private long augment(int[] path)
+    {
+        long total = 0;
+        int depth = 0;
+        int v = s;
+        while (true)
+        {
+            if (v == t)
+            {
+                int bottleneck = Integer.MAX_VALUE;
+                for (int k = 0; k < depth; k++)
+                    bottleneck = Math.min(bottleneck, residual[path[k]]);
+                int retreat = depth;
+                for (int k = depth - 1; k >= 0; k--)
+                {
+                    int a = path[k];
+                    residual[a] -= bottleneck;
+                    residual[a ^ 1] += bottleneck;
+                    if (residual[a] == 0)
+                        retreat = k;
+                }
+                total += bottleneck;
+                // resume the search from the tail of the first saturated arc
+                depth = retreat;
+                v = depth == 0 ? s : head[path[depth - 1]];
+                continue;
+            }
+            int end = first[v + 1];
+            int j = current[v];
+            while (j < end)
+            {
+                int a = arcs[j];
+                if (residual[a] > 0 && level[head[a]] == level[v] + 1)
+                    break;
+                j++;
+            }
+            current[v] = j;
+            if (j < end)
+            {
+                int a = arcs[j];
+                path[depth++] = a;
+                v = head[a];
+                continue;
+            }
+            // v is a dead end
+            if (v == s)
+                return total;
+            level[v] = -1;
+            depth--;
+            v = depth == 0 ? s : head[path[depth - 1]];
+            current[v]++;
+        }
+    }
+}
@@ -43,6 +43,8 @@ import edu.uci.ics.jung.graph.util.EdgeType;
  * @see "Introduction to Algorithms by Cormen, Leiserson, Rivest, and Stein."
  * @see "Network Flows by Ahuja, Magnanti, and Orlin."
  * @see "Theoretical improvements in algorithmic efficiency for network flow problems by Edmonds and Karp, 1972."
+ * @see DinicMaxFlow
+ * @see PushRelabelMaxFlow
  * @author Scott White, adapted to jung2 by Tom Nelson
  */
 public class EdmondsKarpMaxFlow<V,E> extends IterativeProcess {
@@ -0,0 +1,283 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.flows;
+
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.graph.DirectedGraph;
+
+/**
+ * Implements the push-relabel algorithm of Goldberg and Tarjan for the
+ * maximum flow problem, using the highest-label selection rule and the
+ * global relabeling and gap heuristics described by Cherkassky and Goldberg.
+ * <p>
+ * The first phase computes a maximum preflow: starting with every arc out of
+ * the source saturated, excess flow is pushed from the active vertex with the
+ * highest label towards the sink, along arcs to vertices whose label is one
+ * lower, and a vertex with excess but no such arc is relabeled.  Labels are
+ * periodically reset to exact distances to the sink (global relabeling), and
+ * when no vertex has some label, the vertices above it, which can no longer
+ * reach the sink, are set aside (the gap heuristic).  The second phase
+ * returns the excess that could not reach the sink to the source in the same
+ * way, so that the result is a flow.
+ * <p>
+ * Usage is the same as for <code>EdmondsKarpMaxFlow</code>, except that no
+ * edge factory is needed:
+ * <pre>
+ * PushRelabelMaxFlow&lt;V,E&gt; pr = new PushRelabelMaxFlow&lt;V,E&gt;(graph, source, sink,
+ *     edge_capacities, edge_flows);
+ * pr.evaluate();
+ * </pre>
+ * <p>
+ * Running time: O(|V|<sup>2</sup> sqrt(|E|)) in the worst case, and
+ * generally much faster in practice.
+ *
+ * @see "A new approach to the maximum flow problem by A. V. Goldberg and R. E. Tarjan (1988), J. ACM"
+ * @see "On implementing push-relabel method for the maximum flow problem by B. V. Cherkassky and A. V. Goldberg (1997), Algorithmica"
+ * @see EdmondsKarpMaxFlow
+ * @see DinicMaxFlow
+ */
+public class PushRelabelMaxFlow<V,E> extends AbstractIndexedMaxFlow<V,E>
+{
+    private int[] height;
+    private long[] excess;
+    private int[] current;
+    // the active vertices of each height, as singly linked lists
+    private int[] active_first;
+    private int[] active_next;
+    // all live vertices of each height, as doubly linked lists
+    private int[] all_first;
+    private int[] all_next;
+    private int[] all_prev;
+    private int max_active;
+    private int max_height;
+    private int relabels;
+
+    /**
+     * Creates an instance which will find the maximum flow from
+     * <code>source</code> to <code>sink</code> in <code>graph</code>.
+     * @param graph the flow graph
+     * @param source the source vertex
+     * @param sink the sink vertex
+     * @param edge_capacities the capacity of each edge
+     * @param edge_flows the map in which the flow along each edge is to be stored
+     */
+    public PushRelabelMaxFlow(DirectedGraph<V,E> graph, V source, V sink,
+            Transformer<E,? extends Number> edge_capacities, Map<E,Number> edge_flows)
+    {
+        super(graph, source, sink, edge_capacities, edge_flows);
+    }
+
+    @Override
+    protected void computeMaxFlow()
+    {
+        height = new int[n];
+        excess = new long[n];
+        current = new int[n];
+        active_first = new int[n + 1];
+        active_next = new int[n];
+        all_first = new int[n + 1];
+        all_next = new int[n];
+        all_prev = new int[n];
+
+        for (int j = first[s]; j < first[s + 1]; j++)
+        {
+            int a = arcs[j];
+            int w = head[a];
+            if (w == s)
+                continue;
+            excess[w] += residual[a];
+            residual[a ^ 1] += residual[a];
+            residual[a] = 0;
+        }
+        // push as much excess as possible to the sink...
+        discharge(t, s);
+        max_flow = excess[t];
+        // ...and return the rest to the source
+        discharge(s, t);
+
+        height = null;
+        excess = null;
+        current = null;
+        active_first = active_next = null;
+        all_first = all_next = all_prev = null;
+    }
+
+    /**
+     * Pushes the excess of every vertex other than <code>target</code> and
+     * <code>excluded</code> towards <code>target</code>, until no vertex
+     * which can reach <code>target</code> has any excess.
+     */
+    private void discharge(int target, int excluded)
+    {
+        globalRelabel(target, excluded);
+        while (true)
+        {
+            while (max_active >= 0 && active_first[max_active] < 0)
+                max_active--;
+            if (max_active < 0)
+                return;
+            int v = active_first[max_active];
+            active_first[max_active] = active_next[v];
+            discharge(v, target, excluded);
+            if (relabels >= n)
+                globalRelabel(target, excluded);
+        }
+    }
+
+    /**
+     * Pushes excess from <code>v</code> along admissible arcs, relabeling it
+     * as necessary, until it has no excess or can no longer reach the target.
+     */
+    private void discharge(int v, int target, int excluded)
+    {
+        while (true)
+        {
+            int h = height[v];
+            int end = first[v + 1];
+            int j = current[v];
+            for (; j < end; j++)
+            {
+                int a = arcs[j];
+                int w = head[a];
+                if (residual[a] == 0 || height[w] != h - 1)
+                    continue;
+                int delta = (int)Math.min(excess[v], residual[a]);
+                residual[a] -= delta;
+                residual[a ^ 1] += delta;
+                excess[v] -= delta;
+                if (excess[w] == 0 && w != target && w != excluded)
+                    activate(w);
+                excess[w] += delta;
+                if (excess[v] == 0)
+                    break;
+            }
+            current[v] = j;
+            if (excess[v] == 0)
+                return;
+
+            // no admissible arcs remain: relabel v
+            relabels++;
+            int new_height = n;
+            for (int k = first[v]; k < end; k++)
+            {
+                int a = arcs[k];
+                if (residual[a] > 0)
+                    new_height = Math.min(new_height, height[head[a]] + 1);
+            }
+            unlink(v);
+            if (all_first[h] < 0)
+            {
+                // gap: no vertex above h can reach the target any more;
+                // those which are active are set aside with the rest
+                for (int g = h + 1; g <= max_height; g++)
+                {
+                    for (int u = all_first[g]; u >= 0; u = all_next[u])
+                        height[u] = n;
+                    all_first[g] = -1;
+                    active_first[g] = -1;
+                }
+                max_height = h - 1;
+                max_active = Math.min(max_active, h - 1);
+                height[v] = n;
+                return;
+            }
+            if (new_height >= n)
+            {
+                height[v] = n;
+                return;
+            }
+            height[v] = new_height;
+            link(v);
+            current[v] = first[v];
+        }
+    }
+
+    /**
+     * Sets each vertex's height to its distance to <code>target</code> in the
+     * residual network (<code>n</code> if it cannot reach it, and for
+     * <code>excluded</code>), and rebuilds the vertex lists.
+     */
+    private void globalRelabel(int target, int excluded)
+    {
+        relabels = 0;
+        for (int i = 0; i < n; i++)
+        {
+            height[i] = n;
+            current[i] = first[i];
+        }
+        for (int h = 0; h <= n; h++)
+        {
+            active_first[h] = -1;
+            all_first[h] = -1;
+        }
+        max_active = -1;
+        max_height = 0;
+
+        int[] queue = new int[n];
+        int tail = 0;
+        queue[tail++] = target;
+        height[target] = 0;
+        for (int k = 0; k < tail; k++)
+        {
+            int w = queue[k];
+            for (int j = first[w]; j < first[w + 1]; j++)
+            {
+                int a = arcs[j];
+                int u = head[a];
+                // the reverse of a runs from u to w
+                if (residual[a ^ 1] > 0 && height[u] == n && u != excluded)
+                {
+                    height[u] = height[w] + 1;
+                    queue[tail++] = u;
+                    link(u);
+                    if (excess[u] > 0)
+                        activate(u);
+                }
+            }
+        }
+    }
+
+    private void activate(int v)
+    {
+        int h = height[v];
+        active_next[v] = active_first[h];
+        active_first[h] = v;
+        if (h > max_active)
+            max_active = h;
+    }
+
+    private void link(int v)
+    {
+        int h = height[v];
+        all_prev[v] = -1;
+        all_next[v] = all_first[h];
+        if (all_first[h] >= 0)
+            all_prev[all_first[h]] = v;
+        all_first[h] = v;
+        if (h > max_height)
+            max_height = h;
+    }
+
+    private void unlink(int v)
+    {
+        int h = height[v];
+        if (all_prev[v] >= 0)
+            all_next[all_prev[v]] = all_next[v];
+        else
+            all_first[h] = all_next[v];
+        if (all_next[v] >= 0)
+            all_prev[all_next[v]] = all_prev[v];
+    }
+}
@@ -66,6 +66,9 @@ import edu.uci.ics.jung.graph.util.Pair;
  * <p>The <code>parallel</code> constructor parameter specifies whether parallel edges
  * may be created.</p>
  * 
+ * <p>{@link LinearBarabasiAlbertGenerator} follows the same model, but chooses
+ * each edge in constant time rather than by rejection sampling.</p>
+ * 
  * @see "A.-L. Barabasi and R. Albert, Emergence of scaling in random networks, Science 286, 1999."
  * @author Scott White
  * @author Joshua O'Madadhain
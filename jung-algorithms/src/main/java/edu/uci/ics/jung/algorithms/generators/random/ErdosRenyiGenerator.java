@@ -22,6 +22,7 @@ import edu.uci.ics.jung.graph.UndirectedGraph;
 /**
  * Generates a random graph using the Erdos-Renyi binomial model
  * (each pair of vertices is connected with probability p).
+ * For large sparse graphs, {@link GeometricErdosRenyiGenerator} is much faster.
  * 
  *  @author William Giordano, Scott White, Joshua O'Madadhain
  */
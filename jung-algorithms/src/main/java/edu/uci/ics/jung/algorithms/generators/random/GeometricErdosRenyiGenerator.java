@@ -0,0 +1,213 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.generators.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.algorithms.generators.GraphGenerator;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Generates a random graph using the Erdos-Renyi binomial model (each pair
+ * of vertices is connected with probability p), as
+ * <code>ErdosRenyiGenerator</code> does, but in time O(|V| + |E|) rather
+ * than O(|V|^2).
+ *
+ * <p>Rather than drawing a random number for each pair of vertices, the
+ * generator draws, for each edge, the number of pairs to skip before the
+ * next one; this number has a geometric distribution with parameter p.
+ * The pairs are either the unordered pairs of distinct vertices (for
+ * undirected edges) or the ordered pairs (for directed edges, so that an
+ * edge may be created in each direction).
+ *
+ * <p>The pairs are divided into a number of blocks which depends only on
+ * the number of vertices, and each block is given its own random number
+ * generator, seeded from the generator's seed and the block's index.  The
+ * blocks may therefore be generated in parallel (see
+ * {@link #setThreadCount(int)}), and the graph created for a given seed
+ * does not depend on the number of threads.  The edges are added to the
+ * graph, on the calling thread, in order of their pairs.
+ *
+ * @see ErdosRenyiGenerator
+ * @see "V. Batagelj and U. Brandes, 'Efficient generation of large random networks', Phys. Rev. E 71, 2005"
+ */
+public class GeometricErdosRenyiGenerator<V,E> implements GraphGenerator<V,E>
+{
+    // the smallest number of pairs worth giving a block of its own
+    private static final long MIN_BLOCK_PAIRS = 1 << 16;
+    private static final int MAX_BLOCKS = 4096;
+
+    protected Factory<? extends Graph<V,E>> graph_factory;
+    protected Factory<V> vertex_factory;
+    protected Factory<E> edge_factory;
+    protected int num_vertices;
+    protected double p;
+    protected EdgeType edge_type;
+    protected long seed;
+    protected int threads;
+
+    /**
+     * Creates an instance which generates graphs with
+     * <code>num_vertices</code> vertices, each pair of which is joined by an
+     * edge of type <code>edge_type</code> with probability <code>p</code>.
+     */
+    public GeometricErdosRenyiGenerator(Factory<? extends Graph<V,E>> graph_factory,
+        Factory<V> vertex_factory, Factory<E> edge_factory,
+        int num_vertices, double p, EdgeType edge_type)
+    {
+        if (num_vertices <= 0)
+            throw new IllegalArgumentException("A positive # of vertices must be specified.");
+        if (p < 0 || p > 1)
+            throw new IllegalArgumentException("p must be between 0 and 1.");
+        this.graph_factory = graph_factory;
+        this.vertex_factory = vertex_factory;
+        this.edge_factory = edge_factory;
+        this.num_vertices = num_vertices;
+        this.p = p;
+        this.edge_type = edge_type;
+        this.seed = new Random().nextLong();
+        this.threads = 1;
+    }
+
+    /**
+     * Sets the seed from which the random number generators are seeded.
+     */
+    public void setSeed(long seed)
+    {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of threads used to choose the edges.  Defaults to 1.
+     */
+    public void setThreadCount(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+    }
+
+    /**
+     * Returns a new random graph.
+     */
+    public Graph<V,E> create()
+    {
+        Graph<V,E> g = graph_factory.create();
+        List<V> vertices = new ArrayList<V>(num_vertices);
+        for (int i = 0; i < num_vertices; i++)
+        {
+            V v = vertex_factory.create();
+            g.addVertex(v);
+            vertices.add(v);
+        }
+
+        final long pairs = edge_type == EdgeType.DIRECTED
+            ? (long)num_vertices * (num_vertices - 1)
+            : (long)num_vertices * (num_vertices - 1) / 2;
+        final int blocks = (int)Math.max(1, Math.min(MAX_BLOCKS, pairs / MIN_BLOCK_PAIRS));
+        final long[][] chosen = new long[blocks][];
+        final int[] counts = new int[blocks];
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.setMinimumBlockSize(1);
+        runner.run(blocks, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int b = start; b < end; b++)
+                    choose(b, pairs * b / blocks, pairs * (b + 1) / blocks, chosen, counts);
+            }
+        });
+
+        for (int b = 0; b < blocks; b++)
+        {
+            for (int k = 0; k < counts[b]; k++)
+            {
+                long pair = chosen[b][k];
+                int v;
+                int w;
+                if (edge_type == EdgeType.DIRECTED)
+                {
+                    v = (int)(pair / (num_vertices - 1));
+                    w = (int)(pair % (num_vertices - 1));
+                    if (w >= v)
+                        w++;
+                }
+                else
+                {
+                    // pair = v(v-1)/2 + w, for 0 <= w < v
+                    v = (int)((1 + Math.sqrt(1 + 8.0 * pair)) / 2);
+                    while ((long)v * (v - 1) / 2 > pair)
+                        v--;
+                    while ((long)(v + 1) * v / 2 <= pair)
+                        v++;
+                    w = (int)(pair - (long)v * (v - 1) / 2);
+                }
+                g.addEdge(edge_factory.create(), vertices.get(v), vertices.get(w), edge_type);
+            }
+        }
+        return g;
+    }
+
+    /**
+     * Stores in <code>chosen[b]</code> (and <code>counts[b]</code>) the
+     * indices of the pairs in <code>[low, high)</code> which are to be
+     * joined by edges.
+     */
+    private void choose(int b, long low, long high, long[][] chosen, int[] counts)
+    {
+        Random random = new Random(mix(seed + b));
+        long expected = (long)((high - low) * p);
+        long[] pairs = new long[(int)Math.min(high - low, Math.max(16, expected + expected / 8 + 16))];
+        int count = 0;
+        if (p > 0)
+        {
+            // log1p keeps log_q accurate (and nonzero) for small p
+            double log_q = Math.log1p(-p);
+            long pair = low - 1;
+            while (true)
+            {
+                // the number of pairs skipped has a geometric distribution
+                double skip = p == 1 ? 0 : Math.floor(Math.log1p(-random.nextDouble()) / log_q);
+                if (skip >= high - pair - 1)
+                    break;
+                pair += 1 + (long)skip;
+                if (count == pairs.length)
+                {
+                    long[] grown = new long[(int)Math.min(high - low, 2L * pairs.length)];
+                    System.arraycopy(pairs, 0, grown, 0, count);
+                    pairs = grown;
+                }
+                pairs[count++] = pair;
+            }
+        }
+        chosen[b] = pairs;
+        counts[b] = count;
+    }
+
+    /**
+     * Returns a well-mixed function of <code>x</code>, so that the seeds
+     * of neighboring blocks are unrelated.
+     */
+    private static long mix(long x)
+    {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
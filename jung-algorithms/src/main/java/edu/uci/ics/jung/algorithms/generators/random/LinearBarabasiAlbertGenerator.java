@@ -0,0 +1,190 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.generators.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.algorithms.generators.EvolvingGraphGenerator;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.MultiGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * An evolving scale-free random graph generator which follows the same
+ * model as <code>BarabasiAlbertGenerator</code>, but chooses each edge in
+ * constant time.  At each time step a new vertex is created and attached
+ * to existing vertices, each of which is chosen with probability
+ * proportional to its degree (in-degree, if the graph's default edge type
+ * is directed) plus 1; edges are directed from the new vertex to the
+ * existing vertices.  The edges attached at each step are chosen according
+ * to the degrees at the start of the step.
+ *
+ * <p>Rather than proposing uniformly chosen vertices and accepting them
+ * with probability proportional to their degrees, which takes longer as
+ * the graph grows, the generator maintains an array of edge endpoints in
+ * which each vertex appears once for each edge incident to (or directed
+ * towards) it, plus once more; a uniformly chosen element of this array is
+ * a vertex chosen with exactly the required probability.
+ *
+ * <p>If the graph does not accept parallel edges, the vertices chosen at
+ * each step are distinct (and the number of edges attached is at most the
+ * number of existing vertices).
+ *
+ * <p>{@link #evolveGraph(int)} chooses the edges for all of its steps
+ * before adding any of the new vertices and edges to the graph.  The graph
+ * produced depends only on the seed and on the sequence of calls.
+ *
+ * @see BarabasiAlbertGenerator
+ * @see "V. Batagelj and U. Brandes, 'Efficient generation of large random networks', Phys. Rev. E 71, 2005"
+ */
+public class LinearBarabasiAlbertGenerator<V,E> implements EvolvingGraphGenerator<V,E>
+{
+    protected Graph<V,E> graph;
+    protected Factory<V> vertex_factory;
+    protected Factory<E> edge_factory;
+    protected int edges_per_step;
+    protected int elapsed_steps;
+    protected Random random;
+
+    protected List<V> vertex_index;
+    protected int[] endpoints;
+    protected int endpoint_count;
+    // the most recent step at which each vertex was chosen
+    protected int[] chosen_at;
+
+    /**
+     * Creates an instance whose graph (created by <code>graph_factory</code>)
+     * starts with <code>init_vertices</code> unconnected vertices, which are
+     * also added to <code>seed_vertices</code>, and to which each step adds
+     * a vertex with <code>edges_per_step</code> edges.
+     */
+    public LinearBarabasiAlbertGenerator(Factory<? extends Graph<V,E>> graph_factory,
+        Factory<V> vertex_factory, Factory<E> edge_factory,
+        int init_vertices, int edges_per_step, long seed, Set<V> seed_vertices)
+    {
+        if (init_vertices <= 0)
+            throw new IllegalArgumentException("Number of initial unconnected 'seed' vertices must be positive");
+        if (edges_per_step <= 0)
+            throw new IllegalArgumentException("Number of edges to attach at each time step must be positive");
+        this.graph = graph_factory.create();
+        this.vertex_factory = vertex_factory;
+        this.edge_factory = edge_factory;
+        this.edges_per_step = edges_per_step;
+        this.random = new Random(seed);
+
+        this.vertex_index = new ArrayList<V>(init_vertices);
+        this.endpoints = new int[Math.max(16, 2 * init_vertices)];
+        this.chosen_at = new int[Math.max(16, 2 * init_vertices)];
+        for (int i = 0; i < init_vertices; i++)
+        {
+            V v = vertex_factory.create();
+            graph.addVertex(v);
+            vertex_index.add(v);
+            seed_vertices.add(v);
+            endpoints[endpoint_count++] = i;
+        }
+    }
+
+    /**
+     * Creates an instance as above, using the current time as the seed.
+     */
+    public LinearBarabasiAlbertGenerator(Factory<? extends Graph<V,E>> graph_factory,
+        Factory<V> vertex_factory, Factory<E> edge_factory,
+        int init_vertices, int edges_per_step, Set<V> seed_vertices)
+    {
+        this(graph_factory, vertex_factory, edge_factory, init_vertices, edges_per_step,
+                System.currentTimeMillis(), seed_vertices);
+    }
+
+    public void evolveGraph(int num_steps)
+    {
+        if (num_steps < 0)
+            throw new IllegalArgumentException("Number of steps must be non-negative");
+        boolean directed = graph.getDefaultEdgeType() == EdgeType.DIRECTED;
+        boolean parallel = graph instanceof MultiGraph;
+        int first = vertex_index.size();
+        int last = first + num_steps;
+        endpoints = grow(endpoints, endpoint_count
+            + (long)num_steps * (1 + (directed ? 1 : 2) * (long)edges_per_step));
+        chosen_at = grow(chosen_at, last);
+        int[] targets = new int[(int)Math.min(Integer.MAX_VALUE, (long)num_steps * edges_per_step)];
+        int[] edge_counts = new int[num_steps];
+
+        int edge_count = 0;
+        for (int u = first; u < last; u++)
+        {
+            int available = endpoint_count;
+            int edges = parallel ? edges_per_step : Math.min(edges_per_step, u);
+            int step_start = edge_count;
+            while (edge_count - step_start < edges)
+            {
+                int v = endpoints[random.nextInt(available)];
+                if (!parallel)
+                {
+                    if (chosen_at[v] == u)
+                        continue;
+                    chosen_at[v] = u;
+                }
+                targets[edge_count++] = v;
+            }
+            edge_counts[u - first] = edges;
+            endpoints[endpoint_count++] = u;
+            for (int k = step_start; k < edge_count; k++)
+            {
+                endpoints[endpoint_count++] = targets[k];
+                if (!directed)
+                    endpoints[endpoint_count++] = u;
+            }
+        }
+
+        for (int u = first; u < last; u++)
+        {
+            V v = vertex_factory.create();
+            graph.addVertex(v);
+            vertex_index.add(v);
+        }
+        int k = 0;
+        for (int u = first; u < last; u++)
+        {
+            V v = vertex_index.get(u);
+            for (int end = k + edge_counts[u - first]; k < end; k++)
+                graph.addEdge(edge_factory.create(), v, vertex_index.get(targets[k]));
+        }
+        elapsed_steps += num_steps;
+    }
+
+    private static int[] grow(int[] array, long size)
+    {
+        if (size <= array.length)
+            return array;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many steps for a single evolution");
+        int[] grown = new int[(int)Math.min(Integer.MAX_VALUE, Math.max(size, 2L * array.length))];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    public int numIterations()
+    {
+        return elapsed_steps;
+    }
+
+    public Graph<V,E> create()
+    {
+        return graph;
+    }
+}
@@ -20,6 +20,7 @@ import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.impl.SparseDoubleMatrix1D;
 import edu.uci.ics.jung.algorithms.matrix.GraphMatrixOperations;
+import edu.uci.ics.jung.algorithms.matrix.MeanFirstPassageTimes;
 import edu.uci.ics.jung.algorithms.scoring.PageRank;
 import edu.uci.ics.jung.algorithms.util.Indexer;
 import edu.uci.ics.jung.graph.DirectedGraph;
@@ -33,6 +34,7 @@ public class MarkovCentrality<V,E> extends RelativeAuthorityRanker<V,E> {
     public final static String MEAN_FIRST_PASSAGE_TIME = "jung.algorithms.importance.mean_first_passage_time";
     private DoubleMatrix1D mRankings;
     private BidiMap<V,Integer> mIndexer;
+    private boolean mMatrixFree;
 
     public MarkovCentrality(DirectedGraph<V,E> graph, Set<V> rootNodes) {
         this(graph,rootNodes,null);
@@ -51,6 +53,17 @@ public class MarkovCentrality<V,E> extends RelativeAuthorityRanker<V,E> {
         mRankings = new SparseDoubleMatrix1D(graph.getVertexCount());
     }
 
+    /**
+     * Specifies whether the mean first passage times from the root nodes are
+     * computed by sparse iterative solves (see {@link MeanFirstPassageTimes}),
+     * which need space and time per iteration proportional to the size of
+     * the graph, rather than by inverting a dense |V| x |V| matrix.
+     * Defaults to <code>false</code>.
+     */
+    public void setMatrixFree(boolean matrixFree) {
+        mMatrixFree = matrixFree;
+    }
+
     /**
      * @see edu.uci.ics.jung.algorithms.importance.AbstractRanker#getRankScoreKey()
      */
@@ -72,15 +85,26 @@ public class MarkovCentrality<V,E> extends RelativeAuthorityRanker<V,E> {
      */
     @Override
     public void step() {
-        DoubleMatrix2D mFPTMatrix = GraphMatrixOperations.computeMeanFirstPassageMatrix(getGraph(), getEdgeWeights(), getStationaryDistribution());
-
         mRankings.assign(0);
 
-        for (V p : getPriors()) {
-            int p_id = mIndexer.get(p);
-            for (V v : getVertices()) {
-                int v_id = mIndexer.get(v);
-                mRankings.set(v_id, mRankings.get(v_id) + mFPTMatrix.get(p_id, v_id));
+        if (mMatrixFree) {
+            Map<V,Map<V,Number>> mFPTs = new MeanFirstPassageTimes<V,E>(getGraph(),
+                    MapTransformer.getInstance(getEdgeWeights())).getPassageTimes(getPriors(), getVertices());
+            for (V p : getPriors()) {
+                Map<V,Number> mFPTRow = mFPTs.get(p);
+                for (V v : getVertices()) {
+                    int v_id = mIndexer.get(v);
+                    mRankings.set(v_id, mRankings.get(v_id) + mFPTRow.get(v).doubleValue());
+                }
+            }
+        } else {
+            DoubleMatrix2D mFPTMatrix = GraphMatrixOperations.computeMeanFirstPassageMatrix(getGraph(), getEdgeWeights(), getStationaryDistribution());
+            for (V p : getPriors()) {
+                int p_id = mIndexer.get(p);
+                for (V v : getVertices()) {
+                    int v_id = mIndexer.get(v);
+                    mRankings.set(v_id, mRankings.get(v_id) + mFPTMatrix.get(p_id, v_id));
+                }
             }
         }
 
@@ -7,20 +7,20 @@
 package edu.uci.ics.jung.algorithms.matrix;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.collections15.BidiMap;
 import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
 
 import cern.colt.matrix.DoubleMatrix1D;
 import cern.colt.matrix.DoubleMatrix2D;
 import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix2D;
 import cern.colt.matrix.impl.SparseDoubleMatrix2D;
 import cern.colt.matrix.linalg.Algebra;
-import edu.uci.ics.jung.algorithms.util.ConstantMap;
-import edu.uci.ics.jung.algorithms.util.Indexer;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
 import edu.uci.ics.jung.graph.Graph;
 import edu.uci.ics.jung.graph.UndirectedGraph;
 
@@ -37,6 +37,9 @@ import edu.uci.ics.jung.graph.UndirectedGraph;
  */
 public class GraphMatrixOperations
 {
+    // residual norm at which each column of the voltage matrix is accepted
+    private static final double VOLTAGE_TOLERANCE = 1e-12;
+
     /**
      * Returns the graph that corresponds to the square of the (weighted)
      * adjacency matrix that the specified graph <code>g</code> encodes. The
@@ -44,6 +47,10 @@ public class GraphMatrixOperations
      * constructor specifies the implementation of the dot product, which is an
      * integral part of matrix multiplication.
      * 
+     * <p>The pairs of vertices connected by paths of length 2 are found by
+     * a (parallel) sparse matrix product; the methods of <code>meo</code>
+     * are then called on the calling thread.
+     * 
      * @param g
      *            the graph to be squared
      * @return the result of squaring g
@@ -62,29 +69,57 @@ public class GraphMatrixOperations
 			e3.printStackTrace();
 		}
 
-        Collection<V> vertices = g.getVertices();
+        List<V> vertices = new ArrayList<V>(g.getVertices());
         for (V v : vertices)
         {
         	squaredGraph.addVertex(v);
         }
-        for (V v : vertices) 
+
+        // the entries of the square of the 0-1 adjacency matrix are the
+        // pairs of vertices joined by at least one path of length 2
+        SparseMatrix adjacency = SparseMatrix.fromGraph(g, null);
+        SparseMatrix squared = adjacency.multiply(adjacency, new ParallelRunner());
+        int[] offsets = adjacency.getRowOffsets();
+        int[] successors = adjacency.getColumnIndices();
+        int[] squared_offsets = squared.getRowOffsets();
+        int[] squared_successors = squared.getColumnIndices();
+
+        // the edge of g connecting each vertex to each of its successors
+        List<E> first_edges = new ArrayList<E>(successors.length);
+        for (int i = 0; i < vertices.size(); i++)
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+                first_edges.add(g.findEdge(vertices.get(i), vertices.get(successors[k])));
+
+        // create the edges of the squared graph
+        List<E> squared_edges = new ArrayList<E>(squared_successors.length);
+        for (int i = 0; i < vertices.size(); i++)
+        {
+            V src = vertices.get(i);
+            for (int k = squared_offsets[i]; k < squared_offsets[i + 1]; k++)
+            {
+                V dest = vertices.get(squared_successors[k]);
+                E e = squaredGraph.findEdge(src,dest);
+                // if no edge from src to dest exists in G2, create one
+                if (e == null) {
+                	e = edgeFactory.create();
+                	squaredGraph.addEdge(e, src, dest);
+                }
+                squared_edges.add(e);
+            }
+        }
+
+        // collect data on each path src -> v -> dest composed of e1 and e2
+        for (int src = 0; src < vertices.size(); src++)
         {
-            for (V src : g.getPredecessors(v))
+            for (int k = offsets[src]; k < offsets[src + 1]; k++)
             {
-                // get the edge connecting src to v in G
-                E e1 = g.findEdge(src,v);
-                for (V dest : g.getSuccessors(v))
+                E e1 = first_edges.get(k);
+                int v = successors[k];
+                for (int l = offsets[v]; l < offsets[v + 1]; l++)
                 {
-                    // get edge connecting v to dest in G
-                    E e2 = g.findEdge(v,dest);
-                    // collect data on path composed of e1 and e2
+                    E e2 = first_edges.get(l);
                     Number pathData = meo.computePathData(e1, e2);
-                    E e = squaredGraph.findEdge(src,dest);
-                    // if no edge from src to dest exists in G2, create one
-                    if (e == null) {
-                    	e = edgeFactory.create();
-                    	squaredGraph.addEdge(e, src, dest);
-                    }
+                    E e = squared_edges.get(squared.find(src, successors[l]));
                     meo.mergePaths(e, pathData);
                 }
             }
@@ -116,40 +151,8 @@ public class GraphMatrixOperations
     		Factory<V> vertexFactory, Factory<E> edgeFactory, 
     		Map<E,Number> nev)
     {
-        if (matrix.rows() != matrix.columns())
-        {
-            throw new IllegalArgumentException("Matrix must be square.");
-        }
-        int size = matrix.rows();
-
-        Graph<V,E> graph = graphFactory.create();
-        
-        for(int i = 0; i < size; i++) 
-        {
-            V vertex = vertexFactory.create();
-        	graph.addVertex(vertex);
-        }
-
-        List<V> vertices = new ArrayList<V>(graph.getVertices());
-        for (int i = 0; i < size; i++)
-        {
-            for (int j = 0; j < size; j++)
-            {
-                double value = matrix.getQuick(i, j);
-                if (value != 0)
-                {
-                    E e = edgeFactory.create();
-                    if (graph.addEdge(e, vertices.get(i), vertices.get(j)))
-                    {
-                        if (e != null && nev != null)
-                            nev.put(e, value);
-                    }
-                }
-            }
-        }
-        
-        
-        return graph;
+        return SparseMatrix.fromColt(matrix).<V,E>toGraph(graphFactory,
+                vertexFactory, edgeFactory, nev);
     }
     
     
@@ -192,26 +195,8 @@ public class GraphMatrixOperations
      */
     public static <V,E> SparseDoubleMatrix2D graphToSparseMatrix(Graph<V,E> g, Map<E,Number> nev)
     {
-        if (nev == null)
-            nev = new ConstantMap<E,Number>(1);
-        int numVertices = g.getVertexCount();
-        SparseDoubleMatrix2D matrix = new SparseDoubleMatrix2D(numVertices,
-                numVertices);
-
-        BidiMap<V,Integer> indexer = Indexer.<V>create(g.getVertices());
-        int i=0;
-        
-        for(V v : g.getVertices())
-        {
-            for (E e : g.getOutEdges(v))
-            {
-                V w = g.getOpposite(v,e);
-                int j = indexer.get(w);
-                matrix.set(i, j, matrix.getQuick(i,j) + nev.get(e).doubleValue());
-            }
-            i++;
-        }
-        return matrix;
+        Transformer<E,Number> weights = nev == null ? null : MapTransformer.getInstance(nev);
+        return SparseMatrix.fromGraph(g, weights).toColt();
     }
 
     /**
@@ -249,9 +234,15 @@ public class GraphMatrixOperations
      * equation: V_i^(s,t) = T_is - T-it where T is the voltage potential matrix
      * returned by this method. *
      * 
+     * <p>The columns of the inverse of the reduced Laplacian are computed
+     * independently (and in parallel) by conjugate gradient iterations on
+     * a sparse representation of the Laplacian, which requires the graph
+     * to be connected.
+     * 
      * @param graph
      *            an undirected graph representing an electrical circuit
      * @return the voltage potential matrix
+     * @throws IllegalArgumentException if the graph is not connected
      * @see "P. Doyle and J. Snell, 'Random walks and electric networks,', 1989"
      * @see "M. Newman, 'A measure of betweenness centrality based on random walks', pp. 5-7, 2003"
      */
@@ -259,36 +250,153 @@ public class GraphMatrixOperations
             UndirectedGraph<V,E> graph)
     {
         int numVertices = graph.getVertexCount();
+        final DoubleMatrix2D T = new DenseDoubleMatrix2D(numVertices, numVertices);
+        if (numVertices < 2)
+            return T;
         //create adjacency matrix from graph
-        DoubleMatrix2D A = GraphMatrixOperations.graphToSparseMatrix(graph,
-                null);
-        //create diagonal matrix of vertex degrees
-        DoubleMatrix2D D = GraphMatrixOperations
-                .createVertexDegreeDiagonalMatrix(graph);
-        DoubleMatrix2D temp = new SparseDoubleMatrix2D(numVertices - 1,
-                numVertices - 1);
+        SparseMatrix A = SparseMatrix.fromGraph(graph, null);
+        if (!isConnected(A))
+            throw new IllegalArgumentException("Graph must be connected");
         //compute D - A except for last row and column
-        for (int i = 0; i < numVertices - 1; i++)
+        int[] offsets = A.getRowOffsets();
+        int[] columns = A.getColumnIndices();
+        double[] values = A.getValues();
+        int size = A.size() + numVertices;
+        int[] row = new int[size];
+        int[] column = new int[size];
+        double[] value = new double[size];
+        int count = 0;
+        int i = 0;
+        for (V v : graph.getVertices())
         {
-            for (int j = 0; j < numVertices - 1; j++)
+            if (i == numVertices - 1)
+                break;
+            row[count] = i;
+            column[count] = i;
+            value[count++] = graph.degree(v);
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
             {
-                temp.set(i, j, D.get(i, j) - A.get(i, j));
+                if (columns[k] < numVertices - 1)
+                {
+                    row[count] = i;
+                    column[count] = columns[k];
+                    value[count++] = -values[k];
+                }
             }
+            i++;
         }
-        Algebra algebra = new Algebra();
-        DoubleMatrix2D tempInverse = algebra.inverse(temp);
-        DoubleMatrix2D T = new SparseDoubleMatrix2D(numVertices, numVertices);
-        //compute "voltage" matrix
-        for (int i = 0; i < numVertices - 1; i++)
+        final SparseMatrix laplacian =
+            new SparseMatrix(numVertices - 1, numVertices - 1, row, column, value, count);
+        //compute "voltage" matrix, one column of the inverse at a time
+        ParallelRunner runner = new ParallelRunner();
+        runner.setMinimumBlockSize(16);
+        runner.run(numVertices - 1, new ParallelRunner.RangeTask()
         {
-            for (int j = 0; j < numVertices - 1; j++)
+            public void run(int start, int end)
             {
-                T.set(i, j, tempInverse.get(i, j));
+                for (int j = start; j < end; j++)
+                {
+                    double[] x = solveUnitColumn(laplacian, j);
+                    for (int i = 0; i < x.length; i++)
+                        T.setQuick(i, j, x[i]);
+                }
             }
-        }
+        });
         return T;
     }
 
+    /**
+     * Returns true if every vertex of the (symmetric) adjacency matrix
+     * <code>A</code> can be reached from vertex 0.
+     */
+    private static boolean isConnected(SparseMatrix A)
+    {
+        int n = A.rows();
+        int[] offsets = A.getRowOffsets();
+        int[] columns = A.getColumnIndices();
+        boolean[] reached = new boolean[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        reached[0] = true;
+        queue[tail++] = 0;
+        for (int head = 0; head < tail; head++)
+        {
+            int v = queue[head];
+            for (int k = offsets[v]; k < offsets[v + 1]; k++)
+            {
+                if (!reached[columns[k]])
+                {
+                    reached[columns[k]] = true;
+                    queue[tail++] = columns[k];
+                }
+            }
+        }
+        return tail == n;
+    }
+
+    /**
+     * Solves <code>L x = e_j</code> for the symmetric positive definite
+     * matrix <code>L</code> by the conjugate gradient method, with the
+     * diagonal of <code>L</code> as preconditioner.
+     */
+    private static double[] solveUnitColumn(SparseMatrix L, int j)
+    {
+        int n = L.rows();
+        int[] offsets = L.getRowOffsets();
+        int[] columns = L.getColumnIndices();
+        double[] values = L.getValues();
+        double[] inverse_diagonal = new double[n];
+        for (int i = 0; i < n; i++)
+            inverse_diagonal[i] = 1 / L.get(i, i);
+
+        double[] x = new double[n];
+        double[] r = new double[n];
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        r[j] = 1;
+        for (int i = 0; i < n; i++)
+        {
+            z[i] = inverse_diagonal[i] * r[i];
+            p[i] = z[i];
+        }
+        double rz = z[j];
+        int max_iterations = 10 * n + 100;
+        for (int iteration = 0; iteration < max_iterations; iteration++)
+        {
+            double pq = 0;
+            for (int i = 0; i < n; i++)
+            {
+                double sum = 0;
+                for (int k = offsets[i]; k < offsets[i + 1]; k++)
+                    sum += values[k] * p[columns[k]];
+                q[i] = sum;
+                pq += p[i] * sum;
+            }
+            double alpha = rz / pq;
+            double rr = 0;
+            for (int i = 0; i < n; i++)
+            {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * q[i];
+                rr += r[i] * r[i];
+            }
+            if (rr <= VOLTAGE_TOLERANCE * VOLTAGE_TOLERANCE)
+                break;
+            double rz_next = 0;
+            for (int i = 0; i < n; i++)
+            {
+                z[i] = inverse_diagonal[i] * r[i];
+                rz_next += r[i] * z[i];
+            }
+            double beta = rz_next / rz;
+            rz = rz_next;
+            for (int i = 0; i < n; i++)
+                p[i] = z[i] + beta * p[i];
+        }
+        return x;
+    }
+
     /**
      * Converts a Map of (Vertex, Double) pairs to a DoubleMatrix1D.
      * 
@@ -332,6 +440,7 @@ public class GraphMatrixOperations
      * @param stationaryDistribution
      *            the asymptotic state probabilities
      * @return the mean first passage time matrix
+     * @see MeanFirstPassageTimes
      */
     public static <V,E> DoubleMatrix2D computeMeanFirstPassageMatrix(Graph<V,E> G,
             Map<E,Number> edgeWeights, DoubleMatrix1D stationaryDistribution)
@@ -0,0 +1,458 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * Computes mean first passage times of the Markov chain whose states are the
+ * vertices of a graph and whose transition probabilities are given by its
+ * edge weights, without forming (or inverting) any dense matrix.
+ *
+ * <p>The mean first passage time from <code>s</code> to <code>t</code> is the
+ * expected number of transitions taken by a walk from <code>s</code> to reach
+ * <code>t</code>; from <code>t</code> to itself it is the expected return time,
+ * <code>1 / &pi;(t)</code> for an irreducible chain with stationary
+ * distribution <code>&pi;</code>.  These are the entries of the matrix
+ * returned by
+ * {@link GraphMatrixOperations#computeMeanFirstPassageMatrix(Graph, Map, cern.colt.matrix.DoubleMatrix1D)},
+ * which needs O(|V|^2) space and O(|V|^3) time.
+ *
+ * <p>Here the passage times to each requested target are found as the
+ * solution of a sparse linear system
+ * <code>m(s) = 1 + &Sigma;<sub>u &ne; t</sub> P(s,u) m(u)</code>, solved by
+ * the preconditioned BiCGSTAB method in O(|E|) space and time per iteration.
+ * The targets are solved for independently, in parallel, and only the
+ * passage times from the requested sources are kept.
+ *
+ * <p>A walk from <code>s</code> which may fail to reach <code>t</code>
+ * (because it can enter a part of the graph from which <code>t</code> is
+ * unreachable, or a vertex whose outgoing probabilities sum to less than 1)
+ * has an infinite passage time, reported as
+ * <code>Double.POSITIVE_INFINITY</code>.
+ *
+ * @see "J. Kemeny and J. Snell, 'Finite Markov Chains', 1960"
+ */
+public class MeanFirstPassageTimes<V,E>
+{
+    // transition probability sums below 1 - LEAK_TOLERANCE leak probability
+    private static final double LEAK_TOLERANCE = 1e-9;
+    // relative size of the inner products at which BiCGSTAB is restarted
+    private static final double BREAKDOWN = 1e-12;
+
+    protected List<V> vertices;
+    protected Map<V,Integer> vertex_index;
+    protected SparseMatrix transitions;
+    protected SparseMatrix reverse;
+    protected boolean[] leaks;
+    protected int threads;
+    protected double tolerance;
+    protected int max_iterations;
+
+    /**
+     * Creates an instance for the chain on <code>g</code> whose transition
+     * probability along each edge is given by
+     * <code>transition_probabilities</code>, using one thread per processor.
+     */
+    public MeanFirstPassageTimes(Graph<V,E> g,
+        Transformer<E, ? extends Number> transition_probabilities)
+    {
+        this(g, transition_probabilities, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance for the chain on <code>g</code> whose transition
+     * probability along each edge is given by
+     * <code>transition_probabilities</code>, using <code>threads</code>
+     * threads.
+     */
+    public MeanFirstPassageTimes(Graph<V,E> g,
+        Transformer<E, ? extends Number> transition_probabilities, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+        this.tolerance = 1e-10;
+        this.max_iterations = 10000;
+        this.vertices = new ArrayList<V>(g.getVertices());
+        this.vertex_index = new HashMap<V,Integer>();
+        for (int i = 0; i < vertices.size(); i++)
+            vertex_index.put(vertices.get(i), i);
+        this.transitions = SparseMatrix.fromGraph(g, transition_probabilities);
+        this.reverse = transitions.transpose();
+
+        int n = vertices.size();
+        int[] offsets = transitions.getRowOffsets();
+        double[] values = transitions.getValues();
+        this.leaks = new boolean[n];
+        for (int i = 0; i < n; i++)
+        {
+            double sum = 0;
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+            {
+                if (values[k] < 0)
+                    throw new IllegalArgumentException("Transition probabilities must be non-negative");
+                sum += values[k];
+            }
+            leaks[i] = sum < 1 - LEAK_TOLERANCE;
+        }
+    }
+
+    /**
+     * Sets the relative residual at which each solution is accepted.
+     * Defaults to 1e-10.
+     */
+    public void setTolerance(double tolerance)
+    {
+        if (tolerance <= 0)
+            throw new IllegalArgumentException("Tolerance must be positive");
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Sets the maximum number of iterations spent on each target; if it is
+     * reached, the latest approximation is used.  Defaults to 10000.
+     */
+    public void setMaxIterations(int max_iterations)
+    {
+        if (max_iterations < 1)
+            throw new IllegalArgumentException("Iteration cap must be positive");
+        this.max_iterations = max_iterations;
+    }
+
+    /**
+     * Returns the mean first passage time to <code>target</code> from
+     * each vertex.
+     */
+    public Map<V,Number> getPassageTimesTo(V target)
+    {
+        double[] times = new double[vertices.size()];
+        solve(index(target), times, new Scratch(vertices.size()));
+        Map<V,Number> passage_times = new HashMap<V,Number>();
+        for (int i = 0; i < times.length; i++)
+            passage_times.put(vertices.get(i), times[i]);
+        return passage_times;
+    }
+
+    /**
+     * Returns the mean first passage times from each of
+     * <code>sources</code> to each of <code>targets</code>, as a map from
+     * each source to a map from each target to the passage time.  One
+     * linear system is solved per target; the number of sources affects
+     * only the size of the result.
+     */
+    public Map<V,Map<V,Number>> getPassageTimes(Collection<V> sources, Collection<V> targets)
+    {
+        final int n = vertices.size();
+        final int[] source_indices = new int[sources.size()];
+        int s = 0;
+        for (V v : sources)
+            source_indices[s++] = index(v);
+        final int[] target_indices = new int[targets.size()];
+        int t = 0;
+        for (V v : targets)
+            target_indices[t++] = index(v);
+
+        final double[][] rows = new double[source_indices.length][target_indices.length];
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.setMinimumBlockSize(1);
+        runner.run(target_indices.length, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                Scratch scratch = new Scratch(n);
+                double[] times = new double[n];
+                for (int j = start; j < end; j++)
+                {
+                    solve(target_indices[j], times, scratch);
+                    for (int i = 0; i < source_indices.length; i++)
+                        rows[i][j] = times[source_indices[i]];
+                }
+            }
+        });
+
+        Map<V,Map<V,Number>> passage_times = new HashMap<V,Map<V,Number>>();
+        for (int i = 0; i < source_indices.length; i++)
+        {
+            Map<V,Number> row = new HashMap<V,Number>();
+            for (int j = 0; j < target_indices.length; j++)
+                row.put(vertices.get(target_indices[j]), rows[i][j]);
+            passage_times.put(vertices.get(source_indices[i]), row);
+        }
+        return passage_times;
+    }
+
+    private int index(V v)
+    {
+        Integer i = vertex_index.get(v);
+        if (i == null)
+            throw new IllegalArgumentException("Vertex " + v + " is not in the graph");
+        return i;
+    }
+
+    /**
+     * Work arrays for one solve.
+     */
+    private static class Scratch
+    {
+        int[] queue;
+        boolean[] finite;
+        double[] inverse_diagonal;
+        double[] r;
+        double[] r_hat;
+        double[] p;
+        double[] v;
+        double[] s;
+        double[] y;
+        double[] z;
+        double[] q;
+
+        Scratch(int n)
+        {
+            queue = new int[n];
+            finite = new boolean[n];
+            inverse_diagonal = new double[n];
+            r = new double[n];
+            r_hat = new double[n];
+            p = new double[n];
+            v = new double[n];
+            s = new double[n];
+            y = new double[n];
+            z = new double[n];
+            q = new double[n];
+        }
+    }
+
+    /**
+     * Stores in <code>times</code> the mean first passage time to vertex
+     * <code>t</code> from each vertex.
+     */
+    private void solve(int t, double[] times, Scratch scratch)
+    {
+        int n = vertices.size();
+        boolean[] finite = scratch.finite;
+        findFinite(t, finite, scratch.queue);
+
+        // the restriction of I - P to the vertices (other than t) whose
+        // passage times are finite, applied with a Jacobi preconditioner
+        int[] offsets = transitions.getRowOffsets();
+        int[] columns = transitions.getColumnIndices();
+        double[] values = transitions.getValues();
+        double[] inverse_diagonal = scratch.inverse_diagonal;
+        double b_norm = 0;
+        for (int i = 0; i < n; i++)
+        {
+            times[i] = 0;
+            if (finite[i])
+            {
+                int k = transitions.find(i, i);
+                inverse_diagonal[i] = 1 / (1 - (k >= 0 ? values[k] : 0));
+                b_norm++;
+            }
+        }
+        b_norm = Math.sqrt(b_norm);
+
+        double[] x = times;
+        double[] r = scratch.r;
+        double[] r_hat = scratch.r_hat;
+        double[] p = scratch.p;
+        double[] v = scratch.v;
+        double[] s = scratch.s;
+        double[] y = scratch.y;
+        double[] z = scratch.z;
+        double[] q = scratch.q;
+        double tolerance_norm = tolerance * b_norm;
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+        boolean restart = true;
+        for (int iteration = 0; iteration < max_iterations && b_norm > 0; iteration++)
+        {
+            if (restart)
+            {
+                // (re)start from the true residual, which also confirms
+                // convergence of the updated one
+                apply(x, q, finite, offsets, columns, values);
+                for (int i = 0; i < n; i++)
+                    r[i] = (finite[i] ? 1 : 0) - q[i];
+                if (norm(r, n) <= tolerance_norm)
+                    break;
+                System.arraycopy(r, 0, r_hat, 0, n);
+                Arrays.fill(p, 0);
+                Arrays.fill(v, 0);
+                rho = alpha = omega = 1;
+                restart = false;
+            }
+            double rho_next = dot(r_hat, r, n);
+            if (Math.abs(rho_next) <= BREAKDOWN * norm(r_hat, n) * norm(r, n))
+            {
+                restart = true;
+                continue;
+            }
+            double beta = (rho_next / rho) * (alpha / omega);
+            rho = rho_next;
+            for (int i = 0; i < n; i++)
+            {
+                p[i] = r[i] + beta * (p[i] - omega * v[i]);
+                y[i] = finite[i] ? inverse_diagonal[i] * p[i] : 0;
+            }
+            apply(y, v, finite, offsets, columns, values);
+            double r_hat_v = dot(r_hat, v, n);
+            if (Math.abs(r_hat_v) <= BREAKDOWN * norm(r_hat, n) * norm(v, n))
+            {
+                restart = true;
+                continue;
+            }
+            alpha = rho / r_hat_v;
+            for (int i = 0; i < n; i++)
+            {
+                s[i] = r[i] - alpha * v[i];
+                x[i] += alpha * y[i];
+            }
+            if (norm(s, n) <= tolerance_norm)
+            {
+                restart = true;
+                continue;
+            }
+            for (int i = 0; i < n; i++)
+                z[i] = finite[i] ? inverse_diagonal[i] * s[i] : 0;
+            apply(z, q, finite, offsets, columns, values);
+            double qq = dot(q, q, n);
+            omega = qq > 0 ? dot(q, s, n) / qq : 0;
+            for (int i = 0; i < n; i++)
+            {
+                x[i] += omega * z[i];
+                r[i] = s[i] - omega * q[i];
+            }
+            if (omega == 0 || norm(r, n) <= tolerance_norm)
+                restart = true;
+        }
+
+        // the return time to t is one more than the mean passage time from
+        // its successor
+        double return_time = leaks[t] ? Double.POSITIVE_INFINITY : 1;
+        for (int k = offsets[t]; k < offsets[t + 1]; k++)
+        {
+            int u = columns[k];
+            if (u != t && values[k] > 0)
+                return_time += values[k] * (finite[u] ? x[u] : Double.POSITIVE_INFINITY);
+        }
+        for (int i = 0; i < n; i++)
+            if (!finite[i])
+                x[i] = Double.POSITIVE_INFINITY;
+        x[t] = return_time;
+    }
+
+    /**
+     * Marks the vertices other than <code>t</code> from which a walk
+     * reaches <code>t</code> with probability 1: those which cannot reach,
+     * without passing through <code>t</code>, either a leaking vertex or a
+     * vertex from which <code>t</code> is unreachable.
+     */
+    private void findFinite(int t, boolean[] finite, int[] queue)
+    {
+        int n = vertices.size();
+        int[] r_offsets = reverse.getRowOffsets();
+        int[] r_columns = reverse.getColumnIndices();
+        double[] r_values = reverse.getValues();
+
+        // the vertices which can reach t
+        boolean[] marked = finite;
+        Arrays.fill(marked, false);
+        int tail = 0;
+        marked[t] = true;
+        queue[tail++] = t;
+        for (int head = 0; head < tail; head++)
+        {
+            int u = queue[head];
+            for (int k = r_offsets[u]; k < r_offsets[u + 1]; k++)
+            {
+                int w = r_columns[k];
+                if (r_values[k] > 0 && !marked[w])
+                {
+                    marked[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        // the vertices which can reach a leaking vertex or one which cannot
+        // reach t, other than through t; marked now means infinite
+        tail = 0;
+        for (int i = 0; i < n; i++)
+        {
+            marked[i] = !marked[i] || (leaks[i] && i != t);
+            if (marked[i])
+                queue[tail++] = i;
+        }
+        for (int head = 0; head < tail; head++)
+        {
+            int u = queue[head];
+            for (int k = r_offsets[u]; k < r_offsets[u + 1]; k++)
+            {
+                int w = r_columns[k];
+                if (r_values[k] > 0 && !marked[w] && w != t)
+                {
+                    marked[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++)
+            finite[i] = !marked[i] && i != t;
+    }
+
+    /**
+     * Sets <code>out</code> to the product of the restriction of
+     * <code>I - P</code> and <code>in</code> (which is 0 outside the
+     * restriction).
+     */
+    private static void apply(double[] in, double[] out, boolean[] finite,
+        int[] offsets, int[] columns, double[] values)
+    {
+        for (int i = 0; i < finite.length; i++)
+        {
+            if (!finite[i])
+            {
+                out[i] = 0;
+                continue;
+            }
+            double sum = in[i];
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+                sum -= values[k] * in[columns[k]];
+            out[i] = sum;
+        }
+    }
+
+    private static double norm(double[] a, int n)
+    {
+        return Math.sqrt(dot(a, a, n));
+    }
+
+    private static double dot(double[] a, double[] b, int n)
+    {
+        double sum = 0;
+        for (int i = 0; i < n; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+}
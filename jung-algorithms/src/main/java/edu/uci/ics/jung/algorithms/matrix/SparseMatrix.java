@@ -0,0 +1,460 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+
+import cern.colt.list.DoubleArrayList;
+import cern.colt.list.IntArrayList;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * An immutable sparse matrix of <code>double</code>s, stored in compressed
+ * sparse row (CSR) form: the entries of row <code>i</code> are the
+ * <code>getValues()[k]</code>, in columns <code>getColumnIndices()[k]</code>,
+ * for <code>getRowOffsets()[i] &lt;= k &lt; getRowOffsets()[i+1]</code>.
+ * Within each row the column indices are strictly increasing.
+ *
+ * <p>The compressed sparse column (CSC) form of a matrix is the CSR form of
+ * its transpose, so column-oriented access is available through
+ * {@link #transpose()}.
+ *
+ * <p>Products are computed one row at a time, and rows are distributed
+ * among the threads of a {@link ParallelRunner}.  Unlike Colt's
+ * <code>SparseDoubleMatrix2D</code>, which stores its entries in a hash
+ * table, this representation makes row traversal, matrix-vector products
+ * and matrix-matrix products run in time proportional to the number of
+ * entries involved.
+ *
+ * <p>The arrays returned by the accessors are the internal arrays of this
+ * instance, and must not be modified.
+ *
+ * @see GraphMatrixOperations
+ */
+public class SparseMatrix
+{
+    protected int rows;
+    protected int columns;
+    protected int[] row_offsets;
+    protected int[] column_indices;
+    protected double[] values;
+
+    /**
+     * Creates a <code>rows</code> by <code>columns</code> matrix from the
+     * first <code>count</code> (row, column, value) triples in the specified
+     * arrays, which may be in any order.  Values which share a row and
+     * column are summed.
+     */
+    public SparseMatrix(int rows, int columns, int[] row, int[] column, double[] value, int count)
+    {
+        if (rows < 0 || columns < 0)
+            throw new IllegalArgumentException("Dimensions must be non-negative");
+        this.rows = rows;
+        this.columns = columns;
+
+        // counting sort by column, then (stably) by row, which leaves the
+        // columns of each row in ascending order
+        int[] column_offsets = new int[columns + 1];
+        for (int k = 0; k < count; k++)
+        {
+            if (row[k] < 0 || row[k] >= rows || column[k] < 0 || column[k] >= columns)
+                throw new IllegalArgumentException("Entry (" + row[k] + ", " + column[k]
+                    + ") is outside a " + rows + " x " + columns + " matrix");
+            column_offsets[column[k] + 1]++;
+        }
+        for (int j = 0; j < columns; j++)
+            column_offsets[j + 1] += column_offsets[j];
+        int[] by_column = new int[count];
+        for (int k = 0; k < count; k++)
+            by_column[column_offsets[column[k]]++] = k;
+
+        int[] offsets = new int[rows + 1];
+        for (int k = 0; k < count; k++)
+            offsets[row[k] + 1]++;
+        for (int i = 0; i < rows; i++)
+            offsets[i + 1] += offsets[i];
+        int[] by_row = new int[count];
+        for (int k : by_column)
+            by_row[offsets[row[k]]++] = k;
+
+        // merge duplicates; offsets[i] now holds the end of row i
+        row_offsets = new int[rows + 1];
+        int[] merged_columns = new int[count];
+        double[] merged_values = new double[count];
+        int size = 0;
+        int k = 0;
+        for (int i = 0; i < rows; i++)
+        {
+            row_offsets[i] = size;
+            for (; k < offsets[i]; k++)
+            {
+                int t = by_row[k];
+                if (size > row_offsets[i] && merged_columns[size - 1] == column[t])
+                    merged_values[size - 1] += value[t];
+                else
+                {
+                    merged_columns[size] = column[t];
+                    merged_values[size++] = value[t];
+                }
+            }
+        }
+        row_offsets[rows] = size;
+        column_indices = new int[size];
+        values = new double[size];
+        System.arraycopy(merged_columns, 0, column_indices, 0, size);
+        System.arraycopy(merged_values, 0, values, 0, size);
+    }
+
+    /**
+     * Creates a matrix which uses the specified CSR arrays, which are
+     * assumed to be well-formed.
+     */
+    protected SparseMatrix(int rows, int columns, int[] row_offsets, int[] column_indices, double[] values)
+    {
+        this.rows = rows;
+        this.columns = columns;
+        this.row_offsets = row_offsets;
+        this.column_indices = column_indices;
+        this.values = values;
+    }
+
+    /**
+     * Returns the weighted adjacency matrix of <code>g</code>: the
+     * <code>(i,j)</code> entry is the sum of the weights of the edges
+     * from the <code>i</code>th vertex to the <code>j</code>th, where the
+     * vertices are numbered in the iteration order of
+     * <code>g.getVertices()</code>.  If <code>edge_weights</code> is null,
+     * each edge has weight 1.
+     */
+    public static <V,E> SparseMatrix fromGraph(Graph<V,E> g,
+        Transformer<E, ? extends Number> edge_weights)
+    {
+        int n = g.getVertexCount();
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (V v : g.getVertices())
+            index.put(v, index.size());
+        int capacity = 0;
+        for (V v : g.getVertices())
+            capacity += g.outDegree(v);
+        int[] row = new int[capacity];
+        int[] column = new int[capacity];
+        double[] value = new double[capacity];
+        int count = 0;
+        int i = 0;
+        for (V v : g.getVertices())
+        {
+            for (E e : g.getOutEdges(v))
+            {
+                row[count] = i;
+                column[count] = index.get(g.getOpposite(v, e));
+                value[count++] = edge_weights == null ? 1 : edge_weights.transform(e).doubleValue();
+            }
+            i++;
+        }
+        return new SparseMatrix(n, n, row, column, value, count);
+    }
+
+    /**
+     * Returns a matrix with the same entries as <code>matrix</code>.
+     */
+    public static SparseMatrix fromColt(DoubleMatrix2D matrix)
+    {
+        IntArrayList row = new IntArrayList();
+        IntArrayList column = new IntArrayList();
+        DoubleArrayList value = new DoubleArrayList();
+        matrix.getNonZeros(row, column, value);
+        return new SparseMatrix(matrix.rows(), matrix.columns(), row.elements(),
+                column.elements(), value.elements(), row.size());
+    }
+
+    /**
+     * Returns a Colt matrix with the same non-zero entries as this matrix.
+     */
+    public SparseDoubleMatrix2D toColt()
+    {
+        SparseDoubleMatrix2D matrix = new SparseDoubleMatrix2D(rows, columns);
+        for (int i = 0; i < rows; i++)
+            for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+                if (values[k] != 0)
+                    matrix.setQuick(i, column_indices[k], values[k]);
+        return matrix;
+    }
+
+    /**
+     * Creates a graph with one vertex per row (and column) of this matrix,
+     * and one edge per non-zero entry, from the vertex for its row to the
+     * vertex for its column.  Vertices are created (by
+     * <code>vertex_factory</code>) in row order, and are assumed to be
+     * returned by the graph's <code>getVertices()</code> in that order.
+     * If <code>edge_weights</code> is non-null, it is used to store the
+     * entries as edge weights.
+     *
+     * <p>Whether the edges are directed depends on the graph created by
+     * <code>graph_factory</code>.  Entries for which the graph refuses the
+     * edge (for instance, the transpose of an entry which has already been
+     * added to an undirected graph without parallel edges) are skipped.
+     */
+    public <V,E> Graph<V,E> toGraph(Factory<? extends Graph<V,E>> graph_factory,
+        Factory<V> vertex_factory, Factory<E> edge_factory, Map<E,Number> edge_weights)
+    {
+        if (rows != columns)
+            throw new IllegalArgumentException("Matrix must be square.");
+        Graph<V,E> graph = graph_factory.create();
+        for (int i = 0; i < rows; i++)
+            graph.addVertex(vertex_factory.create());
+        List<V> vertices = new ArrayList<V>(graph.getVertices());
+        for (int i = 0; i < rows; i++)
+        {
+            for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+            {
+                if (values[k] == 0)
+                    continue;
+                E e = edge_factory.create();
+                if (graph.addEdge(e, vertices.get(i), vertices.get(column_indices[k])))
+                {
+                    if (e != null && edge_weights != null)
+                        edge_weights.put(e, values[k]);
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int rows()
+    {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     */
+    public int columns()
+    {
+        return columns;
+    }
+
+    /**
+     * Returns the number of stored entries (some of which may be zero).
+     */
+    public int size()
+    {
+        return values.length;
+    }
+
+    /**
+     * Returns the <code>(i,j)</code> entry.
+     */
+    public double get(int i, int j)
+    {
+        if (i < 0 || i >= rows || j < 0 || j >= columns)
+            throw new IllegalArgumentException("Entry (" + i + ", " + j
+                + ") is outside a " + rows + " x " + columns + " matrix");
+        int k = find(i, j);
+        return k >= 0 ? values[k] : 0;
+    }
+
+    /**
+     * Returns the position of the <code>(i,j)</code> entry in the column
+     * index and value arrays, or -1 if it is not stored.
+     */
+    public int find(int i, int j)
+    {
+        int low = row_offsets[i];
+        int high = row_offsets[i + 1] - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (column_indices[mid] < j)
+                low = mid + 1;
+            else if (column_indices[mid] > j)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the offsets of the rows in the column index and value arrays;
+     * the array has <code>rows() + 1</code> elements.
+     */
+    public int[] getRowOffsets()
+    {
+        return row_offsets;
+    }
+
+    /**
+     * Returns the column index of each stored entry.
+     */
+    public int[] getColumnIndices()
+    {
+        return column_indices;
+    }
+
+    /**
+     * Returns the value of each stored entry.
+     */
+    public double[] getValues()
+    {
+        return values;
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     */
+    public SparseMatrix transpose()
+    {
+        int size = values.length;
+        int[] offsets = new int[columns + 1];
+        for (int k = 0; k < size; k++)
+            offsets[column_indices[k] + 1]++;
+        for (int j = 0; j < columns; j++)
+            offsets[j + 1] += offsets[j];
+        int[] next = new int[columns];
+        System.arraycopy(offsets, 0, next, 0, columns);
+        int[] t_columns = new int[size];
+        double[] t_values = new double[size];
+        for (int i = 0; i < rows; i++)
+        {
+            for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+            {
+                int pos = next[column_indices[k]]++;
+                t_columns[pos] = i;
+                t_values[pos] = values[k];
+            }
+        }
+        return new SparseMatrix(columns, rows, offsets, t_columns, t_values);
+    }
+
+    /**
+     * Returns the product of this matrix and the vector <code>x</code>.
+     */
+    public double[] multiply(final double[] x, ParallelRunner runner)
+    {
+        if (x.length != columns)
+            throw new IllegalArgumentException("Vector length " + x.length
+                + " does not match column count " + columns);
+        final double[] y = new double[rows];
+        runner.run(rows, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int i = start; i < end; i++)
+                {
+                    double sum = 0;
+                    for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+                        sum += values[k] * x[column_indices[k]];
+                    y[i] = sum;
+                }
+            }
+        });
+        return y;
+    }
+
+    /**
+     * Returns the product of this matrix and <code>other</code>.  The rows
+     * of the product are computed independently: a first pass counts the
+     * entries of each row, and a second fills them in, using a dense
+     * accumulator per block of rows.  Entries of the product which cancel
+     * to zero are retained.
+     */
+    public SparseMatrix multiply(final SparseMatrix other, ParallelRunner runner)
+    {
+        if (columns != other.rows)
+            throw new IllegalArgumentException("Cannot multiply a " + rows + " x " + columns
+                + " matrix by a " + other.rows + " x " + other.columns + " matrix");
+        final int[] offsets = new int[rows + 1];
+        final int[] b_offsets = other.row_offsets;
+        final int[] b_columns = other.column_indices;
+        final double[] b_values = other.values;
+
+        runner.run(rows, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                int[] marker = new int[other.columns];
+                Arrays.fill(marker, -1);
+                for (int i = start; i < end; i++)
+                {
+                    int count = 0;
+                    for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+                    {
+                        int v = column_indices[k];
+                        for (int l = b_offsets[v]; l < b_offsets[v + 1]; l++)
+                        {
+                            if (marker[b_columns[l]] != i)
+                            {
+                                marker[b_columns[l]] = i;
+                                count++;
+                            }
+                        }
+                    }
+                    offsets[i + 1] = count;
+                }
+            }
+        });
+        for (int i = 0; i < rows; i++)
+            offsets[i + 1] += offsets[i];
+
+        final int[] p_columns = new int[offsets[rows]];
+        final double[] p_values = new double[offsets[rows]];
+        runner.run(rows, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                double[] accumulator = new double[other.columns];
+                boolean[] touched = new boolean[other.columns];
+                for (int i = start; i < end; i++)
+                {
+                    int count = offsets[i];
+                    for (int k = row_offsets[i]; k < row_offsets[i + 1]; k++)
+                    {
+                        int v = column_indices[k];
+                        double a = values[k];
+                        for (int l = b_offsets[v]; l < b_offsets[v + 1]; l++)
+                        {
+                            int j = b_columns[l];
+                            if (!touched[j])
+                            {
+                                touched[j] = true;
+                                p_columns[count++] = j;
+                            }
+                            accumulator[j] += a * b_values[l];
+                        }
+                    }
+                    Arrays.sort(p_columns, offsets[i], count);
+                    for (int k = offsets[i]; k < count; k++)
+                    {
+                        int j = p_columns[k];
+                        p_values[k] = accumulator[j];
+                        accumulator[j] = 0;
+                        touched[j] = false;
+                    }
+                }
+            }
+        });
+        return new SparseMatrix(rows, other.columns, offsets, p_columns, p_values);
+    }
+}
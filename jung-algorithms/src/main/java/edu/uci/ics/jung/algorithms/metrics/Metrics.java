@@ -11,8 +11,6 @@
  */
 package edu.uci.ics.jung.algorithms.metrics;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 
 import edu.uci.ics.jung.graph.Graph;
@@ -33,38 +31,15 @@ public class Metrics
      * Less formally, the fraction of <code>v</code>'s neighbors that are also
      * neighbors of each other. 
      * <p><b>Note</b>: This algorithm treats its argument as an undirected graph;
-     * edge direction is ignored. 
+     * edge direction is ignored, as are self-loops.  The triangles are
+     * counted by a <code>TriangleCounter</code>, which uses one thread per
+     * available processor.
      * @param graph the graph whose clustering coefficients are to be calculated
      * @see "The structure and function of complex networks, M.E.J. Newman, aps.arxiv.org/abs/cond-mat/0303516"
+     * @see TriangleCounter
      */
     public static <V,E> Map<V, Double> clusteringCoefficients(Graph<V,E> graph)
     {
-        Map<V,Double> coefficients = new HashMap<V,Double>();
-        
-        for (V v : graph.getVertices())
-        {
-            int n = graph.getNeighborCount(v);
-            if (n < 2)
-                coefficients.put(v, new Double(0));
-            else
-            {
-                // how many of v's neighbors are connected to each other?
-                ArrayList<V> neighbors = new ArrayList<V>(graph.getNeighbors(v));
-                double edge_count = 0;
-                for (int i = 0; i < n; i++)
-                {
-                    V w = neighbors.get(i);
-                    for (int j = i+1; j < n; j++ )
-                    {
-                        V x = neighbors.get(j);
-                        edge_count += graph.isNeighbor(w, x) ? 1 : 0;
-                    }
-                }
-                double possible_edges = (n * (n - 1))/2.0;
-                coefficients.put(v, new Double(edge_count / possible_edges));
-            }
-        }
-        
-        return coefficients;
+        return new TriangleCounter<V,E>(graph).getClusteringCoefficients();
     }
 }
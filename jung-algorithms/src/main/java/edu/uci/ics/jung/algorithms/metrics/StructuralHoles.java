@@ -11,8 +11,14 @@
  */
 package edu.uci.ics.jung.algorithms.metrics;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.collections15.Transformer;
 
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
 import edu.uci.ics.jung.graph.Graph;
 
 /**
@@ -27,6 +33,12 @@ import edu.uci.ics.jung.graph.Graph;
  * <li/>Nonexistent edges are treated as edges with weight 0 for purposes 
  * of edge weight calculations.
  * </ul>
+ * 
+ * <p>Each of the methods which measure a single vertex recomputes the 
+ * mutual edge weights it needs, so measuring every vertex this way takes
+ * time cubic in the degree.  {@link #getMeasures(int)} instead computes
+ * every measure for every vertex at once, in time proportional to the 
+ * number of paths of length 2.
  *  
  * <p>Based on code donated by Jasper Voskuilen and 
  * Diederik van Liere of the Department of Information and Decision Sciences
@@ -295,11 +307,11 @@ public class StructuralHoles<V,E> {
         if (numerator == 0)
             return 0;
         
-        double denominator = 0;
+        double denominator = numerator;
         for (V w : g.getNeighbors(v1)) {
 
             if (v2 != w)
-                denominator = Math.max(numerator, mutualWeight(v1, w));
+                denominator = Math.max(denominator, mutualWeight(v1, w));
         }
         
         if (denominator == 0)
@@ -307,4 +319,258 @@ public class StructuralHoles<V,E> {
         
         return numerator / denominator;
     }
+
+    /**
+     * Computes each of the measures above for every vertex, using one thread
+     * per available processor.
+     * @see #getMeasures(int)
+     */
+    public Measures getMeasures()
+    {
+        return getMeasures(ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Computes each of the measures above for every vertex, dividing the 
+     * vertices among <code>threads</code> threads.  The mutual edge weight 
+     * of each vertex and each of its neighbors, and the sum and maximum of 
+     * these for each vertex, are computed once, and stored in arrays 
+     * indexed by vertex; each vertex's measures are then accumulated by a 
+     * single pass over the paths of length 2 which start at it.
+     * <p>The results are a snapshot: they do not reflect subsequent changes
+     * to the graph.
+     */
+    public Measures getMeasures(int threads)
+    {
+        return new Measures(threads);
+    }
+
+    /**
+     * The measures of every vertex of the graph, as computed by 
+     * {@link StructuralHoles#getMeasures(int)}.
+     */
+    public class Measures
+    {
+        protected List<V> vertices;
+        protected Map<V,Integer> vertex_index;
+        
+        private double[] effective_size;
+        private double[] constraint;
+        private double[] aggregate_constraint;
+        private double[] hierarchy;
+        private int[] degree;
+
+        protected Measures(int threads)
+        {
+            vertices = new ArrayList<V>(g.getVertices());
+            vertex_index = new HashMap<V,Integer>();
+            final int n = vertices.size();
+            for (int i = 0; i < n; i++)
+                vertex_index.put(vertices.get(i), i);
+
+            // each vertex's neighbors, in the order in which getNeighbors()
+            // returns them, with the mutual edge weight of each
+            int entries = 0;
+            for (V v : vertices)
+                entries += g.getNeighbors(v).size();
+            final int[] offsets = new int[n + 1];
+            final int[] neighbors = new int[entries];
+            double[] weight = new double[entries];
+            final boolean[] reciprocal = new boolean[entries];
+            final double[] organizational = new double[n];
+            degree = new int[n];
+            int[] position = new int[n];
+            int k = 0;
+            for (int i = 0; i < n; i++)
+            {
+                V v = vertices.get(i);
+                degree[i] = g.degree(v);
+                organizational[i] = organizationalMeasure(g, v);
+                for (V w : g.getNeighbors(v))
+                {
+                    int j = vertex_index.get(w);
+                    position[j] = k;
+                    neighbors[k] = j;
+                    weight[k] = mutualWeight(v, w);
+                    k++;
+                }
+                offsets[i + 1] = k;
+                // the alters considered by constraint()
+                for (V w : g.getSuccessors(v))
+                    if (v != w && g.isPredecessor(v, w))
+                        reciprocal[position[vertex_index.get(w)]] = true;
+            }
+            position = null;
+
+            // p(v,w) and m(v,w) for each entry
+            final double[] normalized = new double[entries];
+            final double[] max_scaled = new double[entries];
+            for (int i = 0; i < n; i++)
+            {
+                double sum = 0;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                {
+                    sum += weight[j];
+                    max = Math.max(max, weight[j]);
+                }
+                for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                {
+                    if (neighbors[j] == i || weight[j] == 0)
+                        continue;
+                    if (sum != 0)
+                        normalized[j] = weight[j] / sum;
+                    if (max != 0)
+                        max_scaled[j] = weight[j] / max;
+                }
+            }
+            weight = null;
+
+            effective_size = new double[n];
+            constraint = new double[n];
+            aggregate_constraint = new double[n];
+            hierarchy = new double[n];
+            // scratch arrays indexed by vertex, one pair per thread
+            final ThreadLocal<double[][]> scratch = new ThreadLocal<double[][]>()
+            {
+                @Override
+                protected double[][] initialValue()
+                {
+                    return new double[2][n];
+                }
+            };
+            ParallelRunner runner = new ParallelRunner(threads);
+            // the work per vertex varies widely, so hand out small blocks
+            runner.setMinimumBlockSize(64);
+            runner.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    double[][] arrays = scratch.get();
+                    // p(v,w), and sum_u p(v,u) * p(u,w), by w
+                    double[] direct = arrays[0];
+                    double[] indirect = arrays[1];
+                    for (int v = start; v < end; v++)
+                    {
+                        int v_start = offsets[v];
+                        int v_end = offsets[v + 1];
+                        for (int j = v_start; j < v_end; j++)
+                            direct[neighbors[j]] = normalized[j];
+
+                        double size = degree[v];
+                        for (int j = v_start; j < v_end; j++)
+                        {
+                            int u = neighbors[j];
+                            double p_vu = direct[u];
+                            for (int l = offsets[u]; l < offsets[u + 1]; l++)
+                            {
+                                int w = neighbors[l];
+                                if (w != v && w != u)
+                                    size -= direct[w] * max_scaled[l];
+                                indirect[w] += p_vu * normalized[l];
+                            }
+                        }
+                        effective_size[v] = size;
+
+                        double c = 0;
+                        double aggregate = 0;
+                        for (int j = v_start; j < v_end; j++)
+                        {
+                            int w = neighbors[j];
+                            double local = direct[w] + indirect[w];
+                            local *= local;
+                            if (reciprocal[j])
+                                c += local;
+                            aggregate += local * organizational[w];
+                        }
+                        constraint[v] = c;
+                        aggregate_constraint[v] = aggregate;
+
+                        double d = degree[v];
+                        if (d == 0)
+                            hierarchy[v] = Double.NaN;
+                        else if (d == 1)
+                            hierarchy[v] = 1;
+                        else
+                        {
+                            double numerator = 0;
+                            for (int j = v_start; j < v_end; j++)
+                            {
+                                int w = neighbors[j];
+                                if (w == v)
+                                    continue;
+                                double local = direct[w] + indirect[w];
+                                double s = local * local / (aggregate / d);
+                                numerator += s * Math.log(s);
+                            }
+                            hierarchy[v] = numerator / (d * Math.log(d));
+                        }
+
+                        // clear the scratch arrays for the next vertex
+                        for (int j = v_start; j < v_end; j++)
+                        {
+                            int u = neighbors[j];
+                            direct[u] = 0;
+                            for (int l = offsets[u]; l < offsets[u + 1]; l++)
+                                indirect[neighbors[l]] = 0;
+                        }
+                    }
+                }
+            });
+        }
+
+        /**
+         * Returns the effective size of <code>v</code>.
+         * @see StructuralHoles#effectiveSize(Object)
+         */
+        public double getEffectiveSize(V v)
+        {
+            return effective_size[indexOf(v)];
+        }
+
+        /**
+         * Returns the efficiency of <code>v</code>.
+         * @see StructuralHoles#efficiency(Object)
+         */
+        public double getEfficiency(V v)
+        {
+            int i = indexOf(v);
+            return degree[i] == 0 ? 0 : effective_size[i] / degree[i];
+        }
+
+        /**
+         * Returns the constraint on <code>v</code>.
+         * @see StructuralHoles#constraint(Object)
+         */
+        public double getConstraint(V v)
+        {
+            return constraint[indexOf(v)];
+        }
+
+        /**
+         * Returns the aggregate constraint on <code>v</code>.
+         * @see StructuralHoles#aggregateConstraint(Object)
+         */
+        public double getAggregateConstraint(V v)
+        {
+            return aggregate_constraint[indexOf(v)];
+        }
+
+        /**
+         * Returns the hierarchy value of <code>v</code>.
+         * @see StructuralHoles#hierarchy(Object)
+         */
+        public double getHierarchy(V v)
+        {
+            return hierarchy[indexOf(v)];
+        }
+
+        private int indexOf(V v)
+        {
+            Integer i = vertex_index.get(v);
+            if (i == null)
+                throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+            return i;
+        }
+    }
 }
@@ -9,13 +9,11 @@
  */
 package edu.uci.ics.jung.algorithms.metrics;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-
-import org.apache.commons.collections15.CollectionUtils;
 
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
 import edu.uci.ics.jung.graph.DirectedGraph;
 import edu.uci.ics.jung.graph.Graph;
 
@@ -67,7 +65,8 @@ import edu.uci.ics.jung.graph.Graph;
  * <tr><td>16</td><td>300</td><td>The complete</td></tr>
  * </table>
  * <p>
- * This implementation takes O( m ), m is the number of edges in the graph. 
+ * This implementation takes O( m &Delta; log &Delta; ), m is the number of edges in the graph
+ * and &Delta; its maximum degree, divided among several threads.
  * <br>
  * It is based on 
  * <a href="http://vlado.fmf.uni-lj.si/pub/networks/doc/triads/triads.pdf">
@@ -94,45 +93,146 @@ public class TriadicCensus {
      * Returns an array whose ith element (for i in [1,16]) is the number of 
      * occurrences of the corresponding triad type in <code>g</code>.
      * (The 0th element is not meaningful; this array is effectively 1-based.)
+     * Uses one thread per available processor.
 	 * 
 	 * @param g
 	 */
     public static <V,E> long[] getCounts(DirectedGraph<V,E> g) {
-        long[] count = new long[MAX_TRIADS];
-
-        List<V> id = new ArrayList<V>(g.getVertices());
-
-		// apply algorithm to each edge, one at at time
-		for (int i_v = 0; i_v < g.getVertexCount(); i_v++) {
-			V v = id.get(i_v);
-			for(V u : g.getNeighbors(v)) {
-				int triType = -1;
-				if (id.indexOf(u) <= i_v)
-					continue;
-				Set<V> neighbors = new HashSet<V>(CollectionUtils.union(g.getNeighbors(u), g.getNeighbors(v)));
-				neighbors.remove(u);
-				neighbors.remove(v);
-				if (g.isSuccessor(v,u) && g.isSuccessor(u,v)) {
-					triType = 3;
-				} else {
-					triType = 2;
-				}
-				count[triType] += g.getVertexCount() - neighbors.size() - 2;
-				for (V w : neighbors) {
-					if (shouldCount(g, id, u, v, w)) {
-						count [ triType ( triCode(g, u, v, w) ) ] ++;
-					}
-				}
-			}
-		}
-		int sum = 0;
-		for (int i = 2; i <= 16; i++) {
-			sum += count[i];
-		}
-		int n = g.getVertexCount();
-		count[1] = n * (n-1) * (n-2) / 6 - sum;
-		return count;		
-	}
+        return getCounts(g, ParallelRunner.getDefaultThreadCount());
+    }
+
+	/**
+     * Returns an array whose ith element (for i in [1,16]) is the number of 
+     * occurrences of the corresponding triad type in <code>g</code>.
+     * (The 0th element is not meaningful; this array is effectively 1-based.)
+     * <p>
+     * The vertices are identified by dense indices, and the successors,
+     * predecessors and neighbors of each are stored as sorted arrays, so that
+     * each neighborhood union is a merge and each adjacency test a binary
+     * search.  The outer loop over vertices is divided among
+     * <code>threads</code> threads, each of which accumulates its own
+     * histogram; the histograms are summed at the end.
+	 * 
+	 * @param g
+	 * @param threads the number of threads to use
+	 */
+    public static <V,E> long[] getCounts(DirectedGraph<V,E> g, int threads) {
+        final long[] count = new long[MAX_TRIADS];
+        final IndexedGraph<V,E> indexed = new IndexedGraph<V,E>(g);
+        final int n = indexed.getVertexCount();
+        final int[][] successors = new int[n][];
+        final int[][] neighbors = new int[n][];
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.run(n, new ParallelRunner.RangeTask() {
+            public void run(int start, int end) {
+                int[] out_offsets = indexed.getOutOffsets();
+                int[] in_offsets = indexed.getInOffsets();
+                for (int v = start; v < end; v++) {
+                    successors[v] = distinct(indexed.getOutTargets(), out_offsets[v],
+                            out_offsets[v + 1], v, null, 0, 0);
+                    neighbors[v] = distinct(indexed.getOutTargets(), out_offsets[v],
+                            out_offsets[v + 1], v, indexed.getInSources(), in_offsets[v],
+                            in_offsets[v + 1]);
+                }
+            }
+        });
+
+        // the work per vertex varies widely, so hand out small blocks
+        runner.setMinimumBlockSize(64);
+        runner.run(n, new ParallelRunner.RangeTask() {
+            public void run(int start, int end) {
+                long[] local = new long[MAX_TRIADS];
+                for (int v = start; v < end; v++) {
+                    int[] n_v = neighbors[v];
+                    for (int u : n_v) {
+                        if (u <= v)
+                            continue;
+                        int[] n_u = neighbors[u];
+                        int tri_type = contains(successors[v], u) && contains(successors[u], v) ? 3 : 2;
+                        // merge n_u and n_v, skipping u and v
+                        int union_size = 0;
+                        int i = 0;
+                        int j = 0;
+                        while (i < n_u.length || j < n_v.length) {
+                            int w;
+                            if (j >= n_v.length || (i < n_u.length && n_u[i] < n_v[j]))
+                                w = n_u[i++];
+                            else if (i >= n_u.length || n_v[j] < n_u[i])
+                                w = n_v[j++];
+                            else {
+                                w = n_u[i++];
+                                j++;
+                            }
+                            if (w == u || w == v)
+                                continue;
+                            union_size++;
+                            if (u < w || (v < w && w < u && !contains(n_v, w)))
+                                local[triType(triCode(successors, u, v, w))]++;
+                        }
+                        local[tri_type] += n - union_size - 2;
+                    }
+                }
+                synchronized (count) {
+                    for (int k = 0; k < MAX_TRIADS; k++)
+                        count[k] += local[k];
+                }
+            }
+        });
+
+        long sum = 0;
+        for (int i = 2; i <= 16; i++) {
+            sum += count[i];
+        }
+        // n choose 3, without overflowing for any n whose result fits
+        long pairs = (long)n * (n - 1) / 2;
+        long triples = (n - 2) % 3 == 0 ? pairs * ((n - 2) / 3) : pairs / 3 * (n - 2);
+        count[1] = triples - sum;
+        return count;
+    }
+
+    /**
+     * Returns the distinct elements, other than <code>exclude</code>, of
+     * <code>a[a_from..a_to)</code> and <code>b[b_from..b_to)</code> (if
+     * <code>b</code> is non-null), sorted in ascending order.
+     */
+    private static int[] distinct(int[] a, int a_from, int a_to, int exclude,
+            int[] b, int b_from, int b_to) {
+        int length = a_to - a_from + (b == null ? 0 : b_to - b_from);
+        int[] values = new int[length];
+        System.arraycopy(a, a_from, values, 0, a_to - a_from);
+        if (b != null)
+            System.arraycopy(b, b_from, values, a_to - a_from, b_to - b_from);
+        Arrays.sort(values);
+        int kept = 0;
+        for (int k = 0; k < length; k++) {
+            if (values[k] != exclude && (kept == 0 || values[kept - 1] != values[k]))
+                values[kept++] = values[k];
+        }
+        if (kept == length)
+            return values;
+        int[] result = new int[kept];
+        System.arraycopy(values, 0, result, 0, kept);
+        return result;
+    }
+
+    private static boolean contains(int[] sorted, int value) {
+        return Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    /**
+     * As {@link #triCode(Graph, Object, Object, Object)}, for vertex indices
+     * whose sorted successor arrays are <code>successors</code>.
+     */
+    private static int triCode(int[][] successors, int u, int v, int w) {
+        int i = 0;
+        i += contains(successors[v], u) ? 1 : 0;
+        i += contains(successors[u], v) ? 2 : 0;
+        i += contains(successors[v], w) ? 4 : 0;
+        i += contains(successors[w], v) ? 8 : 0;
+        i += contains(successors[u], w) ? 16 : 0;
+        i += contains(successors[w], u) ? 32 : 0;
+        return i;
+    }
 
 	/**
 	 * This is the core of the technique in the paper. Returns an int from 0 to
@@ -0,0 +1,348 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.algorithms.util.ParallelSort;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Counts the triangles of a graph, and derives from them each vertex's
+ * clustering coefficient and the graph's transitivity.  The graph is treated
+ * as a simple undirected graph: edge directions are ignored, parallel edges
+ * are treated as one, and self-loops are ignored.
+ *
+ * <p>The vertices are ranked by degree, and each edge is oriented from its
+ * lower-ranked to its higher-ranked endpoint; each vertex's higher-ranked
+ * neighbors are stored, sorted, in compressed sparse row form.  Each
+ * triangle is then found exactly once, from its lowest-ranked vertex
+ * <code>u</code> and the edge to its middle vertex <code>v</code>, by
+ * merging the sorted higher-ranked neighbors of <code>u</code> and
+ * <code>v</code>.  Because a vertex of high degree has few neighbors of
+ * higher degree, no vertex has more than O(sqrt(|E|)) higher-ranked
+ * neighbors, however skewed the degree distribution.  The vertices are
+ * divided among several threads.
+ *
+ * <p>If only the total number of triangles is needed,
+ * {@link #countTriangles(Graph, int)} avoids storing any per-vertex counts.
+ *
+ * <p>Running time: O(|E|<sup>3/2</sup>) in the worst case, divided among
+ * the threads, plus the time to sort the adjacency lists.
+ *
+ * @see "Main-memory triangle computations for very large (sparse (power-law)) graphs by M. Latapy (2008), Theoretical Computer Science"
+ * @see Metrics#clusteringCoefficients(Graph)
+ */
+public class TriangleCounter<V,E>
+{
+    protected List<V> vertices;
+    protected Map<V,Integer> vertex_index;
+    protected Orientation orientation;
+    /** The number of distinct neighbors of each vertex, by rank. */
+    protected int[] degree;
+
+    private long[] triangles;
+    private long total;
+
+    /**
+     * Counts the triangles of <code>graph</code> at each vertex, using one
+     * thread per available processor.
+     */
+    public TriangleCounter(Graph<V,E> graph)
+    {
+        this(graph, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Counts the triangles of <code>graph</code> at each vertex, using the
+     * specified number of threads.
+     */
+    public TriangleCounter(Graph<V,E> graph, int threads)
+    {
+        this.vertices = new ArrayList<V>(graph.getVertices());
+        this.vertex_index = new HashMap<V,Integer>();
+        for (int i = 0; i < vertices.size(); i++)
+            vertex_index.put(vertices.get(i), i);
+        ParallelRunner runner = new ParallelRunner(threads);
+        this.orientation = new Orientation(graph, vertex_index, runner);
+
+        int n = vertices.size();
+        int[] offsets = orientation.offsets;
+        int[] targets = orientation.targets;
+        degree = new int[n];
+        for (int r = 0; r < n; r++)
+        {
+            degree[r] += offsets[r + 1] - offsets[r];
+            for (int j = offsets[r]; j < offsets[r + 1]; j++)
+                degree[targets[j]]++;
+        }
+
+        final AtomicLongArray counts = new AtomicLongArray(n);
+        total = orientation.count(runner, counts);
+        triangles = new long[n];
+        for (int r = 0; r < n; r++)
+            triangles[r] = counts.get(r);
+    }
+
+    /**
+     * Returns the number of triangles in <code>graph</code>, using the
+     * specified number of threads.  This iterates over the (oriented) edges
+     * in the same way as an instance of this class, but stores neither
+     * per-vertex counts nor degrees.
+     */
+    public static <V,E> long countTriangles(Graph<V,E> graph, int threads)
+    {
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (V v : graph.getVertices())
+            index.put(v, index.size());
+        Orientation orientation = new Orientation(graph, index, new ParallelRunner(threads));
+        return orientation.count(new ParallelRunner(threads), null);
+    }
+
+    /**
+     * Returns the number of triangles in the graph.
+     */
+    public long getTriangleCount()
+    {
+        return total;
+    }
+
+    /**
+     * Returns the number of triangles of which <code>v</code> is a vertex.
+     */
+    public long getTriangleCount(V v)
+    {
+        return triangles[rankOf(v)];
+    }
+
+    /**
+     * Returns the clustering coefficient of <code>v</code>: the fraction of
+     * pairs of its neighbors which are themselves neighbors, or 0 if it
+     * has fewer than 2 neighbors.
+     */
+    public double getClusteringCoefficient(V v)
+    {
+        return coefficient(rankOf(v));
+    }
+
+    /**
+     * Returns a map from each vertex to its clustering coefficient, as
+     * defined for {@link #getClusteringCoefficient(Object)}.
+     */
+    public Map<V,Double> getClusteringCoefficients()
+    {
+        Map<V,Double> coefficients = new HashMap<V,Double>();
+        for (int i = 0; i < vertices.size(); i++)
+            coefficients.put(vertices.get(i), coefficient(orientation.rank[i]));
+        return coefficients;
+    }
+
+    /**
+     * Returns the transitivity (global clustering coefficient) of the graph:
+     * three times the number of triangles divided by the number of
+     * connected triples (paths of length 2), or 0 if there are none.
+     */
+    public double getTransitivity()
+    {
+        double triples = 0;
+        for (int r = 0; r < degree.length; r++)
+            triples += degree[r] * (degree[r] - 1.0) / 2;
+        return triples == 0 ? 0 : 3 * total / triples;
+    }
+
+    private double coefficient(int r)
+    {
+        int d = degree[r];
+        if (d < 2)
+            return 0;
+        return triangles[r] / (d * (d - 1.0) / 2);
+    }
+
+    private int rankOf(V v)
+    {
+        Integer i = vertex_index.get(v);
+        if (i == null)
+            throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+        return orientation.rank[i];
+    }
+
+    /**
+     * The edges of a graph, oriented from lower to higher rank, as sorted
+     * and duplicate-free lists of higher-ranked neighbors indexed by rank.
+     */
+    protected static class Orientation
+    {
+        /** The rank of each vertex index. */
+        protected int[] rank;
+        protected int[] offsets;
+        protected int[] targets;
+
+        /**
+         * Reads the edges of <code>graph</code> once, ranking the vertices
+         * by their number of (non-loop) incident edges.
+         */
+        protected <V,E> Orientation(Graph<V,E> graph, Map<V,Integer> index,
+                ParallelRunner runner)
+        {
+            int n = index.size();
+            int m = graph.getEdgeCount();
+            int[] first = new int[m];
+            int[] second = new int[m];
+            int count = 0;
+            int[] incident = new int[n];
+            for (E e : graph.getEdges())
+            {
+                Pair<V> endpoints = graph.getEndpoints(e);
+                int u = index.get(endpoints.getFirst());
+                int v = index.get(endpoints.getSecond());
+                if (u == v)
+                    continue;
+                first[count] = u;
+                second[count++] = v;
+                incident[u]++;
+                incident[v]++;
+            }
+
+            // rank by incident edge count, breaking ties by index; any
+            // total order gives correct counts, but this one bounds the
+            // number of higher-ranked neighbors
+            double[] keys = new double[n];
+            int[] by_rank = new int[n];
+            for (int i = 0; i < n; i++)
+            {
+                keys[i] = incident[i];
+                by_rank[i] = i;
+            }
+            ParallelSort.sortByKey(keys, by_rank, n, runner);
+            keys = null;
+            rank = new int[n];
+            for (int r = 0; r < n; r++)
+                rank[by_rank[r]] = r;
+
+            final int[] raw_offsets = new int[n + 1];
+            for (int k = 0; k < count; k++)
+                raw_offsets[Math.min(rank[first[k]], rank[second[k]]) + 1]++;
+            for (int r = 0; r < n; r++)
+                raw_offsets[r + 1] += raw_offsets[r];
+            final int[] raw = new int[count];
+            int[] next = incident; // reuse
+            System.arraycopy(raw_offsets, 0, next, 0, n);
+            for (int k = 0; k < count; k++)
+            {
+                int a = rank[first[k]];
+                int b = rank[second[k]];
+                if (a < b)
+                    raw[next[a]++] = b;
+                else
+                    raw[next[b]++] = a;
+            }
+            first = second = next = incident = null;
+
+            // sort each list and remove the duplicates left by parallel edges
+            final int[] distinct = new int[n];
+            runner.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    for (int r = start; r < end; r++)
+                    {
+                        int from = raw_offsets[r];
+                        Arrays.sort(raw, from, raw_offsets[r + 1]);
+                        int kept = 0;
+                        for (int j = from; j < raw_offsets[r + 1]; j++)
+                            if (kept == 0 || raw[from + kept - 1] != raw[j])
+                                raw[from + kept++] = raw[j];
+                        distinct[r] = kept;
+                    }
+                }
+            });
+            offsets = new int[n + 1];
+            for (int r = 0; r < n; r++)
+                offsets[r + 1] = offsets[r] + distinct[r];
+            if (offsets[n] == count)
+                targets = raw;
+            else
+            {
+                targets = new int[offsets[n]];
+                for (int r = 0; r < n; r++)
+                    System.arraycopy(raw, raw_offsets[r], targets, offsets[r], distinct[r]);
+            }
+        }
+
+        /**
+         * Counts the triangles, adding the number at each vertex (by rank) to
+         * <code>counts</code> if it is non-null; returns the total.
+         */
+        protected long count(ParallelRunner runner, final AtomicLongArray counts)
+        {
+            final int n = rank.length;
+            final AtomicLong sum = new AtomicLong();
+            ParallelRunner per_vertex = new ParallelRunner(runner.getThreadCount());
+            // the work per vertex varies widely, so hand out small blocks
+            per_vertex.setMinimumBlockSize(64);
+            per_vertex.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    long found = 0;
+                    for (int u = start; u < end; u++)
+                    {
+                        long at_u = 0;
+                        int u_end = offsets[u + 1];
+                        for (int j = offsets[u]; j < u_end; j++)
+                        {
+                            int v = targets[j];
+                            // merge the higher-ranked neighbors of u and v
+                            long at_v = 0;
+                            int a = j + 1;
+                            int b = offsets[v];
+                            int b_end = offsets[v + 1];
+                            while (a < u_end && b < b_end)
+                            {
+                                int x = targets[a];
+                                int y = targets[b];
+                                if (x < y)
+                                    a++;
+                                else if (y < x)
+                                    b++;
+                                else
+                                {
+                                    if (counts != null)
+                                        counts.incrementAndGet(x);
+                                    at_v++;
+                                    a++;
+                                    b++;
+                                }
+                            }
+                            if (at_v > 0 && counts != null)
+                                counts.addAndGet(v, at_v);
+                            at_u += at_v;
+                        }
+                        if (at_u > 0 && counts != null)
+                            counts.addAndGet(u, at_u);
+                        found += at_u;
+                    }
+                    sum.addAndGet(found);
+                }
+            });
+            return sum.get();
+        }
+    }
+}
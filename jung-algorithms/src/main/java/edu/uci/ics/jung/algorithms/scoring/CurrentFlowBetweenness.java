@@ -0,0 +1,473 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.ConstantTransformer;
+
+import edu.uci.ics.jung.algorithms.matrix.SparseMatrix;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Estimates the current-flow (random-walk) betweenness of each vertex by
+ * sampling source/target pairs.
+ *
+ * <p>The graph is treated as an electrical network in which each edge
+ * (regardless of its direction) is a conductor whose conductance is its
+ * weight.  When a unit of current is injected at <code>s</code> and
+ * extracted at <code>t</code>, the throughput of a vertex is half of the
+ * current passing through its incident edges, or 1 for <code>s</code> and
+ * <code>t</code> themselves; its betweenness is its mean throughput over
+ * all pairs of distinct vertices.  This is the measure computed by
+ * <code>importance.RandomWalkBetweenness</code>, which inverts a dense
+ * |V| x |V| matrix; here, the potentials for each sampled pair are instead
+ * found by solving the sparse Laplacian system
+ * <code>L p = e<sub>s</sub> - e<sub>t</sub></code> by the conjugate gradient
+ * method, in O(|V| + |E|) space and time per iteration.  Pairs are sampled
+ * uniformly (with replacement), grouped by source so that each solve starts
+ * from the solution for the previous target, and divided among several
+ * threads.
+ *
+ * <p>Since each throughput lies in [0, 1], sampling
+ * <code>ln(2|V| / delta) / (2 epsilon<sup>2</sup>)</code> pairs ensures
+ * that with probability at least <code>1 - delta</code> every estimate is
+ * within <code>epsilon</code> of the exact value (see
+ * {@link #setAccuracy(double, double)}).  If that is at least the number of
+ * pairs, every pair is used once and the scores are exact.
+ *
+ * <p>Pairs in different components carry no current and contribute 0 to
+ * every score.
+ *
+ * @see "Mark Newman: A measure of betweenness centrality based on random walks, 2002."
+ * @see "U. Brandes and D. Fleischer: Centrality measures based on current flow, 2005."
+ */
+public class CurrentFlowBetweenness<V,E> implements VertexScorer<V,Double>
+{
+    protected Graph<V,E> graph;
+    protected Transformer<E, ? extends Number> edge_weights;
+    protected int threads;
+    protected double epsilon;
+    protected double delta;
+    protected int sample_count;
+    protected double tolerance;
+    protected int max_iterations;
+    protected Random random;
+
+    protected List<V> vertices;
+    protected Map<V,Double> vertex_scores;
+    protected int pairs_used;
+
+    /**
+     * Creates an instance for <code>graph</code> in which each edge has
+     * unit conductance, using one thread per processor.
+     */
+    @SuppressWarnings("unchecked")
+    public CurrentFlowBetweenness(Graph<V,E> graph)
+    {
+        this(graph, new ConstantTransformer(1), ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance for <code>graph</code> in which the conductance
+     * of each edge is given by <code>edge_weights</code>, using
+     * <code>threads</code> threads.
+     */
+    public CurrentFlowBetweenness(Graph<V,E> graph,
+        Transformer<E, ? extends Number> edge_weights, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.graph = graph;
+        this.edge_weights = edge_weights;
+        this.threads = threads;
+        this.epsilon = 0.05;
+        this.delta = 0.1;
+        this.tolerance = 1e-8;
+        this.max_iterations = 10000;
+        this.random = new Random();
+    }
+
+    /**
+     * Specifies that enough pairs should be sampled that, with probability
+     * at least <code>1 - delta</code>, every score is within
+     * <code>epsilon</code> of its exact value.  Defaults to
+     * <code>epsilon = 0.05, delta = 0.1</code>.
+     */
+    public void setAccuracy(double epsilon, double delta)
+    {
+        if (epsilon <= 0 || delta <= 0 || delta >= 1)
+            throw new IllegalArgumentException("Require epsilon > 0 and 0 < delta < 1");
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.sample_count = 0;
+        this.vertex_scores = null;
+    }
+
+    /**
+     * Specifies the number of pairs to be sampled, overriding the number
+     * derived from the accuracy target.
+     */
+    public void setSampleCount(int sample_count)
+    {
+        if (sample_count < 1)
+            throw new IllegalArgumentException("Sample count must be positive");
+        this.sample_count = sample_count;
+        this.vertex_scores = null;
+    }
+
+    /**
+     * Sets the relative residual at which each linear system is considered
+     * solved.  Defaults to 1e-8.
+     */
+    public void setTolerance(double tolerance)
+    {
+        if (tolerance <= 0)
+            throw new IllegalArgumentException("Tolerance must be positive");
+        this.tolerance = tolerance;
+        this.vertex_scores = null;
+    }
+
+    /**
+     * Sets the seed used to sample pairs.
+     */
+    public void setRandomSeed(long seed)
+    {
+        this.random = new Random(seed);
+        this.vertex_scores = null;
+    }
+
+    /**
+     * Returns the number of pairs used by the most recent evaluation.
+     */
+    public int getPairCount()
+    {
+        return pairs_used;
+    }
+
+    /**
+     * Returns the estimated betweenness of <code>v</code>, evaluating the
+     * scores first if necessary.
+     */
+    public Double getVertexScore(V v)
+    {
+        if (vertex_scores == null)
+            evaluate();
+        return vertex_scores.get(v);
+    }
+
+    /**
+     * Computes the scores of all vertices.
+     */
+    public void evaluate()
+    {
+        vertices = new ArrayList<V>(graph.getVertices());
+        final int n = vertices.size();
+        vertex_scores = new HashMap<V,Double>();
+        pairs_used = 0;
+        if (n < 2)
+        {
+            for (V v : vertices)
+                vertex_scores.put(v, 0.0);
+            return;
+        }
+        final SparseMatrix laplacian = buildLaplacian();
+        final int[] component = components(laplacian);
+        final double[] inverse_diagonal = new double[n];
+        for (int i = 0; i < n; i++)
+        {
+            int k = laplacian.find(i, i);
+            inverse_diagonal[i] = k >= 0 ? 1 / laplacian.getValues()[k] : 0;
+        }
+
+        // choose the pairs, sorted by source
+        long total_pairs = (long)n * (n - 1) / 2;
+        long samples = sample_count > 0 ? sample_count
+            : (long)Math.ceil(Math.log(2 * n / delta) / (2 * epsilon * epsilon));
+        int count = (int)Math.min(samples, total_pairs);
+        final int[] sources = new int[count];
+        final int[] targets = new int[count];
+        if (count == total_pairs)
+        {
+            int k = 0;
+            for (int s = 0; s < n; s++)
+            {
+                for (int t = s + 1; t < n; t++)
+                {
+                    sources[k] = s;
+                    targets[k++] = t;
+                }
+            }
+        }
+        else
+        {
+            // sample with replacement, then sort by source (counting sort)
+            int[] s_sample = new int[count];
+            int[] t_sample = new int[count];
+            int[] offsets = new int[n + 1];
+            for (int k = 0; k < count; k++)
+            {
+                int s = random.nextInt(n);
+                int t = random.nextInt(n - 1);
+                if (t >= s)
+                    t++;
+                s_sample[k] = s;
+                t_sample[k] = t;
+                offsets[s + 1]++;
+            }
+            for (int i = 0; i < n; i++)
+                offsets[i + 1] += offsets[i];
+            for (int k = 0; k < count; k++)
+            {
+                int pos = offsets[s_sample[k]]++;
+                sources[pos] = s_sample[k];
+                targets[pos] = t_sample[k];
+            }
+        }
+        pairs_used = count;
+
+        final double[] totals = new double[n];
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.setMinimumBlockSize(4);
+        runner.run(count, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                Workspace workspace = new Workspace(n);
+                double[] potentials = new double[n];
+                double[] throughput = new double[n];
+                int previous_source = -1;
+                for (int k = start; k < end; k++)
+                {
+                    int s = sources[k];
+                    int t = targets[k];
+                    if (component[s] != component[t])
+                        continue;
+                    // warm start from the solution for the previous target
+                    // of the same source
+                    if (s != previous_source)
+                        Arrays.fill(potentials, 0);
+                    previous_source = s;
+                    solve(laplacian, inverse_diagonal, s, t, potentials, workspace);
+                    addThroughput(laplacian, s, t, potentials, throughput);
+                }
+                synchronized (totals)
+                {
+                    for (int i = 0; i < n; i++)
+                        totals[i] += throughput[i];
+                }
+            }
+        });
+
+        for (int i = 0; i < n; i++)
+            vertex_scores.put(vertices.get(i), totals[i] / count);
+    }
+
+    /**
+     * Returns the weighted Laplacian of the graph, with edge directions
+     * ignored and self-loops omitted.
+     */
+    private SparseMatrix buildLaplacian()
+    {
+        int n = vertices.size();
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            index.put(vertices.get(i), i);
+        int m = graph.getEdgeCount();
+        int[] row = new int[4 * m];
+        int[] column = new int[4 * m];
+        double[] value = new double[4 * m];
+        int count = 0;
+        for (E e : graph.getEdges())
+        {
+            Pair<V> endpoints = graph.getEndpoints(e);
+            int a = index.get(endpoints.getFirst());
+            int b = index.get(endpoints.getSecond());
+            double w = edge_weights.transform(e).doubleValue();
+            if (w < 0)
+                throw new IllegalArgumentException("Edge weights must be non-negative");
+            if (a == b || w == 0)
+                continue;
+            row[count] = a; column[count] = a; value[count++] = w;
+            row[count] = b; column[count] = b; value[count++] = w;
+            row[count] = a; column[count] = b; value[count++] = -w;
+            row[count] = b; column[count] = a; value[count++] = -w;
+        }
+        return new SparseMatrix(n, n, row, column, value, count);
+    }
+
+    /**
+     * Returns the index of the connected component of each vertex.
+     */
+    private static int[] components(SparseMatrix laplacian)
+    {
+        int n = laplacian.rows();
+        int[] offsets = laplacian.getRowOffsets();
+        int[] columns = laplacian.getColumnIndices();
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int[] queue = new int[n];
+        for (int root = 0; root < n; root++)
+        {
+            if (component[root] >= 0)
+                continue;
+            int tail = 0;
+            component[root] = root;
+            queue[tail++] = root;
+            for (int head = 0; head < tail; head++)
+            {
+                int u = queue[head];
+                for (int k = offsets[u]; k < offsets[u + 1]; k++)
+                {
+                    if (component[columns[k]] < 0)
+                    {
+                        component[columns[k]] = root;
+                        queue[tail++] = columns[k];
+                    }
+                }
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Work arrays for one thread's solves.
+     */
+    private static class Workspace
+    {
+        double[] r;
+        double[] z;
+        double[] p;
+        double[] q;
+
+        Workspace(int n)
+        {
+            r = new double[n];
+            z = new double[n];
+            p = new double[n];
+            q = new double[n];
+        }
+    }
+
+    /**
+     * Solves <code>L x = e_s - e_t</code>, starting from the contents of
+     * <code>x</code>, by the conjugate gradient method with a Jacobi
+     * preconditioner.  The system is singular but consistent (since
+     * <code>s</code> and <code>t</code> are connected), and the solution is
+     * determined up to a constant on each component, which does not affect
+     * the current.
+     */
+    private void solve(SparseMatrix L, double[] inverse_diagonal, int s, int t, double[] x,
+        Workspace workspace)
+    {
+        int n = L.rows();
+        int[] offsets = L.getRowOffsets();
+        int[] columns = L.getColumnIndices();
+        double[] values = L.getValues();
+        double[] r = workspace.r;
+        double[] z = workspace.z;
+        double[] p = workspace.p;
+        double[] q = workspace.q;
+
+        multiply(offsets, columns, values, x, r);
+        for (int i = 0; i < n; i++)
+            r[i] = -r[i];
+        r[s] += 1;
+        r[t] -= 1;
+        double b_norm = Math.sqrt(2);
+        double rz = 0;
+        for (int i = 0; i < n; i++)
+        {
+            z[i] = inverse_diagonal[i] * r[i];
+            p[i] = z[i];
+            rz += r[i] * z[i];
+        }
+        for (int iteration = 0; iteration < max_iterations; iteration++)
+        {
+            if (Math.sqrt(dot(r, r)) <= tolerance * b_norm)
+                break;
+            multiply(offsets, columns, values, p, q);
+            double pq = dot(p, q);
+            if (pq <= 0)
+                break;
+            double alpha = rz / pq;
+            for (int i = 0; i < n; i++)
+            {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * q[i];
+            }
+            double rz_next = 0;
+            for (int i = 0; i < n; i++)
+            {
+                z[i] = inverse_diagonal[i] * r[i];
+                rz_next += r[i] * z[i];
+            }
+            double beta = rz_next / rz;
+            rz = rz_next;
+            for (int i = 0; i < n; i++)
+                p[i] = z[i] + beta * p[i];
+        }
+    }
+
+    /**
+     * Adds to <code>throughput</code> the throughput of each vertex for the
+     * pair <code>(s, t)</code> whose potentials are <code>x</code>.
+     */
+    private static void addThroughput(SparseMatrix L, int s, int t, double[] x,
+        double[] throughput)
+    {
+        int[] offsets = L.getRowOffsets();
+        int[] columns = L.getColumnIndices();
+        double[] values = L.getValues();
+        for (int v = 0; v < L.rows(); v++)
+        {
+            if (v == s || v == t)
+            {
+                throughput[v] += 1;
+                continue;
+            }
+            double current = 0;
+            for (int k = offsets[v]; k < offsets[v + 1]; k++)
+                if (columns[k] != v)
+                    current -= values[k] * Math.abs(x[v] - x[columns[k]]);
+            throughput[v] += current / 2;
+        }
+    }
+
+    private static void multiply(int[] offsets, int[] columns, double[] values,
+        double[] in, double[] out)
+    {
+        for (int i = 0; i < out.length; i++)
+        {
+            double sum = 0;
+            for (int k = offsets[i]; k < offsets[i + 1]; k++)
+                sum += values[k] * in[columns[k]];
+            out[i] = sum;
+        }
+    }
+
+    private static double dot(double[] a, double[] b)
+    {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+}
@@ -18,7 +18,7 @@ import org.apache.commons.collections15.Transformer;
 
 import edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance;
 import edu.uci.ics.jung.algorithms.shortestpath.Distance;
-import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
+import edu.uci.ics.jung.algorithms.shortestpath.MultiSourceBFS;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
@@ -158,6 +158,8 @@ public class DistanceCentralityScorer<V,E> implements VertexScorer<V, Double>
     /**
      * Creates an instance with the specified graph and averaging behavior
      * whose vertex distances are calculated on the unweighted graph.  
+     * The distances are computed by a <code>MultiSourceBFS</code>, which
+     * searches from a batch of vertices at once.
      * 
      * @param graph         The graph on which the vertex scores are to be 
      * calculated.
@@ -171,7 +173,7 @@ public class DistanceCentralityScorer<V,E> implements VertexScorer<V, Double>
     public DistanceCentralityScorer(Hypergraph<V,E> graph, boolean averaging,
             boolean ignore_missing, boolean ignore_self_distances)
     {
-        this(graph, new UnweightedShortestPath<V,E>(graph), averaging, 
+        this(graph, new MultiSourceBFS<V,E>(graph), averaging, 
         	ignore_missing, ignore_self_distances);
     }
 
@@ -184,7 +186,7 @@ public class DistanceCentralityScorer<V,E> implements VertexScorer<V, Double>
      */
     public DistanceCentralityScorer(Hypergraph<V,E> graph, boolean averaging)
     {
-        this(graph, new UnweightedShortestPath<V,E>(graph), averaging, true, true);
+        this(graph, new MultiSourceBFS<V,E>(graph), averaging, true, true);
     }
 
 	/**
@@ -45,6 +45,13 @@ import edu.uci.ics.jung.graph.Hypergraph;
  * but only flows along directed edges in the direction of the edge.
  * </ul>
  * </p> 
+ * 
+ * <p><code>evaluate()</code> approximates the voltages by repeated averaging,
+ * which may converge slowly on large graphs; <code>solve()</code> instead 
+ * solves the linear system that they satisfy, using a 
+ * <code>VoltageSolver</code>.</p>
+ * 
+ * @see VoltageSolver
  */
 public class VoltageScorer<V, E> extends AbstractIterativeScorer<V, E, Double>
         implements VertexScorer<V, Double>
@@ -195,6 +202,20 @@ public class VoltageScorer<V, E> extends AbstractIterativeScorer<V, E, Double>
         }
     }
     
+    /**
+     * Computes the voltages by solving the linear system that they satisfy,
+     * rather than by the repeated averaging of <code>evaluate()</code>.
+     * Hyperedges are not treated as self-loops.
+     * @see VoltageSolver
+     */
+    public void solve()
+    {
+        initialize();
+        VoltageSolver<V,E> solver = new VoltageSolver<V,E>(graph, edge_weights);
+        for (Map.Entry<V, Double> entry : solver.solve(source_voltages, sinks).entrySet())
+            setOutputValue(entry.getKey(), entry.getValue());
+    }
+
     /**
      * @see edu.uci.ics.jung.algorithms.scoring.AbstractIterativeScorer#update(Object)
      */
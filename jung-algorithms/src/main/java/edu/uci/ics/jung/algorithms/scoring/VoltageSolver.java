@@ -0,0 +1,509 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.scoring.util.UniformDegreeWeight;
+import edu.uci.ics.jung.algorithms.scoring.util.VEPair;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * Computes the same voltages as <code>VoltageScorer</code>, by solving the
+ * linear system which they satisfy rather than by repeated averaging.  Each
+ * vertex which is neither a source nor a sink has as its voltage the
+ * weighted average of the voltages of the vertices from which its in-edges
+ * come, so the voltages of these vertices are the solution of a (weighted)
+ * Laplacian system in which the sources and sinks supply the constant terms.
+ *
+ * <p>The matrix is built once, in compressed sparse row form, and may then
+ * be used to solve for any number of source and sink sets.  If it is
+ * symmetric (as it is for undirected graphs whose edge weights do not
+ * depend on the incident vertex), each system is solved by the conjugate
+ * gradient method with a Jacobi (diagonal) preconditioner; otherwise, the
+ * same preconditioner is used with the stabilized biconjugate gradient
+ * method, its generalization to unsymmetric systems.
+ * {@link #solve(List, List, int)} solves for many source/sink pairs at
+ * once, divided among several threads.
+ *
+ * <p>A vertex none of whose in-edges has a nonzero weight is assigned a
+ * voltage of 0, as by <code>VoltageScorer</code>.  Hyperedges are not
+ * treated as self-loops.
+ *
+ * @see VoltageScorer
+ * @see "Methods of conjugate gradients for solving linear systems by M. R. Hestenes and E. Stiefel (1952), J. Res. Nat. Bur. Standards"
+ * @see "Bi-CGSTAB: a fast and smoothly converging variant of Bi-CG for the solution of nonsymmetric linear systems by H. A. van der Vorst (1992), SIAM J. Sci. Stat. Comput."
+ */
+public class VoltageSolver<V,E>
+{
+    protected List<V> vertices;
+    protected Map<V,Integer> vertex_index;
+    protected int n;
+
+    /** The weight of each in-neighbor, by row, with columns sorted. */
+    protected int[] offsets;
+    protected int[] columns;
+    protected double[] values;
+    /** The sum of the weights in each row. */
+    protected double[] diagonal;
+    protected boolean symmetric;
+
+    protected double tolerance;
+    protected int max_iterations;
+
+    /**
+     * Creates an instance for <code>graph</code> which uses the edge weights
+     * that <code>VoltageScorer</code> uses by default: the outgoing edges
+     * of each vertex are assigned weights that sum to 1.
+     * @see UniformDegreeWeight
+     */
+    public VoltageSolver(Hypergraph<V,E> graph)
+    {
+        this(graph, new UniformDegreeWeight<V,E>(graph));
+    }
+
+    /**
+     * Creates an instance for <code>graph</code> with the specified edge
+     * weights, which represent conductivity.
+     * @param graph the input graph
+     * @param edge_weights the weight of each edge, in the context of the
+     * vertex from which current flows along it
+     */
+    public VoltageSolver(Hypergraph<V,E> graph,
+            Transformer<VEPair<V,E>, ? extends Number> edge_weights)
+    {
+        this.tolerance = 1e-10;
+        this.max_iterations = 10000;
+        vertices = new ArrayList<V>(graph.getVertices());
+        n = vertices.size();
+        vertex_index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            vertex_index.put(vertices.get(i), i);
+
+        offsets = new int[n + 1];
+        diagonal = new double[n];
+        int capacity = 16;
+        columns = new int[capacity];
+        values = new double[capacity];
+        // a scatter array for merging parallel edges
+        double[] row = new double[n];
+        boolean[] present = new boolean[n];
+        int[] touched = new int[n];
+        int k = 0;
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertices.get(i);
+            int count = 0;
+            for (E e : graph.getInEdges(v))
+            {
+                int incident_count = graph.getIncidentCount(e) - 1;
+                for (V w : graph.getIncidentVertices(e))
+                {
+                    if (w.equals(v))
+                        continue;
+                    int j = vertex_index.get(w);
+                    if (!present[j])
+                    {
+                        present[j] = true;
+                        touched[count++] = j;
+                    }
+                    row[j] += edge_weights.transform(new VEPair<V,E>(w, e)).doubleValue()
+                        / incident_count;
+                }
+            }
+            Arrays.sort(touched, 0, count);
+            if (k + count > capacity)
+            {
+                capacity = Math.max(capacity * 2, k + count);
+                columns = copy(columns, k, capacity);
+                values = copy(values, k, capacity);
+            }
+            for (int c = 0; c < count; c++)
+            {
+                int j = touched[c];
+                columns[k] = j;
+                values[k++] = row[j];
+                diagonal[i] += row[j];
+                row[j] = 0;
+                present[j] = false;
+            }
+            offsets[i + 1] = k;
+        }
+
+        symmetric = true;
+        for (int i = 0; i < n && symmetric; i++)
+        {
+            for (int p = offsets[i]; p < offsets[i + 1]; p++)
+            {
+                int j = columns[p];
+                int q = Arrays.binarySearch(columns, offsets[j], offsets[j + 1], i);
+                if (values[p] < 0 || q < 0 || values[q] != values[p])
+                {
+                    symmetric = false;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int[] copy(int[] array, int length, int capacity)
+    {
+        int[] result = new int[capacity];
+        System.arraycopy(array, 0, result, 0, length);
+        return result;
+    }
+
+    private static double[] copy(double[] array, int length, int capacity)
+    {
+        double[] result = new double[capacity];
+        System.arraycopy(array, 0, result, 0, length);
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the system is symmetric, and is thus
+     * solved by the conjugate gradient method.
+     */
+    public boolean isSymmetric()
+    {
+        return symmetric;
+    }
+
+    /**
+     * Sets the tolerance: a system is considered solved once the norm of
+     * its residual is at most this fraction of the norm of its constant
+     * terms.  Defaults to 1e-10.
+     */
+    public void setTolerance(double tolerance)
+    {
+        if (tolerance <= 0)
+            throw new IllegalArgumentException("Tolerance must be positive");
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Sets the maximum number of iterations used to solve each system;
+     * the best solution found so far is returned if it is reached.
+     * Defaults to 10000.
+     */
+    public void setMaxIterations(int max_iterations)
+    {
+        if (max_iterations < 1)
+            throw new IllegalArgumentException("Maximum iterations must be positive");
+        this.max_iterations = max_iterations;
+    }
+
+    /**
+     * Returns the index of <code>v</code> in the arrays returned by
+     * {@link #solve(List, List, int)}.
+     */
+    public int getIndex(V v)
+    {
+        Integer i = vertex_index.get(v);
+        if (i == null)
+            throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+        return i;
+    }
+
+    /**
+     * Returns the voltage of each vertex when the voltage of each source is
+     * tied to the specified value, and the voltage of each sink is tied to 0.
+     */
+    public Map<V,Double> solve(Map<V, ? extends Number> source_voltages, Collection<V> sinks)
+    {
+        if (source_voltages.isEmpty() || sinks.isEmpty())
+            throw new IllegalArgumentException("Both sources and sinks (grounds) must be defined");
+        boolean[] fixed = new boolean[n];
+        double[] x = new double[n];
+        for (V v : sinks)
+            fixed[getIndex(v)] = true;
+        for (Map.Entry<V, ? extends Number> entry : source_voltages.entrySet())
+        {
+            int i = getIndex(entry.getKey());
+            if (fixed[i])
+                throw new IllegalArgumentException("Vertex " + entry.getKey() +
+                        " is incorrectly specified as both source and sink");
+            fixed[i] = true;
+            x[i] = entry.getValue().doubleValue();
+        }
+        solve(fixed, x, new Workspace());
+        Map<V,Double> voltages = new HashMap<V,Double>();
+        for (int i = 0; i < n; i++)
+            voltages.put(vertices.get(i), x[i]);
+        return voltages;
+    }
+
+    /**
+     * Returns, for each <code>i</code>, the voltage of each vertex (by
+     * index) when the voltage of <code>sources.get(i)</code> is tied to 1
+     * and that of <code>sinks.get(i)</code> is tied to 0.  The systems are
+     * divided among <code>threads</code> threads.
+     * @see #getIndex(Object)
+     */
+    public double[][] solve(List<V> sources, List<V> sinks, int threads)
+    {
+        if (sources.size() != sinks.size())
+            throw new IllegalArgumentException("Each source must have a sink");
+        final int count = sources.size();
+        final int[] source = new int[count];
+        final int[] sink = new int[count];
+        for (int p = 0; p < count; p++)
+        {
+            source[p] = getIndex(sources.get(p));
+            sink[p] = getIndex(sinks.get(p));
+            if (source[p] == sink[p])
+                throw new IllegalArgumentException("Vertex " + sources.get(p) +
+                        " is incorrectly specified as both source and sink");
+        }
+        final double[][] voltages = new double[count][];
+        ParallelRunner runner = new ParallelRunner(threads);
+        runner.setMinimumBlockSize(1);
+        runner.run(count, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                Workspace workspace = new Workspace();
+                boolean[] fixed = new boolean[n];
+                for (int p = start; p < end; p++)
+                {
+                    double[] x = new double[n];
+                    fixed[source[p]] = fixed[sink[p]] = true;
+                    x[source[p]] = 1;
+                    solve(fixed, x, workspace);
+                    fixed[source[p]] = fixed[sink[p]] = false;
+                    voltages[p] = x;
+                }
+            }
+        });
+        return voltages;
+    }
+
+    /**
+     * The vectors used by one solution; each thread has its own.
+     */
+    protected class Workspace
+    {
+        protected double[] r = new double[n];
+        protected double[] r_hat = new double[n];
+        protected double[] p = new double[n];
+        protected double[] v = new double[n];
+        protected double[] y = new double[n];
+        protected double[] z = new double[n];
+        protected double[] t = new double[n];
+        protected boolean[] free = new boolean[n];
+    }
+
+    /**
+     * Solves for the voltages of the vertices which are not
+     * <code>fixed</code>, whose initial values in <code>x</code> must be 0,
+     * given those of the vertices which are.
+     */
+    protected void solve(boolean[] fixed, double[] x, Workspace workspace)
+    {
+        boolean[] free = workspace.free;
+        double[] b = workspace.r;
+        for (int i = 0; i < n; i++)
+        {
+            // a vertex with no weighted in-edges stays at 0
+            free[i] = !fixed[i] && diagonal[i] != 0;
+            b[i] = 0;
+            if (!free[i])
+                continue;
+            for (int q = offsets[i]; q < offsets[i + 1]; q++)
+                if (!free(fixed, columns[q]))
+                    b[i] += values[q] * x[columns[q]];
+        }
+        if (symmetric)
+            conjugateGradient(x, workspace);
+        else
+            biconjugateGradient(x, workspace);
+    }
+
+    private boolean free(boolean[] fixed, int j)
+    {
+        return !fixed[j] && diagonal[j] != 0;
+    }
+
+    /**
+     * Sets <code>out</code> to the product of the matrix, restricted to the
+     * free vertices, and <code>in</code>.
+     */
+    private void multiply(boolean[] free, double[] in, double[] out)
+    {
+        for (int i = 0; i < n; i++)
+        {
+            if (!free[i])
+            {
+                out[i] = 0;
+                continue;
+            }
+            double sum = diagonal[i] * in[i];
+            for (int q = offsets[i]; q < offsets[i + 1]; q++)
+            {
+                int j = columns[q];
+                if (free[j])
+                    sum -= values[q] * in[j];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /**
+     * Sets <code>out</code> to the Jacobi preconditioner applied to
+     * <code>in</code>.
+     */
+    private void precondition(boolean[] free, double[] in, double[] out)
+    {
+        for (int i = 0; i < n; i++)
+            out[i] = free[i] ? in[i] / diagonal[i] : 0;
+    }
+
+    private double dot(double[] a, double[] b)
+    {
+        double sum = 0;
+        for (int i = 0; i < n; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+
+    /**
+     * Solves the system, whose constant terms are in <code>workspace.r</code>
+     * (which is the residual of the initial solution, 0), by the
+     * preconditioned conjugate gradient method.
+     */
+    private void conjugateGradient(double[] x, Workspace workspace)
+    {
+        boolean[] free = workspace.free;
+        double[] r = workspace.r;
+        double[] z = workspace.z;
+        double[] p = workspace.p;
+        double[] q = workspace.v;
+        double threshold = tolerance * tolerance * dot(r, r);
+        if (threshold == 0)
+            return;
+        precondition(free, r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rho = dot(r, z);
+        for (int iteration = 0; iteration < max_iterations; iteration++)
+        {
+            multiply(free, p, q);
+            double pq = dot(p, q);
+            if (pq <= 0)
+                return;
+            double alpha = rho / pq;
+            for (int i = 0; i < n; i++)
+            {
+                if (!free[i])
+                    continue;
+                x[i] += alpha * p[i];
+                r[i] -= alpha * q[i];
+            }
+            if (dot(r, r) <= threshold)
+                return;
+            precondition(free, r, z);
+            double rho_next = dot(r, z);
+            double beta = rho_next / rho;
+            rho = rho_next;
+            for (int i = 0; i < n; i++)
+                p[i] = z[i] + beta * p[i];
+        }
+    }
+
+    /**
+     * Solves the system, whose constant terms are in <code>workspace.r</code>
+     * (which is the residual of the initial solution, 0), by the
+     * preconditioned stabilized biconjugate gradient method.
+     */
+    private void biconjugateGradient(double[] x, Workspace workspace)
+    {
+        boolean[] free = workspace.free;
+        double[] r = workspace.r;
+        double[] r_hat = workspace.r_hat;
+        double[] p = workspace.p;
+        double[] v = workspace.v;
+        double[] y = workspace.y;
+        double[] z = workspace.z;
+        double[] t = workspace.t;
+        double threshold = tolerance * tolerance * dot(r, r);
+        if (threshold == 0)
+            return;
+        boolean restart = true;
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+        for (int iteration = 0; iteration < max_iterations; iteration++)
+        {
+            if (restart)
+            {
+                // (re)start with the current residual as the shadow residual
+                System.arraycopy(r, 0, r_hat, 0, n);
+                Arrays.fill(p, 0);
+                Arrays.fill(v, 0);
+                rho = alpha = omega = 1;
+                restart = false;
+            }
+            double rho_next = dot(r_hat, r);
+            if (rho_next == 0)
+            {
+                restart = true;
+                continue;
+            }
+            double beta = (rho_next / rho) * (alpha / omega);
+            rho = rho_next;
+            for (int i = 0; i < n; i++)
+                p[i] = r[i] + beta * (p[i] - omega * v[i]);
+            precondition(free, p, y);
+            multiply(free, y, v);
+            double denominator = dot(r_hat, v);
+            if (denominator == 0)
+            {
+                restart = true;
+                continue;
+            }
+            alpha = rho / denominator;
+            // s = r - alpha v, stored in r
+            for (int i = 0; i < n; i++)
+            {
+                x[i] += alpha * y[i];
+                r[i] -= alpha * v[i];
+            }
+            if (dot(r, r) <= threshold)
+                return;
+            precondition(free, r, z);
+            multiply(free, z, t);
+            double tt = dot(t, t);
+            if (tt == 0)
+            {
+                restart = true;
+                continue;
+            }
+            omega = dot(t, r) / tt;
+            for (int i = 0; i < n; i++)
+            {
+                x[i] += omega * z[i];
+                r[i] -= omega * t[i];
+            }
+            if (dot(r, r) <= threshold)
+                return;
+            if (omega == 0)
+                restart = true;
+        }
+    }
+}
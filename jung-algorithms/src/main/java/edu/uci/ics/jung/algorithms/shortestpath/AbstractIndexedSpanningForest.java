@@ -0,0 +1,160 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Forest;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+/**
+ * Common infrastructure for minimum spanning forest algorithms which work
+ * on primitive arrays: the endpoints and weight of each edge are copied into
+ * <code>int</code> and <code>double</code> arrays indexed by edge, and the
+ * edges selected by the algorithm are added to the output
+ * <code>Forest</code>, each tree rooted at the first of its vertices in the
+ * iteration order of <code>graph.getVertices()</code> and its edges directed
+ * away from the root.
+ *
+ * <p>Edge directions are ignored: the result is a minimum spanning forest of
+ * the underlying undirected graph.  Self-loops are never selected.  Ties
+ * between equal weights are broken by edge iteration order, so every
+ * subclass produces the same forest for the same input.
+ *
+ * @see MinimumSpanningForest2
+ */
+public abstract class AbstractIndexedSpanningForest<V,E>
+{
+    protected Graph<V,E> graph;
+    protected Forest<V,E> forest;
+    protected ParallelRunner runner;
+
+    protected List<V> vertices;
+    protected List<E> edges;
+    protected int[] sources;
+    protected int[] targets;
+    protected double[] weights;
+
+    /**
+     * Copies the structure and edge weights of <code>graph</code> into arrays.
+     * @param graph the graph whose minimum spanning forest is to be found
+     * @param forest the forest to populate; must be empty
+     * @param edge_weights the edge weights; if null, all weights are 1
+     * @param threads the number of threads to use
+     */
+    protected AbstractIndexedSpanningForest(Graph<V,E> graph, Forest<V,E> forest,
+            Transformer<E, ? extends Number> edge_weights, int threads)
+    {
+        if (forest.getVertexCount() != 0)
+            throw new IllegalArgumentException("Supplied Forest must be empty");
+        this.graph = graph;
+        this.forest = forest;
+        this.runner = new ParallelRunner(threads);
+
+        this.vertices = new ArrayList<V>(graph.getVertices());
+        Map<V,Integer> index = new HashMap<V,Integer>();
+        for (int i = 0; i < vertices.size(); i++)
+            index.put(vertices.get(i), i);
+        this.edges = new ArrayList<E>(graph.getEdges());
+        int m = edges.size();
+        this.sources = new int[m];
+        this.targets = new int[m];
+        this.weights = new double[m];
+        for (int i = 0; i < m; i++)
+        {
+            E e = edges.get(i);
+            Pair<V> endpoints = graph.getEndpoints(e);
+            sources[i] = index.get(endpoints.getFirst());
+            targets[i] = index.get(endpoints.getSecond());
+            weights[i] = edge_weights == null ? 1.0 :
+                edge_weights.transform(e).doubleValue();
+        }
+    }
+
+    /**
+     * Adds the vertices of the graph, and the edges whose indices are the
+     * first <code>count</code> elements of <code>selected</code>, to the forest.
+     */
+    protected void buildForest(int[] selected, int count)
+    {
+        int n = vertices.size();
+        // adjacency lists of the selected edges, in CSR form
+        int[] offsets = new int[n + 1];
+        for (int k = 0; k < count; k++)
+        {
+            offsets[sources[selected[k]] + 1]++;
+            offsets[targets[selected[k]] + 1]++;
+        }
+        for (int i = 0; i < n; i++)
+            offsets[i + 1] += offsets[i];
+        int[] adjacent = new int[2 * count];
+        int[] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (int k = 0; k < count; k++)
+        {
+            int e = selected[k];
+            adjacent[next[sources[e]]++] = e;
+            adjacent[next[targets[e]]++] = e;
+        }
+
+        boolean[] added = new boolean[n];
+        int[] queue = new int[n];
+        for (int root = 0; root < n; root++)
+        {
+            if (added[root])
+                continue;
+            added[root] = true;
+            forest.addVertex(vertices.get(root));
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail)
+            {
+                int v = queue[head++];
+                for (int j = offsets[v]; j < offsets[v + 1]; j++)
+                {
+                    int e = adjacent[j];
+                    int w = sources[e] == v ? targets[e] : sources[e];
+                    if (added[w])
+                        continue;
+                    added[w] = true;
+                    forest.addEdge(edges.get(e), vertices.get(v), vertices.get(w));
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if edge <code>e</code> is lighter than edge
+     * <code>f</code> (breaking ties by index).
+     */
+    protected final boolean lighter(int e, int f)
+    {
+        return weights[e] < weights[f] || (weights[e] == weights[f] && e < f);
+    }
+
+    /**
+     * Returns the generated forest.
+     */
+    public Forest<V,E> getForest()
+    {
+        return forest;
+    }
+}
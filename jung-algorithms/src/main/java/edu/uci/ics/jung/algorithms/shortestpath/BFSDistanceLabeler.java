@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
@@ -35,6 +36,7 @@ public class BFSDistanceLabeler<V, E> {
     private Set<V> mUnvisitedVertices;
     private List<V> mVerticesInOrderVisited;
     private Map<V,HashSet<V>> mPredecessorMap;
+    private DirectionOptimizingBFS<V,E> mBFS;
 
 	/**
 	 * Creates a new BFS labeler for the specified graph and root set
@@ -44,6 +46,23 @@ public class BFSDistanceLabeler<V, E> {
 		mPredecessorMap = new HashMap<V,HashSet<V>>();
 	}
 
+	/**
+	 * Creates a new BFS labeler which uses <code>bfs</code> to compute the
+	 * distances whenever it is asked to label the graph that <code>bfs</code>
+	 * searches.  This avoids the per-vertex hash lookups of the default 
+	 * traversal, and allows the search to run bottom-up on levels where 
+	 * that examines fewer edges; it is worthwhile when the same graph is 
+	 * to be labeled repeatedly.  If the graph's vertex or edge count no 
+	 * longer matches the snapshot that <code>bfs</code> searches, the 
+	 * default traversal is used instead.
+	 * @param bfs the search kernel to use
+	 * @see DirectionOptimizingBFS
+	 */
+	public BFSDistanceLabeler(DirectionOptimizingBFS<V,E> bfs) {
+		this();
+		mBFS = bfs;
+	}
+
     /**
      * Returns the list of vertices visited in order of traversal
      * @return the list of vertices
@@ -115,6 +134,12 @@ public class BFSDistanceLabeler<V, E> {
 
         initialize(graph,rootSet);
 
+        if (mBFS != null && mBFS.getIndexedGraph().getGraph() == graph && 
+                mBFS.getIndexedGraph().isCurrent()) {
+            labelDistances(mBFS.getIndexedGraph(), rootSet);
+            return;
+        }
+
         int distance = 1;
         while (true) {
             List<V> newList = new ArrayList<V>();
@@ -135,6 +160,53 @@ public class BFSDistanceLabeler<V, E> {
         }
     }
 
+    private void labelDistances(IndexedGraph<V,E> indexed, Set<V> rootSet) {
+        List<Integer> roots = new ArrayList<Integer>();
+        for (V v : rootSet) {
+            int i = indexed.getIndex(v);
+            if (i >= 0)
+                roots.add(i);
+        }
+        int[] rootIndices = new int[roots.size()];
+        for (int k = 0; k < rootIndices.length; k++)
+            rootIndices[k] = roots.get(k);
+        int[] distances = mBFS.getDistances(rootIndices);
+
+        // order the reached vertices by distance (the roots are already
+        // in the list)
+        int maxDistance = 0;
+        for (int d : distances)
+            maxDistance = Math.max(maxDistance, d);
+        int[] levelStart = new int[maxDistance + 2];
+        for (int d : distances)
+            if (d > 0)
+                levelStart[d + 1]++;
+        for (int d = 1; d <= maxDistance; d++)
+            levelStart[d + 1] += levelStart[d];
+        int[] order = new int[levelStart[maxDistance + 1]];
+        for (int i = 0; i < distances.length; i++)
+            if (distances[i] > 0)
+                order[levelStart[distances[i]]++] = i;
+
+        int[] inOffsets = indexed.getInOffsets();
+        int[] inSources = indexed.getInSources();
+        for (int i : order) {
+            V v = indexed.getVertex(i);
+            int distance = distances[i];
+            distanceDecorator.put(v, new Integer(distance));
+            mVerticesInOrderVisited.add(v);
+            mUnvisitedVertices.remove(v);
+            for (int j = inOffsets[i]; j < inOffsets[i + 1]; j++) {
+                if (distances[inSources[j]] == distance - 1)
+                    addPredecessor(indexed.getVertex(inSources[j]), v);
+            }
+        }
+
+        for(V v : mUnvisitedVertices) {
+            distanceDecorator.put(v,new Integer(-1));
+        }
+    }
+
     /**
      * Computes the distances of all the node from the specified root node. Also keeps track
      * of the predecessors of each node traversed as well as the order of nodes traversed.
@@ -0,0 +1,188 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.algorithms.util.UnionFind;
+import edu.uci.ics.jung.graph.Forest;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * For the input Graph, creates a minimum spanning forest using
+ * Bor&#367;vka's algorithm, with the edge scans performed in parallel.
+ * In each round, every component of the forest built so far selects the
+ * lightest edge leaving it (the threads scanning the edges record their
+ * candidates with compare-and-set operations), all of the selected edges
+ * are added to the forest, and the edges which now lie within a single
+ * component are discarded.  Each round at least halves the number of
+ * components, so there are at most log<sub>2</sub> |V| rounds.
+ *
+ * <p>Running time: O(|E| log |V|) total work, divided among the threads.
+ *
+ * @see AbstractIndexedSpanningForest
+ * @see KruskalMinimumSpanningForest
+ */
+public class BoruvkaMinimumSpanningForest<V,E> extends AbstractIndexedSpanningForest<V,E>
+{
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * a new forest obtained from <code>factory</code>.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param factory the factory to use to create the new forest
+     * @param weights edge weights; if null, all weights are 1
+     */
+    public BoruvkaMinimumSpanningForest(Graph<V,E> graph,
+            Factory<Forest<V,E>> factory, Transformer<E, ? extends Number> weights)
+    {
+        this(graph, factory.create(), weights);
+    }
+
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * the supplied forest, which must be empty.  Uses one thread per
+     * available processor.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param forest the forest to populate; must be empty
+     * @param weights edge weights; if null, all weights are 1
+     */
+    public BoruvkaMinimumSpanningForest(Graph<V,E> graph, Forest<V,E> forest,
+            Transformer<E, ? extends Number> weights)
+    {
+        this(graph, forest, weights, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * the supplied forest, which must be empty.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param forest the forest to populate; must be empty
+     * @param weights edge weights; if null, all weights are 1
+     * @param threads the number of threads to use
+     */
+    public BoruvkaMinimumSpanningForest(Graph<V,E> graph, Forest<V,E> forest,
+            Transformer<E, ? extends Number> weights, int threads)
+    {
+        super(graph, forest, weights, threads);
+        int n = vertices.size();
+        final int[] label = new int[n];
+        for (int i = 0; i < n; i++)
+            label[i] = i;
+        UnionFind components = new UnionFind(n);
+        final AtomicIntegerArray cheapest = new AtomicIntegerArray(n);
+        int[] selected = new int[Math.max(0, n - 1)];
+        int count = 0;
+
+        int[] live = new int[edges.size()];
+        int live_count = 0;
+        for (int e = 0; e < live.length; e++)
+            if (sources[e] != targets[e])
+                live[live_count++] = e;
+
+        while (live_count > 0)
+        {
+            for (int i = 0; i < n; i++)
+                cheapest.set(i, -1);
+            final int[] scan = live;
+            runner.run(live_count, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    for (int k = start; k < end; k++)
+                    {
+                        int e = scan[k];
+                        int a = label[sources[e]];
+                        int b = label[targets[e]];
+                        if (a == b)
+                            continue;
+                        offer(cheapest, a, e);
+                        offer(cheapest, b, e);
+                    }
+                }
+            });
+            for (int c = 0; c < n; c++)
+            {
+                int e = cheapest.get(c);
+                if (e >= 0 && components.union(sources[e], targets[e]))
+                    selected[count++] = e;
+            }
+            for (int i = 0; i < n; i++)
+                label[i] = components.find(i);
+            live_count = compact(live, live_count, label);
+        }
+        buildForest(selected, count);
+    }
+
+    /**
+     * Records <code>e</code> as the lightest edge leaving component
+     * <code>c</code> if it is lighter than the current candidate.
+     */
+    private void offer(AtomicIntegerArray cheapest, int c, int e)
+    {
+        while (true)
+        {
+            int current = cheapest.get(c);
+            if (current >= 0 && !lighter(e, current))
+                return;
+            if (cheapest.compareAndSet(c, current, e))
+                return;
+        }
+    }
+
+    /**
+     * Removes the edges whose endpoints are in the same component from the
+     * first <code>count</code> elements of <code>live</code>, preserving
+     * their order, and returns the number of edges remaining.
+     */
+    private int compact(final int[] live, int count, final int[] label)
+    {
+        int threads = runner.getThreadCount();
+        final int blocks = Math.max(1, Math.min(threads * 4, count / 4096));
+        final int block_size = (count + blocks - 1) / blocks;
+        final int total = count;
+        final int[] kept = new int[blocks + 1];
+        final int[] copy = new int[count];
+        ParallelRunner per_block = new ParallelRunner(threads);
+        per_block.setMinimumBlockSize(1);
+        per_block.run(blocks, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int b = start; b < end; b++)
+                {
+                    int from = b * block_size;
+                    int to = Math.min(total, from + block_size);
+                    int pos = from;
+                    for (int k = from; k < to; k++)
+                    {
+                        int e = live[k];
+                        if (label[sources[e]] != label[targets[e]])
+                            copy[pos++] = e;
+                    }
+                    kept[b + 1] = pos - from;
+                }
+            }
+        });
+        for (int b = 0; b < blocks; b++)
+            kept[b + 1] += kept[b];
+        for (int b = 0; b < blocks; b++)
+        {
+            int from = b * block_size;
+            System.arraycopy(copy, from, live, kept[b], kept[b + 1] - kept[b]);
+        }
+        return kept[blocks];
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+/**
+ * Computes the exact diameter, radius, and vertex eccentricities of an
+ * undirected graph without calculating all-pairs distances.  The
+ * <i>eccentricity</i> of a vertex is the largest distance from that vertex
+ * to any vertex in its component.
+ *
+ * <p>The unweighted diameter is computed with the iFUB algorithm of
+ * Crescenzi et al., "On computing the diameter of real-world undirected
+ * graphs" (Theoretical Computer Science, 2013): a 4-sweep heuristic
+ * (two rounds of "double sweep" breadth-first searches) finds a central
+ * vertex <code>u</code> and a lower bound on the diameter, and the vertices
+ * are then examined in decreasing order of their distance from
+ * <code>u</code> until the lower bound meets the upper bound implied by
+ * that distance.  The weighted diameter, the radius, and the eccentricities
+ * are computed with the <code>BoundingDiameters</code> algorithm of Takes
+ * and Kosters, "Computing the Eccentricity Distribution of Large Graphs"
+ * (Algorithms, 2013), which maintains lower and upper bounds on the
+ * eccentricity of every vertex, tightens them after each search using
+ * the triangle inequality, and stops searching once the bounds settle
+ * the requested values.
+ *
+ * <p>On real-world graphs, both typically require only a handful of
+ * searches; the worst case is one search per vertex.
+ * {@link #getSearchCount()} reports the number of searches performed.
+ *
+ * <p>If the graph is not connected, each component is handled separately:
+ * the diameter is the largest eccentricity of any vertex (that is, the
+ * largest distance between any pair of connected vertices) and the radius
+ * is the smallest.  Edge weights, if specified, must be nonnegative.
+ * Instances do not track changes to the graph.
+ *
+ * @see DistanceStatistics#diameter(Hypergraph)
+ */
+public class BoundingDiameters<V,E>
+{
+    protected IndexedGraph<V,E> indexed;
+    protected double[] edge_weights;
+    protected int[][] components;
+
+    private int searches;
+    private double diameter = Double.NaN;
+    private double radius = Double.NaN;
+    private double[] eccentricities;
+
+    // scratch space for the searches
+    private double[] dist;
+    private int[] queue;
+    private int[] heap_position;
+    private int farthest;
+
+    /**
+     * Creates an instance for the specified unweighted graph.
+     * @throws IllegalArgumentException if <code>graph</code> has directed edges
+     */
+    public BoundingDiameters(Hypergraph<V,E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Creates an instance for the specified graph, whose edge weights
+     * (lengths) are given by <code>edge_weights</code>.  If
+     * <code>edge_weights</code> is null, all edges have length 1.
+     * @throws IllegalArgumentException if <code>graph</code> has directed edges,
+     * or if any edge weight is negative
+     */
+    public BoundingDiameters(Hypergraph<V,E> graph,
+            Transformer<E, ? extends Number> edge_weights)
+    {
+        if (graph.getEdgeCount(EdgeType.DIRECTED) > 0)
+            throw new IllegalArgumentException("Graph must be undirected");
+        this.indexed = new IndexedGraph<V,E>(graph);
+        int n = indexed.getVertexCount();
+        if (edge_weights != null)
+        {
+            this.edge_weights = new double[indexed.getEdgeCount()];
+            for (int i = 0; i < this.edge_weights.length; i++)
+            {
+                double w = edge_weights.transform(indexed.getEdge(i)).doubleValue();
+                if (w < 0)
+                    throw new IllegalArgumentException("Edge weights must be non-negative");
+                this.edge_weights[i] = w;
+            }
+            this.heap_position = new int[n];
+        }
+        this.dist = new double[n];
+        this.queue = new int[n];
+        for (int i = 0; i < n; i++)
+            dist[i] = Double.POSITIVE_INFINITY;
+        findComponents();
+    }
+
+    /**
+     * Returns <code>true</code> if the graph has at most one component.
+     */
+    public boolean isConnected()
+    {
+        return components.length <= 1;
+    }
+
+    /**
+     * Returns the number of single-source searches performed so far.
+     */
+    public int getSearchCount()
+    {
+        return searches;
+    }
+
+    /**
+     * Returns the largest distance between any pair of connected vertices,
+     * or 0 if the graph has no vertices.
+     */
+    public double getDiameter()
+    {
+        if (Double.isNaN(diameter))
+        {
+            if (eccentricities != null)
+                computeFromEccentricities();
+            else if (edge_weights == null)
+            {
+                diameter = 0;
+                for (int[] component : components)
+                    diameter = Math.max(diameter, iFUB(component));
+            }
+            else
+                computeBounds(false);
+        }
+        return diameter;
+    }
+
+    /**
+     * Returns the smallest eccentricity of any vertex, or 0 if the graph
+     * has no vertices.
+     */
+    public double getRadius()
+    {
+        if (Double.isNaN(radius))
+        {
+            if (eccentricities != null)
+                computeFromEccentricities();
+            else
+                computeBounds(false);
+        }
+        return radius;
+    }
+
+    /**
+     * Returns a map from each vertex to its eccentricity.
+     */
+    public Map<V,Double> getEccentricities()
+    {
+        if (eccentricities == null)
+        {
+            computeBounds(true);
+            computeFromEccentricities();
+        }
+        Map<V,Double> map = new HashMap<V,Double>();
+        for (int i = 0; i < eccentricities.length; i++)
+            map.put(indexed.getVertex(i), eccentricities[i]);
+        return map;
+    }
+
+    private void computeFromEccentricities()
+    {
+        diameter = 0;
+        radius = eccentricities.length == 0 ? 0 : Double.POSITIVE_INFINITY;
+        for (double e : eccentricities)
+        {
+            diameter = Math.max(diameter, e);
+            radius = Math.min(radius, e);
+        }
+    }
+
+    private void findComponents()
+    {
+        int n = indexed.getVertexCount();
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int[] component = new int[n];
+        for (int i = 0; i < n; i++)
+            component[i] = -1;
+        int[] order = new int[n];
+        int[] starts = new int[n + 1];
+        int count = 0;
+        int tail = 0;
+        for (int root = 0; root < n; root++)
+        {
+            if (component[root] >= 0)
+                continue;
+            starts[count] = tail;
+            int head = tail;
+            component[root] = count;
+            order[tail++] = root;
+            while (head < tail)
+            {
+                int v = order[head++];
+                for (int j = offsets[v]; j < offsets[v + 1]; j++)
+                {
+                    int w = targets[j];
+                    if (component[w] < 0)
+                    {
+                        component[w] = count;
+                        order[tail++] = w;
+                    }
+                }
+            }
+            count++;
+        }
+        starts[count] = tail;
+        components = new int[count][];
+        for (int c = 0; c < count; c++)
+        {
+            components[c] = new int[starts[c + 1] - starts[c]];
+            System.arraycopy(order, starts[c], components[c], 0, components[c].length);
+        }
+    }
+
+    /**
+     * Computes the distances from <code>source</code> to the other vertices
+     * of <code>component</code> into <code>dist</code>, sets
+     * <code>farthest</code> to a vertex at maximum distance, and returns
+     * the eccentricity of <code>source</code>.
+     */
+    private double search(int source, int[] component)
+    {
+        searches++;
+        for (int v : component)
+            dist[v] = Double.POSITIVE_INFINITY;
+        if (edge_weights == null)
+            bfs(source);
+        else
+            dijkstra(source);
+        double eccentricity = 0;
+        farthest = source;
+        for (int v : component)
+        {
+            if (dist[v] > eccentricity)
+            {
+                eccentricity = dist[v];
+                farthest = v;
+            }
+        }
+        return eccentricity;
+    }
+
+    private void bfs(int source)
+    {
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int head = 0;
+        int tail = 0;
+        dist[source] = 0;
+        queue[tail++] = source;
+        while (head < tail)
+        {
+            int v = queue[head++];
+            double d = dist[v] + 1;
+            for (int j = offsets[v]; j < offsets[v + 1]; j++)
+            {
+                int w = targets[j];
+                if (dist[w] == Double.POSITIVE_INFINITY)
+                {
+                    dist[w] = d;
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dijkstra's algorithm, using <code>queue</code> as a binary heap
+     * ordered by <code>dist</code>.
+     */
+    private void dijkstra(int source)
+    {
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int[] edges = indexed.getOutEdges();
+        int size = 0;
+        dist[source] = 0;
+        heap_position[source] = 0;
+        queue[size++] = source;
+        while (size > 0)
+        {
+            int v = queue[0];
+            heap_position[v] = -1;
+            size--;
+            if (size > 0)
+            {
+                queue[0] = queue[size];
+                heap_position[queue[0]] = 0;
+                siftDown(0, size);
+            }
+            double d = dist[v];
+            for (int j = offsets[v]; j < offsets[v + 1]; j++)
+            {
+                int w = targets[j];
+                double alt = d + edge_weights[edges[j]];
+                if (alt < dist[w])
+                {
+                    if (dist[w] == Double.POSITIVE_INFINITY)
+                    {
+                        heap_position[w] = size;
+                        queue[size++] = w;
+                    }
+                    dist[w] = alt;
+                    siftUp(heap_position[w]);
+                }
+            }
+        }
+    }
+
+    private void siftUp(int i)
+    {
+        int v = queue[i];
+        while (i > 0)
+        {
+            int parent = (i - 1) >>> 1;
+            if (dist[queue[parent]] <= dist[v])
+                break;
+            queue[i] = queue[parent];
+            heap_position[queue[i]] = i;
+            i = parent;
+        }
+        queue[i] = v;
+        heap_position[v] = i;
+    }
+
+    private void siftDown(int i, int size)
+    {
+        int v = queue[i];
+        while (true)
+        {
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && dist[queue[child + 1]] < dist[queue[child]])
+                child++;
+            if (dist[queue[child]] >= dist[v])
+                break;
+            queue[i] = queue[child];
+            heap_position[queue[i]] = i;
+            i = child;
+        }
+        queue[i] = v;
+        heap_position[v] = i;
+    }
+
+    /**
+     * Returns a vertex halfway along a shortest path from the source of the
+     * most recent (unweighted) search to <code>target</code>.
+     */
+    private int middle(int target)
+    {
+        int[] offsets = indexed.getOutOffsets();
+        int[] targets = indexed.getOutTargets();
+        int v = target;
+        int steps = (int)dist[target] / 2;
+        for (int k = 0; k < steps; k++)
+        {
+            for (int j = offsets[v]; j < offsets[v + 1]; j++)
+            {
+                if (dist[targets[j]] == dist[v] - 1)
+                {
+                    v = targets[j];
+                    break;
+                }
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Returns the diameter of the specified component of an unweighted graph.
+     */
+    private double iFUB(int[] component)
+    {
+        if (component.length == 1)
+            return 0;
+
+        // 4-sweep: two double sweeps, each starting from the midpoint of
+        // the path found by the previous one
+        int r = component[0];
+        for (int v : component)
+            if (indexed.outDegree(v) > indexed.outDegree(r))
+                r = v;
+        search(r, component);
+        int a = farthest;
+        double lower = search(a, component);
+        r = middle(farthest);
+        search(r, component);
+        a = farthest;
+        lower = Math.max(lower, search(a, component));
+        int u = middle(farthest);
+        int e = (int)search(u, component);
+        lower = Math.max(lower, e);
+
+        // bucket the component's vertices by their distance from u
+        int[] level_start = new int[e + 2];
+        for (int v : component)
+            level_start[(int)dist[v] + 1]++;
+        for (int i = 0; i <= e; i++)
+            level_start[i + 1] += level_start[i];
+        int[] by_level = new int[component.length];
+        int[] next = new int[e + 1];
+        System.arraycopy(level_start, 0, next, 0, e + 1);
+        for (int v : component)
+            by_level[next[(int)dist[v]]++] = v;
+
+        // every pair of vertices at distance < i from u is at distance
+        // <= 2(i-1) from each other, so once the largest eccentricity among
+        // the vertices at distance >= i exceeds 2(i-1), it is the diameter
+        double upper = 2 * e;
+        for (int i = e; i > 0 && upper > lower; i--)
+        {
+            double b = 0;
+            for (int k = level_start[i]; k < level_start[i + 1]; k++)
+                b = Math.max(b, search(by_level[k], component));
+            if (Math.max(lower, b) > 2 * (i - 1))
+                return Math.max(lower, b);
+            lower = Math.max(lower, b);
+            upper = 2 * (i - 1);
+        }
+        return lower;
+    }
+
+    /**
+     * Runs the bounding algorithm on each component, either until the
+     * diameter and radius are determined or (if <code>all</code> is
+     * <code>true</code>) until every eccentricity is determined.
+     */
+    private void computeBounds(boolean all)
+    {
+        int n = indexed.getVertexCount();
+        if (all)
+            eccentricities = new double[n];
+        double max_eccentricity = 0;
+        double min_eccentricity = n == 0 ? 0 : Double.POSITIVE_INFINITY;
+        for (int[] component : components)
+        {
+            int c = component.length;
+            double[] lower = new double[c];
+            double[] upper = new double[c];
+            boolean[] candidate = new boolean[c];
+            for (int k = 0; k < c; k++)
+            {
+                upper[k] = Double.POSITIVE_INFINITY;
+                candidate[k] = true;
+            }
+            int remaining = c;
+            double diameter_lower = 0;
+            double radius_upper = Double.POSITIVE_INFINITY;
+            boolean pick_upper = true;
+            while (remaining > 0)
+            {
+                // alternately pick the candidate with the largest upper
+                // bound and the one with the smallest lower bound,
+                // breaking ties in favor of higher degree
+                int selected = -1;
+                for (int k = 0; k < c; k++)
+                {
+                    if (!candidate[k])
+                        continue;
+                    if (selected < 0)
+                    {
+                        selected = k;
+                        continue;
+                    }
+                    double key = pick_upper ? upper[k] : -lower[k];
+                    double best = pick_upper ? upper[selected] : -lower[selected];
+                    if (key > best || (key == best &&
+                            indexed.outDegree(component[k]) > indexed.outDegree(component[selected])))
+                        selected = k;
+                }
+                pick_upper = !pick_upper;
+
+                double e = search(component[selected], component);
+                double diameter_upper = 0;
+                double radius_lower = Double.POSITIVE_INFINITY;
+                for (int k = 0; k < c; k++)
+                {
+                    if (!candidate[k])
+                        continue;
+                    double d = dist[component[k]];
+                    lower[k] = Math.max(lower[k], Math.max(d, e - d));
+                    upper[k] = Math.min(upper[k], e + d);
+                    diameter_lower = Math.max(diameter_lower, lower[k]);
+                    radius_upper = Math.min(radius_upper, upper[k]);
+                    diameter_upper = Math.max(diameter_upper, upper[k]);
+                    radius_lower = Math.min(radius_lower, lower[k]);
+                }
+                for (int k = 0; k < c; k++)
+                {
+                    if (!candidate[k])
+                        continue;
+                    if (lower[k] == upper[k])
+                    {
+                        if (all)
+                            eccentricities[component[k]] = lower[k];
+                        candidate[k] = false;
+                        remaining--;
+                    }
+                    else if (!all && upper[k] <= diameter_lower && lower[k] >= radius_upper)
+                    {
+                        candidate[k] = false;
+                        remaining--;
+                    }
+                }
+                if (!all && diameter_upper <= diameter_lower && radius_lower >= radius_upper)
+                    break;
+            }
+            max_eccentricity = Math.max(max_eccentricity, diameter_lower);
+            min_eccentricity = Math.min(min_eccentricity, radius_upper);
+        }
+        if (!all)
+        {
+            diameter = max_eccentricity;
+            radius = min_eccentricity;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * A breadth-first search kernel which labels each vertex with its (unweighted)
+ * distance from a set of root vertices.  The frontier and the set of visited
+ * vertices are kept as bitsets over the vertex indices of an
+ * <code>IndexedGraph</code>, and each level is expanded either
+ * <i>top-down</i> (each frontier vertex examines its successors) or
+ * <i>bottom-up</i> (each unvisited vertex examines its predecessors until it
+ * finds one in the frontier), whichever is expected to examine fewer edges.
+ *
+ * <p>The switching heuristic is that of Beamer, Asanovi&#263; and Patterson,
+ * "Direction-Optimizing Breadth-First Search" (SC 2012): the search switches
+ * to bottom-up when the number of edges leaving the frontier exceeds
+ * <code>1/alpha</code> times the number of edges entering unvisited vertices,
+ * and switches back to top-down when the frontier contains fewer than
+ * <code>1/beta</code> times the number of vertices.  On graphs with small
+ * diameter, the bottom-up levels skip most of the edge checks.
+ *
+ * <p>Instances do not track changes to the graph; if the graph is modified,
+ * a new instance must be created.
+ *
+ * <p>Running time: O(|V| + |E|) per search in the worst case.
+ *
+ * @see BFSDistanceLabeler
+ * @see UnweightedShortestPath
+ */
+public class DirectionOptimizingBFS<V,E>
+{
+    /**
+     * The default value of the top-down to bottom-up switching parameter.
+     */
+    public static final int DEFAULT_ALPHA = 14;
+
+    /**
+     * The default value of the bottom-up to top-down switching parameter.
+     */
+    public static final int DEFAULT_BETA = 24;
+
+    protected IndexedGraph<V,E> indexed;
+    protected int alpha = DEFAULT_ALPHA;
+    protected int beta = DEFAULT_BETA;
+
+    /**
+     * Creates an instance for the specified graph.
+     */
+    public DirectionOptimizingBFS(Hypergraph<V,E> graph)
+    {
+        this(new IndexedGraph<V,E>(graph));
+    }
+
+    /**
+     * Creates an instance which searches the specified indexed graph.
+     */
+    public DirectionOptimizingBFS(IndexedGraph<V,E> indexed)
+    {
+        this.indexed = indexed;
+    }
+
+    /**
+     * Returns the indexed graph which this instance searches.
+     */
+    public IndexedGraph<V,E> getIndexedGraph()
+    {
+        return indexed;
+    }
+
+    /**
+     * Sets the parameters which control when the search changes direction.
+     * Larger values of <code>alpha</code> cause bottom-up expansion to be
+     * used sooner; larger values of <code>beta</code> cause it to be used
+     * for longer.
+     */
+    public void setSwitchingParameters(int alpha, int beta)
+    {
+        if (alpha <= 0 || beta <= 0)
+            throw new IllegalArgumentException("alpha and beta must be positive");
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Returns an array containing, for each vertex index, the distance from
+     * the closest vertex in <code>roots</code> to that vertex, or -1 if the
+     * vertex is unreachable.
+     */
+    public int[] getDistances(Collection<? extends V> roots)
+    {
+        return getDistances(indexed.getIndices(roots));
+    }
+
+    /**
+     * Returns an array containing, for each vertex index, the distance from
+     * the closest vertex in <code>roots</code> to that vertex, or -1 if the
+     * vertex is unreachable.  Vertices are specified by their indices.
+     */
+    public int[] getDistances(int... roots)
+    {
+        int n = indexed.getVertexCount();
+        int[] out_offsets = indexed.getOutOffsets();
+        int[] out_targets = indexed.getOutTargets();
+        int[] in_offsets = indexed.getInOffsets();
+        int[] in_sources = indexed.getInSources();
+
+        int[] distances = new int[n];
+        for (int i = 0; i < n; i++)
+            distances[i] = -1;
+
+        BitSet visited = new BitSet(n);
+        BitSet frontier = new BitSet(n);
+        BitSet next = new BitSet(n);
+        int frontier_size = 0;
+        long frontier_edges = 0;          // edges leaving the frontier
+        long unvisited_edges = in_sources.length; // edges entering unvisited vertices
+        for (int root : roots)
+        {
+            if (visited.get(root))
+                continue;
+            visited.set(root);
+            frontier.set(root);
+            distances[root] = 0;
+            frontier_size++;
+            frontier_edges += out_offsets[root + 1] - out_offsets[root];
+            unvisited_edges -= in_offsets[root + 1] - in_offsets[root];
+        }
+
+        boolean bottom_up = false;
+        int level = 0;
+        while (frontier_size > 0)
+        {
+            level++;
+            if (!bottom_up && frontier_edges * alpha > unvisited_edges)
+                bottom_up = true;
+            else if (bottom_up && (long)frontier_size * beta < n)
+                bottom_up = false;
+
+            int next_size = 0;
+            long next_edges = 0;
+            next.clear();
+            if (bottom_up)
+            {
+                for (int v = visited.nextClearBit(0); v < n; v = visited.nextClearBit(v + 1))
+                {
+                    for (int j = in_offsets[v]; j < in_offsets[v + 1]; j++)
+                    {
+                        if (frontier.get(in_sources[j]))
+                        {
+                            next.set(v);
+                            distances[v] = level;
+                            next_size++;
+                            next_edges += out_offsets[v + 1] - out_offsets[v];
+                            unvisited_edges -= in_offsets[v + 1] - in_offsets[v];
+                            break;
+                        }
+                    }
+                }
+                visited.or(next);
+            }
+            else
+            {
+                for (int u = frontier.nextSetBit(0); u >= 0; u = frontier.nextSetBit(u + 1))
+                {
+                    for (int j = out_offsets[u]; j < out_offsets[u + 1]; j++)
+                    {
+                        int v = out_targets[j];
+                        if (!visited.get(v))
+                        {
+                            visited.set(v);
+                            next.set(v);
+                            distances[v] = level;
+                            next_size++;
+                            next_edges += out_offsets[v + 1] - out_offsets[v];
+                            unvisited_edges -= in_offsets[v + 1] - in_offsets[v];
+                        }
+                    }
+                }
+            }
+            BitSet temp = frontier;
+            frontier = next;
+            next = temp;
+            frontier_size = next_size;
+            frontier_edges = next_edges;
+        }
+        return distances;
+    }
+}
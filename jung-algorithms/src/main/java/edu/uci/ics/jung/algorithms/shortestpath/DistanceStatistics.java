@@ -9,18 +9,25 @@
 */
 package edu.uci.ics.jung.algorithms.shortestpath;
 import java.util.Collection;
+import java.util.Map;
 
 import org.apache.commons.collections15.Transformer;
 
 import edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality;
 import edu.uci.ics.jung.algorithms.scoring.util.VertexScoreTransformer;
 import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
 
 /**
  * Statistics relating to vertex-vertex distances in a graph.
  * 
  * <p>Formerly known as <code>GraphStatistics</code> in JUNG 1.x.</p>
  * 
+ * <p>The average distances computed here are exact, and require a search
+ * from every vertex; for graphs too large for that, <code>HyperANF</code>
+ * estimates the distance distribution, average distance, effective diameter, 
+ * and closeness in a few passes over the edges.</p>
+ * 
  * @author Scott White
  * @author Joshua O'Madadhain
  */
@@ -54,6 +61,7 @@ public class DistanceStatistics
      * 
      * @see edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath
      * @see edu.uci.ics.jung.algorithms.shortestpath.DijkstraDistance
+     * @see HyperANF
      */
     public static <V,E> Transformer<V,Double> averageDistances(Hypergraph<V,E> graph, Distance<V> d)
     {
@@ -71,7 +79,7 @@ public class DistanceStatistics
     public static <V,E> Transformer<V, Double> averageDistances(Hypergraph<V,E> g)
     {
     	final ClosenessCentrality<V,E> cc = new ClosenessCentrality<V,E>(g, 
-    			new UnweightedShortestPath<V,E>(g));
+    			new MultiSourceBFS<V,E>(g));
         return new VertexScoreTransformer<V, Double>(cc);
     }
     
@@ -92,11 +100,12 @@ public class DistanceStatistics
         double diameter = 0;
         Collection<V> vertices = g.getVertices();
         for(V v : vertices) {
+            Map<V,Number> distances = d.getDistanceMap(v);
             for(V w : vertices) {
 
                 if (v.equals(w) == false) // don't include self-distances
                 {
-                    Number dist = d.getDistance(v, w);
+                    Number dist = distances.get(w);
                     if (dist == null)
                     {
                         if (!use_max)
@@ -126,11 +135,38 @@ public class DistanceStatistics
     
     /**
      * Returns the diameter of <code>g</code>, ignoring edge weights.
+     * If <code>g</code> is undirected, the diameter is computed by
+     * <code>BoundingDiameters</code>, which typically requires only a 
+     * few breadth-first searches; otherwise the distances between all 
+     * pairs of vertices are computed.
      * @see #diameter(Hypergraph, Distance, boolean)
+     * @see BoundingDiameters
      */
     public static <V, E> double diameter(Hypergraph<V,E> g)
     {
-        return diameter(g, new UnweightedShortestPath<V,E>(g));
+        if (g.getEdgeCount(EdgeType.DIRECTED) > 0)
+            return diameter(g, new MultiSourceBFS<V,E>(g));
+        BoundingDiameters<V,E> bd = new BoundingDiameters<V,E>(g);
+        return bd.isConnected() ? bd.getDiameter() : Double.POSITIVE_INFINITY;
+    }
+    
+    /**
+     * Returns the diameter of <code>g</code>, using the edge lengths
+     * specified by <code>edge_weights</code>.  If the graph is disconnected,
+     * the value returned depends on <code>use_max</code> as for
+     * {@link #diameter(Hypergraph, Distance, boolean)}.
+     * If <code>g</code> is undirected, the diameter is computed by
+     * <code>BoundingDiameters</code>; otherwise the distances between all 
+     * pairs of vertices are computed with <code>DijkstraDistance</code>.
+     * @see BoundingDiameters
+     */
+    public static <V, E> double diameter(Hypergraph<V,E> g, 
+            Transformer<E, ? extends Number> edge_weights, boolean use_max)
+    {
+        if (g.getEdgeCount(EdgeType.DIRECTED) > 0)
+            return diameter(g, new DijkstraDistance<V,E>(g, edge_weights, false), use_max);
+        BoundingDiameters<V,E> bd = new BoundingDiameters<V,E>(g, edge_weights);
+        return bd.isConnected() || use_max ? bd.getDiameter() : Double.POSITIVE_INFINITY;
     }
     
 }
@@ -0,0 +1,369 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * Estimates the <i>neighbourhood function</i> of a graph, and statistics
+ * derived from it, using the HyperANF algorithm of Boldi, Rosa and Vigna,
+ * "HyperANF: Approximating the Neighbourhood Function of Very Large Graphs
+ * on a Budget" (WWW 2011).  The neighbourhood function <code>N(t)</code> is
+ * the number of ordered pairs of vertices <code>(u,v)</code> such that
+ * <code>v</code> is reachable from <code>u</code> by a path of length at
+ * most <code>t</code>; the distance distribution, the average distance,
+ * and the effective diameter all follow from it.
+ *
+ * <p>Each vertex keeps a HyperLogLog counter (an array of
+ * <code>2^log2m</code> byte registers) estimating the size of the set of
+ * vertices within distance <code>t</code> of it.  In iteration
+ * <code>t+1</code>, the counter of each vertex becomes the register-wise
+ * maximum of its own counter and those of its successors, so each
+ * iteration is a single linear pass over the edges; the passes are split
+ * across threads by blocks of vertices.  The number of iterations is the
+ * (effective) diameter of the graph plus one.  Memory use is
+ * <code>2 * 2^log2m</code> bytes per vertex; the registers of all
+ * vertices are kept in a single array, so the number of vertices may not
+ * exceed <code>2^(31 - log2m)</code>.
+ *
+ * <p>The relative standard deviation of each counter is about
+ * <code>1.04 / sqrt(2^log2m)</code>; the error of the global statistics,
+ * which sum many counters, is usually much smaller.  Results are
+ * deterministic for a given seed.
+ *
+ * <p>Computation is performed the first time that any result is requested.
+ * Instances do not track changes to the graph.
+ *
+ * @see DistanceStatistics
+ */
+public class HyperANF<V,E>
+{
+    /**
+     * The default base-2 logarithm of the number of registers per counter.
+     */
+    public static final int DEFAULT_LOG2M = 6;
+
+    protected IndexedGraph<V,E> indexed;
+    protected int log2m;
+    protected long seed;
+    protected int max_iterations = Integer.MAX_VALUE;
+    protected ParallelRunner runner;
+
+    private double[] neighbourhood_function;
+    private double[] distance_sums;
+    private double[] reachable;
+
+    /**
+     * Creates an instance for the specified graph with
+     * <code>2^DEFAULT_LOG2M</code> registers per counter.
+     */
+    public HyperANF(Hypergraph<V,E> graph)
+    {
+        this(graph, DEFAULT_LOG2M, 0);
+    }
+
+    /**
+     * Creates an instance for the specified graph with
+     * <code>2^log2m</code> registers per counter, whose vertex hashes
+     * are derived from <code>seed</code>.
+     * @param log2m the base-2 logarithm of the number of registers,
+     * between 4 and 16 inclusive
+     */
+    public HyperANF(Hypergraph<V,E> graph, int log2m, long seed)
+    {
+        if (log2m < 4 || log2m > 16)
+            throw new IllegalArgumentException("log2m must be between 4 and 16");
+        if ((long)graph.getVertexCount() << log2m > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many vertices for 2^" + log2m +
+                    " registers per counter");
+        this.indexed = new IndexedGraph<V,E>(graph);
+        this.log2m = log2m;
+        this.seed = seed;
+        this.runner = new ParallelRunner();
+    }
+
+    /**
+     * Sets the number of threads used for each pass over the edges.
+     */
+    public void setThreadCount(int threads)
+    {
+        this.runner = new ParallelRunner(threads);
+    }
+
+    /**
+     * Sets the maximum number of iterations; the distance statistics then
+     * ignore distances greater than <code>max_iterations</code>.
+     */
+    public void setMaxIterations(int max_iterations)
+    {
+        if (max_iterations < 1)
+            throw new IllegalArgumentException("max_iterations must be positive");
+        this.max_iterations = max_iterations;
+    }
+
+    /**
+     * Returns an array whose <code>t</code>th element is the estimated
+     * number of ordered pairs of vertices <code>(u,v)</code> such that
+     * <code>v</code> is within distance <code>t</code> of <code>u</code>
+     * (including the pairs <code>(v,v)</code>).  The last element is the
+     * estimated number of reachable pairs.
+     */
+    public double[] getNeighbourhoodFunction()
+    {
+        compute();
+        return neighbourhood_function.clone();
+    }
+
+    /**
+     * Returns an array whose <code>t</code>th element is the estimated
+     * number of ordered pairs of distinct vertices at distance exactly
+     * <code>t</code> from each other.  (Element 0 is always 0.)
+     */
+    public double[] getDistanceDistribution()
+    {
+        compute();
+        double[] distribution = new double[neighbourhood_function.length];
+        for (int t = 1; t < distribution.length; t++)
+            distribution[t] = Math.max(0,
+                    neighbourhood_function[t] - neighbourhood_function[t - 1]);
+        return distribution;
+    }
+
+    /**
+     * Returns the estimated average distance between pairs of distinct
+     * vertices, over all pairs for which a path exists.  Returns 0 if
+     * there are no such pairs.
+     */
+    public double getAverageDistance()
+    {
+        double[] distribution = getDistanceDistribution();
+        double pairs = 0;
+        double sum = 0;
+        for (int t = 1; t < distribution.length; t++)
+        {
+            pairs += distribution[t];
+            sum += t * distribution[t];
+        }
+        return pairs == 0 ? 0 : sum / pairs;
+    }
+
+    /**
+     * Returns the estimated 90% effective diameter.
+     * @see #getEffectiveDiameter(double)
+     */
+    public double getEffectiveDiameter()
+    {
+        return getEffectiveDiameter(0.9);
+    }
+
+    /**
+     * Returns the estimated <code>alpha</code> effective diameter: the
+     * smallest distance <code>d</code> (linearly interpolated between
+     * integers) such that at least a fraction <code>alpha</code> of the
+     * pairs of distinct connected vertices are within distance
+     * <code>d</code> of each other.
+     */
+    public double getEffectiveDiameter(double alpha)
+    {
+        if (alpha <= 0 || alpha > 1)
+            throw new IllegalArgumentException("alpha must be in (0, 1]");
+        double[] distribution = getDistanceDistribution();
+        double total = 0;
+        for (double pairs : distribution)
+            total += pairs;
+        if (total == 0)
+            return 0;
+        double target = alpha * total;
+        double cumulative = 0;
+        for (int t = 1; t < distribution.length; t++)
+        {
+            if (cumulative + distribution[t] >= target)
+                return t - 1 + (target - cumulative) / distribution[t];
+            cumulative += distribution[t];
+        }
+        return distribution.length - 1;
+    }
+
+    /**
+     * Returns the estimated closeness of <code>v</code>: the reciprocal of
+     * the average distance from <code>v</code> to the other vertices
+     * reachable from it, as computed by <code>ClosenessCentrality</code>
+     * (which by default ignores unreachable vertices).  Returns
+     * <code>Double.POSITIVE_INFINITY</code> if no other vertex is reachable.
+     */
+    public Double getCloseness(V v)
+    {
+        compute();
+        int i = indexed.getIndex(v);
+        if (i < 0)
+            throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+        double others = reachable[i] - 1;
+        if (distance_sums[i] <= 0 || others <= 0)
+            return Double.POSITIVE_INFINITY;
+        return others / distance_sums[i];
+    }
+
+    /**
+     * Returns the estimated number of vertices reachable from <code>v</code>,
+     * including <code>v</code> itself.
+     */
+    public double getReachableCount(V v)
+    {
+        compute();
+        int i = indexed.getIndex(v);
+        if (i < 0)
+            throw new IllegalArgumentException("Vertex " + v + " is not contained in the graph.");
+        return reachable[i];
+    }
+
+    /**
+     * Mixes the index of a vertex with the seed into a 64-bit hash (the
+     * finalizer of the SplitMix64 generator).
+     */
+    private long hash(int i)
+    {
+        long z = seed + (i + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private double estimate(byte[] registers, int offset, int m, double alpha_mm)
+    {
+        double sum = 0;
+        int zeros = 0;
+        for (int k = 0; k < m; k++)
+        {
+            int r = registers[offset + k];
+            if (r == 0)
+                zeros++;
+            sum += 1.0 / (1L << r);
+        }
+        double e = alpha_mm / sum;
+        // small-range correction (linear counting)
+        if (e <= 2.5 * m && zeros > 0)
+            return m * Math.log((double)m / zeros);
+        return e;
+    }
+
+    private void compute()
+    {
+        if (neighbourhood_function != null)
+            return;
+        final int n = indexed.getVertexCount();
+        final int m = 1 << log2m;
+        final double alpha_mm;
+        if (m == 16)
+            alpha_mm = 0.673 * m * m;
+        else if (m == 32)
+            alpha_mm = 0.697 * m * m;
+        else if (m == 64)
+            alpha_mm = 0.709 * m * m;
+        else
+            alpha_mm = 0.7213 / (1 + 1.079 / m) * m * m;
+
+        final byte[][] registers = { new byte[n * m], new byte[n * m] };
+        final double[] estimates = new double[n];
+        final boolean[][] modified = { new boolean[n], new boolean[n] };
+        distance_sums = new double[n];
+
+        // iteration 0: each counter contains only its own vertex
+        for (int i = 0; i < n; i++)
+        {
+            long h = hash(i);
+            int k = (int)(h >>> (64 - log2m));
+            int rank = Long.numberOfLeadingZeros((h << log2m) | (1L << (log2m - 1))) + 1;
+            registers[0][i * m + k] = (byte)rank;
+            estimates[i] = estimate(registers[0], i * m, m, alpha_mm);
+            modified[0][i] = true;
+        }
+        List<Double> nf = new ArrayList<Double>();
+        double total = 0;
+        for (double e : estimates)
+            total += e;
+        nf.add(total);
+
+        final int[] offsets = indexed.getOutOffsets();
+        final int[] targets = indexed.getOutTargets();
+        final boolean[] changed = new boolean[1];
+        int current = 0;
+        for (int t = 1; t <= max_iterations; t++)
+        {
+            final byte[] from = registers[current];
+            final byte[] to = registers[1 - current];
+            final boolean[] was_modified = modified[current];
+            final boolean[] now_modified = modified[1 - current];
+            final int distance = t;
+            changed[0] = false;
+            runner.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    boolean any = false;
+                    for (int v = start; v < end; v++)
+                    {
+                        int base = v * m;
+                        System.arraycopy(from, base, to, base, m);
+                        boolean v_modified = false;
+                        for (int j = offsets[v]; j < offsets[v + 1]; j++)
+                        {
+                            int w = targets[j];
+                            if (!was_modified[w])
+                                continue;
+                            int w_base = w * m;
+                            for (int k = 0; k < m; k++)
+                            {
+                                if (from[w_base + k] > to[base + k])
+                                {
+                                    to[base + k] = from[w_base + k];
+                                    v_modified = true;
+                                }
+                            }
+                        }
+                        now_modified[v] = v_modified;
+                        if (v_modified)
+                        {
+                            any = true;
+                            double e = estimate(to, base, m, alpha_mm);
+                            distance_sums[v] += distance * Math.max(0, e - estimates[v]);
+                            estimates[v] = e;
+                        }
+                    }
+                    if (any)
+                    {
+                        synchronized (changed)
+                        {
+                            changed[0] = true;
+                        }
+                    }
+                }
+            });
+            current = 1 - current;
+            if (!changed[0])
+                break;
+            total = 0;
+            for (double e : estimates)
+                total += e;
+            nf.add(total);
+        }
+
+        reachable = estimates;
+        neighbourhood_function = new double[nf.size()];
+        for (int t = 0; t < neighbourhood_function.length; t++)
+            neighbourhood_function[t] = nf.get(t);
+    }
+}
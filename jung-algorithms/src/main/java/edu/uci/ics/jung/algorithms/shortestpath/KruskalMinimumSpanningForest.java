@@ -0,0 +1,161 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Random;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.algorithms.util.ParallelSort;
+import edu.uci.ics.jung.algorithms.util.UnionFind;
+import edu.uci.ics.jung.graph.Forest;
+import edu.uci.ics.jung.graph.Graph;
+
+/**
+ * For the input Graph, creates a minimum spanning forest using the
+ * filter-Kruskal algorithm of Osipov, Sanders and Singler, "The
+ * Filter-Kruskal Minimum Spanning Tree Algorithm" (ALENEX 2009).
+ * Like quicksort, the edges are partitioned around a random pivot weight;
+ * the light edges are processed first, and the heavy edges whose endpoints
+ * the light edges have already connected are discarded before the heavy
+ * edges are processed.  Sufficiently small sets of edges are sorted (on
+ * several threads) and scanned by Kruskal's algorithm, using a union-find
+ * structure to detect cycles.  On dense graphs most heavy edges are
+ * filtered out without ever being sorted.
+ *
+ * <p>Running time: O(|E| + |V| log |V| log(|E| / |V|)) expected.
+ *
+ * @see AbstractIndexedSpanningForest
+ * @see BoruvkaMinimumSpanningForest
+ */
+public class KruskalMinimumSpanningForest<V,E> extends AbstractIndexedSpanningForest<V,E>
+{
+    private UnionFind components;
+    private int[] selected;
+    private int count;
+    private int threshold;
+    private Random random;
+
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * a new forest obtained from <code>factory</code>.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param factory the factory to use to create the new forest
+     * @param weights edge weights; if null, all weights are 1
+     */
+    public KruskalMinimumSpanningForest(Graph<V,E> graph,
+            Factory<Forest<V,E>> factory, Transformer<E, ? extends Number> weights)
+    {
+        this(graph, factory.create(), weights);
+    }
+
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * the supplied forest, which must be empty.  Uses one thread per
+     * available processor.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param forest the forest to populate; must be empty
+     * @param weights edge weights; if null, all weights are 1
+     */
+    public KruskalMinimumSpanningForest(Graph<V,E> graph, Forest<V,E> forest,
+            Transformer<E, ? extends Number> weights)
+    {
+        this(graph, forest, weights, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates a minimum spanning forest from the supplied graph, populating
+     * the supplied forest, which must be empty.
+     * @param graph the graph to find the minimum spanning forest of
+     * @param forest the forest to populate; must be empty
+     * @param weights edge weights; if null, all weights are 1
+     * @param threads the number of threads to use for sorting
+     */
+    public KruskalMinimumSpanningForest(Graph<V,E> graph, Forest<V,E> forest,
+            Transformer<E, ? extends Number> weights, int threads)
+    {
+        super(graph, forest, weights, threads);
+        int n = vertices.size();
+        this.components = new UnionFind(n);
+        this.selected = new int[Math.max(0, n - 1)];
+        this.threshold = Math.max(1 << 16, n);
+        this.random = new Random(0);
+
+        int[] ids = new int[edges.size()];
+        int m = 0;
+        for (int e = 0; e < ids.length; e++)
+            if (sources[e] != targets[e])
+                ids[m++] = e;
+        filterKruskal(ids, 0, m);
+        buildForest(selected, count);
+    }
+
+    private void filterKruskal(int[] ids, int from, int to)
+    {
+        if (to - from <= threshold)
+        {
+            kruskal(ids, from, to);
+            return;
+        }
+        if (components.getSetCount() == 1)
+            return;
+        int pivot = ids[from + random.nextInt(to - from)];
+        // move the edges no heavier than the pivot to the front
+        int mid = from;
+        for (int k = from; k < to; k++)
+        {
+            int e = ids[k];
+            if (!lighter(pivot, e))
+            {
+                ids[k] = ids[mid];
+                ids[mid++] = e;
+            }
+        }
+        if (mid == to)
+        {
+            // the pivot was the heaviest edge; no partition was made
+            kruskal(ids, from, to);
+            return;
+        }
+        filterKruskal(ids, from, mid);
+        // discard heavy edges which would close a cycle
+        int end = mid;
+        for (int k = mid; k < to; k++)
+        {
+            int e = ids[k];
+            if (!components.connected(sources[e], targets[e]))
+                ids[end++] = e;
+        }
+        filterKruskal(ids, mid, end);
+    }
+
+    private void kruskal(int[] ids, int from, int to)
+    {
+        int length = to - from;
+        double[] keys = new double[length];
+        int[] sorted = new int[length];
+        for (int k = 0; k < length; k++)
+        {
+            sorted[k] = ids[from + k];
+            keys[k] = weights[sorted[k]];
+        }
+        ParallelSort.sortByKey(keys, sorted, length, runner);
+        for (int k = 0; k < length && components.getSetCount() > 1; k++)
+        {
+            int e = sorted[k];
+            if (components.union(sources[e], targets[e]))
+                selected[count++] = e;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * Computes unweighted shortest path distances from many sources at once,
+ * using the multi-source breadth-first search (MS-BFS) of Then et al.,
+ * "The More the Merrier: Efficient Multi-Source Graph Traversal" (VLDB 2015).
+ * Each vertex carries a bit mask with one bit per source in the current
+ * batch, so a single scan of a vertex's successor list advances the
+ * searches of all the sources that have reached that vertex in the same
+ * step.  A batch consists of <code>64 * width</code> sources.
+ *
+ * <p>Distances may be consumed either through a {@link Visitor}, which is
+ * notified of each (source, vertex, distance) triple as it is discovered and
+ * stores nothing, or through the <code>Distance</code> interface.  In the
+ * latter case, a request for the distances from a source whose distances
+ * have not yet been computed also computes (and caches) the distances from
+ * a batch of other sources whose distances have not been computed, so that
+ * consumers such as <code>ClosenessCentrality</code> which ask for the
+ * distances from every vertex in turn share each adjacency scan among a
+ * whole batch of sources.
+ *
+ * <p>Instances do not track changes to the graph; <code>reset()</code>
+ * must be called if the graph is modified.
+ *
+ * @see UnweightedShortestPath
+ * @see DistanceStatistics
+ */
+public class MultiSourceBFS<V,E> implements Distance<V>
+{
+    /**
+     * Receives the distances discovered by a multi-source search.
+     */
+    public interface Visitor
+    {
+        /**
+         * Called once for each vertex <code>vertex</code> reachable from
+         * <code>source</code>, including <code>source</code> itself, with
+         * the length of the shortest path between them.  Vertices are
+         * identified by their indices in the <code>IndexedGraph</code>.
+         * For a given source, calls are made in non-decreasing order of
+         * distance.
+         */
+        void visit(int source, int vertex, int distance);
+    }
+
+    protected Hypergraph<V,E> graph;
+    protected IndexedGraph<V,E> indexed;
+    protected int width;
+    protected Map<V,Map<V,Number>> distance_maps;
+    private int next_uncomputed;
+
+    /**
+     * Creates an instance for the specified graph which processes 64
+     * sources per batch.
+     */
+    public MultiSourceBFS(Hypergraph<V,E> graph)
+    {
+        this(graph, 1);
+    }
+
+    /**
+     * Creates an instance for the specified graph which processes
+     * <code>64 * width</code> sources per batch.  Wider batches share
+     * more of each adjacency scan, at the cost of
+     * <code>24 * width</code> bytes per vertex.
+     */
+    public MultiSourceBFS(Hypergraph<V,E> graph, int width)
+    {
+        if (width < 1)
+            throw new IllegalArgumentException("width must be positive");
+        this.graph = graph;
+        this.width = width;
+        this.distance_maps = new HashMap<V,Map<V,Number>>();
+    }
+
+    /**
+     * Returns the indexed snapshot of the graph which this instance searches,
+     * creating it if necessary.
+     */
+    public IndexedGraph<V,E> getIndexedGraph()
+    {
+        if (indexed == null)
+            indexed = new IndexedGraph<V,E>(graph);
+        return indexed;
+    }
+
+    /**
+     * Returns the number of sources which are searched simultaneously.
+     */
+    public int getBatchSize()
+    {
+        return 64 * width;
+    }
+
+    /**
+     * Performs a breadth-first search from each of the specified sources
+     * (identified by their vertex indices), reporting each distance found
+     * to <code>visitor</code>.
+     */
+    public void search(int[] sources, Visitor visitor)
+    {
+        int batch_size = getBatchSize();
+        for (int start = 0; start < sources.length; start += batch_size)
+        {
+            int end = Math.min(sources.length, start + batch_size);
+            int[] batch = new int[end - start];
+            System.arraycopy(sources, start, batch, 0, batch.length);
+            searchBatch(batch, visitor);
+        }
+    }
+
+    /**
+     * Performs a breadth-first search from every vertex in the graph,
+     * reporting each distance found to <code>visitor</code>.
+     */
+    public void searchAll(Visitor visitor)
+    {
+        int n = getIndexedGraph().getVertexCount();
+        int[] sources = new int[n];
+        for (int i = 0; i < n; i++)
+            sources[i] = i;
+        search(sources, visitor);
+    }
+
+    /**
+     * Searches from at most <code>getBatchSize()</code> sources at once.
+     * Each step scans only the vertices reached in the previous step and
+     * their successors, so a batch takes O(w (|V| + |E|)) time, where
+     * <code>w</code> is the width, whatever the diameter of the graph.
+     */
+    protected void searchBatch(int[] sources, Visitor visitor)
+    {
+        IndexedGraph<V,E> ig = getIndexedGraph();
+        int n = ig.getVertexCount();
+        int[] offsets = ig.getOutOffsets();
+        int[] targets = ig.getOutTargets();
+        int w = width;
+
+        long[] seen = new long[n * w];
+        long[] visit = new long[n * w];
+        long[] visit_next = new long[n * w];
+        // the vertices with nonzero masks in visit (the frontier), and those
+        // whose masks in visit_next have been written in the current step
+        int[] frontier = new int[n];
+        int frontier_size = 0;
+        int[] touched = new int[n];
+        int touched_size = 0;
+        boolean[] marked = new boolean[n];
+
+        for (int k = 0; k < sources.length; k++)
+        {
+            int s = sources[k];
+            long bit = 1L << (k & 63);
+            int word = s * w + (k >>> 6);
+            seen[word] |= bit;
+            visit[word] |= bit;
+            if (!marked[s])
+            {
+                marked[s] = true;
+                frontier[frontier_size++] = s;
+            }
+            visitor.visit(s, s, 0);
+        }
+        for (int f = 0; f < frontier_size; f++)
+            marked[frontier[f]] = false;
+
+        int distance = 0;
+        while (frontier_size > 0)
+        {
+            distance++;
+            // push the masks of the vertices reached in the previous step
+            // to their successors
+            touched_size = 0;
+            for (int f = 0; f < frontier_size; f++)
+            {
+                int v = frontier[f];
+                int base = v * w;
+                for (int j = offsets[v]; j < offsets[v + 1]; j++)
+                {
+                    int t = targets[j];
+                    if (!marked[t])
+                    {
+                        marked[t] = true;
+                        touched[touched_size++] = t;
+                    }
+                    int t_base = t * w;
+                    for (int i = 0; i < w; i++)
+                        visit_next[t_base + i] |= visit[base + i];
+                }
+                for (int i = 0; i < w; i++)
+                    visit[base + i] = 0;
+            }
+            // keep only the sources that have not yet reached each vertex;
+            // the vertices that any of them reach form the next frontier
+            frontier_size = 0;
+            for (int f = 0; f < touched_size; f++)
+            {
+                int v = touched[f];
+                marked[v] = false;
+                int base = v * w;
+                boolean any = false;
+                for (int i = 0; i < w; i++)
+                {
+                    long fresh = visit_next[base + i] & ~seen[base + i];
+                    visit_next[base + i] = fresh;
+                    if (fresh == 0)
+                        continue;
+                    seen[base + i] |= fresh;
+                    any = true;
+                    while (fresh != 0)
+                    {
+                        int b = Long.numberOfTrailingZeros(fresh);
+                        fresh &= fresh - 1;
+                        visitor.visit(sources[(i << 6) + b], v, distance);
+                    }
+                }
+                if (any)
+                    frontier[frontier_size++] = v;
+            }
+            // visit is now all zero
+            long[] temp = visit;
+            visit = visit_next;
+            visit_next = temp;
+        }
+    }
+
+    /**
+     * @see edu.uci.ics.jung.algorithms.shortestpath.Distance#getDistance(Object, Object)
+     */
+    public Number getDistance(V source, V target)
+    {
+        return getDistanceMap(source).get(target);
+    }
+
+    /**
+     * Returns the distances from <code>source</code>, computing them (along
+     * with the distances from a batch of other sources) if necessary.
+     * @see edu.uci.ics.jung.algorithms.shortestpath.Distance#getDistanceMap(Object)
+     */
+    public Map<V,Number> getDistanceMap(V source)
+    {
+        Map<V,Number> distances = distance_maps.get(source);
+        if (distances != null)
+            return distances;
+
+        final IndexedGraph<V,E> ig = getIndexedGraph();
+        int source_index = ig.getIndex(source);
+        if (source_index < 0)
+        {
+            distances = new HashMap<V,Number>();
+            distance_maps.put(source, distances);
+            return distances;
+        }
+
+        // fill the batch with the next sources whose distances are not known
+        int n = ig.getVertexCount();
+        int batch_size = getBatchSize();
+        int[] batch = new int[batch_size];
+        int count = 0;
+        batch[count++] = source_index;
+        for (int scanned = 0; scanned < n && count < batch_size; scanned++)
+        {
+            int i = next_uncomputed;
+            next_uncomputed = (next_uncomputed + 1) % n;
+            if (i != source_index && !distance_maps.containsKey(ig.getVertex(i)))
+                batch[count++] = i;
+        }
+        int[] sources = new int[count];
+        System.arraycopy(batch, 0, sources, 0, count);
+
+        final int[] slot = new int[n];
+        final List<Map<V,Number>> batch_maps = new ArrayList<Map<V,Number>>(count);
+        for (int k = 0; k < count; k++)
+        {
+            Map<V,Number> map = new HashMap<V,Number>();
+            slot[sources[k]] = k;
+            batch_maps.add(map);
+            distance_maps.put(ig.getVertex(sources[k]), map);
+        }
+        searchBatch(sources, new Visitor()
+        {
+            public void visit(int s, int vertex, int distance)
+            {
+                batch_maps.get(slot[s]).put(ig.getVertex(vertex), distance);
+            }
+        });
+        return distance_maps.get(source);
+    }
+
+    /**
+     * Clears all stored distances and the indexed snapshot of the graph.
+     * Should be called whenever the graph is modified.
+     */
+    public void reset()
+    {
+        distance_maps.clear();
+        indexed = null;
+        next_uncomputed = 0;
+    }
+}
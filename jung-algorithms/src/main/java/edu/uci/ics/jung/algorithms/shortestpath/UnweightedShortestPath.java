@@ -12,11 +12,20 @@ package edu.uci.ics.jung.algorithms.shortestpath;
 import java.util.HashMap;
 import java.util.Map;
 
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
 import edu.uci.ics.jung.graph.Hypergraph;
 
 /**
  * Computes the shortest path distances for graphs whose edges are not weighted (using BFS).
  * 
+ * <p>The searches are performed by a {@link DirectionOptimizingBFS} over a 
+ * snapshot of the graph which is taken when the first search is performed.
+ * The snapshot is taken again when a search finds that the graph's vertex or 
+ * edge count has changed, and is discarded by <code>reset()</code>; after 
+ * changes which leave both counts the same (such as replacing one edge by 
+ * another), <code>reset()</code> must be called.  Distances that have 
+ * already been computed are not updated unless they are reset.
+ * 
  * @author Scott White
  */
 public class UnweightedShortestPath<V, E> 
@@ -25,7 +34,7 @@ public class UnweightedShortestPath<V, E>
 	private Map<V,Map<V,Number>> mDistanceMap;
 	private Map<V,Map<V,E>> mIncomingEdgeMap;
 	private Hypergraph<V,E> mGraph;
-    private Map<V, Number> distances = new HashMap<V,Number>();
+	private DirectionOptimizingBFS<V,E> mBFS;
 
 	/**
 	 * Constructs and initializes algorithm
@@ -82,43 +91,43 @@ public class UnweightedShortestPath<V, E>
 	 */
 	private void computeShortestPathsFromSource(V source)
 	{
-		BFSDistanceLabeler<V,E> labeler = new BFSDistanceLabeler<V,E>();
-		labeler.labelDistances(mGraph, source);
-        distances = labeler.getDistanceDecorator();
+		if (mBFS == null || !mBFS.getIndexedGraph().isCurrent())
+			mBFS = new DirectionOptimizingBFS<V,E>(mGraph);
+		IndexedGraph<V,E> indexed = mBFS.getIndexedGraph();
 		Map<V,Number> currentSourceSPMap = new HashMap<V,Number>();
 		Map<V,E> currentSourceEdgeMap = new HashMap<V,E>();
-
-        for(V vertex : mGraph.getVertices()) {
-            
-			Number distanceVal = distances.get(vertex);
-            // BFSDistanceLabeler uses -1 to indicate unreachable vertices;
-            // don't bother to store unreachable vertices
-            if (distanceVal != null && distanceVal.intValue() >= 0) 
-            {
-                currentSourceSPMap.put(vertex, distanceVal);
-                int minDistance = distanceVal.intValue();
-                for(E incomingEdge : mGraph.getInEdges(vertex)) 
-                {
-                	for (V neighbor : mGraph.getIncidentVertices(incomingEdge))
-                	{
-                		if (neighbor.equals(vertex))
-                			continue;
-//	                    V neighbor = mGraph.getOpposite(vertex, incomingEdge);
-	
-	                    Number predDistanceVal = distances.get(neighbor);
-	
-	                    int pred_distance = predDistanceVal.intValue();
-	                    if (pred_distance < minDistance && pred_distance >= 0)
-	                    {
-	                        minDistance = predDistanceVal.intValue();
-	                        currentSourceEdgeMap.put(vertex, incomingEdge);
-	                    }
-                	}
-                }
-            }
-		}
 		mDistanceMap.put(source, currentSourceSPMap);
 		mIncomingEdgeMap.put(source, currentSourceEdgeMap);
+		int source_index = indexed.getIndex(source);
+		if (source_index < 0)
+			return;
+		int[] distances = mBFS.getDistances(source_index);
+		int[] in_offsets = indexed.getInOffsets();
+		int[] in_sources = indexed.getInSources();
+		int[] in_edges = indexed.getInEdges();
+
+		for (int i = 0; i < distances.length; i++)
+		{
+			// don't bother to store unreachable vertices
+			if (distances[i] < 0)
+				continue;
+			V vertex = indexed.getVertex(i);
+			currentSourceSPMap.put(vertex, distances[i]);
+			// the source has no incoming edge (and an unreached
+			// predecessor's distance of -1 would otherwise match it)
+			if (i == source_index)
+				continue;
+			// any incoming edge from a vertex one step closer to the
+			// source lies on a shortest path
+			for (int j = in_offsets[i]; j < in_offsets[i + 1]; j++)
+			{
+				if (distances[in_sources[j]] == distances[i] - 1)
+				{
+					currentSourceEdgeMap.put(vertex, indexed.getEdge(in_edges[j]));
+					break;
+				}
+			}
+		}
 	}
     
     /**
@@ -134,6 +143,7 @@ public class UnweightedShortestPath<V, E>
     {
         mDistanceMap.clear();
         mIncomingEdgeMap.clear();
+        mBFS = null;
     }
     
     /**
@@ -0,0 +1,440 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.transformation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Predicate;
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.ConstantTransformer;
+
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.algorithms.util.ParallelSort;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * Creates weighted "folded" graphs, as <code>FoldingTransformer</code> does,
+ * by computing the product of an incidence matrix with its transpose.  If
+ * <i>B</i> is the matrix whose rows are the vertices of the folded graph and
+ * whose columns are the intermediate elements (vertices of the other
+ * partitions, or hyperedges), then two vertices are connected in the folded
+ * graph if the corresponding entry of <i>B B<sup>T</sup></i> is non-zero,
+ * by a single edge whose weight is that entry.  Thus, by default, the
+ * weight of an edge is the number of intermediate elements shared by its
+ * endpoints.
+ *
+ * <p><i>B</i> and its transpose are stored in compressed sparse row form,
+ * and each row of the product is accumulated in a dense array, the rows
+ * being divided among several threads.  The product may be pruned as it is
+ * computed, by discarding the entries whose weight is less than a minimum,
+ * and by keeping only the heaviest entries of each row.  (An edge is kept
+ * if it is among the heaviest of the row of either of its endpoints.)
+ *
+ * <p>The folded graph is built only after the product is complete, so the
+ * graph and edge factories need not be thread-safe.  The edge weights are
+ * stored in a <code>Map</code> supplied by the caller, which may be
+ * wrapped in a <code>MapTransformer</code> for use by other algorithms.
+ *
+ * @see FoldingTransformer
+ */
+public class SparseFoldingTransformer<V,E>
+{
+    private static final ParallelRunner SEQUENTIAL = new ParallelRunner(1);
+
+    protected int threads;
+    protected Transformer<E, ? extends Number> edge_weights;
+    protected double min_weight;
+    protected int max_neighbors;
+
+    /**
+     * Creates an instance which treats each edge as having weight 1, and
+     * which uses one thread per available processor.
+     */
+    public SparseFoldingTransformer()
+    {
+        this(ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance which treats each edge as having weight 1, and
+     * which uses the specified number of threads.
+     */
+    @SuppressWarnings("unchecked")
+    public SparseFoldingTransformer(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+        this.edge_weights = new ConstantTransformer(1);
+        this.min_weight = Double.MIN_VALUE;
+        this.max_neighbors = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Specifies the weights of the edges of the graphs passed to
+     * <code>foldKPartiteGraph</code>; the weight of a path <code>a-c-b</code>
+     * is the product of the weights of its edges.  (Hypergraph incidences
+     * have weight 1.)
+     */
+    public void setEdgeWeights(Transformer<E, ? extends Number> edge_weights)
+    {
+        this.edge_weights = edge_weights;
+    }
+
+    /**
+     * Specifies that edges whose weight is less than <code>min_weight</code>
+     * are to be omitted from the folded graph.  By default, only edges whose
+     * weight is not positive are omitted.
+     */
+    public void setMinimumWeight(double min_weight)
+    {
+        this.min_weight = Math.max(min_weight, Double.MIN_VALUE);
+    }
+
+    /**
+     * Specifies that only the <code>max_neighbors</code> heaviest edges of
+     * each vertex (ties broken in favor of the earliest vertices) are to
+     * be kept; an edge is omitted only if it is not among those of either
+     * endpoint.
+     */
+    public void setMaxNeighbors(int max_neighbors)
+    {
+        if (max_neighbors < 1)
+            throw new IllegalArgumentException("Neighbor limit must be positive");
+        this.max_neighbors = max_neighbors;
+    }
+
+    /**
+     * Converts <code>g</code> into a weighted unipartite graph whose vertex
+     * set is the vertices of <code>g</code> which satisfy <code>p</code>.
+     * Vertices <code>a</code> and <code>b</code> are connected if
+     * <code>g</code> contains edges <code>(a,c)</code> and <code>(c,b)</code>
+     * for at least one vertex <code>c</code> which does not satisfy
+     * <code>p</code>; the weight of the edge is the sum, over all such
+     * paths, of their weights.  The direction of the edges of
+     * <code>g</code> is ignored, and no self-loops are created.
+     *
+     * @param g input graph
+     * @param p predicate specifying the vertices of the folded graph
+     * @param graph_factory factory used to create the output graph
+     * @param edge_factory factory used to create the edges of the output graph
+     * @param weights map in which the weight of each new edge is stored
+     * (may be null)
+     * @return the folded graph
+     */
+    public <F> Graph<V,F> foldKPartiteGraph(Graph<V,E> g, Predicate<V> p,
+            Factory<Graph<V,F>> graph_factory, Factory<F> edge_factory, Map<F,Number> weights)
+    {
+        List<V> vertices = new ArrayList<V>();
+        for (V v : g.getVertices())
+            if (p.evaluate(v))
+                vertices.add(v);
+        int n = vertices.size();
+        Map<V,Integer> others = new HashMap<V,Integer>();
+        int[] offsets = new int[n + 1];
+        for (int a = 0; a < n; a++)
+        {
+            V v = vertices.get(a);
+            for (E e : g.getIncidentEdges(v))
+            {
+                V c = g.getOpposite(v, e);
+                if (p.evaluate(c))
+                    continue;
+                if (!others.containsKey(c))
+                    others.put(c, others.size());
+                offsets[a + 1]++;
+            }
+        }
+        for (int a = 0; a < n; a++)
+            offsets[a + 1] += offsets[a];
+        int[] columns = new int[offsets[n]];
+        double[] values = new double[offsets[n]];
+        int k = 0;
+        for (V v : vertices)
+        {
+            for (E e : g.getIncidentEdges(v))
+            {
+                V c = g.getOpposite(v, e);
+                if (p.evaluate(c))
+                    continue;
+                columns[k] = others.get(c);
+                values[k++] = edge_weights.transform(e).doubleValue();
+            }
+        }
+        Product product = multiply(n, others.size(), offsets, columns, values);
+        return build(vertices, product, graph_factory, edge_factory, weights);
+    }
+
+    /**
+     * Creates a weighted graph whose vertices are those of <code>h</code>,
+     * in which two vertices are connected if they share a hyperedge in
+     * <code>h</code>, by an edge whose weight is the number of hyperedges
+     * they share.
+     *
+     * @param h hypergraph to be folded
+     * @param graph_factory factory used to create the output graph
+     * @param edge_factory factory used to create the edges of the output graph
+     * @param weights map in which the weight of each new edge is stored
+     * (may be null)
+     * @return the folded graph
+     */
+    public <F> Graph<V,F> foldHypergraphEdges(Hypergraph<V,E> h,
+            Factory<Graph<V,F>> graph_factory, Factory<F> edge_factory, Map<F,Number> weights)
+    {
+        return foldIncidence(new ArrayList<V>(h.getVertices()), new ArrayList<E>(h.getEdges()),
+                h, true, graph_factory, edge_factory, weights);
+    }
+
+    /**
+     * Creates a weighted graph whose vertices are the hyperedges of
+     * <code>h</code>, in which two hyperedges are connected if they share a
+     * vertex in <code>h</code>, by an edge whose weight is the number of
+     * vertices they share.
+     *
+     * @param h hypergraph to be folded
+     * @param graph_factory factory used to create the output graph
+     * @param edge_factory factory used to create the edges of the output graph
+     * @param weights map in which the weight of each new edge is stored
+     * (may be null)
+     * @return the folded graph
+     */
+    public <F> Graph<E,F> foldHypergraphVertices(Hypergraph<V,E> h,
+            Factory<Graph<E,F>> graph_factory, Factory<F> edge_factory, Map<F,Number> weights)
+    {
+        return foldIncidence(new ArrayList<E>(h.getEdges()), new ArrayList<V>(h.getVertices()),
+                h, false, graph_factory, edge_factory, weights);
+    }
+
+    /**
+     * Folds the incidence matrix of <code>h</code> whose rows are
+     * <code>rows</code> (its vertices if <code>by_vertex</code>, and
+     * otherwise its edges) and whose columns are <code>columns</code>.
+     */
+    @SuppressWarnings("unchecked")
+    private <X,Y,F> Graph<X,F> foldIncidence(List<X> rows, List<Y> columns, Hypergraph<V,E> h,
+            boolean by_vertex, Factory<Graph<X,F>> graph_factory, Factory<F> edge_factory,
+            Map<F,Number> weights)
+    {
+        int n = rows.size();
+        Map<Y,Integer> index = new HashMap<Y,Integer>();
+        for (int c = 0; c < columns.size(); c++)
+            index.put(columns.get(c), c);
+        int[] offsets = new int[n + 1];
+        List<int[]> incidences = new ArrayList<int[]>(n);
+        for (int a = 0; a < n; a++)
+        {
+            X x = rows.get(a);
+            List<Y> incident = by_vertex
+                ? new ArrayList<Y>((Collection<Y>)h.getIncidentEdges((V)x))
+                : new ArrayList<Y>((Collection<Y>)h.getIncidentVertices((E)x));
+            int[] row = new int[incident.size()];
+            for (int j = 0; j < row.length; j++)
+                row[j] = index.get(incident.get(j));
+            incidences.add(row);
+            offsets[a + 1] = offsets[a] + row.length;
+        }
+        int[] cols = new int[offsets[n]];
+        double[] values = new double[offsets[n]];
+        for (int a = 0; a < n; a++)
+            System.arraycopy(incidences.get(a), 0, cols, offsets[a], offsets[a + 1] - offsets[a]);
+        incidences = null;
+        Arrays.fill(values, 1);
+        Product product = multiply(n, columns.size(), offsets, cols, values);
+        return build(rows, product, graph_factory, edge_factory, weights);
+    }
+
+    /**
+     * The pruned rows of a product, each sorted by column.
+     */
+    private static class Product
+    {
+        int[][] columns;
+        double[][] values;
+    }
+
+    /**
+     * Returns the pruned product <i>B B<sup>T</sup></i>, without its
+     * diagonal, where <i>B</i> is the <code>n</code> by <code>m</code>
+     * matrix in compressed sparse row form.
+     */
+    private Product multiply(final int n, int m, final int[] offsets, final int[] columns,
+            final double[] values)
+    {
+        // the transpose, by counting sort on the columns
+        final int[] t_offsets = new int[m + 1];
+        for (int c : columns)
+            t_offsets[c + 1]++;
+        for (int c = 0; c < m; c++)
+            t_offsets[c + 1] += t_offsets[c];
+        final int[] t_columns = new int[columns.length];
+        final double[] t_values = new double[columns.length];
+        int[] next = new int[m];
+        System.arraycopy(t_offsets, 0, next, 0, m);
+        for (int a = 0; a < n; a++)
+        {
+            for (int k = offsets[a]; k < offsets[a + 1]; k++)
+            {
+                int pos = next[columns[k]]++;
+                t_columns[pos] = a;
+                t_values[pos] = values[k];
+            }
+        }
+        next = null;
+
+        final Product product = new Product();
+        product.columns = new int[n][];
+        product.values = new double[n][];
+        final ThreadLocal<double[]> accumulators = new ThreadLocal<double[]>()
+        {
+            @Override
+            protected double[] initialValue()
+            {
+                return new double[n];
+            }
+        };
+        final ThreadLocal<int[]> touched_lists = new ThreadLocal<int[]>()
+        {
+            @Override
+            protected int[] initialValue()
+            {
+                return new int[n];
+            }
+        };
+        ParallelRunner runner = new ParallelRunner(threads);
+        // rows vary greatly in cost, so hand out small blocks
+        runner.setMinimumBlockSize(64);
+        runner.run(n, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                double[] accumulator = accumulators.get();
+                int[] touched = touched_lists.get();
+                for (int a = start; a < end; a++)
+                {
+                    int count = 0;
+                    for (int k = offsets[a]; k < offsets[a + 1]; k++)
+                    {
+                        int c = columns[k];
+                        double w = values[k];
+                        for (int j = t_offsets[c]; j < t_offsets[c + 1]; j++)
+                        {
+                            int b = t_columns[j];
+                            if (b == a)
+                                continue;
+                            if (accumulator[b] == 0)
+                                touched[count++] = b;
+                            accumulator[b] += w * t_values[j];
+                            // keep exact cancellations distinguishable from absence
+                            if (accumulator[b] == 0)
+                                accumulator[b] = Double.MIN_VALUE;
+                        }
+                    }
+                    prune(a, touched, count, accumulator, product);
+                }
+            }
+        });
+        return product;
+    }
+
+    /**
+     * Stores the entries of row <code>a</code> (whose columns are the first
+     * <code>count</code> elements of <code>touched</code>) which survive
+     * pruning in <code>product</code>, and clears the accumulator.
+     */
+    private void prune(int a, int[] touched, int count, double[] accumulator, Product product)
+    {
+        int kept = 0;
+        double[] keys = new double[count];
+        int[] cols = new int[count];
+        for (int t = 0; t < count; t++)
+        {
+            int b = touched[t];
+            double w = accumulator[b];
+            accumulator[b] = 0;
+            if (w >= min_weight)
+            {
+                keys[kept] = -w;
+                cols[kept++] = b;
+            }
+        }
+        if (kept > max_neighbors)
+        {
+            // heaviest first, ties by column
+            ParallelSort.sortByKey(keys, cols, kept, SEQUENTIAL);
+            kept = max_neighbors;
+        }
+        keys = sortByColumn(cols, keys, kept);
+        int[] row = new int[kept];
+        System.arraycopy(cols, 0, row, 0, kept);
+        product.columns[a] = row;
+        product.values[a] = keys;
+    }
+
+    /**
+     * Sorts the first <code>length</code> columns, and returns their weights
+     * (which are stored negated in <code>keys</code>) in the same order.
+     */
+    private static double[] sortByColumn(int[] cols, double[] keys, int length)
+    {
+        double[] columns = new double[length];
+        int[] positions = new int[length];
+        for (int k = 0; k < length; k++)
+        {
+            columns[k] = cols[k];
+            positions[k] = k;
+        }
+        ParallelSort.sortByKey(columns, positions, length, SEQUENTIAL);
+        double[] weights = new double[length];
+        for (int k = 0; k < length; k++)
+        {
+            weights[k] = -keys[positions[k]];
+            cols[k] = (int)columns[k];
+        }
+        return weights;
+    }
+
+    /**
+     * Creates the folded graph on <code>vertices</code> whose edges are
+     * the entries of <code>product</code>.
+     */
+    private static <X,F> Graph<X,F> build(List<X> vertices, Product product,
+            Factory<Graph<X,F>> graph_factory, Factory<F> edge_factory, Map<F,Number> weights)
+    {
+        Graph<X,F> target = graph_factory.create();
+        for (X x : vertices)
+            target.addVertex(x);
+        for (int a = 0; a < vertices.size(); a++)
+        {
+            int[] row = product.columns[a];
+            for (int j = 0; j < row.length; j++)
+            {
+                int b = row[j];
+                // add each edge once, from the row of its lower endpoint if
+                // it was kept there
+                if (b < a && Arrays.binarySearch(product.columns[b], a) >= 0)
+                    continue;
+                F f = edge_factory.create();
+                target.addEdge(f, vertices.get(a), vertices.get(b));
+                if (weights != null)
+                    weights.put(f, product.values[a][j]);
+            }
+        }
+        return target;
+    }
+}
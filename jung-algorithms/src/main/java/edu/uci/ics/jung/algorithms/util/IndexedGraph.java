@@ -0,0 +1,350 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+
+/**
+ * An immutable snapshot of the adjacency structure of a graph, in which
+ * vertices and edges are identified by dense 0-based indices and the
+ * successor and predecessor lists of each vertex are stored as
+ * compressed sparse row (CSR) <code>int</code> arrays.
+ *
+ * <p>The successors of the vertex with index <code>i</code> are the
+ * entries <code>getOutTargets()[j]</code> for
+ * <code>getOutOffsets()[i] &lt;= j &lt; getOutOffsets()[i+1]</code>;
+ * <code>getOutEdges()[j]</code> is the index of the edge that connects them.
+ * The predecessor arrays are laid out the same way.  An undirected edge
+ * appears in the successor (and predecessor) lists of both of its endpoints;
+ * a hyperedge connects each of its incident vertices to each of the others.
+ * Parallel edges produce repeated entries.
+ *
+ * <p>The arrays returned by the accessors are the internal arrays of this
+ * instance, and must not be modified.  This class does not track changes
+ * to the graph from which it was created; a new instance must be created
+ * if the graph is modified.  <code>isCurrent()</code> provides a cheap 
+ * test for additions and removals.
+ *
+ * <p>Running time to construct: O(|V| + |E|) (for graphs whose edges have
+ * a bounded number of incident vertices).
+ */
+public class IndexedGraph<V,E>
+{
+    protected Hypergraph<V,E> graph;
+    protected List<V> vertices;
+    protected Map<V,Integer> vertex_index;
+    protected List<E> edges;
+    protected Map<E,Integer> edge_index;
+
+    protected int[] out_offsets;
+    protected int[] out_targets;
+    protected int[] out_edges;
+
+    protected int[] in_offsets;
+    protected int[] in_sources;
+    protected int[] in_edges;
+
+    /**
+     * Creates a snapshot of the adjacency structure of <code>graph</code>.
+     * Vertices and edges are numbered in the iteration order of
+     * <code>graph.getVertices()</code> and <code>graph.getEdges()</code>.
+     */
+    public IndexedGraph(Hypergraph<V,E> graph)
+    {
+        this.graph = graph;
+        int n = graph.getVertexCount();
+        this.vertices = new ArrayList<V>(graph.getVertices());
+        this.vertex_index = new HashMap<V,Integer>();
+        for (int i = 0; i < n; i++)
+            vertex_index.put(vertices.get(i), i);
+        this.edges = new ArrayList<E>(graph.getEdges());
+        this.edge_index = new HashMap<E,Integer>();
+        for (int i = 0; i < edges.size(); i++)
+            edge_index.put(edges.get(i), i);
+
+        buildSuccessors();
+        buildPredecessors();
+    }
+
+    private void buildSuccessors()
+    {
+        int n = vertices.size();
+        out_offsets = new int[n + 1];
+        int[] targets = new int[Math.max(16, 2 * edges.size())];
+        int[] target_edges = new int[targets.length];
+        int count = 0;
+        Graph<V,E> g = graph instanceof Graph ? (Graph<V,E>)graph : null;
+        for (int i = 0; i < n; i++)
+        {
+            V v = vertices.get(i);
+            out_offsets[i] = count;
+            for (E e : graph.getOutEdges(v))
+            {
+                int e_index = edge_index.get(e);
+                if (g != null)
+                {
+                    if (count == targets.length)
+                    {
+                        targets = grow(targets);
+                        target_edges = grow(target_edges);
+                    }
+                    targets[count] = vertex_index.get(g.getOpposite(v, e));
+                    target_edges[count++] = e_index;
+                    continue;
+                }
+                // a hyperedge connects v to each of its other incident
+                // vertices; skip exactly one occurrence of v so that
+                // self-loops are retained
+                boolean skipped = false;
+                for (V w : graph.getIncidentVertices(e))
+                {
+                    if (!skipped && w.equals(v))
+                    {
+                        skipped = true;
+                        continue;
+                    }
+                    if (count == targets.length)
+                    {
+                        targets = grow(targets);
+                        target_edges = grow(target_edges);
+                    }
+                    targets[count] = vertex_index.get(w);
+                    target_edges[count++] = e_index;
+                }
+            }
+        }
+        out_offsets[n] = count;
+        out_targets = new int[count];
+        out_edges = new int[count];
+        System.arraycopy(targets, 0, out_targets, 0, count);
+        System.arraycopy(target_edges, 0, out_edges, 0, count);
+    }
+
+    /**
+     * Builds the predecessor lists as the transpose of the successor lists.
+     */
+    private void buildPredecessors()
+    {
+        int n = vertices.size();
+        int count = out_targets.length;
+        in_offsets = new int[n + 1];
+        for (int j = 0; j < count; j++)
+            in_offsets[out_targets[j] + 1]++;
+        for (int i = 0; i < n; i++)
+            in_offsets[i + 1] += in_offsets[i];
+        in_sources = new int[count];
+        in_edges = new int[count];
+        int[] next = new int[n];
+        System.arraycopy(in_offsets, 0, next, 0, n);
+        for (int i = 0; i < n; i++)
+        {
+            for (int j = out_offsets[i]; j < out_offsets[i + 1]; j++)
+            {
+                int pos = next[out_targets[j]]++;
+                in_sources[pos] = i;
+                in_edges[pos] = out_edges[j];
+            }
+        }
+    }
+
+    private static int[] grow(int[] array)
+    {
+        int[] grown = new int[array.length * 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    /**
+     * Returns the graph from which this instance was created.
+     */
+    public Hypergraph<V,E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Returns <code>true</code> if the graph from which this instance was 
+     * created has as many vertices and edges as this snapshot.  Any addition
+     * or removal of vertices or edges that has not been offset by another
+     * change will cause this method to return <code>false</code>.
+     */
+    public boolean isCurrent()
+    {
+        return graph.getVertexCount() == vertices.size() && 
+            graph.getEdgeCount() == edges.size();
+    }
+
+    /**
+     * Returns the number of vertices in this snapshot.
+     */
+    public int getVertexCount()
+    {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the number of edges in this snapshot.
+     */
+    public int getEdgeCount()
+    {
+        return edges.size();
+    }
+
+    /**
+     * Returns the vertex with index <code>i</code>.
+     */
+    public V getVertex(int i)
+    {
+        return vertices.get(i);
+    }
+
+    /**
+     * Returns the index of <code>v</code>, or -1 if <code>v</code>
+     * was not in the graph when this snapshot was created.
+     */
+    public int getIndex(V v)
+    {
+        Integer i = vertex_index.get(v);
+        return i == null ? -1 : i.intValue();
+    }
+
+    /**
+     * Returns the indices of the vertices in <code>c</code>.
+     * @throws IllegalArgumentException if any element of <code>c</code>
+     * is not a vertex of this snapshot
+     */
+    public int[] getIndices(Collection<? extends V> c)
+    {
+        int[] indices = new int[c.size()];
+        int k = 0;
+        for (V v : c)
+        {
+            int i = getIndex(v);
+            if (i < 0)
+                throw new IllegalArgumentException("Vertex " + v +
+                        " is not contained in the graph.");
+            indices[k++] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the vertices in index order.  The returned list must not
+     * be modified.
+     */
+    public List<V> getVertices()
+    {
+        return vertices;
+    }
+
+    /**
+     * Returns the edge with index <code>i</code>.
+     */
+    public E getEdge(int i)
+    {
+        return edges.get(i);
+    }
+
+    /**
+     * Returns the index of <code>e</code>, or -1 if <code>e</code>
+     * was not in the graph when this snapshot was created.
+     */
+    public int getEdgeIndex(E e)
+    {
+        Integer i = edge_index.get(e);
+        return i == null ? -1 : i.intValue();
+    }
+
+    /**
+     * Returns the edges in index order.  The returned list must not
+     * be modified.
+     */
+    public List<E> getEdges()
+    {
+        return edges;
+    }
+
+    /**
+     * Returns the number of successor entries for the vertex with
+     * index <code>i</code> (counting parallel edges separately).
+     */
+    public int outDegree(int i)
+    {
+        return out_offsets[i + 1] - out_offsets[i];
+    }
+
+    /**
+     * Returns the number of predecessor entries for the vertex with
+     * index <code>i</code> (counting parallel edges separately).
+     */
+    public int inDegree(int i)
+    {
+        return in_offsets[i + 1] - in_offsets[i];
+    }
+
+    /**
+     * Returns the successor list offsets, of length <code>getVertexCount() + 1</code>.
+     */
+    public int[] getOutOffsets()
+    {
+        return out_offsets;
+    }
+
+    /**
+     * Returns the successor vertex indices, indexed by {@link #getOutOffsets()}.
+     */
+    public int[] getOutTargets()
+    {
+        return out_targets;
+    }
+
+    /**
+     * Returns the indices of the edges corresponding to the entries of
+     * {@link #getOutTargets()}.
+     */
+    public int[] getOutEdges()
+    {
+        return out_edges;
+    }
+
+    /**
+     * Returns the predecessor list offsets, of length <code>getVertexCount() + 1</code>.
+     */
+    public int[] getInOffsets()
+    {
+        return in_offsets;
+    }
+
+    /**
+     * Returns the predecessor vertex indices, indexed by {@link #getInOffsets()}.
+     */
+    public int[] getInSources()
+    {
+        return in_sources;
+    }
+
+    /**
+     * Returns the indices of the edges corresponding to the entries of
+     * {@link #getInSources()}.
+     */
+    public int[] getInEdges()
+    {
+        return in_edges;
+    }
+}
@@ -14,11 +14,10 @@
 package edu.uci.ics.jung.algorithms.util;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -35,6 +34,10 @@ import java.util.Set;
  * <li/>none of the centroids has moved as much as <code>convergence_threshold</code>
  * since the previous iteration
  * </ul>
+ * <p>The initial centroids are chosen by k-means++ seeding, and the 
+ * locations are copied into a single array, over which the points are 
+ * assigned to clusters in parallel, using triangle inequality bounds to 
+ * avoid most distance computations.
  * 
  * @author Joshua O'Madadhain
  */
@@ -43,15 +46,28 @@ public class KMeansClusterer<T>
     protected int max_iterations;
     protected double convergence_threshold;
     protected Random rand;
+    protected int threads;
 
     /**
      * Creates an instance whose termination conditions are set according
-     * to the parameters.  
+     * to the parameters, and which uses one thread per available processor.
      */
     public KMeansClusterer(int max_iterations, double convergence_threshold)
     {
+        this(max_iterations, convergence_threshold, ParallelRunner.getDefaultThreadCount());
+    }
+
+    /**
+     * Creates an instance whose termination conditions are set according
+     * to the parameters, and which uses the specified number of threads.
+     */
+    public KMeansClusterer(int max_iterations, double convergence_threshold, int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("thread count must be > 0");
         this.max_iterations = max_iterations;
         this.convergence_threshold = convergence_threshold;
+        this.threads = threads;
         this.rand = new Random();
     }
 
@@ -111,7 +127,8 @@ public class KMeansClusterer<T>
      * @param object_locations  a map of the Objects to cluster, to
      * <code>double</code> arrays that specify their locations in d-dimensional space.
      * @param num_clusters  the number of clusters to create
-     * @throws NotEnoughClustersException
+     * @throws NotEnoughClustersException if there are fewer than 
+     * <code>num_clusters</code> distinct locations
      */
     @SuppressWarnings("unchecked")
     public Collection<Map<T, double[]>> cluster(Map<T, double[]> object_locations, int num_clusters)
@@ -124,63 +141,307 @@ public class KMeansClusterer<T>
                 "must be >= 2 and <= number of objects (" +
                 object_locations.size() + ")");
 
+        int n = object_locations.size();
+        Object[] obj_array = new Object[n];
+        double[][] locations = new double[n][];
+        int i = 0;
+        for (Map.Entry<T, double[]> entry : object_locations.entrySet())
+        {
+            obj_array[i] = entry.getKey();
+            locations[i++] = entry.getValue();
+        }
+        int d = locations[0].length;
+        double[] points = new double[n * d];
+        for (i = 0; i < n; i++)
+        {
+            if (locations[i].length != d)
+                throw new IllegalArgumentException("All locations must have the same dimension");
+            System.arraycopy(locations[i], 0, points, i * d, d);
+        }
+
+        Lloyd lloyd = new Lloyd(points, n, d, num_clusters);
+        lloyd.run();
 
-        Set<double[]> centroids = new HashSet<double[]>();
+        List<Map<T, double[]>> clusters = new ArrayList<Map<T, double[]>>(num_clusters);
+        for (int j = 0; j < num_clusters; j++)
+            clusters.add(new HashMap<T, double[]>(lloyd.sizes[j] * 4 / 3 + 1));
+        for (i = 0; i < n; i++)
+            clusters.get(lloyd.assignment[i]).put((T)obj_array[i], locations[i]);
+        return clusters;
+    }
+
+    /**
+     * The state of one run of the k-means algorithm, over points stored
+     * consecutively in a single array.
+     * <p>The initial centroids are chosen by k-means++ seeding: the first
+     * is chosen uniformly at random, and each subsequent one from the points
+     * with probability proportional to the squared distance to the nearest
+     * centroid already chosen.  Each iteration then moves each centroid to
+     * the mean of its cluster and reassigns the points.  Reassignment
+     * maintains, for each point, an upper bound on the distance to its
+     * centroid and a lower bound on the distance to every other centroid
+     * (Hamerly's variant of Elkan's triangle inequality bounds, which needs
+     * only two bounds per point); a point whose bounds show that its
+     * centroid is still the closest is not compared with the others.
+     * Both seeding and reassignment divide the points among several 
+     * threads.
+     *
+     * @see "k-means++: the advantages of careful seeding by D. Arthur and S. Vassilvitskii (2007), SODA"
+     * @see "Making k-means even faster by G. Hamerly (2010), SDM"
+     */
+    protected class Lloyd
+    {
+        protected final double[] points;
+        protected final int n;
+        protected final int d;
+        protected final int k;
+        protected final double[] centroids;
+        protected final int[] assignment;
+        protected final int[] sizes;
+        private final double[] upper;
+        private final double[] lower;
+        /** Half the distance from each centroid to the nearest other one. */
+        private final double[] separation;
+        private final ParallelRunner runner;
 
-        Object[] obj_array = object_locations.keySet().toArray();
-        Set<T> tried = new HashSet<T>();
+        protected Lloyd(double[] points, int n, int d, int k)
+        {
+            this.points = points;
+            this.n = n;
+            this.d = d;
+            this.k = k;
+            this.centroids = new double[k * d];
+            this.assignment = new int[n];
+            this.sizes = new int[k];
+            this.upper = new double[n];
+            this.lower = new double[n];
+            this.separation = new double[k];
+            this.runner = new ParallelRunner(threads);
+        }
 
-        // create the specified number of clusters
-        while (centroids.size() < num_clusters && tried.size() < object_locations.size())
+        protected void run()
         {
-            T o = (T)obj_array[(int)(rand.nextDouble() * obj_array.length)];
-            tried.add(o);
-            double[] mean_value = object_locations.get(o);
-            boolean duplicate = false;
-            for (double[] cur : centroids)
+            seed();
+            updateSeparation();
+            runner.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    for (int i = start; i < end; i++)
+                        assignNearest(i);
+                }
+            });
+
+            final double[] movement = new double[k];
+            int iterations = 0;
+            double max_movement = Double.POSITIVE_INFINITY;
+            while (iterations++ < max_iterations && max_movement > convergence_threshold)
             {
-                if (Arrays.equals(mean_value, cur))
-                    duplicate = true;
+                max_movement = 0;
+                double[] means = means();
+                double largest = 0;
+                double second = 0;
+                for (int j = 0; j < k; j++)
+                {
+                    double squared = 0;
+                    for (int c = 0; c < d; c++)
+                    {
+                        double delta = means[j * d + c] - centroids[j * d + c];
+                        squared += delta * delta;
+                    }
+                    movement[j] = Math.sqrt(squared);
+                    if (movement[j] > largest)
+                    {
+                        second = largest;
+                        largest = movement[j];
+                    }
+                    else if (movement[j] > second)
+                        second = movement[j];
+                }
+                max_movement = largest;
+                System.arraycopy(means, 0, centroids, 0, k * d);
+                updateSeparation();
+
+                final double max_move = largest;
+                final double second_move = second;
+                runner.run(n, new ParallelRunner.RangeTask()
+                {
+                    public void run(int start, int end)
+                    {
+                        for (int i = start; i < end; i++)
+                        {
+                            int a = assignment[i];
+                            upper[i] += movement[a];
+                            lower[i] -= movement[a] == max_move ? second_move : max_move;
+                            double bound = Math.max(separation[a], lower[i]);
+                            if (upper[i] <= bound)
+                                continue;
+                            upper[i] = Math.sqrt(distance(i, a));
+                            if (upper[i] <= bound)
+                                continue;
+                            assignNearest(i);
+                        }
+                    }
+                });
             }
-            if (!duplicate)
-                centroids.add(mean_value);
+
+            for (int i = 0; i < n; i++)
+                sizes[assignment[i]]++;
         }
 
-        if (tried.size() >= object_locations.size())
-            throw new NotEnoughClustersException();
+        /**
+         * Chooses the initial centroids by k-means++ seeding.
+         * @throws NotEnoughClustersException if there are fewer than 
+         * <code>k</code> distinct points
+         */
+        private void seed()
+        {
+            // the squared distance from each point to the nearest centroid
+            final double[] nearest = upper;
+            int first = (int)(rand.nextDouble() * n);
+            System.arraycopy(points, first * d, centroids, 0, d);
+            for (int j = 1; j < k; j++)
+            {
+                final int latest = j - 1;
+                runner.run(n, new ParallelRunner.RangeTask()
+                {
+                    public void run(int start, int end)
+                    {
+                        for (int i = start; i < end; i++)
+                        {
+                            double squared = distance(i, latest);
+                            if (latest == 0 || squared < nearest[i])
+                                nearest[i] = squared;
+                        }
+                    }
+                });
+                double total = 0;
+                for (int i = 0; i < n; i++)
+                    total += nearest[i];
+                if (total == 0)
+                    throw new NotEnoughClustersException();
+                double target = rand.nextDouble() * total;
+                int chosen = -1;
+                double sum = 0;
+                for (int i = 0; i < n; i++)
+                {
+                    if (nearest[i] == 0)
+                        continue;
+                    chosen = i;
+                    sum += nearest[i];
+                    if (sum > target)
+                        break;
+                }
+                System.arraycopy(points, chosen * d, centroids, j * d, d);
+            }
+        }
 
-        // put items in their initial clusters
-        Map<double[], Map<T, double[]>> clusterMap = assignToClusters(object_locations, centroids);
+        /**
+         * Returns the mean of the points assigned to each centroid; the mean
+         * of an empty cluster is its current centroid.
+         */
+        private double[] means()
+        {
+            final double[] sums = new double[k * d];
+            final int[] counts = new int[k];
+            runner.run(n, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    double[] local_sums = new double[k * d];
+                    int[] local_counts = new int[k];
+                    for (int i = start; i < end; i++)
+                    {
+                        int a = assignment[i];
+                        local_counts[a]++;
+                        for (int c = 0; c < d; c++)
+                            local_sums[a * d + c] += points[i * d + c];
+                    }
+                    synchronized (sums)
+                    {
+                        for (int j = 0; j < k; j++)
+                            counts[j] += local_counts[j];
+                        for (int c = 0; c < k * d; c++)
+                            sums[c] += local_sums[c];
+                    }
+                }
+            });
+            for (int j = 0; j < k; j++)
+            {
+                for (int c = 0; c < d; c++)
+                {
+                    if (counts[j] == 0)
+                        sums[j * d + c] = centroids[j * d + c];
+                    else
+                        sums[j * d + c] /= counts[j];
+                }
+            }
+            return sums;
+        }
 
-        // keep reconstituting clusters until either
-        // (a) membership is stable, or
-        // (b) number of iterations passes max_iterations, or
-        // (c) max movement of any centroid is <= convergence_threshold
-        int iterations = 0;
-        double max_movement = Double.POSITIVE_INFINITY;
-        while (iterations++ < max_iterations && max_movement > convergence_threshold)
+        private void updateSeparation()
         {
-            max_movement = 0;
-            Set<double[]> new_centroids = new HashSet<double[]>();
-            // calculate new mean for each cluster
-            for (Map.Entry<double[], Map<T, double[]>> entry : clusterMap.entrySet())
+            for (int j = 0; j < k; j++)
             {
-                double[] centroid = entry.getKey();
-                Map<T, double[]> elements = entry.getValue();
-                ArrayList<double[]> locations = new ArrayList<double[]>(elements.values());
-
-                double[] mean = DiscreteDistribution.mean(locations);
-                max_movement = Math.max(max_movement,
-                    Math.sqrt(DiscreteDistribution.squaredError(centroid, mean)));
-                new_centroids.add(mean);
+                double closest = Double.POSITIVE_INFINITY;
+                for (int l = 0; l < k; l++)
+                {
+                    if (l == j)
+                        continue;
+                    double squared = 0;
+                    for (int c = 0; c < d; c++)
+                    {
+                        double delta = centroids[j * d + c] - centroids[l * d + c];
+                        squared += delta * delta;
+                    }
+                    closest = Math.min(closest, squared);
+                }
+                separation[j] = Math.sqrt(closest) / 2;
             }
+        }
 
-            // TODO: check membership of clusters: have they changed?
+        /**
+         * Assigns point <code>i</code> to its nearest centroid (the first,
+         * in case of ties), and resets its bounds.
+         */
+        private void assignNearest(int i)
+        {
+            int best = 0;
+            double best_distance = Double.POSITIVE_INFINITY;
+            double second_distance = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < k; j++)
+            {
+                double squared = distance(i, j);
+                if (squared < best_distance)
+                {
+                    second_distance = best_distance;
+                    best_distance = squared;
+                    best = j;
+                }
+                else if (squared < second_distance)
+                    second_distance = squared;
+            }
+            assignment[i] = best;
+            upper[i] = Math.sqrt(best_distance);
+            lower[i] = Math.sqrt(second_distance);
+        }
 
-            // regenerate cluster membership based on means
-            clusterMap = assignToClusters(object_locations, new_centroids);
+        /**
+         * Returns the squared distance from point <code>i</code> to centroid
+         * <code>j</code>.
+         */
+        private double distance(int i, int j)
+        {
+            double squared = 0;
+            int p = i * d;
+            int q = j * d;
+            for (int c = 0; c < d; c++)
+            {
+                double delta = points[p + c] - centroids[q + c];
+                squared += delta * delta;
+            }
+            return squared;
         }
-        return clusterMap.values();
     }
 
     /**
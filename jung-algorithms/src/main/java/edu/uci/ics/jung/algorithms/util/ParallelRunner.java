@@ -0,0 +1,169 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes a loop over the integer range <code>[0, n)</code> on a
+ * number of threads.  The range is divided into blocks which the threads
+ * claim in turn, so that blocks which take longer to process do not hold up
+ * the other threads.  Each index is processed exactly once; no assumptions
+ * should be made about which thread processes which block, or in which
+ * order.  If a block throws an exception, the remaining blocks are abandoned
+ * and the exception is rethrown by {@link #run(int, RangeTask)}.
+ *
+ * <p>A runner with a thread count of 1 (or a range too small to be worth
+ * dividing) runs the whole loop on the calling thread.
+ */
+public class ParallelRunner
+{
+    /**
+     * A loop body which processes a contiguous block of indices.
+     */
+    public interface RangeTask
+    {
+        /**
+         * Processes the indices <code>start</code> (inclusive) through
+         * <code>end</code> (exclusive).
+         */
+        void run(int start, int end);
+    }
+
+    protected int threads;
+    protected int min_block_size;
+
+    /**
+     * Creates a runner which uses one thread per available processor.
+     */
+    public ParallelRunner()
+    {
+        this(getDefaultThreadCount());
+    }
+
+    /**
+     * Creates a runner which uses the specified number of threads.
+     */
+    public ParallelRunner(int threads)
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be positive");
+        this.threads = threads;
+        this.min_block_size = 1024;
+    }
+
+    /**
+     * Returns the number of processors available to the virtual machine.
+     */
+    public static int getDefaultThreadCount()
+    {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the number of threads used by this runner.
+     */
+    public int getThreadCount()
+    {
+        return threads;
+    }
+
+    /**
+     * Sets the smallest block of indices that will be handed to a thread.
+     * Defaults to 1024; smaller values are appropriate for loops whose
+     * individual iterations are expensive.
+     */
+    public void setMinimumBlockSize(int min_block_size)
+    {
+        if (min_block_size < 1)
+            throw new IllegalArgumentException("Block size must be positive");
+        this.min_block_size = min_block_size;
+    }
+
+    /**
+     * Runs <code>task</code> over the indices <code>[0, n)</code>.
+     */
+    public void run(final int n, final RangeTask task)
+    {
+        if (threads == 1 || n <= min_block_size)
+        {
+            if (n > 0)
+                task.run(0, n);
+            return;
+        }
+        // several blocks per thread, to balance uneven blocks
+        final int block = Math.max(min_block_size, n / (threads * 8) + 1);
+        final AtomicInteger next_block = new AtomicInteger();
+        final Throwable[] failure = new Throwable[1];
+        int thread_count = Math.min(threads, (n + block - 1) / block);
+        Thread[] workers = new Thread[thread_count];
+        for (int t = 0; t < thread_count; t++)
+        {
+            workers[t] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        while (true)
+                        {
+                            synchronized (failure)
+                            {
+                                if (failure[0] != null)
+                                    return;
+                            }
+                            int start = next_block.getAndIncrement() * block;
+                            if (start >= n || start < 0)
+                                return;
+                            task.run(start, Math.min(n, start + block));
+                        }
+                    }
+                    catch (Throwable e)
+                    {
+                        synchronized (failure)
+                        {
+                            if (failure[0] == null)
+                                failure[0] = e;
+                        }
+                    }
+                }
+            };
+            workers[t].setDaemon(true);
+            workers[t].start();
+        }
+        boolean interrupted = false;
+        for (Thread worker : workers)
+        {
+            while (true)
+            {
+                try
+                {
+                    worker.join();
+                    break;
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        if (failure[0] instanceof RuntimeException)
+            throw (RuntimeException)failure[0];
+        if (failure[0] instanceof Error)
+            throw (Error)failure[0];
+        if (failure[0] != null)
+            throw new RuntimeException(failure[0]);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+/**
+ * Static methods for sorting primitive arrays on several threads.
+ * Blocks of the input are sorted concurrently, and the sorted blocks are
+ * then merged pairwise, each round of merges also running concurrently.
+ */
+public class ParallelSort
+{
+    private static final int MIN_BLOCK = 1 << 13;
+
+    /**
+     * Sorts the parallel arrays <code>keys</code> and <code>values</code>
+     * (in place) into ascending order of key, breaking ties by ascending
+     * value, so that the result does not depend on the number of threads.
+     * Only the first <code>length</code> elements of each array are sorted.
+     */
+    public static void sortByKey(final double[] keys, final int[] values,
+            final int length, ParallelRunner runner)
+    {
+        int threads = runner.getThreadCount();
+        if (threads == 1 || length <= 2 * MIN_BLOCK)
+        {
+            quickSort(keys, values, 0, length);
+            return;
+        }
+        int block_count = Math.min(threads * 2, (length + MIN_BLOCK - 1) / MIN_BLOCK);
+        final int block = (length + block_count - 1) / block_count;
+        final int blocks = (length + block - 1) / block;
+        ParallelRunner per_block = new ParallelRunner(threads);
+        per_block.setMinimumBlockSize(1);
+        per_block.run(blocks, new ParallelRunner.RangeTask()
+        {
+            public void run(int start, int end)
+            {
+                for (int b = start; b < end; b++)
+                    quickSort(keys, values, b * block, Math.min(length, (b + 1) * block));
+            }
+        });
+
+        double[] key_buffer = new double[length];
+        int[] value_buffer = new int[length];
+        double[] from_keys = keys;
+        int[] from_values = values;
+        double[] to_keys = key_buffer;
+        int[] to_values = value_buffer;
+        for (int width = block; width < length; width *= 2)
+        {
+            final int w = width;
+            final double[] fk = from_keys;
+            final int[] fv = from_values;
+            final double[] tk = to_keys;
+            final int[] tv = to_values;
+            int merges = (length + 2 * w - 1) / (2 * w);
+            per_block.run(merges, new ParallelRunner.RangeTask()
+            {
+                public void run(int start, int end)
+                {
+                    for (int m = start; m < end; m++)
+                    {
+                        int lo = m * 2 * w;
+                        int mid = Math.min(length, lo + w);
+                        int hi = Math.min(length, lo + 2 * w);
+                        merge(fk, fv, tk, tv, lo, mid, hi);
+                    }
+                }
+            });
+            from_keys = tk;
+            from_values = tv;
+            to_keys = fk;
+            to_values = fv;
+        }
+        if (from_keys != keys)
+        {
+            System.arraycopy(from_keys, 0, keys, 0, length);
+            System.arraycopy(from_values, 0, values, 0, length);
+        }
+    }
+
+    private static boolean less(double k1, int v1, double k2, int v2)
+    {
+        return k1 < k2 || (k1 == k2 && v1 < v2);
+    }
+
+    private static void merge(double[] fk, int[] fv, double[] tk, int[] tv,
+            int lo, int mid, int hi)
+    {
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++)
+        {
+            if (j >= hi || (i < mid && !less(fk[j], fv[j], fk[i], fv[i])))
+            {
+                tk[k] = fk[i];
+                tv[k] = fv[i++];
+            }
+            else
+            {
+                tk[k] = fk[j];
+                tv[k] = fv[j++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the range <code>[from, to)</code> of the parallel arrays.
+     */
+    private static void quickSort(double[] keys, int[] values, int from, int to)
+    {
+        while (to - from > 16)
+        {
+            // median of three pivot
+            int mid = (from + to) >>> 1;
+            if (less(keys[mid], values[mid], keys[from], values[from]))
+                swap(keys, values, mid, from);
+            if (less(keys[to - 1], values[to - 1], keys[from], values[from]))
+                swap(keys, values, to - 1, from);
+            if (less(keys[to - 1], values[to - 1], keys[mid], values[mid]))
+                swap(keys, values, to - 1, mid);
+            double pk = keys[mid];
+            int pv = values[mid];
+            int i = from;
+            int j = to - 1;
+            while (i <= j)
+            {
+                while (less(keys[i], values[i], pk, pv))
+                    i++;
+                while (less(pk, pv, keys[j], values[j]))
+                    j--;
+                if (i <= j)
+                    swap(keys, values, i++, j--);
+            }
+            // recurse into the smaller part, loop on the larger
+            if (j - from < to - i)
+            {
+                quickSort(keys, values, from, j + 1);
+                from = i;
+            }
+            else
+            {
+                quickSort(keys, values, i, to);
+                to = j + 1;
+            }
+        }
+        for (int i = from + 1; i < to; i++)
+        {
+            double k = keys[i];
+            int v = values[i];
+            int j = i - 1;
+            while (j >= from && less(k, v, keys[j], values[j]))
+            {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = k;
+            values[j + 1] = v;
+        }
+    }
+
+    private static void swap(double[] keys, int[] values, int i, int j)
+    {
+        double k = keys[i];
+        keys[i] = keys[j];
+        keys[j] = k;
+        int v = values[i];
+        values[i] = values[j];
+        values[j] = v;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+/**
+ * A disjoint-set (union-find) structure over the integers
+ * <code>[0, n)</code>, using union by size and path halving, so that
+ * any sequence of operations takes nearly constant amortized time per
+ * operation.  This class is not thread-safe.
+ */
+public class UnionFind
+{
+    protected int[] parent;
+    protected int[] size;
+    protected int sets;
+
+    /**
+     * Creates a structure in which each of the elements <code>[0, n)</code>
+     * is in a set by itself.
+     */
+    public UnionFind(int n)
+    {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++)
+        {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        sets = n;
+    }
+
+    /**
+     * Returns the representative of the set containing <code>i</code>.
+     */
+    public int find(int i)
+    {
+        while (parent[i] != i)
+        {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Merges the sets containing <code>i</code> and <code>j</code>.
+     * Returns <code>true</code> if they were previously distinct.
+     */
+    public boolean union(int i, int j)
+    {
+        int a = find(i);
+        int b = find(j);
+        if (a == b)
+            return false;
+        if (size[a] < size[b])
+        {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        parent[b] = a;
+        size[a] += size[b];
+        sets--;
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>i</code> and <code>j</code> are
+     * in the same set.
+     */
+    public boolean connected(int i, int j)
+    {
+        return find(i) == find(j);
+    }
+
+    /**
+     * Returns the number of elements in the set containing <code>i</code>.
+     */
+    public int getSetSize(int i)
+    {
+        return size[find(i)];
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     */
+    public int getSetCount()
+    {
+        return sets;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.blockmodel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class TestStructurallyEquivalent extends TestCase
+{
+    private int edge_count;
+
+    private void copyEdges(Graph<Integer,Integer> graph, int from, int to)
+    {
+        for (Integer e : new ArrayList<Integer>(graph.getIncidentEdges(from)))
+        {
+            Pair<Integer> endpoints = graph.getEndpoints(e);
+            int first = endpoints.getFirst() == from ? to : endpoints.getFirst();
+            int second = endpoints.getSecond() == from ? to : endpoints.getSecond();
+            graph.addEdge(edge_count++, first, second, graph.getEdgeType(e));
+        }
+    }
+
+    private Set<Set<Integer>> partitions(VertexPartition<Integer,Integer> partition)
+    {
+        Set<Set<Integer>> sets = new HashSet<Set<Integer>>();
+        for (Set<Integer> set : partition.getVertexPartitions())
+            sets.add(new HashSet<Integer>(set));
+        for (Integer v : partition.getGraph().getVertices())
+            assertTrue(partition.getVertexToPartitionMap().get(v).contains(v));
+        return sets;
+    }
+
+    public void testAgainstPairwise()
+    {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 20; trial++)
+        {
+            // a random mixed multigraph, to which are added copies of some
+            // vertices, some of them connected to their originals
+            Graph<Integer,Integer> graph = new SparseMultigraph<Integer,Integer>();
+            int n = 40;
+            for (int i = 0; i < n; i++)
+                graph.addVertex(i);
+            for (int j = 0; j < 60; j++)
+                graph.addEdge(edge_count++, random.nextInt(n), random.nextInt(n),
+                        random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+            List<Integer> originals = new ArrayList<Integer>(graph.getVertices());
+            for (int i = n; i < 2 * n; i++)
+            {
+                int original = originals.get(random.nextInt(originals.size()));
+                graph.addVertex(i);
+                copyEdges(graph, original, i);
+                switch (random.nextInt(4))
+                {
+                    case 0:
+                        graph.addEdge(edge_count++, original, i, EdgeType.UNDIRECTED);
+                        break;
+                    case 1:
+                        graph.addEdge(edge_count++, original, i, EdgeType.DIRECTED);
+                        break;
+                    case 2:
+                        graph.addEdge(edge_count++, original, i, EdgeType.DIRECTED);
+                        graph.addEdge(edge_count++, i, original, EdgeType.DIRECTED);
+                        break;
+                    default:
+                }
+            }
+
+            VertexPartition<Integer,Integer> pairwise =
+                new StructurallyEquivalent<Integer,Integer>() {}.transform(graph);
+            for (int threads = 1; threads <= 4; threads *= 4)
+            {
+                VertexPartition<Integer,Integer> hashed =
+                    new StructurallyEquivalent<Integer,Integer>(threads).transform(graph);
+                assertEquals(partitions(pairwise), partitions(hashed));
+            }
+        }
+    }
+
+    public void testLargeBipartite()
+    {
+        // the 'right' vertices form groups with identical neighbors
+        Graph<Integer,Integer> graph = new SparseMultigraph<Integer,Integer>();
+        Random random = new Random(2);
+        int left = 1000;
+        int groups = 500;
+        for (int i = 0; i < left; i++)
+            graph.addVertex(i);
+        int v = left;
+        for (int group = 0; group < groups; group++)
+        {
+            Set<Integer> neighbors = new HashSet<Integer>();
+            while (neighbors.size() < 5)
+                neighbors.add(random.nextInt(left));
+            for (int k = 0; k < 100; k++, v++)
+                for (int u : neighbors)
+                    graph.addEdge(edge_count++, u, v, EdgeType.UNDIRECTED);
+        }
+        VertexPartition<Integer,Integer> partition =
+            new StructurallyEquivalent<Integer,Integer>().transform(graph);
+        int nontrivial = 0;
+        for (Set<Integer> set : partition.getVertexPartitions())
+        {
+            // (left vertices may also be equivalent, e.g. if isolated)
+            if (set.size() == 1 || set.iterator().next() < left)
+                continue;
+            nontrivial++;
+            assertEquals(100, set.size());
+            int group = (set.iterator().next() - left) / 100;
+            for (int w : set)
+                assertEquals(group, (w - left) / 100);
+        }
+        assertEquals(groups, nontrivial);
+    }
+}
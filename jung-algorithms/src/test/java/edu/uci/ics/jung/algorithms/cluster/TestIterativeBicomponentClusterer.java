@@ -0,0 +1,106 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestIterativeBicomponentClusterer extends TestCase
+{
+    private int componentCount(UndirectedGraph<Integer,Integer> graph)
+    {
+        return new WeakComponentClusterer<Integer,Integer>().transform(graph).size();
+    }
+
+    public void testAgainstRecursive()
+    {
+        for (int seed = 0; seed < 10; seed++)
+        {
+            UndirectedGraph<Integer,Integer> graph = TestGraphs.createRandomGraph(
+                    new UndirectedSparseMultigraph<Integer,Integer>(), 60, 70, seed);
+            IterativeBicomponentClusterer<Integer,Integer> iterative =
+                new IterativeBicomponentClusterer<Integer,Integer>();
+            assertEquals(new BicomponentClusterer<Integer,Integer>().transform(graph),
+                    iterative.transform(graph));
+
+            // an articulation point is a vertex whose removal adds components
+            int components = componentCount(graph);
+            Set<Integer> articulation_points = new HashSet<Integer>();
+            for (Integer v : new ArrayList<Integer>(graph.getVertices()))
+            {
+                UndirectedGraph<Integer,Integer> copy = TestGraphs.createRandomGraph(
+                        new UndirectedSparseMultigraph<Integer,Integer>(), 60, 70, seed);
+                copy.removeVertex(v);
+                // removing a vertex with no other neighbours removes a component
+                Set<Integer> others = new HashSet<Integer>(graph.getNeighbors(v));
+                others.remove(v);
+                int expected = others.isEmpty() ? components - 1 : components;
+                if (componentCount(copy) > expected)
+                    articulation_points.add(v);
+            }
+            assertEquals(articulation_points, iterative.getArticulationPoints());
+
+            // a bridge is an edge whose removal adds a component
+            Set<Integer> bridges = new HashSet<Integer>();
+            for (Integer e : new ArrayList<Integer>(graph.getEdges()))
+            {
+                UndirectedGraph<Integer,Integer> copy = TestGraphs.createRandomGraph(
+                        new UndirectedSparseMultigraph<Integer,Integer>(), 60, 70, seed);
+                copy.removeEdge(e);
+                if (componentCount(copy) > components)
+                    bridges.add(e);
+            }
+            assertEquals(bridges, iterative.getBridges());
+        }
+    }
+
+    public void testParallelEdges()
+    {
+        UndirectedGraph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 1, 2);
+        graph.addEdge(2, 2, 3);
+        graph.addEdge(3, 3, 3);
+        IterativeBicomponentClusterer<Integer,Integer> clusterer =
+            new IterativeBicomponentClusterer<Integer,Integer>();
+        assertEquals(2, clusterer.transform(graph).size());
+        assertEquals(1, clusterer.getBridges().size());
+        assertTrue(clusterer.getBridges().contains(2));
+        assertEquals(1, clusterer.getArticulationPoints().size());
+        assertTrue(clusterer.getArticulationPoints().contains(2));
+    }
+
+    public void testLongChain()
+    {
+        // deep enough to overflow the stack of a recursive search
+        int n = 500000;
+        UndirectedGraph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int i = 0; i < n - 1; i++)
+            graph.addEdge(i, i, i + 1);
+        IterativeBicomponentClusterer<Integer,Integer> clusterer =
+            new IterativeBicomponentClusterer<Integer,Integer>();
+        Set<Set<Integer>> bicomponents = clusterer.transform(graph);
+        assertEquals(n - 1, bicomponents.size());
+        assertEquals(n - 1, clusterer.getBridges().size());
+        assertEquals(n - 2, clusterer.getArticulationPoints().size());
+        assertFalse(clusterer.getArticulationPoints().contains(0));
+        assertFalse(clusterer.getArticulationPoints().contains(n - 1));
+    }
+}
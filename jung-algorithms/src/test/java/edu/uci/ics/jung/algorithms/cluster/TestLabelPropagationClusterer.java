@@ -0,0 +1,160 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.functors.ConstantTransformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.cluster.LabelPropagationClusterer.Update;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestLabelPropagationClusterer extends TestCase
+{
+    private static final int GROUPS = 80;
+    private static final int GROUP_SIZE = 250;
+
+    private Graph<Integer,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        // groups joined densely within and sparsely between, with a mixture
+        // of directed and undirected edges and some parallel edges
+        Random random = new Random(1);
+        graph = new SparseMultigraph<Integer,Integer>();
+        int n = GROUPS * GROUP_SIZE;
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        int e = 0;
+        for (int i = 0; i < n; i++)
+        {
+            int group = i / GROUP_SIZE;
+            for (int k = 0; k < 10; k++)
+            {
+                int j = group * GROUP_SIZE + random.nextInt(GROUP_SIZE);
+                graph.addEdge(e++, i, j, random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+            }
+            if (random.nextInt(10) == 0)
+                graph.addEdge(e++, i, random.nextInt(n), EdgeType.UNDIRECTED);
+        }
+    }
+
+    private void assertGroups(Set<Set<Integer>> clusters)
+    {
+        assertEquals(GROUPS, clusters.size());
+        for (Set<Integer> cluster : clusters)
+        {
+            assertEquals(GROUP_SIZE, cluster.size());
+            int group = cluster.iterator().next() / GROUP_SIZE;
+            for (Integer v : cluster)
+                assertEquals(group, v / GROUP_SIZE);
+        }
+    }
+
+    private void assertPartition(Set<Set<Integer>> clusters)
+    {
+        Set<Integer> covered = new HashSet<Integer>();
+        for (Set<Integer> cluster : clusters)
+            for (Integer v : cluster)
+                assertTrue(covered.add(v));
+        assertEquals(graph.getVertexCount(), covered.size());
+    }
+
+    private Set<Set<Integer>> cluster(Update update, int threads)
+    {
+        LabelPropagationClusterer<Integer,Integer> clusterer =
+            new LabelPropagationClusterer<Integer,Integer>(new ConstantTransformer(1), update, threads);
+        clusterer.setRandomSeed(2);
+        Set<Set<Integer>> clusters = clusterer.transform(graph);
+        assertTrue(clusterer.getIterations() <= 100);
+        return clusters;
+    }
+
+    public void testSemiSynchronous()
+    {
+        Set<Set<Integer>> clusters = cluster(Update.SEMI_SYNCHRONOUS, 1);
+        assertGroups(clusters);
+        assertEquals(clusters, cluster(Update.SEMI_SYNCHRONOUS, 4));
+    }
+
+    public void testAsynchronous()
+    {
+        assertGroups(cluster(Update.ASYNCHRONOUS, 1));
+        assertPartition(cluster(Update.ASYNCHRONOUS, 4));
+    }
+
+    public void testSynchronous()
+    {
+        Set<Set<Integer>> clusters = cluster(Update.SYNCHRONOUS, 1);
+        assertPartition(clusters);
+        assertEquals(clusters, cluster(Update.SYNCHRONOUS, 4));
+    }
+
+    public void testWeightsAndIsolates()
+    {
+        // a path whose heavy edges determine the communities
+        Graph<String,Integer> graph = new UndirectedSparseGraph<String,Integer>();
+        Map<Integer,Number> weights = new HashMap<Integer,Number>();
+        graph.addEdge(0, "a", "b");
+        weights.put(0, 10);
+        graph.addEdge(1, "b", "c");
+        weights.put(1, 1);
+        graph.addEdge(2, "c", "d");
+        weights.put(2, 10);
+        graph.addVertex("e");
+        // (synchronous updates would swap the labels of each pair forever)
+        for (Update update : new Update[] { Update.ASYNCHRONOUS, Update.SEMI_SYNCHRONOUS })
+        {
+            LabelPropagationClusterer<String,Integer> clusterer =
+                new LabelPropagationClusterer<String,Integer>(MapTransformer.getInstance(weights), update, 2);
+            clusterer.setRandomSeed(3);
+            Set<Set<String>> expected = new HashSet<Set<String>>();
+            Set<String> ab = new HashSet<String>();
+            ab.add("a");
+            ab.add("b");
+            Set<String> cd = new HashSet<String>();
+            cd.add("c");
+            cd.add("d");
+            Set<String> e = new HashSet<String>();
+            e.add("e");
+            expected.add(ab);
+            expected.add(cd);
+            expected.add(e);
+            assertEquals(expected, clusterer.transform(graph));
+        }
+    }
+
+    public void testEmpty()
+    {
+        Graph<String,Integer> graph = new UndirectedSparseGraph<String,Integer>();
+        LabelPropagationClusterer<String,Integer> clusterer =
+            new LabelPropagationClusterer<String,Integer>();
+        assertTrue(clusterer.transform(graph).isEmpty());
+        try
+        {
+            clusterer.setMaxIterations(0);
+            fail("non-positive iteration cap");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
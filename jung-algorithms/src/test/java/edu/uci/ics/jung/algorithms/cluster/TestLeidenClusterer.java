@@ -0,0 +1,200 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.ConstantTransformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.filters.FilterUtils;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class TestLeidenClusterer extends TestCase
+{
+    /**
+     * Computes the modularity of <code>clusters</code> directly from its
+     * definition.
+     */
+    private <V,E> double modularity(Graph<V,E> graph, Transformer<E, ? extends Number> weights,
+            Set<Set<V>> clusters)
+    {
+        Map<V,Integer> cluster_of = new HashMap<V,Integer>();
+        int c = 0;
+        for (Set<V> cluster : clusters)
+        {
+            for (V v : cluster)
+                cluster_of.put(v, c);
+            c++;
+        }
+        double[] internal = new double[c];
+        double[] total = new double[c];
+        double m = 0;
+        for (E e : graph.getEdges())
+        {
+            double w = weights.transform(e).doubleValue();
+            Pair<V> endpoints = graph.getEndpoints(e);
+            int a = cluster_of.get(endpoints.getFirst());
+            int b = cluster_of.get(endpoints.getSecond());
+            m += w;
+            total[a] += w;
+            total[b] += w;
+            if (a == b)
+                internal[a] += w;
+        }
+        double q = 0;
+        for (int i = 0; i < c; i++)
+            q += internal[i] / m - (total[i] / (2 * m)) * (total[i] / (2 * m));
+        return q;
+    }
+
+    private <V,E> boolean isConnected(Graph<V,E> graph, Set<V> cluster)
+    {
+        Graph<V,E> subgraph = FilterUtils.createInducedSubgraph(cluster, graph);
+        return new WeakComponentClusterer<V,E>().transform(subgraph).size() == 1;
+    }
+
+    public void testPlantedPartition()
+    {
+        // 10 groups of 100 vertices, densely connected within and sparsely between
+        Random random = new Random(1);
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        int n = 1000;
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        int e = 0;
+        for (int i = 0; i < n; i++)
+            for (int j = i + 1; j < n; j++)
+                if (random.nextDouble() < (i / 100 == j / 100 ? 0.2 : 0.002))
+                    graph.addEdge(e++, i, j);
+
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            LeidenClusterer<Integer,Integer> clusterer = new LeidenClusterer<Integer,Integer>(
+                    new ConstantTransformer(1), threads);
+            clusterer.setRandomSeed(2);
+            Set<Set<Integer>> clusters = clusterer.transform(graph);
+            assertEquals(10, clusters.size());
+            for (Set<Integer> cluster : clusters)
+            {
+                assertEquals(100, cluster.size());
+                int group = cluster.iterator().next() / 100;
+                for (Integer v : cluster)
+                    assertEquals(group, v / 100);
+            }
+            List<Double> modularities = clusterer.getModularities();
+            assertEquals(modularity(graph, new ConstantTransformer(1), clusters),
+                    modularities.get(modularities.size() - 1), 1e-9);
+            for (int k = 1; k < modularities.size(); k++)
+                assertTrue(modularities.get(k) >= modularities.get(k - 1) - 1e-12);
+        }
+    }
+
+    public void testRandomGraph()
+    {
+        // mixed directed and undirected, weighted, with parallel edges and self-loops
+        Random random = new Random(3);
+        Graph<Integer,Integer> graph = new SparseMultigraph<Integer,Integer>();
+        Map<Integer,Number> weights = new HashMap<Integer,Number>();
+        int n = 3000;
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < 12000; j++)
+        {
+            int u = random.nextInt(n);
+            // mostly local edges, so that there is some structure
+            int v = random.nextInt(10) == 0 ? random.nextInt(n) : (u + random.nextInt(20)) % n;
+            graph.addEdge(j, u, v, random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+            weights.put(j, 1 + random.nextInt(3));
+        }
+        Transformer<Integer,Number> nev = MapTransformer.getInstance(weights);
+        LeidenClusterer<Integer,Integer> clusterer = new LeidenClusterer<Integer,Integer>(nev, 3);
+        clusterer.setRandomSeed(4);
+        Set<Set<Integer>> clusters = clusterer.transform(graph);
+
+        Set<Integer> covered = new HashSet<Integer>();
+        for (Set<Integer> cluster : clusters)
+        {
+            assertTrue(isConnected(graph, cluster));
+            for (Integer v : cluster)
+                assertTrue(covered.add(v));
+        }
+        assertEquals(n, covered.size());
+        List<Double> modularities = clusterer.getModularities();
+        double q = modularity(graph, nev, clusters);
+        assertEquals(q, modularities.get(modularities.size() - 1), 1e-9);
+        assertTrue(q > 0.5);
+    }
+
+    public void testWeights()
+    {
+        // a 4-cycle whose heavy edges determine the communities
+        Graph<String,Integer> graph = new UndirectedSparseGraph<String,Integer>();
+        Map<Integer,Number> weights = new HashMap<Integer,Number>();
+        graph.addEdge(0, "a", "b");
+        weights.put(0, 10);
+        graph.addEdge(1, "b", "c");
+        weights.put(1, 1);
+        graph.addEdge(2, "c", "d");
+        weights.put(2, 10);
+        graph.addEdge(3, "d", "a");
+        weights.put(3, 1);
+        graph.addVertex("e");
+        LeidenClusterer<String,Integer> clusterer = new LeidenClusterer<String,Integer>(
+                MapTransformer.getInstance(weights), 1);
+        Set<Set<String>> clusters = clusterer.transform(graph);
+        Set<Set<String>> expected = new HashSet<Set<String>>();
+        Set<String> ab = new HashSet<String>();
+        ab.add("a");
+        ab.add("b");
+        Set<String> cd = new HashSet<String>();
+        cd.add("c");
+        cd.add("d");
+        Set<String> e = new HashSet<String>();
+        e.add("e");
+        expected.add(ab);
+        expected.add(cd);
+        expected.add(e);
+        assertEquals(expected, clusters);
+
+        weights.put(4, -1);
+        graph.addEdge(4, "a", "e");
+        try
+        {
+            clusterer.transform(graph);
+            fail("negative edge weight");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+
+    public void testEmpty()
+    {
+        Graph<String,Integer> graph = new UndirectedSparseGraph<String,Integer>();
+        graph.addVertex("a");
+        graph.addVertex("b");
+        LeidenClusterer<String,Integer> clusterer = new LeidenClusterer<String,Integer>();
+        assertEquals(2, clusterer.transform(graph).size());
+        assertTrue(clusterer.getModularities().isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.shortestpath.UnweightedShortestPath;
+import edu.uci.ics.jung.graph.DirectedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestStrongComponentClusterer extends TestCase
+{
+    public void testAgainstReachability()
+    {
+        for (int seed = 0; seed < 5; seed++)
+        {
+            DirectedGraph<Integer,Integer> graph = TestGraphs.createRandomGraph(
+                    new DirectedSparseMultigraph<Integer,Integer>(), 80, 110, seed);
+            UnweightedShortestPath<Integer,Integer> usp =
+                new UnweightedShortestPath<Integer,Integer>(graph);
+            Set<Set<Integer>> expected = new HashSet<Set<Integer>>();
+            for (Integer v : graph.getVertices())
+            {
+                Set<Integer> component = new HashSet<Integer>();
+                for (Integer w : usp.getDistanceMap(v).keySet())
+                    if (usp.getDistanceMap(w).containsKey(v))
+                        component.add(w);
+                expected.add(component);
+            }
+            assertEquals(expected, new StrongComponentClusterer<Integer,Integer>().transform(graph));
+            assertEquals(expected, new ParallelStrongComponentClusterer<Integer,Integer>(3).transform(graph));
+        }
+    }
+
+    public void testParallelLarge()
+    {
+        for (int seed = 0; seed < 3; seed++)
+        {
+            DirectedGraph<Integer,Integer> graph = TestGraphs.createRandomGraph(
+                    new DirectedSparseMultigraph<Integer,Integer>(), 30000, 60000, seed);
+            Set<Set<Integer>> sequential = new StrongComponentClusterer<Integer,Integer>().transform(graph);
+            assertEquals(sequential, new ParallelStrongComponentClusterer<Integer,Integer>(4).transform(graph));
+            assertEquals(sequential, new ParallelStrongComponentClusterer<Integer,Integer>(1).transform(graph));
+        }
+    }
+
+    public void testLongCycle()
+    {
+        // deep enough to overflow the stack of a recursive search
+        int n = 300000;
+        DirectedGraph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int i = 0; i < n; i++)
+            graph.addEdge(i, i, (i + 1) % n);
+        graph.addVertex(n);
+        graph.addEdge(n, 0, n);
+        Set<Set<Integer>> components = new StrongComponentClusterer<Integer,Integer>().transform(graph);
+        assertEquals(2, components.size());
+        assertEquals(2, new ParallelStrongComponentClusterer<Integer,Integer>(2).transform(graph).size());
+    }
+
+    public void testCondensation()
+    {
+        DirectedGraph<Integer,Integer> graph = TestGraphs.createRandomGraph(
+                new DirectedSparseMultigraph<Integer,Integer>(), 200, 260, 7);
+        StrongComponentClusterer<Integer,Integer> clusterer =
+            new StrongComponentClusterer<Integer,Integer>();
+        Set<Set<Integer>> components = clusterer.transform(graph);
+        DirectedGraph<Set<Integer>,Set<Integer>> condensation = clusterer.getCondensation(
+                DirectedSparseGraph.<Set<Integer>,Set<Integer>>getFactory());
+        assertEquals(components.size(), condensation.getVertexCount());
+        assertEquals(components.size(),
+                new StrongComponentClusterer<Set<Integer>,Set<Integer>>().transform(condensation).size());
+
+        Map<Integer,Set<Integer>> component_of = new HashMap<Integer,Set<Integer>>();
+        for (Set<Integer> c : components)
+            for (Integer v : c)
+                component_of.put(v, c);
+        int represented = 0;
+        for (Set<Integer> edges : condensation.getEdges())
+        {
+            for (Integer e : edges)
+            {
+                assertSame(condensation.getSource(edges), component_of.get(graph.getSource(e)));
+                assertSame(condensation.getDest(edges), component_of.get(graph.getDest(e)));
+            }
+            represented += edges.size();
+        }
+        int crossing = 0;
+        for (Integer e : graph.getEdges())
+            if (component_of.get(graph.getSource(e)) != component_of.get(graph.getDest(e)))
+                crossing++;
+        assertEquals(crossing, represented);
+    }
+}
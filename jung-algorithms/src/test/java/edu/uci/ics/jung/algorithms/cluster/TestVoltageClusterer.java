@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+public class TestVoltageClusterer extends TestCase
+{
+    public void testPartition()
+    {
+        // two 10-cliques joined by a single edge
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        int e = 0;
+        for (int c = 0; c < 20; c += 10)
+            for (int i = 0; i < 10; i++)
+                for (int j = i + 1; j < 10; j++)
+                    graph.addEdge(e++, c + i, c + j);
+        graph.addEdge(e++, 0, 10);
+
+        Set<Set<Integer>> expected = new HashSet<Set<Integer>>();
+        for (int c = 0; c < 20; c += 10)
+        {
+            Set<Integer> clique = new HashSet<Integer>();
+            for (int i = 0; i < 10; i++)
+                clique.add(c + i);
+            expected.add(clique);
+        }
+
+        Set<Set<Integer>> sequential = null;
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            VoltageClusterer<Integer,Integer> clusterer =
+                new VoltageClusterer<Integer,Integer>(graph, 100, threads);
+            clusterer.setRandomSeed(1);
+            Set<Set<Integer>> clusters = new HashSet<Set<Integer>>(clusterer.cluster(2));
+            assertEquals(expected, clusters);
+            if (sequential == null)
+                sequential = clusters;
+            else
+                assertEquals(sequential, clusters);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.cluster;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.ObservableGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.Graphs;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestWeakComponentTracker extends TestCase
+{
+    private <V,E> void checkAgainstClusterer(Graph<V,E> graph, WeakComponentTracker<V,E> tracker)
+    {
+        Set<Set<V>> expected = new WeakComponentClusterer<V,E>().transform(graph);
+        assertEquals(expected, tracker.getComponents());
+        assertEquals(expected.size(), tracker.getComponentCount());
+        for (Set<V> component : expected)
+        {
+            V first = component.iterator().next();
+            for (V v : component)
+            {
+                assertEquals(component.size(), tracker.getComponentSize(v));
+                assertTrue(tracker.sameComponent(first, v));
+            }
+        }
+        for (Set<V> c1 : expected)
+            for (Set<V> c2 : expected)
+                if (c1 != c2)
+                    assertFalse(tracker.sameComponent(c1.iterator().next(), c2.iterator().next()));
+    }
+
+    public void testDemoGraph()
+    {
+        Graph<String,Number> graph = TestGraphs.getDemoGraph();
+        checkAgainstClusterer(graph, new WeakComponentTracker<String,Number>(graph));
+    }
+
+    public void testParallelBuild()
+    {
+        for (int seed = 0; seed < 3; seed++)
+        {
+            Graph<Integer,Integer> graph = TestGraphs.createRandomGraph(
+                    new UndirectedSparseMultigraph<Integer,Integer>(), 20000, 18000, seed);
+            checkAgainstClusterer(graph, new WeakComponentTracker<Integer,Integer>(graph, 4));
+            checkAgainstClusterer(graph, new WeakComponentTracker<Integer,Integer>(graph, 1));
+        }
+    }
+
+    public void testIncremental()
+    {
+        Random random = new Random(1);
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(
+                TestGraphs.createRandomGraph(
+                        new UndirectedSparseMultigraph<Integer,Integer>(), 300, 100, 2));
+        WeakComponentTracker<Integer,Integer> tracker =
+            new WeakComponentTracker<Integer,Integer>(graph);
+        tracker.observe(graph);
+        for (int j = 100; j < 250; j++)
+        {
+            graph.addEdge(j, random.nextInt(320), random.nextInt(320));
+            if (j % 25 == 0)
+                checkAgainstClusterer(graph, tracker);
+        }
+        graph.addVertex(1000);
+        checkAgainstClusterer(graph, tracker);
+        assertEquals(1, tracker.getComponentSize(1000));
+    }
+
+    public void testRemoval()
+    {
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(
+                new UndirectedSparseMultigraph<Integer,Integer>());
+        WeakComponentTracker<Integer,Integer> tracker =
+            new WeakComponentTracker<Integer,Integer>(graph);
+        tracker.observe(graph);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 3);
+        assertTrue(tracker.sameComponent(1, 3));
+        assertEquals(3, tracker.getComponentSize(2));
+        graph.removeEdge(1);
+        assertFalse(tracker.sameComponent(1, 3));
+        assertEquals(2, tracker.getComponentCount());
+        graph.removeVertex(3);
+        checkAgainstClusterer(graph, tracker);
+        try
+        {
+            tracker.getComponentSize(3);
+            fail("removed vertex should not be tracked");
+        }
+        catch (IllegalArgumentException e) {}
+    }
+
+    public void testAdditionDuringRebuild()
+    {
+        // adds an edge while the tracker is scanning the edges it copied
+        final boolean[] armed = new boolean[1];
+        ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(
+                new UndirectedSparseMultigraph<Integer,Integer>())
+        {
+            @Override
+            public Collection<Integer> getIncidentVertices(Integer edge)
+            {
+                if (armed[0])
+                {
+                    armed[0] = false;
+                    addEdge(10, 1, 2);
+                }
+                return super.getIncidentVertices(edge);
+            }
+        };
+        graph.addEdge(0, 0, 1);
+        graph.addEdge(1, 2, 3);
+        WeakComponentTracker<Integer,Integer> tracker =
+            new WeakComponentTracker<Integer,Integer>(graph, 1);
+        tracker.observe(graph);
+        armed[0] = true;
+        tracker.rebuild();
+        assertFalse(armed[0]);
+        assertTrue(tracker.sameComponent(0, 3));
+        checkAgainstClusterer(graph, tracker);
+    }
+
+    public void testStreamingDuringRebuilds() throws InterruptedException
+    {
+        final ObservableGraph<Integer,Integer> graph = new ObservableGraph<Integer,Integer>(
+                Graphs.synchronizedGraph(TestGraphs.createRandomGraph(
+                        new UndirectedSparseMultigraph<Integer,Integer>(), 2000, 1000, 3)));
+        final int[] rebuilds = new int[1];
+        WeakComponentTracker<Integer,Integer> tracker =
+            new WeakComponentTracker<Integer,Integer>(graph, 4)
+        {
+            @Override
+            public synchronized void rebuild()
+            {
+                rebuilds[0]++;
+                super.rebuild();
+            }
+        };
+        tracker.observe(graph);
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                Random random = new Random(4);
+                for (int j = 1000; j < 2000 || (!done.get() && j < 100000); j++)
+                    graph.addEdge(j, random.nextInt(2500), random.nextInt(2500));
+            }
+        };
+        writer.start();
+        while (graph.getEdgeCount() < 1100)
+            Thread.yield();
+        for (int k = 0; k < 20; k++)
+        {
+            tracker.sameComponent(0, 1);
+            tracker.rebuild();
+        }
+        done.set(true);
+        writer.join();
+        // additions made during the rebuilds do not force another
+        int count = rebuilds[0];
+        checkAgainstClusterer(graph, tracker);
+        assertEquals(count, rebuilds[0]);
+
+        // a removal does
+        graph.removeEdge(0);
+        checkAgainstClusterer(graph, tracker);
+        assertEquals(count + 1, rebuilds[0]);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.filters.BoundedKNeighborhoodFilter;
+import edu.uci.ics.jung.algorithms.filters.BoundedKNeighborhoodFilter.Cutoff;
+import edu.uci.ics.jung.algorithms.filters.KNeighborhoodFilter;
+import edu.uci.ics.jung.algorithms.filters.KNeighborhoodFilter.EdgeType;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+
+public class TestBoundedKNeighborhoodFilter extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        Random random = new Random(1);
+        graph = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 500; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < 1000; j++)
+            graph.addEdge(j, random.nextInt(500), random.nextInt(500));
+    }
+
+    public void testUnbounded()
+    {
+        for (EdgeType type : EdgeType.values())
+        {
+            for (int radius = 0; radius <= 3; radius++)
+            {
+                BoundedKNeighborhoodFilter<Integer,Integer> bounded =
+                    new BoundedKNeighborhoodFilter<Integer,Integer>(0, radius, type);
+                Set<Integer> expected = new HashSet<Integer>(
+                        new KNeighborhoodFilter<Integer,Integer>(0, radius, type).view(graph).getVertices());
+                assertEquals(expected, bounded.getNeighborhood(graph));
+                assertEquals(Cutoff.NONE, bounded.getCutoff());
+                assertEquals(expected.size(), bounded.transform(graph).getVertexCount());
+            }
+        }
+    }
+
+    public void testVisitor()
+    {
+        BoundedKNeighborhoodFilter<Integer,Integer> filter =
+            new BoundedKNeighborhoodFilter<Integer,Integer>(0, 4, EdgeType.IN_OUT);
+        final List<Integer> vertices = new ArrayList<Integer>();
+        final List<Integer> distances = new ArrayList<Integer>();
+        filter.search(graph, new BoundedKNeighborhoodFilter.Visitor<Integer>()
+        {
+            public void visit(Integer vertex, int distance)
+            {
+                vertices.add(vertex);
+                distances.add(distance);
+            }
+        });
+        assertEquals(new ArrayList<Integer>(filter.getNeighborhood(graph)), vertices);
+        assertEquals(0, distances.get(0).intValue());
+        for (int k = 1; k < distances.size(); k++)
+            assertTrue(distances.get(k) >= distances.get(k - 1));
+    }
+
+    public void testLimits()
+    {
+        BoundedKNeighborhoodFilter<Integer,Integer> filter =
+            new BoundedKNeighborhoodFilter<Integer,Integer>(0, 10, EdgeType.IN_OUT);
+        filter.setMaxVertices(50);
+        assertEquals(50, filter.getNeighborhood(graph).size());
+        assertEquals(Cutoff.VERTICES, filter.getCutoff());
+
+        filter = new BoundedKNeighborhoodFilter<Integer,Integer>(0, 10, EdgeType.IN_OUT);
+        filter.setMaxEdges(30);
+        assertTrue(filter.getNeighborhood(graph).size() <= 31);
+        assertEquals(Cutoff.EDGES, filter.getCutoff());
+
+        filter = new BoundedKNeighborhoodFilter<Integer,Integer>(0, 10, EdgeType.IN_OUT);
+        filter.setTimeBudget(0, TimeUnit.MILLISECONDS);
+        assertEquals(1, filter.getNeighborhood(graph).size());
+        assertEquals(Cutoff.TIME, filter.getCutoff());
+    }
+
+    public void testHubs()
+    {
+        // a path 0 -> 1 -> 2, where 1 also points to 100 leaves
+        Graph<Integer,Integer> star = new DirectedSparseMultigraph<Integer,Integer>();
+        star.addEdge(0, 0, 1);
+        star.addEdge(1, 1, 2);
+        for (int i = 3; i < 103; i++)
+            star.addEdge(i, 1, i);
+        BoundedKNeighborhoodFilter<Integer,Integer> filter =
+            new BoundedKNeighborhoodFilter<Integer,Integer>(0, 2, EdgeType.OUT);
+        assertEquals(103, filter.getNeighborhood(star).size());
+
+        filter.setHubDegree(10, 0);
+        Set<Integer> expected = new HashSet<Integer>();
+        expected.add(0);
+        expected.add(1);
+        assertEquals(expected, filter.getNeighborhood(star));
+        assertEquals(Cutoff.NONE, filter.getCutoff());
+
+        filter.setHubDegree(10, 5);
+        filter.setRandomSeed(2);
+        assertEquals(7, filter.getNeighborhood(star).size());
+
+        // hubs among the roots are expanded in full
+        filter = new BoundedKNeighborhoodFilter<Integer,Integer>(1, 1, EdgeType.OUT);
+        filter.setHubDegree(10, 0);
+        assertEquals(102, filter.getNeighborhood(star).size());
+    }
+
+    public void testHubSampleLimits()
+    {
+        // as in testHubs, but with edge lists which do not allow random access
+        Graph<Integer,Integer> star = new DirectedSparseMultigraph<Integer,Integer>();
+        star.addEdge(0, 0, 1);
+        star.addEdge(1, 1, 2);
+        for (int i = 3; i < 103; i++)
+            star.addEdge(i, 1, i);
+        BoundedKNeighborhoodFilter<Integer,Integer> filter =
+            new BoundedKNeighborhoodFilter<Integer,Integer>(0, 2, EdgeType.OUT);
+        filter.setHubDegree(10, 5);
+        filter.setMaxEdges(50);
+        // scanning the hub's edges to sample them counts against the limit
+        Set<Integer> expected = new HashSet<Integer>();
+        expected.add(0);
+        expected.add(1);
+        assertEquals(expected, filter.getNeighborhood(star));
+        assertEquals(Cutoff.EDGES, filter.getCutoff());
+    }
+
+    public void testHubSampleByIndex()
+    {
+        Graph<Integer,Integer> star = new DirectedSparseMultigraph<Integer,Integer>()
+        {
+            @Override
+            public Collection<Integer> getOutEdges(Integer vertex)
+            {
+                return new ArrayList<Integer>(super.getOutEdges(vertex));
+            }
+        };
+        star.addEdge(0, 0, 1);
+        star.addEdge(1, 1, 2);
+        for (int i = 3; i < 103; i++)
+            star.addEdge(i, 1, i);
+        BoundedKNeighborhoodFilter<Integer,Integer> filter =
+            new BoundedKNeighborhoodFilter<Integer,Integer>(0, 2, EdgeType.OUT);
+        filter.setHubDegree(10, 5);
+        filter.setMaxEdges(6);
+        Set<Integer> union = new HashSet<Integer>();
+        for (int seed = 0; seed < 200; seed++)
+        {
+            filter.setRandomSeed(seed);
+            Set<Integer> neighborhood = filter.getNeighborhood(star);
+            // only the sampled edges are examined
+            assertEquals(Cutoff.NONE, filter.getCutoff());
+            assertEquals(7, neighborhood.size());
+            union.addAll(neighborhood);
+        }
+        // every leaf may be chosen
+        assertEquals(103, union.size());
+    }
+}
@@ -59,4 +59,15 @@ public class TestKNeighborhoodFilter extends TestCase {
 		assertEquals(result.getVertexCount(), 7);
 		assertEquals(result.getEdgeCount(), 8);
 	}
+	public void testView() {
+		for (EdgeType type : EdgeType.values()) {
+			KNeighborhoodFilter<Number,Number> filter = new KNeighborhoodFilter<Number,Number>(0, 2, type);
+			Graph<Number,Number> copy = filter.transform(graph);
+			Graph<Number,Number> view = filter.view(graph);
+			assertEquals(copy.getVertexCount(), view.getVertexCount());
+			assertEquals(copy.getEdgeCount(), view.getEdgeCount());
+			for (Number e : copy.getEdges())
+				assertTrue(view.containsEdge(e));
+		}
+	}
 }
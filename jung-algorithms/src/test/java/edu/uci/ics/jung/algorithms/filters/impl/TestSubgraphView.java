@@ -0,0 +1,216 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.filters.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Predicate;
+
+import edu.uci.ics.jung.algorithms.filters.EdgePredicateFilter;
+import edu.uci.ics.jung.algorithms.filters.SubgraphView;
+import edu.uci.ics.jung.algorithms.filters.VertexPredicateFilter;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestSubgraphView extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+
+    /**
+     * Records whether all of its vertices or edges have been requested.
+     */
+    public static class ScanDetectingGraph extends SparseMultigraph<Integer,Integer>
+    {
+        boolean scanned;
+
+        @Override
+        public Collection<Integer> getVertices()
+        {
+            scanned = true;
+            return super.getVertices();
+        }
+
+        @Override
+        public Collection<Integer> getEdges()
+        {
+            scanned = true;
+            return super.getEdges();
+        }
+
+        @Override
+        public Collection<Integer> getEdges(EdgeType edge_type)
+        {
+            scanned = true;
+            return super.getEdges(edge_type);
+        }
+    }
+
+    @Override
+    protected void setUp()
+    {
+        // a mixed multigraph with self-loops
+        Random random = new Random(1);
+        graph = new SparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 50; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < 200; j++)
+            graph.addEdge(j, random.nextInt(50), random.nextInt(50),
+                    random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+    }
+
+    /**
+     * Checks that <code>view</code> answers every query as <code>copy</code>
+     * does.
+     */
+    private void assertSameGraph(Graph<Integer,Integer> copy, Graph<Integer,Integer> view)
+    {
+        assertEquals(copy.getVertexCount(), view.getVertexCount());
+        assertEquals(copy.getEdgeCount(), view.getEdgeCount());
+        assertEquals(copy.getEdgeCount(EdgeType.DIRECTED), view.getEdgeCount(EdgeType.DIRECTED));
+        assertEquals(new HashSet<Integer>(copy.getVertices()), new HashSet<Integer>(view.getVertices()));
+        assertEquals(new HashSet<Integer>(copy.getEdges()), new HashSet<Integer>(view.getEdges()));
+        for (Integer v : graph.getVertices())
+        {
+            assertEquals(copy.containsVertex(v), view.containsVertex(v));
+            if (!copy.containsVertex(v))
+            {
+                assertNull(view.getIncidentEdges(v));
+                continue;
+            }
+            assertEquals(copy.degree(v), view.degree(v));
+            assertEquals(copy.inDegree(v), view.inDegree(v));
+            assertEquals(copy.outDegree(v), view.outDegree(v));
+            assertEquals(new HashSet<Integer>(copy.getIncidentEdges(v)),
+                    new HashSet<Integer>(view.getIncidentEdges(v)));
+            assertEquals(new HashSet<Integer>(copy.getNeighbors(v)),
+                    new HashSet<Integer>(view.getNeighbors(v)));
+            assertEquals(new HashSet<Integer>(copy.getPredecessors(v)),
+                    new HashSet<Integer>(view.getPredecessors(v)));
+            assertEquals(new HashSet<Integer>(copy.getSuccessors(v)),
+                    new HashSet<Integer>(view.getSuccessors(v)));
+            assertEquals(copy.getNeighborCount(v), view.getNeighborCount(v));
+            for (Integer w : copy.getVertices())
+            {
+                assertEquals(copy.isNeighbor(v, w), view.isNeighbor(v, w));
+                assertEquals(copy.isPredecessor(v, w), view.isPredecessor(v, w));
+                assertEquals(copy.findEdge(v, w) == null, view.findEdge(v, w) == null);
+                assertEquals(new HashSet<Integer>(copy.findEdgeSet(v, w)),
+                        new HashSet<Integer>(view.findEdgeSet(v, w)));
+            }
+        }
+        for (Integer e : graph.getEdges())
+        {
+            assertEquals(copy.containsEdge(e), view.containsEdge(e));
+            assertEquals(copy.getEndpoints(e), view.getEndpoints(e));
+            assertEquals(copy.getSource(e), view.getSource(e));
+        }
+    }
+
+    public void testVertexPredicate()
+    {
+        Predicate<Integer> even = new Predicate<Integer>()
+        {
+            public boolean evaluate(Integer v)
+            {
+                return v % 2 == 0;
+            }
+        };
+        VertexPredicateFilter<Integer,Integer> filter = new VertexPredicateFilter<Integer,Integer>(even);
+        Graph<Integer,Integer> copy = filter.transform(graph);
+        SubgraphView<Integer,Integer> view = filter.view(graph);
+        assertSameGraph(copy, view);
+        assertSameGraph(copy, view.materialize());
+
+        // the view follows changes to the underlying graph
+        graph.addEdge(1000, 0, 2);
+        assertTrue(view.containsEdge(1000));
+        assertEquals(copy.degree(0) + 1, view.degree(0));
+    }
+
+    public void testEdgePredicate()
+    {
+        Predicate<Integer> small = new Predicate<Integer>()
+        {
+            public boolean evaluate(Integer e)
+            {
+                return e < 100;
+            }
+        };
+        EdgePredicateFilter<Integer,Integer> filter = new EdgePredicateFilter<Integer,Integer>(small);
+        Graph<Integer,Integer> copy = filter.transform(graph);
+        SubgraphView<Integer,Integer> view = filter.view(graph);
+        assertSameGraph(copy, view);
+        assertSameGraph(copy, view.materialize());
+    }
+
+    public void testVertexCollection()
+    {
+        // drill down into a graph without scanning all of it
+        ScanDetectingGraph large = new ScanDetectingGraph();
+        for (Integer e : graph.getEdges())
+            large.addEdge(e, graph.getIncidentVertices(e), graph.getEdgeType(e));
+        Set<Integer> members = new HashSet<Integer>();
+        for (int i = 0; i < 50; i += 3)
+            members.add(i);
+        members.add(-1);  // not a vertex of the graph
+
+        final Set<Integer> vertices = members;
+        Graph<Integer,Integer> copy = new VertexPredicateFilter<Integer,Integer>(new Predicate<Integer>()
+        {
+            public boolean evaluate(Integer v)
+            {
+                return vertices.contains(v);
+            }
+        }).transform(graph);
+        SubgraphView<Integer,Integer> view = new SubgraphView<Integer,Integer>(large, members);
+        large.scanned = false;
+        assertEquals(copy.getVertexCount(), view.getVertexCount());
+        assertEquals(copy.getEdgeCount(), view.getEdgeCount());
+        assertEquals(copy.getEdgeCount(EdgeType.UNDIRECTED), view.getEdgeCount(EdgeType.UNDIRECTED));
+        assertEquals(copy.getEdges().size(), new ArrayList<Integer>(view.getEdges()).size());
+        Graph<Integer,Integer> materialized = view.materialize();
+        assertFalse(large.scanned);
+        assertSameGraph(copy, view);
+        assertSameGraph(copy, materialized);
+    }
+
+    public void testReadOnly()
+    {
+        SubgraphView<Integer,Integer> view =
+            new SubgraphView<Integer,Integer>(graph, new HashSet<Integer>(graph.getVertices()));
+        try
+        {
+            view.addVertex(100);
+            fail("view is read-only");
+        }
+        catch (UnsupportedOperationException uoe) {}
+        try
+        {
+            view.removeEdge(0);
+            fail("view is read-only");
+        }
+        catch (UnsupportedOperationException uoe) {}
+        try
+        {
+            view.getVertices().clear();
+            fail("view is read-only");
+        }
+        catch (UnsupportedOperationException uoe) {}
+    }
+}
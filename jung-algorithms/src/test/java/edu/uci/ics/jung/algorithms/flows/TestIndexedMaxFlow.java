@@ -0,0 +1,195 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.flows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+
+public class TestIndexedMaxFlow extends TestCase
+{
+    private Map<Integer,Number> capacities;
+
+    private DirectedGraph<Integer,Integer> createRandomNetwork(DirectedGraph<Integer,Integer> graph,
+            int n, int m, int max_capacity, long seed)
+    {
+        capacities = new HashMap<Integer,Number>();
+        Random random = new Random(seed);
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < m; j++)
+        {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (u != v && graph.findEdge(u, v) == null && graph.addEdge(j, u, v))
+                capacities.put(j, 1 + random.nextInt(max_capacity));
+        }
+        return graph;
+    }
+
+    /**
+     * Checks that the flow respects the capacities and is conserved, and
+     * returns its value.
+     */
+    private int checkFlow(DirectedGraph<Integer,Integer> graph, Map<Integer,Number> flows,
+            Integer source, Integer sink)
+    {
+        Map<Integer,Integer> net = new HashMap<Integer,Integer>();
+        for (Integer v : graph.getVertices())
+            net.put(v, 0);
+        for (Integer e : graph.getEdges())
+        {
+            int flow = flows.get(e).intValue();
+            assertTrue(flow >= 0);
+            assertTrue(flow <= capacities.get(e).intValue());
+            net.put(graph.getSource(e), net.get(graph.getSource(e)) - flow);
+            net.put(graph.getDest(e), net.get(graph.getDest(e)) + flow);
+        }
+        for (Integer v : graph.getVertices())
+            if (!v.equals(source) && !v.equals(sink))
+                assertEquals(0, net.get(v).intValue());
+        assertEquals(-net.get(source), net.get(sink).intValue());
+        return net.get(sink);
+    }
+
+    private void compare(AbstractIndexedMaxFlow<Integer,Integer> solver,
+            EdmondsKarpMaxFlow<Integer,Integer> ek, DirectedGraph<Integer,Integer> graph,
+            Map<Integer,Number> flows, Integer source, Integer sink)
+    {
+        assertEquals(ek.getMaxFlow(), solver.getMaxFlow());
+        assertEquals(ek.getMaxFlow(), checkFlow(graph, flows, source, sink));
+        assertEquals(ek.getNodesInSourcePartition(), solver.getNodesInSourcePartition());
+        assertEquals(ek.getNodesInSinkPartition(), solver.getNodesInSinkPartition());
+        assertEquals(ek.getMinCutEdges(), solver.getMinCutEdges());
+        int cut = 0;
+        for (Integer e : solver.getMinCutEdges())
+            cut += capacities.get(e).intValue();
+        assertEquals(solver.getMaxFlow(), cut);
+    }
+
+    public void testAgainstEdmondsKarp()
+    {
+        for (int seed = 0; seed < 20; seed++)
+        {
+            DirectedGraph<Integer,Integer> graph = createRandomNetwork(
+                    new DirectedSparseGraph<Integer,Integer>(), 40, 160, 20, seed);
+            Transformer<Integer,Number> nev = MapTransformer.getInstance(capacities);
+            Factory<Integer> edge_factory = new Factory<Integer>()
+            {
+                int count = 1000;
+                public Integer create()
+                {
+                    return count++;
+                }
+            };
+            EdmondsKarpMaxFlow<Integer,Integer> ek = new EdmondsKarpMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, new HashMap<Integer,Number>(), edge_factory);
+            ek.evaluate();
+
+            Map<Integer,Number> flows = new HashMap<Integer,Number>();
+            DinicMaxFlow<Integer,Integer> dinic = new DinicMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, flows);
+            dinic.evaluate();
+            compare(dinic, ek, graph, flows, 0, 1);
+
+            flows = new HashMap<Integer,Number>();
+            PushRelabelMaxFlow<Integer,Integer> pr = new PushRelabelMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, flows);
+            pr.evaluate();
+            compare(pr, ek, graph, flows, 0, 1);
+        }
+    }
+
+    public void testGaps()
+    {
+        // small sparse networks, in which the gap heuristic often applies
+        for (int seed = 0; seed < 2000; seed++)
+        {
+            DirectedGraph<Integer,Integer> graph = createRandomNetwork(
+                    new DirectedSparseGraph<Integer,Integer>(), 12, 30, 5, seed);
+            Transformer<Integer,Number> nev = MapTransformer.getInstance(capacities);
+            DinicMaxFlow<Integer,Integer> dinic = new DinicMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, new HashMap<Integer,Number>());
+            dinic.evaluate();
+
+            Map<Integer,Number> flows = new HashMap<Integer,Number>();
+            PushRelabelMaxFlow<Integer,Integer> pr = new PushRelabelMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, flows);
+            pr.evaluate();
+            assertEquals(dinic.getMaxFlow(), pr.getMaxFlow());
+            assertEquals(pr.getMaxFlow(), checkFlow(graph, flows, 0, 1));
+        }
+    }
+
+    public void testLargeNetwork()
+    {
+        for (int seed = 0; seed < 3; seed++)
+        {
+            // parallel edges are permitted here
+            DirectedGraph<Integer,Integer> graph = new DirectedSparseMultigraph<Integer,Integer>();
+            capacities = new HashMap<Integer,Number>();
+            Random random = new Random(seed);
+            int n = 5000;
+            for (int i = 0; i < n; i++)
+                graph.addVertex(i);
+            for (int j = 0; j < 40000; j++)
+            {
+                graph.addEdge(j, random.nextInt(n), random.nextInt(n));
+                capacities.put(j, 1 + random.nextInt(1000));
+            }
+            Transformer<Integer,Number> nev = MapTransformer.getInstance(capacities);
+            Map<Integer,Number> dinic_flows = new HashMap<Integer,Number>();
+            DinicMaxFlow<Integer,Integer> dinic = new DinicMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, dinic_flows);
+            dinic.evaluate();
+            Map<Integer,Number> pr_flows = new HashMap<Integer,Number>();
+            PushRelabelMaxFlow<Integer,Integer> pr = new PushRelabelMaxFlow<Integer,Integer>(
+                    graph, 0, 1, nev, pr_flows);
+            pr.evaluate();
+
+            assertEquals(dinic.getMaxFlow(), pr.getMaxFlow());
+            assertEquals(dinic.getMaxFlow(), checkFlow(graph, dinic_flows, 0, 1));
+            assertEquals(pr.getMaxFlow(), checkFlow(graph, pr_flows, 0, 1));
+            assertEquals(dinic.getNodesInSourcePartition(), pr.getNodesInSourcePartition());
+            assertEquals(dinic.getMinCutEdges(), pr.getMinCutEdges());
+        }
+    }
+
+    public void testSanityChecks()
+    {
+        DirectedGraph<Integer,Integer> graph = new DirectedSparseGraph<Integer,Integer>();
+        graph.addVertex(0);
+        graph.addVertex(1);
+        try
+        {
+            new DinicMaxFlow<Integer,Integer>(graph, 0, 0, null, null);
+            fail("source and sink vertices not distinct");
+        }
+        catch (IllegalArgumentException iae) {}
+        try
+        {
+            new PushRelabelMaxFlow<Integer,Integer>(graph, 0, 2, null, null);
+            fail("sink vertex not part of specified graph");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
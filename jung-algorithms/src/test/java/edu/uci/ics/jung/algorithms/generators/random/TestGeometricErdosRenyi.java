@@ -0,0 +1,114 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.generators.random;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class TestGeometricErdosRenyi extends TestCase
+{
+    private Factory<Graph<Integer,Integer>> graph_factory = new Factory<Graph<Integer,Integer>>()
+    {
+        public Graph<Integer,Integer> create()
+        {
+            return new SparseMultigraph<Integer,Integer>();
+        }
+    };
+
+    private static Factory<Integer> counter()
+    {
+        return new Factory<Integer>()
+        {
+            int count;
+
+            public Integer create()
+            {
+                return count++;
+            }
+        };
+    }
+
+    private Graph<Integer,Integer> create(int n, double p, EdgeType edge_type, long seed, int threads)
+    {
+        GeometricErdosRenyiGenerator<Integer,Integer> generator =
+            new GeometricErdosRenyiGenerator<Integer,Integer>(graph_factory, counter(), counter(),
+                    n, p, edge_type);
+        generator.setSeed(seed);
+        generator.setThreadCount(threads);
+        return generator.create();
+    }
+
+    private Set<Pair<Integer>> pairs(Graph<Integer,Integer> graph)
+    {
+        Set<Pair<Integer>> pairs = new HashSet<Pair<Integer>>();
+        for (Integer e : graph.getEdges())
+        {
+            Pair<Integer> endpoints = graph.getEndpoints(e);
+            assertFalse(endpoints.getFirst().equals(endpoints.getSecond()));
+            if (graph.getEdgeType(e) == EdgeType.UNDIRECTED
+                && endpoints.getFirst() > endpoints.getSecond())
+                endpoints = new Pair<Integer>(endpoints.getSecond(), endpoints.getFirst());
+            assertTrue(pairs.add(endpoints));
+        }
+        return pairs;
+    }
+
+    public void testEdgeCounts()
+    {
+        int n = 2000;
+        double p = 0.003;
+        for (EdgeType edge_type : EdgeType.values())
+        {
+            double pairs = n * (n - 1.0) / (edge_type == EdgeType.DIRECTED ? 1 : 2);
+            Graph<Integer,Integer> graph = create(n, p, edge_type, 1, 2);
+            assertEquals(n, graph.getVertexCount());
+            pairs(graph);
+            double sd = Math.sqrt(pairs * p * (1 - p));
+            assertEquals(pairs * p, graph.getEdgeCount(), 5 * sd);
+            for (Integer e : graph.getEdges())
+                assertEquals(edge_type, graph.getEdgeType(e));
+        }
+    }
+
+    public void testDeterminism()
+    {
+        for (EdgeType edge_type : EdgeType.values())
+        {
+            Set<Pair<Integer>> pairs = pairs(create(1500, 0.01, edge_type, 7, 1));
+            assertEquals(pairs, pairs(create(1500, 0.01, edge_type, 7, 4)));
+            assertFalse(pairs.equals(pairs(create(1500, 0.01, edge_type, 8, 4))));
+        }
+    }
+
+    public void testExtremes()
+    {
+        assertEquals(0, create(50, 0, EdgeType.UNDIRECTED, 1, 1).getEdgeCount());
+        assertEquals(50 * 49 / 2, create(50, 1, EdgeType.UNDIRECTED, 1, 1).getEdgeCount());
+        assertEquals(50 * 49, pairs(create(50, 1, EdgeType.DIRECTED, 1, 1)).size());
+        assertEquals(0, create(1, 1, EdgeType.DIRECTED, 1, 1).getEdgeCount());
+        // 1 - p rounds to 1 for these
+        for (EdgeType edge_type : EdgeType.values())
+        {
+            assertEquals(0, create(2000, 1e-20, edge_type, 1, 2).getEdgeCount());
+            assertEquals(0, create(2000, Double.MIN_VALUE, edge_type, 1, 2).getEdgeCount());
+        }
+    }
+}
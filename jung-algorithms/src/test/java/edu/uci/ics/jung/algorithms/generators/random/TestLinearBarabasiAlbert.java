@@ -0,0 +1,148 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.generators.random;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Factory;
+
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.Pair;
+
+public class TestLinearBarabasiAlbert extends TestCase
+{
+    private static Factory<Integer> counter()
+    {
+        return new Factory<Integer>()
+        {
+            int count;
+
+            public Integer create()
+            {
+                return count++;
+            }
+        };
+    }
+
+    private static final Factory<Graph<Integer,Integer>> UNDIRECTED_MULTIGRAPH =
+        new Factory<Graph<Integer,Integer>>()
+    {
+        public Graph<Integer,Integer> create()
+        {
+            return new UndirectedSparseMultigraph<Integer,Integer>();
+        }
+    };
+
+    private static final Factory<Graph<Integer,Integer>> DIRECTED_MULTIGRAPH =
+        new Factory<Graph<Integer,Integer>>()
+    {
+        public Graph<Integer,Integer> create()
+        {
+            return new DirectedSparseMultigraph<Integer,Integer>();
+        }
+    };
+
+    private static final Factory<Graph<Integer,Integer>> UNDIRECTED_GRAPH =
+        new Factory<Graph<Integer,Integer>>()
+    {
+        public Graph<Integer,Integer> create()
+        {
+            return new UndirectedSparseGraph<Integer,Integer>();
+        }
+    };
+
+    private LinearBarabasiAlbertGenerator<Integer,Integer> generator(
+        Factory<Graph<Integer,Integer>> graph_factory, int init_vertices, int edges_per_step, long seed)
+    {
+        return new LinearBarabasiAlbertGenerator<Integer,Integer>(graph_factory, counter(), counter(),
+                init_vertices, edges_per_step, seed, new HashSet<Integer>());
+    }
+
+    private List<Pair<Integer>> edges(Graph<Integer,Integer> graph)
+    {
+        List<Pair<Integer>> edges = new ArrayList<Pair<Integer>>();
+        for (int e = 0; e < graph.getEdgeCount(); e++)
+            edges.add(graph.getEndpoints(e));
+        return edges;
+    }
+
+    public void testCountsAndDeterminism()
+    {
+        LinearBarabasiAlbertGenerator<Integer,Integer> generator = generator(UNDIRECTED_MULTIGRAPH, 3, 2, 1);
+        generator.evolveGraph(1000);
+        generator.evolveGraph(0);
+        generator.evolveGraph(4000);
+        Graph<Integer,Integer> graph = generator.create();
+        assertEquals(5000, generator.numIterations());
+        assertEquals(5003, graph.getVertexCount());
+        assertEquals(10000, graph.getEdgeCount());
+        // each edge joins a new vertex to an older one
+        for (Pair<Integer> edge : edges(graph))
+            assertTrue(edge.getFirst() > edge.getSecond());
+        // a heavy tail: the oldest vertices have far more than the mean degree
+        int max_degree = 0;
+        for (Integer v : graph.getVertices())
+            max_degree = Math.max(max_degree, graph.degree(v));
+        assertTrue(max_degree > 50);
+
+        LinearBarabasiAlbertGenerator<Integer,Integer> other = generator(UNDIRECTED_MULTIGRAPH, 3, 2, 1);
+        other.evolveGraph(1000);
+        other.evolveGraph(4000);
+        assertEquals(edges(graph), edges(other.create()));
+    }
+
+    public void testSimpleGraph()
+    {
+        LinearBarabasiAlbertGenerator<Integer,Integer> generator = generator(UNDIRECTED_GRAPH, 1, 3, 2);
+        generator.evolveGraph(500);
+        Graph<Integer,Integer> graph = generator.create();
+        // steps 1 and 2 can attach only 1 and 2 edges
+        assertEquals(1 + 2 + 3 * 498, graph.getEdgeCount());
+        Set<Pair<Integer>> pairs = new HashSet<Pair<Integer>>(edges(graph));
+        assertEquals(graph.getEdgeCount(), pairs.size());
+    }
+
+    public void testAttachmentProbabilities()
+    {
+        // start with vertices 0 and 1, and attach 2 to one of them (a); 3
+        // then attaches to a, to the other seed vertex, and to 2 with
+        // probabilities proportional to 2, 1, 2 (undirected) or 2, 1, 1
+        // (directed: in-degree plus 1)
+        int trials = 4000;
+        for (boolean directed : new boolean[] { false, true })
+        {
+            int[] counts = new int[3];
+            for (int seed = 0; seed < trials; seed++)
+            {
+                LinearBarabasiAlbertGenerator<Integer,Integer> generator =
+                    generator(directed ? DIRECTED_MULTIGRAPH : UNDIRECTED_MULTIGRAPH, 2, 1, seed);
+                generator.evolveGraph(2);
+                Graph<Integer,Integer> graph = generator.create();
+                int a = graph.getEndpoints(0).getSecond();
+                int target = graph.getEndpoints(1).getSecond();
+                counts[target == a ? 0 : target == 2 ? 2 : 1]++;
+            }
+            double total = directed ? 4 : 5;
+            assertEquals(2 / total, counts[0] / (double)trials, 0.03);
+            assertEquals(1 / total, counts[1] / (double)trials, 0.03);
+            assertEquals((directed ? 1 : 2) / total, counts[2] / (double)trials, 0.03);
+        }
+    }
+}
@@ -60,4 +60,32 @@ public class TestMarkovCentrality extends TestCase {
         Assert.assertEquals(ranker.getVertexRankScore(2),0.2352,.001);
         Assert.assertEquals(ranker.getVertexRankScore(3),0.2352,.001);
     }
+
+    public void testMatrixFree() {
+
+        DirectedGraph<Number,Number> graph = new DirectedSparseMultigraph<Number,Number>();
+        for(int i=0; i<4; i++) {
+        	graph.addVertex(i);
+        }
+        int j=0;
+        graph.addEdge(j++, 0, 1);
+        graph.addEdge(j++, 1, 2);
+        graph.addEdge(j++, 2, 3);
+        graph.addEdge(j++, 3, 0);
+        graph.addEdge(j++, 2, 1);
+
+        Set<Number> priors = new HashSet<Number>();
+        priors.add(2);
+
+        MarkovCentrality<Number,Number> ranker = new MarkovCentrality<Number,Number>(graph,priors,null);
+        ranker.setRemoveRankScoresOnFinalize(false);
+        ranker.setMatrixFree(true);
+
+        ranker.evaluate();
+
+        Assert.assertEquals(ranker.getVertexRankScore(0),0.1764,.001);
+        Assert.assertEquals(ranker.getVertexRankScore(1),0.3529,.001);
+        Assert.assertEquals(ranker.getVertexRankScore(2),0.2352,.001);
+        Assert.assertEquals(ranker.getVertexRankScore(3),0.2352,.001);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.matrix;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.linalg.Algebra;
+import edu.uci.ics.jung.graph.DirectedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+
+public class TestMeanFirstPassageTimes extends TestCase
+{
+    private DirectedGraph<Integer,Integer> graph;
+    private Map<Integer,Number> probabilities;
+
+    @Override
+    protected void setUp()
+    {
+        // a strongly connected graph (a cycle plus random edges, some
+        // parallel and some loops) with random transition probabilities
+        Random random = new Random(1);
+        graph = new DirectedSparseMultigraph<Integer,Integer>();
+        int n = 40;
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        int e = 0;
+        for (int i = 0; i < n; i++)
+            graph.addEdge(e++, i, (i + 1) % n);
+        for (int k = 0; k < 100; k++)
+            graph.addEdge(e++, random.nextInt(n), random.nextInt(n));
+        Map<Integer,Number> weights = new HashMap<Integer,Number>();
+        for (Integer edge : graph.getEdges())
+            weights.put(edge, 1 + random.nextInt(5));
+        probabilities = new HashMap<Integer,Number>();
+        for (Integer v : graph.getVertices())
+        {
+            double total = 0;
+            for (Integer edge : graph.getOutEdges(v))
+                total += weights.get(edge).doubleValue();
+            for (Integer edge : graph.getOutEdges(v))
+                probabilities.put(edge, weights.get(edge).doubleValue() / total);
+        }
+    }
+
+    public void testDenseEquivalence()
+    {
+        int n = graph.getVertexCount();
+        List<Integer> vertices = new ArrayList<Integer>(graph.getVertices());
+
+        // the stationary distribution: pi (P - I) = 0, sum(pi) = 1
+        DoubleMatrix2D p = GraphMatrixOperations.graphToSparseMatrix(graph, probabilities);
+        DoubleMatrix2D system = new DenseDoubleMatrix2D(n, n);
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                system.setQuick(i, j, i == n - 1 ? 1 : p.getQuick(j, i) - (i == j ? 1 : 0));
+        DoubleMatrix1D rhs = new DenseDoubleMatrix1D(n);
+        rhs.setQuick(n - 1, 1);
+        DoubleMatrix1D pi = new Algebra().mult(new Algebra().inverse(system), rhs);
+        DoubleMatrix2D expected = GraphMatrixOperations.computeMeanFirstPassageMatrix(graph, probabilities, pi);
+
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            MeanFirstPassageTimes<Integer,Integer> mfpt = new MeanFirstPassageTimes<Integer,Integer>(
+                    graph, MapTransformer.getInstance(probabilities), threads);
+            Map<Integer,Map<Integer,Number>> times = mfpt.getPassageTimes(vertices.subList(0, 3), vertices);
+            assertEquals(3, times.size());
+            for (int i = 0; i < 3; i++)
+                for (int j = 0; j < n; j++)
+                    assertEquals(expected.getQuick(i, j),
+                            times.get(vertices.get(i)).get(vertices.get(j)).doubleValue(), 1e-6);
+            Map<Integer,Number> column = mfpt.getPassageTimesTo(vertices.get(5));
+            for (int i = 0; i < n; i++)
+                assertEquals(expected.getQuick(i, 5), column.get(vertices.get(i)).doubleValue(), 1e-6);
+        }
+    }
+
+    public void testUnreachable()
+    {
+        // a walk from 40 may get stuck at 41, and so may never reach 0
+        graph.addEdge(1000, 40, 0);
+        graph.addEdge(1001, 40, 41);
+        graph.addEdge(1002, 41, 41);
+        probabilities.put(1000, 0.5);
+        probabilities.put(1001, 0.5);
+        probabilities.put(1002, 1);
+        MeanFirstPassageTimes<Integer,Integer> mfpt = new MeanFirstPassageTimes<Integer,Integer>(
+                graph, MapTransformer.getInstance(probabilities), 2);
+        Map<Integer,Number> times = mfpt.getPassageTimesTo(0);
+        assertEquals(Double.POSITIVE_INFINITY, times.get(40).doubleValue());
+        assertEquals(Double.POSITIVE_INFINITY, times.get(41).doubleValue());
+        assertFalse(Double.isInfinite(times.get(1).doubleValue()));
+        assertFalse(Double.isInfinite(times.get(0).doubleValue()));
+        // 41 can reach only itself
+        assertEquals(1.0, mfpt.getPassageTimesTo(41).get(41).doubleValue(), 1e-9);
+        try
+        {
+            mfpt.getPassageTimesTo(42);
+            fail("absent vertex");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
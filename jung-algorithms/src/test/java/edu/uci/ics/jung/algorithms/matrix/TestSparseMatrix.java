@@ -0,0 +1,148 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.matrix;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import cern.colt.matrix.DoubleMatrix1D;
+import cern.colt.matrix.DoubleMatrix2D;
+import cern.colt.matrix.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.linalg.Algebra;
+import edu.uci.ics.jung.algorithms.util.ParallelRunner;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestSparseMatrix extends TestCase
+{
+    private static DoubleMatrix2D random(Random random, int rows, int columns, int count)
+    {
+        DoubleMatrix2D matrix = new SparseDoubleMatrix2D(rows, columns);
+        for (int k = 0; k < count; k++)
+            matrix.setQuick(random.nextInt(rows), random.nextInt(columns), 1 + random.nextInt(9));
+        return matrix;
+    }
+
+    private static void assertMatrixEquals(DoubleMatrix2D expected, SparseMatrix actual)
+    {
+        assertEquals(expected.rows(), actual.rows());
+        assertEquals(expected.columns(), actual.columns());
+        for (int i = 0; i < expected.rows(); i++)
+            for (int j = 0; j < expected.columns(); j++)
+                assertEquals(expected.getQuick(i, j), actual.get(i, j), 1e-9);
+    }
+
+    public void testTriples()
+    {
+        int[] row = { 2, 0, 2, 1, 2 };
+        int[] column = { 1, 3, 0, 1, 1 };
+        double[] value = { 1, 2, 3, 4, 5, -1 };
+        SparseMatrix matrix = new SparseMatrix(3, 4, row, column, value, 5);
+        assertEquals(4, matrix.size());
+        assertEquals(6.0, matrix.get(2, 1));
+        assertEquals(3.0, matrix.get(2, 0));
+        assertEquals(0.0, matrix.get(1, 0));
+        assertEquals(-1, matrix.find(0, 0));
+        int[] offsets = matrix.getRowOffsets();
+        int[] columns = matrix.getColumnIndices();
+        for (int i = 0; i < 3; i++)
+            for (int k = offsets[i] + 1; k < offsets[i + 1]; k++)
+                assertTrue(columns[k - 1] < columns[k]);
+        try
+        {
+            new SparseMatrix(3, 3, row, column, value, 5);
+            fail("entry outside matrix");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+
+    public void testProducts()
+    {
+        Random random = new Random(1);
+        Algebra algebra = new Algebra();
+        DoubleMatrix2D a = random(random, 300, 200, 1500);
+        DoubleMatrix2D b = random(random, 200, 250, 1500);
+        SparseMatrix sparse_a = SparseMatrix.fromColt(a);
+        SparseMatrix sparse_b = SparseMatrix.fromColt(b);
+        assertMatrixEquals(a, sparse_a);
+        assertMatrixEquals(algebra.transpose(a), sparse_a.transpose());
+        assertEquals(a, sparse_a.toColt());
+
+        DoubleMatrix2D expected = algebra.mult(a, b);
+        DoubleMatrix1D x = new DenseDoubleMatrix1D(200);
+        for (int i = 0; i < 200; i++)
+            x.setQuick(i, random.nextDouble());
+        DoubleMatrix1D y = algebra.mult(a, x);
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            ParallelRunner runner = new ParallelRunner(threads);
+            runner.setMinimumBlockSize(8);
+            assertMatrixEquals(expected, sparse_a.multiply(sparse_b, runner));
+            double[] sparse_y = sparse_a.multiply(x.toArray(), runner);
+            for (int i = 0; i < 300; i++)
+                assertEquals(y.getQuick(i), sparse_y[i], 1e-9);
+        }
+    }
+
+    public void testVoltagePotential()
+    {
+        Random random = new Random(2);
+        UndirectedGraph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        int n = 60;
+        int e = 0;
+        for (int i = 0; i < n; i++)
+        {
+            graph.addVertex(i);
+            if (i > 0)
+                graph.addEdge(e++, i, random.nextInt(i));
+        }
+        for (int k = 0; k < 80; k++)
+        {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            if (i != j)
+                graph.addEdge(e++, i, j);
+        }
+
+        // the inverse of the reduced Laplacian, computed densely
+        DoubleMatrix2D laplacian = new SparseDoubleMatrix2D(n - 1, n - 1);
+        for (Integer edge : graph.getEdges())
+        {
+            int i = graph.getEndpoints(edge).getFirst();
+            int j = graph.getEndpoints(edge).getSecond();
+            for (int v : new int[] { i, j })
+                if (v < n - 1)
+                    laplacian.setQuick(v, v, laplacian.getQuick(v, v) + 1);
+            if (i < n - 1 && j < n - 1)
+            {
+                laplacian.setQuick(i, j, laplacian.getQuick(i, j) - 1);
+                laplacian.setQuick(j, i, laplacian.getQuick(j, i) - 1);
+            }
+        }
+        DoubleMatrix2D inverse = new Algebra().inverse(laplacian);
+        DoubleMatrix2D voltage = GraphMatrixOperations.computeVoltagePotentialMatrix(graph);
+        assertEquals(n, voltage.rows());
+        for (int i = 0; i < n; i++)
+            for (int j = 0; j < n; j++)
+                assertEquals(i < n - 1 && j < n - 1 ? inverse.getQuick(i, j) : 0,
+                        voltage.getQuick(i, j), 1e-8);
+
+        graph.addVertex(n);
+        try
+        {
+            GraphMatrixOperations.computeVoltagePotentialMatrix(graph);
+            fail("disconnected graph");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
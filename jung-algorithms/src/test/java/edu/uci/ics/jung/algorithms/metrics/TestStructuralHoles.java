@@ -0,0 +1,101 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+
+public class TestStructuralHoles extends TestCase
+{
+    private Map<Integer,Number> weights;
+
+    private Graph<Integer,Integer> createRandomGraph(Graph<Integer,Integer> graph,
+            int n, int m, long seed)
+    {
+        weights = new HashMap<Integer,Number>();
+        Random random = new Random(seed);
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < m; j++)
+        {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (graph.findEdge(u, v) == null && graph.addEdge(j, u, v))
+                weights.put(j, 1 + random.nextInt(5));
+        }
+        return graph;
+    }
+
+    private void compare(Graph<Integer,Integer> graph, int threads)
+    {
+        StructuralHoles<Integer,Integer> holes = new StructuralHoles<Integer,Integer>(
+                graph, MapTransformer.getInstance(weights));
+        StructuralHoles<Integer,Integer>.Measures measures = holes.getMeasures(threads);
+        for (Integer v : graph.getVertices())
+        {
+            assertEquals(holes.effectiveSize(v), measures.getEffectiveSize(v), 1e-9);
+            assertEquals(holes.efficiency(v), measures.getEfficiency(v), 1e-9);
+            assertEquals(holes.constraint(v), measures.getConstraint(v), 1e-9);
+            assertEquals(holes.aggregateConstraint(v), measures.getAggregateConstraint(v), 1e-9);
+            assertEquals(holes.hierarchy(v), measures.getHierarchy(v), 1e-9);
+        }
+    }
+
+    public void testAgainstSingleVertexMeasures()
+    {
+        for (int seed = 0; seed < 3; seed++)
+        {
+            // self-loops are permitted here
+            compare(createRandomGraph(new DirectedSparseGraph<Integer,Integer>(),
+                    80, 400, seed), 1);
+            compare(createRandomGraph(new DirectedSparseGraph<Integer,Integer>(),
+                    80, 400, seed), 3);
+            compare(createRandomGraph(new UndirectedSparseGraph<Integer,Integer>(),
+                    80, 300, seed), 3);
+        }
+    }
+
+    public void testStar()
+    {
+        // a hub joined to otherwise unconnected vertices is unconstrained
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        weights = new HashMap<Integer,Number>();
+        for (int i = 1; i <= 4; i++)
+        {
+            graph.addEdge(i, 0, i);
+            weights.put(i, 1);
+        }
+        StructuralHoles<Integer,Integer>.Measures measures = new StructuralHoles<Integer,Integer>(
+                graph, MapTransformer.getInstance(weights)).getMeasures();
+        assertEquals(4.0, measures.getEffectiveSize(0), 1e-12);
+        assertEquals(1.0, measures.getEfficiency(0), 1e-12);
+        assertEquals(0.25, measures.getConstraint(0), 1e-12);
+        assertEquals(0.0, measures.getHierarchy(0), 1e-12);
+        assertEquals(1.0, measures.getConstraint(1), 1e-12);
+        assertEquals(1.0, measures.getHierarchy(1), 1e-12);
+        try
+        {
+            measures.getConstraint(5);
+            fail("vertex not part of specified graph");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
@@ -1,5 +1,9 @@
 package edu.uci.ics.jung.algorithms.metrics;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import junit.framework.TestCase;
 import edu.uci.ics.jung.algorithms.metrics.TriadicCensus;
 import edu.uci.ics.jung.graph.DirectedGraph;
@@ -163,4 +167,43 @@ public class TestTriad extends TestCase {
             assertEquals("Two vertex Graph doesn't have count 0", 0, counts[i]);
 		}
 	}
+
+	public void testAgainstBruteForce() {
+		for (int seed = 0; seed < 3; seed++) {
+			// parallel edges and self-loops are permitted here
+			DirectedGraph<Integer,Number> g = new DirectedSparseMultigraph<Integer,Number>();
+			Random random = new Random(seed);
+			int n = 60;
+			for (int i = 0; i < n; i++)
+				g.addVertex(i);
+			for (int j = 0; j < 300; j++)
+				g.addEdge(j, random.nextInt(n), random.nextInt(n));
+
+			long[] expected = new long[TriadicCensus.MAX_TRIADS];
+			List<Integer> vertices = new ArrayList<Integer>(g.getVertices());
+			for (int i = 0; i < n; i++)
+				for (int j = i + 1; j < n; j++)
+					for (int k = j + 1; k < n; k++)
+						expected[TriadicCensus.triType(TriadicCensus.triCode(g,
+								vertices.get(i), vertices.get(j), vertices.get(k)))]++;
+
+			for (int threads = 1; threads <= 4; threads *= 2) {
+				long[] counts = TriadicCensus.getCounts(g, threads);
+				for (int i = 1; i <= 16; i++)
+					assertEquals("On " + i, expected[i], counts[i]);
+			}
+		}
+	}
+
+	public void testLargeEmptyGraph() {
+		// C(n, 3) does not fit in an int
+		DirectedGraph<Integer,Number> g = new DirectedSparseMultigraph<Integer,Number>();
+		int n = 5000;
+		for (int i = 0; i < n; i++)
+			g.addVertex(i);
+		g.addEdge(0, 0, 1);
+		long[] counts = TriadicCensus.getCounts(g);
+		assertEquals(n - 2, counts[2]);
+		assertEquals((long)n * (n - 1) * (n - 2) / 6 - (n - 2), counts[1]);
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestTriangleCounter extends TestCase
+{
+    /**
+     * Counts, for each vertex, the pairs of its (other) neighbors which are
+     * neighbors of each other.
+     */
+    private long bruteForce(Graph<Integer,Integer> graph, Integer v)
+    {
+        List<Integer> neighbors = new ArrayList<Integer>(graph.getNeighbors(v));
+        neighbors.remove(v);
+        long count = 0;
+        for (int i = 0; i < neighbors.size(); i++)
+            for (int j = i + 1; j < neighbors.size(); j++)
+                if (graph.isNeighbor(neighbors.get(i), neighbors.get(j)))
+                    count++;
+        return count;
+    }
+
+    public void testAgainstBruteForce()
+    {
+        for (int seed = 0; seed < 5; seed++)
+        {
+            Graph<Integer,Integer> graph = TestGraphs.createRandomMixedGraph(100, 800, seed);
+            TriangleCounter<Integer,Integer> counter = new TriangleCounter<Integer,Integer>(graph, 3);
+            long total = 0;
+            double triples = 0;
+            Map<Integer,Double> coefficients = Metrics.clusteringCoefficients(graph);
+            for (Integer v : graph.getVertices())
+            {
+                long expected = bruteForce(graph, v);
+                assertEquals(expected, counter.getTriangleCount(v));
+                total += expected;
+                int d = graph.getNeighbors(v).size() - (graph.isNeighbor(v, v) ? 1 : 0);
+                triples += d * (d - 1) / 2.0;
+                double cc = d < 2 ? 0 : expected / (d * (d - 1) / 2.0);
+                assertEquals(cc, counter.getClusteringCoefficient(v), 1e-12);
+                assertEquals(cc, coefficients.get(v), 1e-12);
+            }
+            assertEquals(total / 3, counter.getTriangleCount());
+            assertEquals(total / 3, TriangleCounter.countTriangles(graph, 2));
+            assertEquals(total / triples, counter.getTransitivity(), 1e-12);
+        }
+    }
+
+    public void testHub()
+    {
+        // a wheel: a hub joined to every vertex of a cycle
+        int n = 20000;
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        int e = 0;
+        for (int i = 0; i < n; i++)
+        {
+            graph.addEdge(e++, i, (i + 1) % n);
+            graph.addEdge(e++, n, i);
+        }
+        TriangleCounter<Integer,Integer> counter = new TriangleCounter<Integer,Integer>(graph);
+        assertEquals(n, counter.getTriangleCount());
+        assertEquals(n, counter.getTriangleCount(n));
+        assertEquals(2, counter.getTriangleCount(0));
+        assertEquals(2.0 / 3, counter.getClusteringCoefficient(0), 1e-12);
+        assertEquals(1.0 / (n - 1) * 2, counter.getClusteringCoefficient(n), 1e-12);
+        assertEquals(n, TriangleCounter.countTriangles(graph, 4));
+    }
+
+    public void testSmall()
+    {
+        Graph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        graph.addVertex(0);
+        TriangleCounter<Integer,Integer> counter = new TriangleCounter<Integer,Integer>(graph);
+        assertEquals(0, counter.getTriangleCount());
+        assertEquals(0.0, counter.getTransitivity());
+        assertEquals(0.0, counter.getClusteringCoefficient(0));
+    }
+}
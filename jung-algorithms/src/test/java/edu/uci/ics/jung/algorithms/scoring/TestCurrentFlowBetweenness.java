@@ -0,0 +1,99 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.functors.ConstantTransformer;
+
+import edu.uci.ics.jung.algorithms.importance.RandomWalkBetweenness;
+import edu.uci.ics.jung.graph.UndirectedGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestCurrentFlowBetweenness extends TestCase
+{
+    private UndirectedGraph<Integer,Integer> randomGraph(int n, int extra_edges, long seed)
+    {
+        // a random tree plus random edges, so that the graph is connected
+        Random random = new Random(seed);
+        UndirectedGraph<Integer,Integer> graph = new UndirectedSparseGraph<Integer,Integer>();
+        int e = 0;
+        for (int i = 0; i < n; i++)
+        {
+            graph.addVertex(i);
+            if (i > 0)
+                graph.addEdge(e++, i, random.nextInt(i));
+        }
+        while (e < n - 1 + extra_edges)
+        {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            if (i != j && graph.findEdge(i, j) == null)
+                graph.addEdge(e++, i, j);
+        }
+        return graph;
+    }
+
+    public void testExact()
+    {
+        UndirectedGraph<Integer,Integer> graph = randomGraph(30, 40, 1);
+        RandomWalkBetweenness<Integer,Integer> reference = new RandomWalkBetweenness<Integer,Integer>(graph);
+        reference.setRemoveRankScoresOnFinalize(false);
+        reference.evaluate();
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            CurrentFlowBetweenness<Integer,Integer> cfb = new CurrentFlowBetweenness<Integer,Integer>(
+                    graph, new ConstantTransformer(1), threads);
+            cfb.setSampleCount(1000);
+            cfb.setTolerance(1e-10);
+            for (Integer v : graph.getVertices())
+                assertEquals(reference.getVertexRankScore(v), cfb.getVertexScore(v), 1e-6);
+            assertEquals(30 * 29 / 2, cfb.getPairCount());
+        }
+    }
+
+    public void testSampled()
+    {
+        UndirectedGraph<Integer,Integer> graph = randomGraph(200, 300, 2);
+        CurrentFlowBetweenness<Integer,Integer> exact = new CurrentFlowBetweenness<Integer,Integer>(graph);
+        exact.setSampleCount(200 * 199 / 2);
+        CurrentFlowBetweenness<Integer,Integer> sampled = new CurrentFlowBetweenness<Integer,Integer>(graph);
+        sampled.setAccuracy(0.05, 0.01);
+        sampled.setRandomSeed(3);
+        sampled.evaluate();
+        assertTrue(sampled.getPairCount() < 200 * 199 / 2);
+        for (Integer v : graph.getVertices())
+            assertEquals(exact.getVertexScore(v), sampled.getVertexScore(v), 0.05);
+    }
+
+    public void testDisconnected()
+    {
+        // two triangles, one of them doubled; only pairs within a triangle
+        // carry current, a third of which passes through the third vertex
+        UndirectedGraph<Integer,Integer> graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        int e = 0;
+        for (int i = 0; i < 6; i++)
+            graph.addEdge(e++, i, i / 3 * 3 + (i + 1) % 3);
+        for (int i = 3; i < 6; i++)
+            graph.addEdge(e++, i, 3 + (i + 1) % 3);
+        CurrentFlowBetweenness<Integer,Integer> cfb = new CurrentFlowBetweenness<Integer,Integer>(graph);
+        cfb.setSampleCount(100);
+        for (int i = 0; i < 6; i++)
+        {
+            // 2 pairs including i, plus a third of the current of the third
+            assertEquals((2 + 1 / 3.0) / 15, cfb.getVertexScore(i), 1e-9);
+        }
+    }
+}
@@ -58,6 +58,10 @@ public class TestVoltageScore extends TestCase
         for (int i = 0; i < 7; i++) {
             assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
         }
+        vr.solve();
+        for (int i = 0; i < 7; i++) {
+            assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
+        }
     }
     
     @SuppressWarnings("unchecked")
@@ -77,5 +81,9 @@ public class TestVoltageScore extends TestCase
         for (int i = 0; i < 7; i++) {
             assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
         }
+        vr.solve();
+        for (int i = 0; i < 7; i++) {
+            assertEquals(vr.getVertexScore(i), voltages[i], 0.01);
+        }
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.scoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.scoring.util.DelegateToEdgeTransformer;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestVoltageSolver extends TestCase
+{
+    private Map<Integer,Number> weights;
+
+    private Graph<Integer,Integer> createRandomGraph(Graph<Integer,Integer> graph,
+            int n, int m, long seed)
+    {
+        weights = new HashMap<Integer,Number>();
+        Random random = new Random(seed);
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        // a cycle, so that every vertex is connected to the others
+        for (int i = 0; i < n; i++)
+        {
+            graph.addEdge(m + i, i, (i + 1) % n);
+            weights.put(m + i, 1);
+        }
+        for (int j = 0; j < m; j++)
+        {
+            graph.addEdge(j, random.nextInt(n), random.nextInt(n));
+            weights.put(j, 1 + random.nextInt(4));
+        }
+        return graph;
+    }
+
+    /**
+     * Compares the solver's voltages with those found by running
+     * <code>VoltageScorer</code> to convergence.
+     */
+    private void compare(Graph<Integer,Integer> graph, VoltageSolver<Integer,Integer> solver,
+            VoltageScorer<Integer,Integer> scorer)
+    {
+        scorer.setMaxIterations(100000);
+        scorer.setTolerance(1e-12);
+        scorer.evaluate();
+        Map<Integer,Double> voltages = solver.solve(Collections.singletonMap(0, 1.0),
+                Collections.singletonList(1));
+        for (Integer v : graph.getVertices())
+            assertEquals(scorer.getVertexScore(v), voltages.get(v), 1e-6);
+    }
+
+    public void testUndirected()
+    {
+        Graph<Integer,Integer> graph = createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 50, 100, 1);
+        VoltageSolver<Integer,Integer> solver = new VoltageSolver<Integer,Integer>(graph,
+                new DelegateToEdgeTransformer<Integer,Integer>(MapTransformer.getInstance(weights)));
+        assertTrue(solver.isSymmetric());
+        compare(graph, solver, new VoltageScorer<Integer,Integer>(graph,
+                MapTransformer.getInstance(weights), 0, 1));
+
+        solver = new VoltageSolver<Integer,Integer>(graph);
+        assertFalse(solver.isSymmetric());
+        compare(graph, solver, new VoltageScorer<Integer,Integer>(graph, 0, 1));
+    }
+
+    public void testDirected()
+    {
+        Graph<Integer,Integer> graph = createRandomGraph(
+                new DirectedSparseMultigraph<Integer,Integer>(), 50, 150, 2);
+        graph.addVertex(50); // no in-edges
+        VoltageSolver<Integer,Integer> solver = new VoltageSolver<Integer,Integer>(graph,
+                new DelegateToEdgeTransformer<Integer,Integer>(MapTransformer.getInstance(weights)));
+        assertFalse(solver.isSymmetric());
+        compare(graph, solver, new VoltageScorer<Integer,Integer>(graph,
+                MapTransformer.getInstance(weights), 0, 1));
+    }
+
+    public void testBatch()
+    {
+        Graph<Integer,Integer> graph = createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 2000, 4000, 3);
+        VoltageSolver<Integer,Integer> solver = new VoltageSolver<Integer,Integer>(graph);
+        Random random = new Random(4);
+        List<Integer> sources = new ArrayList<Integer>();
+        List<Integer> sinks = new ArrayList<Integer>();
+        for (int p = 0; p < 8; p++)
+        {
+            sources.add(random.nextInt(1000));
+            sinks.add(1000 + random.nextInt(1000));
+        }
+        double[][] voltages = solver.solve(sources, sinks, 3);
+        for (int p = 0; p < 8; p++)
+        {
+            Map<Integer,Double> expected = solver.solve(
+                    Collections.singletonMap(sources.get(p), 1.0),
+                    Collections.singletonList(sinks.get(p)));
+            for (Integer v : graph.getVertices())
+            {
+                double voltage = voltages[p][solver.getIndex(v)];
+                assertEquals(expected.get(v), voltage, 1e-12);
+                assertTrue(voltage >= -1e-9 && voltage <= 1 + 1e-9);
+            }
+        }
+    }
+
+    public void testSanityChecks()
+    {
+        Graph<Integer,Integer> graph = createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 5, 5, 5);
+        VoltageSolver<Integer,Integer> solver = new VoltageSolver<Integer,Integer>(graph);
+        try
+        {
+            solver.solve(Collections.singletonMap(0, 1.0), Collections.singletonList(0));
+            fail("source and sink not distinct");
+        }
+        catch (IllegalArgumentException iae) {}
+        try
+        {
+            solver.solve(Collections.singletonList(0), Collections.singletonList(7), 1);
+            fail("sink not part of specified graph");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.DirectedSparseGraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestBoundingDiameters extends TestCase
+{
+    private Map<Integer,Double> eccentricities(Graph<Integer,Integer> g, Distance<Integer> d)
+    {
+        Map<Integer,Double> ecc = new HashMap<Integer,Double>();
+        for (Integer v : g.getVertices())
+        {
+            double e = 0;
+            for (Number dist : d.getDistanceMap(v).values())
+                e = Math.max(e, dist.doubleValue());
+            ecc.put(v, e);
+        }
+        return ecc;
+    }
+
+    private void check(Graph<Integer,Integer> g, Transformer<Integer,? extends Number> weights)
+    {
+        Distance<Integer> d = weights == null ? 
+                new UnweightedShortestPath<Integer,Integer>(g) :
+                new DijkstraDistance<Integer,Integer>(g, weights);
+        Map<Integer,Double> expected = eccentricities(g, d);
+        double diameter = 0;
+        double radius = Double.POSITIVE_INFINITY;
+        for (double e : expected.values())
+        {
+            diameter = Math.max(diameter, e);
+            radius = Math.min(radius, e);
+        }
+        assertEquals(diameter, DistanceStatistics.diameter(g, d, true), 1e-9);
+
+        BoundingDiameters<Integer,Integer> bd = 
+            new BoundingDiameters<Integer,Integer>(g, weights);
+        assertEquals(diameter, bd.getDiameter(), 1e-9);
+        assertEquals(radius, bd.getRadius(), 1e-9);
+        bd = new BoundingDiameters<Integer,Integer>(g, weights);
+        Map<Integer,Double> actual = bd.getEccentricities();
+        for (Integer v : g.getVertices())
+            assertEquals(expected.get(v), actual.get(v), 1e-9);
+        assertEquals(diameter, bd.getDiameter(), 1e-9);
+        assertEquals(radius, bd.getRadius(), 1e-9);
+    }
+
+    public void testUnweighted()
+    {
+        for (int seed = 0; seed < 10; seed++)
+        {
+            Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                    new UndirectedSparseMultigraph<Integer,Integer>(), 80, 120, seed);
+            check(g, null);
+            assertEquals(DistanceStatistics.diameter(g, 
+                    new UnweightedShortestPath<Integer,Integer>(g)), 
+                    DistanceStatistics.diameter(g));
+        }
+        // a path, whose eccentricities are all distinct
+        Graph<Integer,Integer> path = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 30; i++)
+            path.addEdge(i, i, i + 1);
+        check(path, null);
+        assertEquals(30.0, DistanceStatistics.diameter(path));
+        BoundingDiameters<Integer,Integer> bd = new BoundingDiameters<Integer,Integer>(path);
+        assertEquals(15.0, bd.getRadius());
+    }
+
+    public void testWeighted()
+    {
+        for (int seed = 0; seed < 10; seed++)
+        {
+            Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                    new UndirectedSparseMultigraph<Integer,Integer>(), 60, 150, seed);
+            Random random = new Random(seed);
+            Map<Integer,Double> weights = new HashMap<Integer,Double>();
+            for (Integer e : g.getEdges())
+                weights.put(e, (double)random.nextInt(10));
+            Transformer<Integer,Double> nev = MapTransformer.getInstance(weights);
+            check(g, nev);
+            assertEquals(DistanceStatistics.diameter(g, 
+                    new DijkstraDistance<Integer,Integer>(g, nev), true), 
+                    DistanceStatistics.diameter(g, nev, true), 1e-9);
+        }
+    }
+
+    public void testDisconnected()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 10, 5, 0);
+        g.addVertex(100);
+        assertEquals(Double.POSITIVE_INFINITY, DistanceStatistics.diameter(g));
+        assertFalse(new BoundingDiameters<Integer,Integer>(g).isConnected());
+        assertEquals(0.0, new BoundingDiameters<Integer,Integer>(g).getRadius());
+    }
+
+    public void testDirected()
+    {
+        Graph<Integer,Integer> g = new DirectedSparseGraph<Integer,Integer>();
+        g.addEdge(0, 0, 1);
+        g.addEdge(1, 1, 2);
+        g.addEdge(2, 2, 0);
+        assertEquals(2.0, DistanceStatistics.diameter(g));
+        try
+        {
+            new BoundingDiameters<Integer,Integer>(g);
+            fail("directed graphs should be rejected");
+        }
+        catch (IllegalArgumentException e) {}
+    }
+}
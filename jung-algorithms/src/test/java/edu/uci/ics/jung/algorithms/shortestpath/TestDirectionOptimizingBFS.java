@@ -0,0 +1,112 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Collections;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestDirectionOptimizingBFS extends TestCase
+{
+    private void compareWithLabeler(Graph<Integer,Integer> g, int alpha, int beta)
+    {
+        DirectionOptimizingBFS<Integer,Integer> bfs = 
+            new DirectionOptimizingBFS<Integer,Integer>(g);
+        bfs.setSwitchingParameters(alpha, beta);
+        IndexedGraph<Integer,Integer> indexed = bfs.getIndexedGraph();
+        for (int source = 0; source < g.getVertexCount(); source += 7)
+        {
+            BFSDistanceLabeler<Integer,Integer> labeler = 
+                new BFSDistanceLabeler<Integer,Integer>();
+            labeler.labelDistances(g, source);
+            Map<Integer,Number> expected = labeler.getDistanceDecorator();
+            int[] distances = bfs.getDistances(Collections.singleton(source));
+            for (int i = 0; i < distances.length; i++)
+                assertEquals(expected.get(indexed.getVertex(i)).intValue(), distances[i]);
+
+            BFSDistanceLabeler<Integer,Integer> fast = 
+                new BFSDistanceLabeler<Integer,Integer>(bfs);
+            fast.labelDistances(g, source);
+            assertEquals(expected, fast.getDistanceDecorator());
+            assertEquals(labeler.getUnvisitedVertices(), fast.getUnvisitedVertices());
+            assertEquals(labeler.getVerticesInOrderVisited().size(), 
+                    fast.getVerticesInOrderVisited().size());
+            for (Integer v : g.getVertices())
+                assertEquals(labeler.getPredecessors(v), fast.getPredecessors(v));
+        }
+    }
+
+    public void testUndirected()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 300, 1200, 1);
+        compareWithLabeler(g, DirectionOptimizingBFS.DEFAULT_ALPHA, 
+                DirectionOptimizingBFS.DEFAULT_BETA);
+        // force bottom-up expansion on every level after the first
+        compareWithLabeler(g, 1000000, 1000000);
+        // never use bottom-up expansion
+        compareWithLabeler(g, 1, 1);
+    }
+
+    public void testDirected()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new DirectedSparseMultigraph<Integer,Integer>(), 300, 600, 2);
+        compareWithLabeler(g, DirectionOptimizingBFS.DEFAULT_ALPHA, 
+                DirectionOptimizingBFS.DEFAULT_BETA);
+        compareWithLabeler(g, 1000000, 1000000);
+    }
+
+    public void testMultipleRoots()
+    {
+        Graph<Integer,Integer> g = new UndirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 6; i++)
+            g.addVertex(i);
+        g.addVertex(6);
+        for (int i = 0; i < 5; i++)
+            g.addEdge(i, i, i + 1);
+        DirectionOptimizingBFS<Integer,Integer> bfs = 
+            new DirectionOptimizingBFS<Integer,Integer>(g);
+        IndexedGraph<Integer,Integer> indexed = bfs.getIndexedGraph();
+        int[] distances = bfs.getDistances(indexed.getIndex(0), indexed.getIndex(5));
+        assertEquals(0, distances[indexed.getIndex(0)]);
+        assertEquals(1, distances[indexed.getIndex(1)]);
+        assertEquals(2, distances[indexed.getIndex(2)]);
+        assertEquals(2, distances[indexed.getIndex(3)]);
+        assertEquals(1, distances[indexed.getIndex(4)]);
+        assertEquals(0, distances[indexed.getIndex(5)]);
+        assertEquals(-1, distances[indexed.getIndex(6)]);
+    }
+
+    public void testModifiedGraph()
+    {
+        Graph<Integer,Integer> g = new UndirectedSparseMultigraph<Integer,Integer>();
+        g.addEdge(0, 0, 1);
+        DirectionOptimizingBFS<Integer,Integer> bfs = 
+            new DirectionOptimizingBFS<Integer,Integer>(g);
+        g.addEdge(1, 1, 2);
+        assertFalse(bfs.getIndexedGraph().isCurrent());
+
+        // the labeler does not use a snapshot that the graph has outgrown
+        BFSDistanceLabeler<Integer,Integer> labeler = 
+            new BFSDistanceLabeler<Integer,Integer>(bfs);
+        labeler.labelDistances(g, 0);
+        assertEquals(2, labeler.getDistance(g, 2));
+        assertTrue(labeler.getUnvisitedVertices().isEmpty());
+    }
+}
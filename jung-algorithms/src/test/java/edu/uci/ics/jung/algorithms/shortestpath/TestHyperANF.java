@@ -0,0 +1,93 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+
+public class TestHyperANF extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+
+    @Override
+    protected void setUp()
+    {
+        graph = new UndirectedSparseMultigraph<Integer,Integer>();
+        Random random = new Random(7);
+        int n = 1500;
+        for (int i = 0; i < n; i++)
+            graph.addVertex(i);
+        // a ring (so that the graph is connected) plus random chords
+        for (int i = 0; i < n; i++)
+            graph.addEdge(i, i, (i + 1) % n);
+        for (int j = n; j < 2 * n; j++)
+            graph.addEdge(j, random.nextInt(n), random.nextInt(n));
+    }
+
+    public void testDistanceStatistics()
+    {
+        final int n = graph.getVertexCount();
+        final long[] distribution = new long[n];
+        MultiSourceBFS<Integer,Integer> bfs = new MultiSourceBFS<Integer,Integer>(graph);
+        bfs.searchAll(new MultiSourceBFS.Visitor()
+        {
+            public void visit(int source, int vertex, int distance)
+            {
+                distribution[distance]++;
+            }
+        });
+        double pairs = 0;
+        double sum = 0;
+        for (int t = 1; t < n; t++)
+        {
+            pairs += distribution[t];
+            sum += t * distribution[t];
+        }
+        double average = sum / pairs;
+
+        HyperANF<Integer,Integer> anf = new HyperANF<Integer,Integer>(graph, 10, 1);
+        double[] nf = anf.getNeighbourhoodFunction();
+        assertEquals(n, nf[0], 0.1 * n);
+        // the final counters of a connected graph are all equal, so their
+        // errors do not average out
+        assertEquals((double)n * n, nf[nf.length - 1], 0.1 * n * n);
+        assertEquals(average, anf.getAverageDistance(), 0.05 * average);
+
+        double cumulative = 0;
+        int effective = 0;
+        while (cumulative < 0.9 * pairs)
+            cumulative += distribution[++effective];
+        assertEquals(effective, anf.getEffectiveDiameter(), 1.0);
+
+        ClosenessCentrality<Integer,Integer> cc = 
+            new ClosenessCentrality<Integer,Integer>(graph);
+        for (int v = 0; v < n; v += 50)
+            assertEquals(cc.getVertexScore(v), anf.getCloseness(v), 0.2 * cc.getVertexScore(v));
+    }
+
+    public void testThreadCountDoesNotChangeResults()
+    {
+        HyperANF<Integer,Integer> serial = new HyperANF<Integer,Integer>(graph, 5, 3);
+        serial.setThreadCount(1);
+        HyperANF<Integer,Integer> parallel = new HyperANF<Integer,Integer>(graph, 5, 3);
+        parallel.setThreadCount(4);
+        double[] expected = serial.getNeighbourhoodFunction();
+        double[] actual = parallel.getNeighbourhoodFunction();
+        assertEquals(expected.length, actual.length);
+        for (int t = 0; t < expected.length; t++)
+            assertEquals(expected[t], actual[t], 1e-6 * expected[t]);
+    }
+}
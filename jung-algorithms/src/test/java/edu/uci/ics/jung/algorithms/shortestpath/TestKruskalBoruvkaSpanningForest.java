@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Transformer;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.algorithms.cluster.WeakComponentClusterer;
+import edu.uci.ics.jung.graph.DelegateForest;
+import edu.uci.ics.jung.graph.DelegateTree;
+import edu.uci.ics.jung.graph.Forest;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestKruskalBoruvkaSpanningForest extends TestCase
+{
+    private Graph<Integer,Integer> graph;
+    private Map<Integer,Double> weights;
+
+    private void createRandomGraph(int n, int m, long seed)
+    {
+        graph = TestGraphs.createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), n, m, seed);
+        weights = new HashMap<Integer,Double>();
+        Random random = new Random(seed);
+        // few distinct values, so that there are many ties
+        for (int j = 0; j < m; j++)
+            weights.put(j, (double)random.nextInt(50));
+    }
+
+    private double totalWeight(Forest<Integer,Integer> forest)
+    {
+        double total = 0;
+        for (Integer e : forest.getEdges())
+            total += weights.get(e);
+        return total;
+    }
+
+    private void checkForest(Forest<Integer,Integer> forest)
+    {
+        assertEquals(graph.getVertexCount(), forest.getVertexCount());
+        int components = new WeakComponentClusterer<Integer,Integer>().transform(graph).size();
+        assertEquals(graph.getVertexCount() - components, forest.getEdgeCount());
+        assertEquals(components, forest.getTrees().size());
+        for (Integer e : forest.getEdges())
+            assertTrue(graph.getEndpoints(e).contains(forest.getSource(e)));
+    }
+
+    public void testAgainstPrim()
+    {
+        for (int seed = 0; seed < 5; seed++)
+        {
+            createRandomGraph(200, 300, seed);
+            Transformer<Integer,Double> nev = MapTransformer.getInstance(weights);
+            Forest<Integer,Integer> prim = new MinimumSpanningForest2<Integer,Integer>(
+                    graph, new DelegateForest<Integer,Integer>(),
+                    DelegateTree.<Integer,Integer>getFactory(), nev).getForest();
+            Forest<Integer,Integer> kruskal = new KruskalMinimumSpanningForest<Integer,Integer>(
+                    graph, new DelegateForest<Integer,Integer>(), nev).getForest();
+            Forest<Integer,Integer> boruvka = new BoruvkaMinimumSpanningForest<Integer,Integer>(
+                    graph, new DelegateForest<Integer,Integer>(), nev).getForest();
+            checkForest(kruskal);
+            checkForest(boruvka);
+            assertEquals(totalWeight(prim), totalWeight(kruskal), 1e-9);
+            assertEquals(new HashSet<Integer>(kruskal.getEdges()), 
+                    new HashSet<Integer>(boruvka.getEdges()));
+        }
+    }
+
+    public void testLargeParallel()
+    {
+        createRandomGraph(5000, 150000, 42);
+        Transformer<Integer,Double> nev = MapTransformer.getInstance(weights);
+        Forest<Integer,Integer> serial = new KruskalMinimumSpanningForest<Integer,Integer>(
+                graph, new DelegateForest<Integer,Integer>(), nev, 1).getForest();
+        Forest<Integer,Integer> kruskal = new KruskalMinimumSpanningForest<Integer,Integer>(
+                graph, new DelegateForest<Integer,Integer>(), nev, 4).getForest();
+        Forest<Integer,Integer> boruvka = new BoruvkaMinimumSpanningForest<Integer,Integer>(
+                graph, new DelegateForest<Integer,Integer>(), nev, 4).getForest();
+        checkForest(kruskal);
+        checkForest(boruvka);
+        assertEquals(new HashSet<Integer>(serial.getEdges()), 
+                new HashSet<Integer>(kruskal.getEdges()));
+        assertEquals(new HashSet<Integer>(serial.getEdges()), 
+                new HashSet<Integer>(boruvka.getEdges()));
+    }
+}
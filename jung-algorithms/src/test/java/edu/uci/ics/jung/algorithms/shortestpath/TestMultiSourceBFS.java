@@ -0,0 +1,91 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.shortestpath;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+import edu.uci.ics.jung.algorithms.scoring.ClosenessCentrality;
+import edu.uci.ics.jung.algorithms.util.IndexedGraph;
+import edu.uci.ics.jung.graph.DirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.UndirectedSparseMultigraph;
+import edu.uci.ics.jung.graph.util.TestGraphs;
+
+public class TestMultiSourceBFS extends TestCase
+{
+    private void compare(Graph<Integer,Integer> g, int width)
+    {
+        UnweightedShortestPath<Integer,Integer> usp = 
+            new UnweightedShortestPath<Integer,Integer>(g);
+        MultiSourceBFS<Integer,Integer> msbfs = 
+            new MultiSourceBFS<Integer,Integer>(g, width);
+        for (Integer v : g.getVertices())
+            assertEquals(usp.getDistanceMap(v), msbfs.getDistanceMap(v));
+
+        // the visitor reports every reachable pair exactly once
+        final IndexedGraph<Integer,Integer> indexed = msbfs.getIndexedGraph();
+        final Map<Integer,Map<Integer,Number>> visited = 
+            new HashMap<Integer,Map<Integer,Number>>();
+        msbfs.searchAll(new MultiSourceBFS.Visitor()
+        {
+            public void visit(int source, int vertex, int distance)
+            {
+                Integer s = indexed.getVertex(source);
+                if (!visited.containsKey(s))
+                    visited.put(s, new HashMap<Integer,Number>());
+                assertNull(visited.get(s).put(indexed.getVertex(vertex), distance));
+            }
+        });
+        for (Integer v : g.getVertices())
+            assertEquals(usp.getDistanceMap(v), visited.get(v));
+    }
+
+    public void testUndirected()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 150, 200, 3);
+        compare(g, 1);
+        compare(g, 2);
+    }
+
+    public void testDirected()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new DirectedSparseMultigraph<Integer,Integer>(), 200, 400, 4);
+        compare(g, 1);
+        compare(g, 3);
+    }
+
+    public void testPath()
+    {
+        // the diameter is far larger than the batch size
+        Graph<Integer,Integer> g = new DirectedSparseMultigraph<Integer,Integer>();
+        for (int i = 0; i < 1000; i++)
+            g.addEdge(i, i, i + 1);
+        compare(g, 1);
+    }
+
+    public void testCloseness()
+    {
+        Graph<Integer,Integer> g = TestGraphs.createRandomGraph(
+                new UndirectedSparseMultigraph<Integer,Integer>(), 100, 300, 5);
+        ClosenessCentrality<Integer,Integer> expected = 
+            new ClosenessCentrality<Integer,Integer>(g, 
+                    new UnweightedShortestPath<Integer,Integer>(g));
+        ClosenessCentrality<Integer,Integer> actual = 
+            new ClosenessCentrality<Integer,Integer>(g);
+        for (Integer v : g.getVertices())
+            assertEquals(expected.getVertexScore(v), actual.getVertexScore(v));
+    }
+}
@@ -92,4 +92,47 @@ public class TestUnweightedShortestPath extends TestCase
 			Assert.assertNotNull(usp.getIncomingEdgeMap(id.getKey(0)).get(id.getKey(3)));
 
 		}
+
+	public void testUnreachablePredecessorOfSource() {
+		DirectedGraph<String,String> dg = 
+			new DirectedSparseMultigraph<String,String>();
+		dg.addEdge("ab", "a", "b");
+		dg.addEdge("ca", "c", "a");
+		
+		UnweightedShortestPath<String,String> usp = 
+			new UnweightedShortestPath<String,String>(dg);
+		Assert.assertNull(usp.getIncomingEdgeMap("a").get("a"));
+		Assert.assertEquals("ab", usp.getIncomingEdgeMap("a").get("b"));
+		Assert.assertNull(usp.getIncomingEdgeMap("a").get("c"));
+		Assert.assertNull(usp.getDistance("a", "c"));
+	}
+
+	public void testGraphModifiedAfterSearch() {
+		DirectedGraph<String,String> dg = 
+			new DirectedSparseMultigraph<String,String>();
+		dg.addEdge("ab", "a", "b");
+		
+		UnweightedShortestPath<String,String> usp = 
+			new UnweightedShortestPath<String,String>(dg);
+		Assert.assertEquals(1, usp.getDistance("a", "b").intValue());
+		
+		// a later source sees vertices and edges added since the first search
+		dg.addEdge("bc", "b", "c");
+		Assert.assertEquals(1, usp.getDistance("b", "c").intValue());
+		Assert.assertEquals("bc", usp.getIncomingEdgeMap("b").get("c"));
+		dg.addEdge("cd", "c", "d");
+		Assert.assertEquals(1, usp.getDistance("c", "d").intValue());
+		
+		// distances already computed are kept until they are reset
+		Assert.assertNull(usp.getDistance("a", "c"));
+		Assert.assertNull(usp.getDistance("b", "d"));
+		usp.reset("a");
+		Assert.assertEquals(3, usp.getDistance("a", "d").intValue());
+		Assert.assertNull(usp.getDistance("b", "d"));
+		
+		dg.removeEdge("bc");
+		usp.reset();
+		Assert.assertNull(usp.getDistance("a", "c"));
+		Assert.assertEquals(1, usp.getDistance("c", "d").intValue());
+	}
 }
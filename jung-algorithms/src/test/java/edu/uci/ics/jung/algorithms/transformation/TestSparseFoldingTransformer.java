@@ -0,0 +1,254 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.transformation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.collections15.Factory;
+import org.apache.commons.collections15.Predicate;
+import org.apache.commons.collections15.functors.MapTransformer;
+
+import edu.uci.ics.jung.graph.Graph;
+import edu.uci.ics.jung.graph.Hypergraph;
+import edu.uci.ics.jung.graph.SetHypergraph;
+import edu.uci.ics.jung.graph.SparseMultigraph;
+import edu.uci.ics.jung.graph.UndirectedSparseGraph;
+import edu.uci.ics.jung.graph.util.EdgeType;
+
+public class TestSparseFoldingTransformer extends TestCase
+{
+    private static final int USERS = 300;
+
+    private static final Predicate<Integer> IS_USER = new Predicate<Integer>()
+    {
+        public boolean evaluate(Integer v)
+        {
+            return v < USERS;
+        }
+    };
+
+    private static <V> Factory<Graph<V,Integer>> graphFactory()
+    {
+        return new Factory<Graph<V,Integer>>()
+        {
+            public Graph<V,Integer> create()
+            {
+                return new UndirectedSparseGraph<V,Integer>();
+            }
+        };
+    }
+
+    private static Factory<Integer> edgeFactory()
+    {
+        return new Factory<Integer>()
+        {
+            int count;
+
+            public Integer create()
+            {
+                return count++;
+            }
+        };
+    }
+
+    private Graph<Integer,Integer> graph;
+    private Map<Integer,Number> weights;
+
+    @Override
+    protected void setUp()
+    {
+        // users and items, with some repeated (parallel) purchases
+        Random random = new Random(1);
+        graph = new SparseMultigraph<Integer,Integer>();
+        weights = new HashMap<Integer,Number>();
+        for (int i = 0; i < USERS + 100; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < 2000; j++)
+        {
+            graph.addEdge(j, random.nextInt(USERS), USERS + random.nextInt(100),
+                    random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+            weights.put(j, 1 + random.nextInt(3));
+        }
+    }
+
+    /**
+     * Returns the weights of the folded graph computed directly from its
+     * definition.
+     */
+    private Map<List<Integer>, Double> expected()
+    {
+        Map<List<Integer>, Double> expected = new HashMap<List<Integer>, Double>();
+        for (Integer item = USERS; item < USERS + 100; item++)
+        {
+            for (Integer e : graph.getIncidentEdges(item))
+            {
+                for (Integer f : graph.getIncidentEdges(item))
+                {
+                    int a = graph.getOpposite(item, e);
+                    int b = graph.getOpposite(item, f);
+                    if (a >= b)
+                        continue;
+                    List<Integer> pair = new ArrayList<Integer>();
+                    pair.add(a);
+                    pair.add(b);
+                    Double w = expected.get(pair);
+                    double product = weights.get(e).doubleValue() * weights.get(f).doubleValue();
+                    expected.put(pair, w == null ? product : w + product);
+                }
+            }
+        }
+        return expected;
+    }
+
+    private Map<List<Integer>, Double> actual(Graph<Integer,Integer> folded,
+            Map<Integer,Number> folded_weights)
+    {
+        Map<List<Integer>, Double> actual = new HashMap<List<Integer>, Double>();
+        for (Integer f : folded.getEdges())
+        {
+            List<Integer> pair = new ArrayList<Integer>();
+            int a = folded.getEndpoints(f).getFirst();
+            int b = folded.getEndpoints(f).getSecond();
+            pair.add(Math.min(a, b));
+            pair.add(Math.max(a, b));
+            assertNull(actual.put(pair, folded_weights.get(f).doubleValue()));
+        }
+        return actual;
+    }
+
+    public void testFoldKPartiteGraph()
+    {
+        Map<List<Integer>, Double> expected = expected();
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            SparseFoldingTransformer<Integer,Integer> folder =
+                new SparseFoldingTransformer<Integer,Integer>(threads);
+            folder.setEdgeWeights(MapTransformer.getInstance(weights));
+            Map<Integer,Number> folded_weights = new HashMap<Integer,Number>();
+            Graph<Integer,Integer> folded = folder.foldKPartiteGraph(graph, IS_USER,
+                    TestSparseFoldingTransformer.<Integer>graphFactory(), edgeFactory(), folded_weights);
+            assertEquals(USERS, folded.getVertexCount());
+            Map<List<Integer>, Double> actual = actual(folded, folded_weights);
+            assertEquals(expected.keySet(), actual.keySet());
+            for (List<Integer> pair : expected.keySet())
+                assertEquals(expected.get(pair), actual.get(pair), 1e-9);
+        }
+    }
+
+    public void testPruning()
+    {
+        Map<List<Integer>, Double> expected = expected();
+        SparseFoldingTransformer<Integer,Integer> folder =
+            new SparseFoldingTransformer<Integer,Integer>(2);
+        folder.setEdgeWeights(MapTransformer.getInstance(weights));
+        folder.setMinimumWeight(5);
+        Map<Integer,Number> folded_weights = new HashMap<Integer,Number>();
+        Graph<Integer,Integer> folded = folder.foldKPartiteGraph(graph, IS_USER,
+                TestSparseFoldingTransformer.<Integer>graphFactory(), edgeFactory(), folded_weights);
+        Map<List<Integer>, Double> actual = actual(folded, folded_weights);
+        for (Map.Entry<List<Integer>, Double> entry : expected.entrySet())
+            assertEquals(entry.getValue() >= 5, actual.containsKey(entry.getKey()));
+
+        folder = new SparseFoldingTransformer<Integer,Integer>(2);
+        folder.setEdgeWeights(MapTransformer.getInstance(weights));
+        folder.setMaxNeighbors(3);
+        folded_weights.clear();
+        folded = folder.foldKPartiteGraph(graph, IS_USER,
+                TestSparseFoldingTransformer.<Integer>graphFactory(), edgeFactory(), folded_weights);
+        actual = actual(folded, folded_weights);
+        // each kept edge is among the 3 heaviest of one of its endpoints
+        for (List<Integer> pair : actual.keySet())
+        {
+            double w = actual.get(pair);
+            int heavier_a = 0;
+            int heavier_b = 0;
+            for (Map.Entry<List<Integer>, Double> entry : expected.entrySet())
+            {
+                if (entry.getValue() <= w)
+                    continue;
+                if (entry.getKey().contains(pair.get(0)))
+                    heavier_a++;
+                if (entry.getKey().contains(pair.get(1)))
+                    heavier_b++;
+            }
+            assertTrue(heavier_a < 3 || heavier_b < 3);
+        }
+        // and every vertex keeps min(3, degree) edges
+        Graph<Integer,Integer> full = new SparseFoldingTransformer<Integer,Integer>(1)
+            .foldKPartiteGraph(graph, IS_USER, TestSparseFoldingTransformer.<Integer>graphFactory(),
+                    edgeFactory(), null);
+        for (Integer v : folded.getVertices())
+            assertTrue(folded.degree(v) >= Math.min(3, full.degree(v)));
+    }
+
+    public void testFoldHypergraph()
+    {
+        Random random = new Random(2);
+        Hypergraph<Integer,Integer> h = new SetHypergraph<Integer,Integer>();
+        for (int i = 0; i < 50; i++)
+            h.addVertex(i);
+        for (int j = 0; j < 40; j++)
+        {
+            List<Integer> incident = new ArrayList<Integer>();
+            for (int k = 1 + random.nextInt(6); k > 0; k--)
+            {
+                int v = random.nextInt(50);
+                if (!incident.contains(v))
+                    incident.add(v);
+            }
+            h.addEdge(j, incident);
+        }
+
+        Factory<Graph<Integer,Collection<Integer>>> collection_factory =
+            new Factory<Graph<Integer,Collection<Integer>>>()
+        {
+            public Graph<Integer,Collection<Integer>> create()
+            {
+                return new UndirectedSparseGraph<Integer,Collection<Integer>>();
+            }
+        };
+        SparseFoldingTransformer<Integer,Integer> folder = new SparseFoldingTransformer<Integer,Integer>(3);
+
+        Graph<Integer,Collection<Integer>> reference =
+            FoldingTransformer.foldHypergraphEdges(h, collection_factory);
+        Map<Integer,Number> folded_weights = new HashMap<Integer,Number>();
+        Graph<Integer,Integer> folded = folder.foldHypergraphEdges(h,
+                TestSparseFoldingTransformer.<Integer>graphFactory(), edgeFactory(), folded_weights);
+        assertEquals(reference.getEdgeCount(), folded.getEdgeCount());
+        for (Integer f : folded.getEdges())
+        {
+            Collection<Integer> shared = reference.findEdge(folded.getEndpoints(f).getFirst(),
+                    folded.getEndpoints(f).getSecond());
+            assertEquals(shared.size(), folded_weights.get(f).intValue());
+        }
+
+        reference = new FoldingTransformer<Integer,Integer>().foldHypergraphVertices(h, collection_factory);
+        folded_weights.clear();
+        folded = folder.foldHypergraphVertices(h,
+                TestSparseFoldingTransformer.<Integer>graphFactory(), edgeFactory(), folded_weights);
+        assertEquals(h.getEdgeCount(), folded.getVertexCount());
+        assertEquals(reference.getEdgeCount(), folded.getEdgeCount());
+        for (Integer f : folded.getEdges())
+        {
+            Collection<Integer> shared = reference.findEdge(folded.getEndpoints(f).getFirst(),
+                    folded.getEndpoints(f).getSecond());
+            assertEquals(shared.size(), folded_weights.get(f).intValue());
+        }
+    }
+}
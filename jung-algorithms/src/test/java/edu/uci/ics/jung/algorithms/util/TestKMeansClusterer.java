@@ -0,0 +1,121 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Copyright (c) 2026, the JUNG Project and the Regents of the University
+ * of California
+ * All rights reserved.
+ *
+ * This software is open-source under the BSD license; see either
+ * "license.txt" or
+ * http://jung.sourceforge.net/license.txt for a description.
+ */
+package edu.uci.ics.jung.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class TestKMeansClusterer extends TestCase
+{
+    /**
+     * Returns points scattered normally around <code>centers</code>, keyed
+     * by the index of the center.
+     */
+    private Map<String, double[]> createPoints(double[][] centers, int per_center,
+            double spread, long seed)
+    {
+        Random random = new Random(seed);
+        Map<String, double[]> points = new HashMap<String, double[]>();
+        for (int c = 0; c < centers.length; c++)
+        {
+            for (int i = 0; i < per_center; i++)
+            {
+                double[] point = new double[centers[c].length];
+                for (int j = 0; j < point.length; j++)
+                    point[j] = centers[c][j] + random.nextGaussian() * spread;
+                points.put(c + ":" + i, point);
+            }
+        }
+        return points;
+    }
+
+    public void testSeparatedClusters()
+    {
+        double[][] centers = {{0, 0, 0}, {10, 0, 0}, {0, 10, 0}, {0, 0, 10}, {10, 10, 10}};
+        Map<String, double[]> points = createPoints(centers, 4000, 1, 1);
+        for (int threads = 1; threads <= 4; threads *= 4)
+        {
+            KMeansClusterer<String> kmc = new KMeansClusterer<String>(100, 1e-9, threads);
+            kmc.setSeed(2);
+            Collection<Map<String, double[]>> clusters = kmc.cluster(points, 5);
+            assertEquals(5, clusters.size());
+            Set<String> labels = new HashSet<String>();
+            int total = 0;
+            for (Map<String, double[]> cluster : clusters)
+            {
+                // each cluster consists of the points around one center
+                Set<String> cluster_labels = new HashSet<String>();
+                for (String key : cluster.keySet())
+                    cluster_labels.add(key.substring(0, key.indexOf(':')));
+                assertEquals(1, cluster_labels.size());
+                labels.addAll(cluster_labels);
+                assertEquals(4000, cluster.size());
+                total += cluster.size();
+            }
+            assertEquals(5, labels.size());
+            assertEquals(points.size(), total);
+        }
+    }
+
+    public void testConverged()
+    {
+        // overlapping clusters, so that many points change clusters
+        double[][] centers = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0.5, 0.5}, {2, 2}};
+        Map<String, double[]> points = createPoints(centers, 5000, 0.5, 3);
+        KMeansClusterer<String> kmc = new KMeansClusterer<String>(1000, 1e-12, 3);
+        kmc.setSeed(4);
+        List<Map<String, double[]>> clusters =
+            new ArrayList<Map<String, double[]>>(kmc.cluster(points, 6));
+        List<double[]> means = new ArrayList<double[]>();
+        for (Map<String, double[]> cluster : clusters)
+            means.add(DiscreteDistribution.mean(cluster.values()));
+        // every point is in the cluster whose mean is nearest
+        for (int c = 0; c < clusters.size(); c++)
+        {
+            for (double[] point : clusters.get(c).values())
+            {
+                double own = DiscreteDistribution.squaredError(point, means.get(c));
+                for (double[] mean : means)
+                    assertTrue(own <= DiscreteDistribution.squaredError(point, mean) + 1e-9);
+            }
+        }
+    }
+
+    public void testNotEnoughClusters()
+    {
+        Map<String, double[]> points = new HashMap<String, double[]>();
+        for (int i = 0; i < 10; i++)
+            points.put("" + i, new double[] {i % 2});
+        KMeansClusterer<String> kmc = new KMeansClusterer<String>();
+        assertEquals(2, kmc.cluster(points, 2).size());
+        try
+        {
+            kmc.cluster(points, 3);
+            fail("only two distinct locations");
+        }
+        catch (KMeansClusterer.NotEnoughClustersException nece) {}
+        try
+        {
+            kmc.cluster(points, 11);
+            fail("more clusters than objects");
+        }
+        catch (IllegalArgumentException iae) {}
+    }
+}
@@ -14,6 +14,7 @@ package edu.uci.ics.jung.graph.util;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import edu.uci.ics.jung.graph.DirectedGraph;
@@ -238,4 +239,41 @@ public class TestGraphs {
 
         return graph;
     }
+
+    /**
+     * Adds the vertices <code>0, ..., vertex_count - 1</code> to <code>graph</code>,
+     * and then the edges <code>0, ..., edge_count - 1</code>, each of which 
+     * connects two vertices chosen uniformly at random.  Parallel edges and 
+     * self-loops are included if <code>graph</code> accepts them.  The same
+     * seed always yields the same graph.
+     * 
+     * @return <code>graph</code>
+     */
+    public static <G extends Graph<Integer,Integer>> G createRandomGraph(G graph,
+            int vertex_count, int edge_count, long seed)
+    {
+        Random random = new Random(seed);
+        for (int i = 0; i < vertex_count; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < edge_count; j++)
+            graph.addEdge(j, random.nextInt(vertex_count), random.nextInt(vertex_count));
+        return graph;
+    }
+
+    /**
+     * Returns a random graph as in {@link #createRandomGraph(Graph, int, int, long)}, 
+     * in which each edge is directed or undirected with equal probability.
+     */
+    public static Graph<Integer,Integer> createRandomMixedGraph(int vertex_count, 
+            int edge_count, long seed)
+    {
+        Graph<Integer,Integer> graph = new SparseMultigraph<Integer,Integer>();
+        Random random = new Random(seed);
+        for (int i = 0; i < vertex_count; i++)
+            graph.addVertex(i);
+        for (int j = 0; j < edge_count; j++)
+            graph.addEdge(j, random.nextInt(vertex_count), random.nextInt(vertex_count),
+                    random.nextBoolean() ? EdgeType.DIRECTED : EdgeType.UNDIRECTED);
+        return graph;
+    }
 }